@@ -0,0 +1,52 @@
+package battle;
+
+/**
+ * How hard an opponent thinks. Each level caps the search depth (in turns)
+ * and the nodes searched per turn, and the easiest level also picks a
+ * random move now and then so early trainers stay beatable. The node caps
+ * come to a few milliseconds of search each on a desktop machine.
+ */
+public enum AiDifficulty {
+    EASY(1, 1000, 0.3),
+    NORMAL(2, 3000, 0.0),
+    HARD(3, 5000, 0.0),
+    GYM_LEADER(5, 8000, 0.0);
+
+    private final int maxDepth;
+    private final int maxNodes;
+    private final double mistakeChance;
+
+    AiDifficulty(int maxDepth, int maxNodes, double mistakeChance) {
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.mistakeChance = mistakeChance;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    public double getMistakeChance() {
+        return mistakeChance;
+    }
+
+    // Default for a trainer class such as "Bug Catcher Class" or "Gym Leader"
+    public static AiDifficulty forTrainerClass(String trainerClass) {
+        if (trainerClass == null) {
+            return NORMAL;
+        }
+        String name = trainerClass.toLowerCase();
+        if (name.contains("gym") || name.contains("leader") || name.contains("champion") || name.contains("elite")) {
+            return GYM_LEADER;
+        } else if (name.contains("ace") || name.contains("veteran") || name.contains("rival")) {
+            return HARD;
+        } else if (name.contains("bug catcher") || name.contains("youngster") || name.contains("lass")) {
+            return EASY;
+        }
+        return NORMAL;
+    }
+}
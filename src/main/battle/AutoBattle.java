@@ -0,0 +1,152 @@
+package battle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import battle.BattleState.Outcome;
+import battle.BattleState.Side;
+import logging.Log;
+import logging.Logger;
+import pokes.Pokemon;
+
+/**
+ * Plays a whole battle on the BattleEngine in one go, with a policy picking
+ * moves for both sides. Nothing is shown; the engine applies damage,
+ * experience, level-ups and faints to the real Pokémon exactly as a battle
+ * screen would, and the result comes back as a short summary. The player's
+ * next healthy Pokémon goes in whenever the active one faints, and a wild
+ * battle still going after CompactBattle.MAX_TURNS turns is run from.
+ */
+public class AutoBattle {
+    private static final Logger LOG = Log.getLogger(AutoBattle.class);
+
+    private final BattlePolicy playerPolicy;
+    private final BattlePolicy opponentPolicy;
+    private final RandomGenerator random;
+    private final BattleEngine engine;
+
+    public AutoBattle(BattlePolicy playerPolicy, BattlePolicy opponentPolicy, RandomGenerator random) {
+        this.playerPolicy = playerPolicy;
+        this.opponentPolicy = opponentPolicy;
+        this.random = random;
+        this.engine = new BattleEngine(random);
+    }
+
+    public Summary resolve(BattleState state) {
+        Summary summary = new Summary(state.getActive(Side.OPPONENT));
+        while (!state.isOver()) {
+            List<BattleEvent> events;
+            if (state.isPlayerSwitchRequired()) {
+                events = engine.replaceFainted(state, state.nextUsableIndex(Side.PLAYER));
+            } else if (state.isWild() && state.getTurn() >= CompactBattle.MAX_TURNS) {
+                events = engine.resolveTurn(state, BattleAction.run(), chooseAction(state, Side.OPPONENT));
+            } else {
+                events = engine.resolveTurn(state, chooseAction(state, Side.PLAYER),
+                        chooseAction(state, Side.OPPONENT));
+            }
+            summary.record(events);
+        }
+        summary.outcome = state.getOutcome();
+        summary.turns = state.getTurn();
+        LOG.debug("Auto battle: {}", summary);
+        return summary;
+    }
+
+    private BattleAction chooseAction(BattleState state, Side side) {
+        BattlePolicy policy = side == Side.PLAYER ? playerPolicy : opponentPolicy;
+        int slot = policy.chooseMove(CompactBattle.of(state), side, random);
+        return BattleAction.fightSlot(state.getActive(side), slot);
+    }
+
+    /**
+     * What an auto battle came to, from the player's side.
+     */
+    public static final class Summary {
+        private final String opponentName;
+        private final int opponentLevel;
+        private Outcome outcome;
+        private int turns;
+        private int expGained;
+        private final List<String> levelUps = new ArrayList<>();
+        private final List<String> fainted = new ArrayList<>();
+
+        Summary(Pokemon opponent) {
+            this.opponentName = opponent.getName();
+            this.opponentLevel = opponent.getLevelManager().getLevel();
+        }
+
+        void record(List<BattleEvent> events) {
+            for (BattleEvent event : events) {
+                if (event.getSide() != Side.PLAYER) {
+                    continue;
+                }
+                switch (event.getType()) {
+                    case EXP_GAINED:
+                        expGained += event.getAmount();
+                        break;
+                    case LEVEL_UP:
+                        levelUps.add(event.getPokemon().getName() + " Lv " + event.getAmount());
+                        break;
+                    case FAINTED:
+                        fainted.add(event.getPokemon().getName());
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public int getTurns() {
+            return turns;
+        }
+
+        public int getExpGained() {
+            return expGained;
+        }
+
+        public List<String> getLevelUps() {
+            return levelUps;
+        }
+
+        public List<String> getFainted() {
+            return fainted;
+        }
+
+        // One line, e.g. "Beat Pidgey Lv 5 in 3 turns, +42 exp, Charmander Lv 9"
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            switch (outcome) {
+                case PLAYER_WON:
+                    text.append("Beat ");
+                    break;
+                case OPPONENT_WON:
+                    text.append("Lost to ");
+                    break;
+                case FLED:
+                    text.append("Ran from ");
+                    break;
+                default:
+                    text.append("Battled ");
+                    break;
+            }
+            text.append(opponentName).append(" Lv ").append(opponentLevel)
+                    .append(" in ").append(turns).append(turns == 1 ? " turn" : " turns");
+            if (expGained > 0) {
+                text.append(", +").append(expGained).append(" exp");
+            }
+            for (String levelUp : levelUps) {
+                text.append(", ").append(levelUp);
+            }
+            if (!fainted.isEmpty()) {
+                text.append(", fainted: ").append(String.join(", ", fainted));
+            }
+            return text.toString();
+        }
+    }
+}
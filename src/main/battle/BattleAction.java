@@ -0,0 +1,90 @@
+package battle;
+
+import model.Item;
+import model.Move;
+import pokes.Pokemon;
+
+/**
+ * What one side chose to do this turn.
+ */
+public final class BattleAction {
+
+    public enum Type {
+        FIGHT, SWITCH, ITEM, RUN
+    }
+
+    private static final BattleAction RUN = new BattleAction(Type.RUN, null, -1, null);
+
+    private final Type type;
+    private final Move move;
+    private final int teamIndex;
+    private final Item item;
+
+    private BattleAction(Type type, Move move, int teamIndex, Item item) {
+        this.type = type;
+        this.move = move;
+        this.teamIndex = teamIndex;
+        this.item = item;
+    }
+
+    // A null move means the Pokémon has nothing left to use and will Struggle
+    public static BattleAction fight(Move move) {
+        return new BattleAction(Type.FIGHT, move, -1, null);
+    }
+
+    // Policies number only the non-empty move slots, the same way CompactTeam packs them
+    public static BattleAction fightSlot(Pokemon pokemon, int slot) {
+        if (slot == CompactBattle.STRUGGLE) {
+            return fight(null);
+        }
+        for (Move move : pokemon.getMoves()) {
+            if (move != null && slot-- == 0) {
+                return fight(move);
+            }
+        }
+        return fight(null);
+    }
+
+    public static BattleAction switchTo(int teamIndex) {
+        return new BattleAction(Type.SWITCH, null, teamIndex, null);
+    }
+
+    // Medicine, berries and Poké Balls
+    public static BattleAction useItem(Item item) {
+        return new BattleAction(Type.ITEM, null, -1, item);
+    }
+
+    public static BattleAction run() {
+        return RUN;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Move getMove() {
+        return move;
+    }
+
+    public int getTeamIndex() {
+        return teamIndex;
+    }
+
+    public Item getItem() {
+        return item;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case FIGHT:
+                return "FIGHT " + (move != null ? move.getName() : "Struggle");
+            case SWITCH:
+                return "SWITCH " + teamIndex;
+            case ITEM:
+                return "ITEM " + item.getName();
+            default:
+                return type.name();
+        }
+    }
+}
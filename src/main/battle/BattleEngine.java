@@ -0,0 +1,480 @@
+package battle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import battle.BattleEvent.Type;
+import battle.BattleState.Outcome;
+import battle.BattleState.Side;
+import model.Item;
+import model.Move;
+import model.Move.MoveCategory;
+import model.Move.StatModifier;
+import model.Move.StatusEffect;
+import model.Pokeball;
+import pokes.LevelManager;
+import pokes.Pokemon;
+import pokes.TypeEffectivenessChart;
+import diagnostics.BattleTurnEvent;
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Battle rules without any UI. Given the state and what each side chose to
+ * do, a whole turn is resolved synchronously (turn order, status checks,
+ * damage, secondary effects, fainting, experience, catching, running and
+ * switching) and returned as the list of things that happened, in order.
+ * All randomness comes from the generator passed in, so a seeded generator
+ * replays a battle exactly.
+ */
+public class BattleEngine {
+    private static final Logger LOG = Log.getLogger(BattleEngine.class);
+
+    // Switching, items and running always go before moves
+    private static final int NON_MOVE_PRIORITY = 6;
+    private static final int CONFUSION_POWER = 40;
+
+    private final RandomGenerator random;
+
+    // Per-turn bookkeeping so a Pokémon that stays fainted is only reported once
+    private static class Turn {
+        final BattleState state;
+        final List<BattleEvent> events = new ArrayList<>();
+        final List<Pokemon> fainted = new ArrayList<>(2);
+
+        Turn(BattleState state) {
+            this.state = state;
+        }
+
+        void add(Type type, Side side, Pokemon pokemon) {
+            events.add(new BattleEvent(type, side, pokemon, null, 0, 1.0));
+        }
+
+        void add(Type type, Side side, Pokemon pokemon, String detail, int amount) {
+            events.add(new BattleEvent(type, side, pokemon, detail, amount, 1.0));
+        }
+    }
+
+    public BattleEngine(RandomGenerator random) {
+        this.random = random;
+    }
+
+    public List<BattleEvent> resolveTurn(BattleState state, BattleAction playerAction, BattleAction opponentAction) {
+        if (state.isOver()) {
+            throw new IllegalStateException("Battle is already over");
+        }
+        if (state.isPlayerSwitchRequired()) {
+            throw new IllegalStateException("A replacement for the fainted Pokemon must be sent out first");
+        }
+        state.nextTurn();
+        Turn turn = new Turn(state);
+
+        Side first = playerMovesFirst(state, playerAction, opponentAction) ? Side.PLAYER : Side.OPPONENT;
+        Side second = first.other();
+        BattleAction firstAction = first == Side.PLAYER ? playerAction : opponentAction;
+        BattleAction secondAction = first == Side.PLAYER ? opponentAction : playerAction;
+
+        execute(turn, first, firstAction);
+        checkFaints(turn);
+        if (!state.isOver() && !hasFainted(state.getActive(second))) {
+            execute(turn, second, secondAction);
+            checkFaints(turn);
+        }
+        if (!state.isOver()) {
+            endOfTurn(turn);
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Turn " + state.getTurn() + ": " + playerAction + " / " + opponentAction
+                    + " -> " + turn.events.size() + " events");
+        }
+        return turn.events;
+    }
+
+    /**
+     * Sends out the player's chosen Pokémon after the previous one fainted.
+     * The opponent does not get to act.
+     */
+    public List<BattleEvent> replaceFainted(BattleState state, int teamIndex) {
+        if (!state.isPlayerSwitchRequired()) {
+            throw new IllegalStateException("No fainted Pokemon to replace");
+        }
+        Turn turn = new Turn(state);
+        switchIn(turn, Side.PLAYER, teamIndex);
+        state.setPlayerSwitchRequired(false);
+        return turn.events;
+    }
+
+    private boolean playerMovesFirst(BattleState state, BattleAction playerAction, BattleAction opponentAction) {
+        int playerPriority = priorityOf(playerAction);
+        int opponentPriority = priorityOf(opponentAction);
+        if (playerPriority != opponentPriority) {
+            return playerPriority > opponentPriority;
+        }
+        if (playerAction.getType() != BattleAction.Type.FIGHT) {
+            return true;
+        }
+        int playerSpeed = state.getActive(Side.PLAYER).getStats().getEffectiveStat("speed");
+        int opponentSpeed = state.getActive(Side.OPPONENT).getStats().getEffectiveStat("speed");
+        if (playerSpeed != opponentSpeed) {
+            return playerSpeed > opponentSpeed;
+        }
+        return random.nextBoolean();
+    }
+
+    private static int priorityOf(BattleAction action) {
+        if (action.getType() != BattleAction.Type.FIGHT) {
+            return NON_MOVE_PRIORITY;
+        }
+        return action.getMove() != null ? action.getMove().getPriority() : 0;
+    }
+
+    private void execute(Turn turn, Side side, BattleAction action) {
+        switch (action.getType()) {
+            case FIGHT:
+                useMove(turn, side, action.getMove());
+                break;
+            case SWITCH:
+                switchIn(turn, side, action.getTeamIndex());
+                break;
+            case ITEM:
+                useItem(turn, side, action.getItem());
+                break;
+            case RUN:
+                run(turn, side);
+                break;
+        }
+    }
+
+    private void useMove(Turn turn, Side side, Move move) {
+        Pokemon attacker = turn.state.getActive(side);
+        Pokemon defender = turn.state.getActive(side.other());
+
+        if (!canAct(turn, side, attacker)) {
+            return;
+        }
+        if (move == null) {
+            struggle(turn, side, attacker, defender);
+            return;
+        }
+        if (move.getCurrentPP() <= 0) {
+            turn.add(Type.NO_PP, side, attacker, move.getName(), 0);
+            return;
+        }
+
+        BattleTurnEvent turnEvent = new BattleTurnEvent();
+        turnEvent.begin();
+        move.decreasePP();
+        turn.add(Type.MOVE_USED, side, attacker, move.getName(), 0);
+
+        int damage = 0;
+        if (!hits(move)) {
+            turn.add(Type.MISSED, side, attacker);
+        } else if (move.getCategory() != MoveCategory.STATUS && move.getPower() > 0) {
+            double effectiveness = effectiveness(move, defender);
+            if (effectiveness != 1.0) {
+                turn.events.add(new BattleEvent(Type.EFFECTIVENESS, side.other(), defender, null, 0, effectiveness));
+            }
+            if (effectiveness > 0) {
+                damage = calculateDamage(attacker, defender, move, effectiveness);
+                defender.getStats().takeDamage(damage);
+                turn.add(Type.DAMAGE, side.other(), defender, move.getName(), damage);
+                if (!hasFainted(defender)) {
+                    applySecondaryEffects(turn, side, attacker, defender, move);
+                }
+            }
+        } else {
+            applySecondaryEffects(turn, side, attacker, defender, move);
+        }
+        commitTurnEvent(turnEvent, side, attacker, defender, move.getName(), damage);
+    }
+
+    // Sleep, freeze, paralysis and confusion can stop a Pokémon before it moves
+    private boolean canAct(Turn turn, Side side, Pokemon pokemon) {
+        StatusEffect status = pokemon.getStatus();
+        switch (status) {
+            case SLEEP:
+            case FREEZE:
+                int wakeOdds = status == StatusEffect.SLEEP ? 3 : 5;
+                if (random.nextInt(wakeOdds) == 0) {
+                    pokemon.cureStatus();
+                    turn.add(Type.STATUS_CURED, side, pokemon, status.name(), 0);
+                    return true;
+                }
+                turn.add(Type.STATUS_PREVENTED, side, pokemon, status.name(), 0);
+                return false;
+            case PARALYSIS:
+                if (random.nextInt(4) == 0) {
+                    turn.add(Type.STATUS_PREVENTED, side, pokemon, status.name(), 0);
+                    return false;
+                }
+                return true;
+            case CONFUSION:
+                if (random.nextInt(4) == 0) {
+                    pokemon.cureStatus();
+                    turn.add(Type.STATUS_CURED, side, pokemon, status.name(), 0);
+                    return true;
+                }
+                if (random.nextInt(3) == 0) {
+                    int damage = confusionDamage(pokemon);
+                    pokemon.getStats().takeDamage(damage);
+                    turn.add(Type.CONFUSION_DAMAGE, side, pokemon, null, damage);
+                    return false;
+                }
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    private void struggle(Turn turn, Side side, Pokemon attacker, Pokemon defender) {
+        BattleTurnEvent turnEvent = new BattleTurnEvent();
+        turnEvent.begin();
+        turn.add(Type.MOVE_USED, side, attacker, "Struggle", 0);
+
+        int damage = Math.max(1, attacker.getStats().getMaxHp() / 4);
+        defender.getStats().takeDamage(damage);
+        turn.add(Type.DAMAGE, side.other(), defender, "Struggle", damage);
+
+        int recoil = Math.max(1, attacker.getStats().getMaxHp() / 4);
+        attacker.getStats().takeDamage(recoil);
+        turn.add(Type.RECOIL, side, attacker, null, recoil);
+        commitTurnEvent(turnEvent, side, attacker, defender, "Struggle", damage);
+    }
+
+    private boolean hits(Move move) {
+        // Accuracy 0 means the move never misses
+        return move.getAccuracy() == 0 || random.nextInt(100) < move.getAccuracy();
+    }
+
+    private void applySecondaryEffects(Turn turn, Side side, Pokemon attacker, Pokemon defender, Move move) {
+        boolean changed = false;
+
+        StatusEffect effect = move.getStatusEffect();
+        if (effect != null && effect != StatusEffect.NONE) {
+            // For status moves the condition is the whole point; the chance only applies to damaging moves
+            int chance = move.getCategory() == MoveCategory.STATUS ? 100 : move.getStatusChance();
+            if (random.nextInt(100) < chance && defender.applyStatus(effect)) {
+                turn.add(Type.STATUS_APPLIED, side.other(), defender, effect.name(), 0);
+                changed = true;
+            }
+        }
+
+        for (StatModifier modifier : move.getStatModifiers()) {
+            Pokemon affected = modifier.affectsUser() ? attacker : defender;
+            Side affectedSide = modifier.affectsUser() ? side : side.other();
+            if (affected.getStats().modifyStat(modifier.getStat(), modifier.getStages())) {
+                turn.add(Type.STAT_CHANGED, affectedSide, affected, modifier.getStat(), modifier.getStages());
+                changed = true;
+            }
+        }
+
+        if (move.getCategory() == MoveCategory.STATUS && !changed) {
+            turn.add(Type.NO_EFFECT, side.other(), defender);
+        }
+    }
+
+    private void switchIn(Turn turn, Side side, int teamIndex) {
+        BattleState state = turn.state;
+        if (!state.canSwitchTo(side, teamIndex)) {
+            throw new IllegalArgumentException("Cannot switch to team slot " + teamIndex);
+        }
+        Pokemon outgoing = state.getActive(side);
+        if (!hasFainted(outgoing)) {
+            // Confusion does not survive being withdrawn
+            if (outgoing.getStatus() == StatusEffect.CONFUSION) {
+                outgoing.cureStatus();
+            }
+            turn.add(Type.WITHDRAWN, side, outgoing);
+        }
+        state.setActiveIndex(side, teamIndex);
+        turn.add(Type.SENT_OUT, side, state.getActive(side));
+    }
+
+    private void useItem(Turn turn, Side side, Item item) {
+        if (item instanceof Pokeball) {
+            throwBall(turn, side, (Pokeball) item);
+            return;
+        }
+
+        Pokemon target = turn.state.getActive(side);
+        turn.add(Type.ITEM_USED, side, target, item.getName(), 0);
+
+        int healAmount = healAmount(item, target);
+        if (healAmount < 0) {
+            turn.add(Type.NO_EFFECT, side, target);
+            return;
+        }
+        item.decreaseQuantity();
+        int before = target.getStats().getCurrentHp();
+        target.getStats().setCurrentHp(Math.min(before + healAmount, target.getStats().getMaxHp()));
+        turn.add(Type.HEALED, side, target, item.getName(), target.getStats().getCurrentHp() - before);
+    }
+
+    // HP restored by a medicine or berry, or -1 if the item does nothing in battle
+    private static int healAmount(Item item, Pokemon target) {
+        String name = item.getName().toLowerCase();
+        int maxHp = target.getStats().getMaxHp();
+
+        if (name.contains("berry")) {
+            if (name.contains("oran")) {
+                return 10;
+            } else if (name.contains("sitrus")) {
+                return maxHp / 4;
+            }
+            return -1;
+        }
+        if (name.contains("potion") || name.contains("heal")) {
+            if (name.contains("super")) {
+                return 50;
+            } else if (name.contains("hyper")) {
+                return 200;
+            } else if (name.contains("max")) {
+                return maxHp;
+            }
+            return 20;
+        }
+        return -1;
+    }
+
+    private void throwBall(Turn turn, Side side, Pokeball ball) {
+        BattleState state = turn.state;
+        if (!state.isWild()) {
+            throw new IllegalStateException("Poke Balls can only be thrown in wild battles");
+        }
+        Pokemon target = state.getActive(side.other());
+        turn.add(Type.BALL_THROWN, side.other(), target, ball.getName(), 0);
+        ball.decreaseQuantity();
+
+        double hpFactor = 1.0 - ((double) target.getStats().getCurrentHp() / target.getStats().getMaxHp()) * 0.7;
+        double catchRate = Math.min(1.0, Math.max(0.0, ball.getCatchRate() * (1.0 + hpFactor)));
+
+        // Four checks that together pass with the catch rate; the ball shakes once per passed check
+        double shakeChance = Math.pow(catchRate, 0.25);
+        int checksPassed = 0;
+        while (checksPassed < 4 && random.nextDouble() < shakeChance) {
+            checksPassed++;
+        }
+        for (int shake = 1; shake <= Math.min(3, checksPassed); shake++) {
+            turn.add(Type.BALL_SHAKE, side.other(), target, null, shake);
+        }
+
+        if (checksPassed == 4) {
+            turn.add(Type.CAUGHT, side.other(), target);
+            finish(turn, Outcome.CAUGHT);
+        } else {
+            turn.add(Type.BROKE_FREE, side.other(), target);
+        }
+    }
+
+    private void run(Turn turn, Side side) {
+        if (!turn.state.isWild()) {
+            throw new IllegalStateException("Can't run from a trainer battle");
+        }
+        turn.add(Type.FLED, side, turn.state.getActive(side));
+        finish(turn, Outcome.FLED);
+    }
+
+    private void checkFaints(Turn turn) {
+        BattleState state = turn.state;
+        for (Side side : Side.values()) {
+            Pokemon pokemon = state.getActive(side);
+            if (hasFainted(pokemon) && !turn.fainted.contains(pokemon)) {
+                turn.fainted.add(pokemon);
+                turn.add(Type.FAINTED, side, pokemon);
+                if (side == Side.OPPONENT) {
+                    awardExperience(turn, pokemon);
+                }
+            }
+        }
+
+        if (!state.hasUsablePokemon(Side.PLAYER)) {
+            finish(turn, Outcome.OPPONENT_WON);
+        } else if (!state.hasUsablePokemon(Side.OPPONENT)) {
+            finish(turn, Outcome.PLAYER_WON);
+        }
+    }
+
+    private void awardExperience(Turn turn, Pokemon defeated) {
+        Pokemon winner = turn.state.getActive(Side.PLAYER);
+        if (hasFainted(winner)) {
+            return;
+        }
+        int exp = LevelManager.calculateExpGain(defeated, 1, turn.state.isWild());
+        turn.add(Type.EXP_GAINED, Side.PLAYER, winner, null, exp);
+        if (winner.gainExperience(exp)) {
+            turn.add(Type.LEVEL_UP, Side.PLAYER, winner, null, winner.getLevelManager().getLevel());
+            for (LevelManager.LearnedMove learned : winner.getLevelManager().getMovesLearned()) {
+                if (learned.getForgotten() != null) {
+                    turn.add(Type.MOVE_FORGOTTEN, Side.PLAYER, winner, learned.getForgotten().getName(), 0);
+                }
+                turn.add(Type.MOVE_LEARNED, Side.PLAYER, winner, learned.getLearned().getName(), 0);
+            }
+        }
+    }
+
+    private void endOfTurn(Turn turn) {
+        BattleState state = turn.state;
+        for (Side side : Side.values()) {
+            Pokemon pokemon = state.getActive(side);
+            StatusEffect status = pokemon.getStatus();
+            if (hasFainted(pokemon) || (status != StatusEffect.BURN && status != StatusEffect.POISON)) {
+                continue;
+            }
+            int divisor = status == StatusEffect.BURN ? 16 : 8;
+            int damage = Math.max(1, pokemon.getStats().getMaxHp() / divisor);
+            pokemon.getStats().takeDamage(damage);
+            turn.add(Type.STATUS_DAMAGE, side, pokemon, status.name(), damage);
+        }
+        checkFaints(turn);
+        if (state.isOver()) {
+            return;
+        }
+
+        // The opponent replaces a fainted Pokémon right away; the player gets to choose
+        if (hasFainted(state.getActive(Side.OPPONENT))) {
+            switchIn(turn, Side.OPPONENT, state.nextUsableIndex(Side.OPPONENT));
+        }
+        if (hasFainted(state.getActive(Side.PLAYER))) {
+            state.setPlayerSwitchRequired(true);
+        }
+    }
+
+    private static void finish(Turn turn, Outcome outcome) {
+        turn.state.setOutcome(outcome);
+        turn.add(Type.BATTLE_OVER, null, null, outcome.name(), 0);
+    }
+
+    private static boolean hasFainted(Pokemon pokemon) {
+        return pokemon.getStats().getCurrentHp() <= 0;
+    }
+
+    public static double effectiveness(Move move, Pokemon defender) {
+        return TypeEffectivenessChart.getInstance().getEffectiveness(move.getType(), defender.getTypes());
+    }
+
+    private int calculateDamage(Pokemon attacker, Pokemon defender, Move move, double effectiveness) {
+        return DamageCalculator.roll(attacker, defender, move, effectiveness, random);
+    }
+
+    // A confused Pokémon hits itself with a typeless 40 power physical attack
+    private int confusionDamage(Pokemon pokemon) {
+        return DamageCalculator.roll(pokemon.getLevel(), CONFUSION_POWER,
+                pokemon.getStats().getEffectiveStat("attack"), pokemon.getStats().getEffectiveStat("defense"),
+                false, 1.0, random);
+    }
+
+    private static void commitTurnEvent(BattleTurnEvent event, Side side, Pokemon attacker, Pokemon defender,
+                                        String moveName, int damage) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.side = side.name().toLowerCase();
+            event.attacker = attacker.getName();
+            event.defender = defender.getName();
+            event.move = moveName;
+            event.damage = damage;
+            event.commit();
+        }
+    }
+}
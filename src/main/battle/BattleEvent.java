@@ -0,0 +1,115 @@
+package battle;
+
+import battle.BattleState.Side;
+import pokes.Pokemon;
+
+/**
+ * One thing that happened during a turn, in the order it happened. The HP of
+ * the Pokémon involved is captured when the event is created, so a screen
+ * playing the events back can show the HP bar as it was at that moment even
+ * though the engine has already resolved the whole turn.
+ */
+public final class BattleEvent {
+
+    public enum Type {
+        MOVE_USED,          // detail = move name
+        NO_PP,              // detail = move name
+        MISSED,
+        EFFECTIVENESS,      // multiplier = type effectiveness
+        DAMAGE,             // amount = damage dealt to pokemon
+        RECOIL,             // amount = recoil damage taken by pokemon
+        NO_EFFECT,
+        STATUS_APPLIED,     // detail = status name
+        STATUS_PREVENTED,   // detail = status that stopped pokemon from moving
+        STATUS_CURED,       // detail = status that wore off
+        STATUS_DAMAGE,      // detail = status name, amount = damage
+        CONFUSION_DAMAGE,   // amount = damage pokemon did to itself
+        STAT_CHANGED,       // detail = stat name, amount = stages
+        FAINTED,
+        EXP_GAINED,         // amount = experience points
+        LEVEL_UP,           // amount = new level
+        MOVE_FORGOTTEN,     // detail = move name
+        MOVE_LEARNED,       // detail = move name
+        WITHDRAWN,
+        SENT_OUT,
+        ITEM_USED,          // detail = item name
+        HEALED,             // detail = item name, amount = HP restored
+        BALL_THROWN,        // detail = ball name
+        BALL_SHAKE,         // amount = shake number
+        CAUGHT,
+        BROKE_FREE,
+        FLED,
+        BATTLE_OVER         // detail = outcome name
+    }
+
+    private final Type type;
+    private final Side side;
+    private final Pokemon pokemon;
+    private final String detail;
+    private final int amount;
+    private final double multiplier;
+    private final int hp;
+    private final int maxHp;
+
+    BattleEvent(Type type, Side side, Pokemon pokemon, String detail, int amount, double multiplier) {
+        this.type = type;
+        this.side = side;
+        this.pokemon = pokemon;
+        this.detail = detail;
+        this.amount = amount;
+        this.multiplier = multiplier;
+        this.hp = pokemon != null ? Math.max(0, pokemon.getStats().getCurrentHp()) : 0;
+        this.maxHp = pokemon != null ? pokemon.getStats().getMaxHp() : 0;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Side getSide() {
+        return side;
+    }
+
+    public Pokemon getPokemon() {
+        return pokemon;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    // HP of the Pokémon right after this event
+    public int getHp() {
+        return hp;
+    }
+
+    public int getMaxHp() {
+        return maxHp;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(type.name());
+        if (side != null) {
+            sb.append(' ').append(side);
+        }
+        if (pokemon != null) {
+            sb.append(' ').append(pokemon.getName()).append(" (").append(hp).append('/').append(maxHp).append(')');
+        }
+        if (detail != null) {
+            sb.append(' ').append(detail);
+        }
+        if (amount != 0) {
+            sb.append(' ').append(amount);
+        }
+        return sb.toString();
+    }
+}
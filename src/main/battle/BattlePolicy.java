@@ -0,0 +1,44 @@
+package battle;
+
+import java.util.random.RandomGenerator;
+
+import battle.BattleState.Side;
+
+/**
+ * Decides which move a side uses in a simulated or searched battle.
+ * Implementations must not keep per-battle state, since the simulator
+ * shares one policy across all of its threads.
+ */
+public interface BattlePolicy {
+
+    /**
+     * Picks a move slot for the side's active Pokémon, or
+     * CompactBattle.STRUGGLE when it has no PP left in any move.
+     */
+    int chooseMove(CompactBattle battle, Side side, RandomGenerator random);
+
+    /**
+     * Looks a policy up by the short name used on command lines and in
+     * system properties: greedy, random, power, easy, normal, hard or gym.
+     */
+    static BattlePolicy named(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "greedy":
+                return StandardPolicy.GREEDY;
+            case "random":
+                return StandardPolicy.RANDOM;
+            case "power":
+                return StandardPolicy.HIGHEST_POWER;
+            case "easy":
+                return SearchPolicy.forDifficulty(AiDifficulty.EASY);
+            case "normal":
+                return SearchPolicy.forDifficulty(AiDifficulty.NORMAL);
+            case "hard":
+                return SearchPolicy.forDifficulty(AiDifficulty.HARD);
+            case "gym":
+                return SearchPolicy.forDifficulty(AiDifficulty.GYM_LEADER);
+            default:
+                throw new IllegalArgumentException("Unknown policy: " + name);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package battle;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+import battle.BattleState.Outcome;
+import battle.BattleState.Side;
+import logging.Log;
+import logging.Logger;
+import pokes.Pokemon;
+
+/**
+ * Monte Carlo estimate of how a battle is likely to go. Plays the same
+ * matchup many times on CompactBattles, split into fork/join tasks across
+ * every core. Each task gets its own SplittableRandom stream split off the
+ * seed, so results are the same for a given seed no matter how many
+ * threads end up running the tasks.
+ *
+ * The real Pokémon are only read once, when the teams are snapshotted, so
+ * it's safe to run a simulation while a battle screen is open.
+ */
+public class BattleSimulator {
+    private static final Logger LOG = Log.getLogger(BattleSimulator.class);
+
+    // Battles per leaf task, enough to make the fork/join overhead negligible
+    private static final int BATCH = 1024;
+
+    private final ForkJoinPool pool;
+    private final BattlePolicy playerPolicy;
+    private final BattlePolicy opponentPolicy;
+
+    public BattleSimulator(BattlePolicy playerPolicy, BattlePolicy opponentPolicy) {
+        this(ForkJoinPool.commonPool(), playerPolicy, opponentPolicy);
+    }
+
+    public BattleSimulator(ForkJoinPool pool, BattlePolicy playerPolicy, BattlePolicy opponentPolicy) {
+        this.pool = pool;
+        this.playerPolicy = playerPolicy;
+        this.opponentPolicy = opponentPolicy;
+    }
+
+    public SimulationResult simulate(List<Pokemon> playerTeam, List<Pokemon> opponentTeam, int battles, long seed) {
+        return simulate(CompactTeam.of(playerTeam), CompactTeam.of(opponentTeam), battles, seed);
+    }
+
+    public SimulationResult simulate(CompactTeam player, CompactTeam opponent, int battles, long seed) {
+        if (battles <= 0) {
+            throw new IllegalArgumentException("Need at least one battle, got " + battles);
+        }
+        long start = System.nanoTime();
+        Tally tally = pool.invoke(new SimulationTask(player, opponent, battles, new SplittableRandom(seed)));
+        SimulationResult result = tally.toResult(battles, System.nanoTime() - start);
+        LOG.debug("{} vs {}: {}", player.getName(0), opponent.getName(0), result);
+        return result;
+    }
+
+    @SuppressWarnings("serial") // forked, never serialized
+    private class SimulationTask extends RecursiveTask<Tally> {
+        private final CompactTeam player;
+        private final CompactTeam opponent;
+        private final int battles;
+        private final SplittableRandom random;
+
+        SimulationTask(CompactTeam player, CompactTeam opponent, int battles, SplittableRandom random) {
+            this.player = player;
+            this.opponent = opponent;
+            this.battles = battles;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (battles <= BATCH) {
+                return play();
+            }
+            int half = battles / 2;
+            // Split before forking so the streams don't depend on scheduling
+            SimulationTask left = new SimulationTask(player, opponent, half, random.split());
+            SimulationTask right = new SimulationTask(player, opponent, battles - half, random);
+            left.fork();
+            Tally tally = right.compute();
+            tally.add(left.join());
+            return tally;
+        }
+
+        private Tally play() {
+            Tally tally = new Tally();
+            CompactBattle battle = new CompactBattle(player, opponent);
+            double totalHp = player.totalMaxHp();
+            for (int i = 0; i < battles; i++) {
+                battle.reset();
+                playOut(battle, random);
+                tally.record(battle, battle.remainingHp(Side.PLAYER) / totalHp);
+            }
+            return tally;
+        }
+    }
+
+    // Plays a battle to the end using the two policies
+    public void playOut(CompactBattle battle, RandomGenerator random) {
+        while (!battle.isOver()) {
+            int playerMove = playerPolicy.chooseMove(battle, Side.PLAYER, random);
+            int opponentMove = opponentPolicy.chooseMove(battle, Side.OPPONENT, random);
+            battle.playTurn(playerMove, opponentMove, random);
+        }
+    }
+
+    private static class Tally {
+        int wins;
+        int draws;
+        long turns;
+        long turnsSquared;
+        double hpLeft;
+        double hpLeftSquared;
+
+        void record(CompactBattle battle, double hpFraction) {
+            if (battle.getOutcome() == Outcome.PLAYER_WON) {
+                wins++;
+            } else if (battle.getOutcome() == Outcome.DRAW) {
+                draws++;
+            }
+            long battleTurns = battle.getTurn();
+            turns += battleTurns;
+            turnsSquared += battleTurns * battleTurns;
+            hpLeft += hpFraction;
+            hpLeftSquared += hpFraction * hpFraction;
+        }
+
+        void add(Tally other) {
+            wins += other.wins;
+            draws += other.draws;
+            turns += other.turns;
+            turnsSquared += other.turnsSquared;
+            hpLeft += other.hpLeft;
+            hpLeftSquared += other.hpLeftSquared;
+        }
+
+        SimulationResult toResult(int battles, long elapsedNanos) {
+            return new SimulationResult(battles, wins, draws, turns, turnsSquared, hpLeft, hpLeftSquared, elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package battle;
+
+import java.util.List;
+
+import pokes.Pokemon;
+
+/**
+ * Everything the battle engine needs to know about an ongoing battle: both
+ * teams, which Pokémon are out, and how the battle has ended (if it has).
+ * The Pokémon themselves are shared with the rest of the game, so HP, PP,
+ * status and experience changes made by the engine stick after the battle.
+ */
+public class BattleState {
+
+    public enum Side {
+        PLAYER, OPPONENT;
+
+        public Side other() {
+            return this == PLAYER ? OPPONENT : PLAYER;
+        }
+    }
+
+    public enum Outcome {
+        ONGOING, PLAYER_WON, OPPONENT_WON, CAUGHT, FLED,
+        // Only simulations produce this, when a battle hits the turn limit
+        DRAW
+    }
+
+    private final List<Pokemon> playerTeam;
+    private final List<Pokemon> opponentTeam;
+    private final boolean wild;
+    private int playerActive;
+    private int opponentActive;
+    private Outcome outcome = Outcome.ONGOING;
+    private boolean playerSwitchRequired;
+    private int turn;
+
+    public BattleState(List<Pokemon> playerTeam, List<Pokemon> opponentTeam, boolean wild) {
+        this.playerTeam = playerTeam;
+        this.opponentTeam = opponentTeam;
+        this.wild = wild;
+        this.playerActive = findUsable(playerTeam, -1);
+        this.opponentActive = findUsable(opponentTeam, -1);
+        if (playerActive < 0 || opponentActive < 0) {
+            throw new IllegalArgumentException("Both sides need at least one usable Pokemon");
+        }
+    }
+
+    public static BattleState wild(List<Pokemon> playerTeam, Pokemon wildPokemon) {
+        return new BattleState(playerTeam, List.of(wildPokemon), true);
+    }
+
+    public static BattleState trainer(List<Pokemon> playerTeam, List<Pokemon> opponentTeam) {
+        return new BattleState(playerTeam, opponentTeam, false);
+    }
+
+    public boolean isWild() {
+        return wild;
+    }
+
+    public List<Pokemon> getTeam(Side side) {
+        return side == Side.PLAYER ? playerTeam : opponentTeam;
+    }
+
+    public Pokemon getActive(Side side) {
+        return getTeam(side).get(getActiveIndex(side));
+    }
+
+    public int getActiveIndex(Side side) {
+        return side == Side.PLAYER ? playerActive : opponentActive;
+    }
+
+    void setActiveIndex(Side side, int index) {
+        if (side == Side.PLAYER) {
+            playerActive = index;
+        } else {
+            opponentActive = index;
+        }
+    }
+
+    public boolean hasUsablePokemon(Side side) {
+        return findUsable(getTeam(side), -1) >= 0;
+    }
+
+    // Index of the next usable Pokémon that is not the given one, or -1
+    public int nextUsableIndex(Side side) {
+        return findUsable(getTeam(side), getActiveIndex(side));
+    }
+
+    public boolean canSwitchTo(Side side, int index) {
+        List<Pokemon> team = getTeam(side);
+        return index >= 0 && index < team.size() && index != getActiveIndex(side)
+                && team.get(index).getStats().getCurrentHp() > 0;
+    }
+
+    private static int findUsable(List<Pokemon> team, int excluded) {
+        for (int i = 0; i < team.size(); i++) {
+            if (i != excluded && team.get(i).getStats().getCurrentHp() > 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    void setOutcome(Outcome outcome) {
+        this.outcome = outcome;
+    }
+
+    public boolean isOver() {
+        return outcome != Outcome.ONGOING;
+    }
+
+    // True when the player's Pokémon fainted and a replacement must be sent out
+    public boolean isPlayerSwitchRequired() {
+        return playerSwitchRequired;
+    }
+
+    void setPlayerSwitchRequired(boolean required) {
+        this.playerSwitchRequired = required;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    void nextTurn() {
+        turn++;
+    }
+}
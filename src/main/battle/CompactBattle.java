@@ -0,0 +1,571 @@
+package battle;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import battle.BattleState.Outcome;
+import battle.BattleState.Side;
+import model.Move.StatusEffect;
+import pokes.Pokemon.PokemonType;
+
+/**
+ * A battle between two CompactTeams that can be played out, copied and
+ * reset without allocating, for simulation and AI search. The rules follow
+ * BattleEngine: turn order by priority then speed, the same status checks,
+ * accuracy, damage from DamageCalculator, secondary effects, Struggle once
+ * PP runs out and burn/poison damage at the end of the turn.
+ *
+ * A few things are left out because they don't change who wins: there is
+ * no experience or levelling, no items, catching or running, and no
+ * voluntary switching. A fainted Pokémon is replaced by the next usable
+ * one on its team, on both sides.
+ */
+public final class CompactBattle {
+    public static final int STRUGGLE = -1;
+    // Battles that somehow stall are called a draw
+    public static final int MAX_TURNS = 500;
+
+    private static final int PLAYER = 0;
+    private static final int OPPONENT = 1;
+    private static final int CONFUSION_POWER = 40;
+    private static final int MAX_STAGE = 6;
+
+    private static final StatusEffect[] STATUSES = StatusEffect.values();
+    private static final int NONE = StatusEffect.NONE.ordinal();
+    private static final int BURN = StatusEffect.BURN.ordinal();
+    private static final int FREEZE = StatusEffect.FREEZE.ordinal();
+    private static final int PARALYSIS = StatusEffect.PARALYSIS.ordinal();
+    private static final int POISON = StatusEffect.POISON.ordinal();
+    private static final int SLEEP = StatusEffect.SLEEP.ordinal();
+    private static final int CONFUSION = StatusEffect.CONFUSION.ordinal();
+
+    private static final int TYPE_FIRE = PokemonType.FIRE.ordinal();
+    private static final int TYPE_ICE = PokemonType.ICE.ordinal();
+    private static final int TYPE_ELECTRIC = PokemonType.ELECTRIC.ordinal();
+    private static final int TYPE_POISON = PokemonType.POISON.ordinal();
+    private static final int TYPE_STEEL = PokemonType.STEEL.ordinal();
+
+    private final CompactTeam[] teams;
+    // Type effectiveness for every attacker move against every defender, [move * defenderSize + slot]
+    private final double[][] effectiveness;
+
+    private final int[][] hp;
+    private final int[][] pp;
+    private final int[][] status;
+    private final int[][] stages;
+    // Opposing Pokémon each slot has knocked out with its moves
+    private final int[][] knockouts;
+    private final int[] active = new int[2];
+    private int turn;
+    private Outcome outcome;
+    // Built the first time a hash is asked for, then shared with copies
+    private ZobristKeys zobrist;
+
+    public CompactBattle(CompactTeam player, CompactTeam opponent) {
+        teams = new CompactTeam[] {player, opponent};
+        effectiveness = new double[][] {effectivenessTable(player, opponent), effectivenessTable(opponent, player)};
+        hp = new int[][] {new int[player.size], new int[opponent.size]};
+        pp = new int[][] {new int[player.size * CompactTeam.MAX_MOVES], new int[opponent.size * CompactTeam.MAX_MOVES]};
+        status = new int[][] {new int[player.size], new int[opponent.size]};
+        stages = new int[][] {new int[player.size * CompactTeam.STAGES], new int[opponent.size * CompactTeam.STAGES]};
+        knockouts = new int[][] {new int[player.size], new int[opponent.size]};
+        reset();
+    }
+
+    // Shares the teams and effectiveness table, which never change
+    private CompactBattle(CompactBattle other) {
+        teams = other.teams;
+        effectiveness = other.effectiveness;
+        hp = new int[][] {other.hp[PLAYER].clone(), other.hp[OPPONENT].clone()};
+        pp = new int[][] {other.pp[PLAYER].clone(), other.pp[OPPONENT].clone()};
+        status = new int[][] {other.status[PLAYER].clone(), other.status[OPPONENT].clone()};
+        stages = new int[][] {other.stages[PLAYER].clone(), other.stages[OPPONENT].clone()};
+        knockouts = new int[][] {other.knockouts[PLAYER].clone(), other.knockouts[OPPONENT].clone()};
+        active[PLAYER] = other.active[PLAYER];
+        active[OPPONENT] = other.active[OPPONENT];
+        turn = other.turn;
+        outcome = other.outcome;
+        zobrist = other.zobrist;
+    }
+
+    // The battle as it stands on screen, with the same Pokémon out
+    public static CompactBattle of(BattleState state) {
+        CompactBattle battle = new CompactBattle(CompactTeam.of(state.getTeam(Side.PLAYER)),
+                CompactTeam.of(state.getTeam(Side.OPPONENT)));
+        battle.active[PLAYER] = state.getActiveIndex(Side.PLAYER);
+        battle.active[OPPONENT] = state.getActiveIndex(Side.OPPONENT);
+        return battle;
+    }
+
+    private static double[] effectivenessTable(CompactTeam attacker, CompactTeam defender) {
+        double[] table = new double[attacker.size * CompactTeam.MAX_MOVES * defender.size];
+        for (int move = 0; move < attacker.size * CompactTeam.MAX_MOVES; move++) {
+            for (int slot = 0; slot < defender.size; slot++) {
+                table[move * defender.size + slot] = attacker.effectiveness(move, defender, slot);
+            }
+        }
+        return table;
+    }
+
+    public CompactBattle copy() {
+        return new CompactBattle(this);
+    }
+
+    boolean sharesTeamsWith(CompactBattle other) {
+        return teams[PLAYER] == other.teams[PLAYER] && teams[OPPONENT] == other.teams[OPPONENT];
+    }
+
+    // Overwrites this battle with another one between the same teams
+    public void copyFrom(CompactBattle other) {
+        for (int side = PLAYER; side <= OPPONENT; side++) {
+            System.arraycopy(other.hp[side], 0, hp[side], 0, hp[side].length);
+            System.arraycopy(other.pp[side], 0, pp[side], 0, pp[side].length);
+            System.arraycopy(other.status[side], 0, status[side], 0, status[side].length);
+            System.arraycopy(other.stages[side], 0, stages[side], 0, stages[side].length);
+            System.arraycopy(other.knockouts[side], 0, knockouts[side], 0, knockouts[side].length);
+            active[side] = other.active[side];
+        }
+        turn = other.turn;
+        outcome = other.outcome;
+    }
+
+    // Back to the state the teams were in when they were snapshotted
+    public void reset() {
+        for (int side = PLAYER; side <= OPPONENT; side++) {
+            CompactTeam team = teams[side];
+            System.arraycopy(team.startHp, 0, hp[side], 0, team.size);
+            System.arraycopy(team.startPp, 0, pp[side], 0, pp[side].length);
+            System.arraycopy(team.startStatus, 0, status[side], 0, team.size);
+            System.arraycopy(team.startStages, 0, stages[side], 0, stages[side].length);
+            Arrays.fill(knockouts[side], 0);
+            active[side] = nextUsable(side);
+        }
+        turn = 0;
+        outcome = Outcome.ONGOING;
+        checkOutcome();
+    }
+
+    /**
+     * Plays one turn. Moves are the active Pokémon's move slots, or STRUGGLE.
+     * A move with no PP left does nothing, as in the engine.
+     */
+    public void playTurn(int playerMove, int opponentMove, RandomGenerator random) {
+        startTurn();
+        int first = playerMovesFirst(playerMove, opponentMove, random) ? PLAYER : OPPONENT;
+        int second = 1 - first;
+        int firstMove = first == PLAYER ? playerMove : opponentMove;
+        int secondMove = first == PLAYER ? opponentMove : playerMove;
+
+        int secondActive = active[second];
+        useMove(first, firstMove, random);
+        checkOutcome();
+        if (!isOver() && hp[second][secondActive] > 0) {
+            useMove(second, secondMove, random);
+            checkOutcome();
+        }
+        endTurn();
+    }
+
+    // The steps of playTurn, for search code that wants to branch on accuracy and damage rolls
+
+    void startTurn() {
+        if (isOver()) {
+            throw new IllegalStateException("Battle is already over");
+        }
+        turn++;
+    }
+
+    boolean movesFirst(Side side, int move, int otherMove, RandomGenerator random) {
+        boolean playerFirst = side == Side.PLAYER
+                ? playerMovesFirst(move, otherMove, random)
+                : playerMovesFirst(otherMove, move, random);
+        return playerFirst == (side == Side.PLAYER);
+    }
+
+    // Status checks before moving; false if the Pokémon loses its turn
+    boolean tryToAct(Side side, RandomGenerator random) {
+        boolean acts = canAct(side.ordinal(), active[side.ordinal()], random);
+        checkOutcome();
+        return acts;
+    }
+
+    // Uses a move whose accuracy check and damage roll have already been decided
+    void landMove(Side side, int move, boolean hit, int roll, RandomGenerator random) {
+        landMove(side.ordinal(), move, hit, roll, random);
+        checkOutcome();
+    }
+
+    void endTurn() {
+        if (!isOver()) {
+            endOfTurn();
+        }
+        if (!isOver() && turn >= MAX_TURNS) {
+            outcome = Outcome.DRAW;
+        }
+    }
+
+    double hitChance(Side side, int move) {
+        if (move == STRUGGLE) {
+            return 1.0;
+        }
+        int accuracy = teams[side.ordinal()].moveAccuracy[moveIndex(side.ordinal(), move)];
+        return accuracy == 0 ? 1.0 : accuracy / 100.0;
+    }
+
+    // Whether the damage roll can change anything for this move right now
+    boolean rollMatters(Side side, int move) {
+        return rollMatters(side.ordinal(), move);
+    }
+
+    private boolean rollMatters(int attacker, int move) {
+        if (move == STRUGGLE) {
+            return false;
+        }
+        int target = 1 - attacker;
+        int index = moveIndex(attacker, move);
+        return pp[attacker][index] > 0 && teams[attacker].movePower[index] > 0
+                && effectiveness[attacker][index * teams[target].size + active[target]] > 0;
+    }
+
+    boolean isActiveFainted(Side side) {
+        return hp[side.ordinal()][active[side.ordinal()]] <= 0;
+    }
+
+    private boolean playerMovesFirst(int playerMove, int opponentMove, RandomGenerator random) {
+        int playerPriority = priorityOf(PLAYER, playerMove);
+        int opponentPriority = priorityOf(OPPONENT, opponentMove);
+        if (playerPriority != opponentPriority) {
+            return playerPriority > opponentPriority;
+        }
+        int playerSpeed = effectiveSpeed(PLAYER);
+        int opponentSpeed = effectiveSpeed(OPPONENT);
+        if (playerSpeed != opponentSpeed) {
+            return playerSpeed > opponentSpeed;
+        }
+        return random.nextBoolean();
+    }
+
+    private int priorityOf(int side, int move) {
+        return move == STRUGGLE ? 0 : teams[side].movePriority[moveIndex(side, move)];
+    }
+
+    private void useMove(int side, int move, RandomGenerator random) {
+        if (!canAct(side, active[side], random)) {
+            return;
+        }
+        // Draws in the same order as BattleEngine.useMove so both stay in step on one seed
+        boolean hit = true;
+        int roll = 0;
+        if (move != STRUGGLE && pp[side][moveIndex(side, move)] > 0) {
+            int accuracy = teams[side].moveAccuracy[moveIndex(side, move)];
+            hit = accuracy == 0 || random.nextInt(100) < accuracy;
+            if (hit && rollMatters(side, move)) {
+                roll = random.nextInt(DamageCalculator.ROLLS);
+            }
+        }
+        landMove(side, move, hit, roll, random);
+    }
+
+    private void landMove(int side, int move, boolean hit, int roll, RandomGenerator random) {
+        int attacker = active[side];
+        int target = 1 - side;
+        int defender = active[target];
+        CompactTeam team = teams[side];
+
+        if (move == STRUGGLE) {
+            int damage = Math.max(1, team.maxHp[attacker] / 4);
+            dealDamage(side, attacker, damage);
+            hp[side][attacker] = Math.max(0, hp[side][attacker] - damage);
+            return;
+        }
+        int index = moveIndex(side, move);
+        if (pp[side][index] <= 0) {
+            return;
+        }
+        pp[side][index]--;
+
+        if (!hit) {
+            return;
+        }
+        if (team.movePower[index] > 0) {
+            double multiplier = effectiveness[side][index * teams[target].size + defender];
+            if (multiplier > 0) {
+                int damage = DamageCalculator.damage(team.level[attacker], team.movePower[index],
+                        attackStat(side, index), defenseStat(target, team.isPhysical(index)),
+                        team.hasStab(attacker, index), multiplier, roll);
+                dealDamage(side, attacker, damage);
+                if (hp[target][defender] > 0) {
+                    applySecondaryEffects(side, index, random);
+                }
+            }
+        } else {
+            applySecondaryEffects(side, index, random);
+        }
+    }
+
+    private void dealDamage(int side, int attacker, int damage) {
+        int target = 1 - side;
+        int defender = active[target];
+        if (hp[target][defender] > 0 && hp[target][defender] <= damage) {
+            knockouts[side][attacker]++;
+        }
+        hp[target][defender] = Math.max(0, hp[target][defender] - damage);
+    }
+
+    private boolean canAct(int side, int slot, RandomGenerator random) {
+        int current = status[side][slot];
+        if (current == SLEEP || current == FREEZE) {
+            if (random.nextInt(current == SLEEP ? 3 : 5) == 0) {
+                cureStatus(side, slot);
+                return true;
+            }
+            return false;
+        } else if (current == PARALYSIS) {
+            return random.nextInt(4) != 0;
+        } else if (current == CONFUSION) {
+            if (random.nextInt(4) == 0) {
+                cureStatus(side, slot);
+                return true;
+            }
+            if (random.nextInt(3) == 0) {
+                CompactTeam team = teams[side];
+                int damage = DamageCalculator.roll(team.level[slot], CONFUSION_POWER,
+                        stagedStat(side, slot, team.attack[slot], CompactTeam.ATTACK),
+                        stagedStat(side, slot, team.defense[slot], CompactTeam.DEFENSE),
+                        false, 1.0, random);
+                hp[side][slot] = Math.max(0, hp[side][slot] - damage);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void applySecondaryEffects(int side, int index, RandomGenerator random) {
+        CompactTeam team = teams[side];
+        int target = 1 - side;
+        int effect = team.moveStatus[index];
+        if (effect != NONE && random.nextInt(100) < team.moveStatusChance[index]) {
+            applyStatus(target, active[target], effect);
+        }
+        int base = index * CompactTeam.STAGES;
+        for (int stat = 0; stat < CompactTeam.STAGES; stat++) {
+            if (team.moveUserStages[base + stat] != 0) {
+                modifyStage(side, active[side], stat, team.moveUserStages[base + stat]);
+            }
+            if (team.moveTargetStages[base + stat] != 0) {
+                modifyStage(target, active[target], stat, team.moveTargetStages[base + stat]);
+            }
+        }
+    }
+
+    // Mirrors Pokemon.applyStatus, including the stat drops for burn and paralysis
+    private boolean applyStatus(int side, int slot, int effect) {
+        int current = status[side][slot];
+        if (current == effect || isImmune(side, slot, effect)) {
+            return false;
+        }
+        if (isNonVolatile(current) && isNonVolatile(effect)) {
+            return false;
+        }
+        status[side][slot] = effect;
+        if (effect == BURN) {
+            modifyStage(side, slot, CompactTeam.ATTACK, -2);
+        } else if (effect == PARALYSIS) {
+            modifyStage(side, slot, CompactTeam.SPEED, -4);
+        }
+        return true;
+    }
+
+    private void cureStatus(int side, int slot) {
+        int old = status[side][slot];
+        status[side][slot] = NONE;
+        if (old == BURN) {
+            modifyStage(side, slot, CompactTeam.ATTACK, 2);
+        } else if (old == PARALYSIS) {
+            modifyStage(side, slot, CompactTeam.SPEED, 4);
+        }
+    }
+
+    private boolean isImmune(int side, int slot, int effect) {
+        CompactTeam team = teams[side];
+        return (effect == POISON && (hasType(team, slot, TYPE_POISON) || hasType(team, slot, TYPE_STEEL)))
+                || (effect == PARALYSIS && hasType(team, slot, TYPE_ELECTRIC))
+                || (effect == BURN && hasType(team, slot, TYPE_FIRE))
+                || (effect == FREEZE && hasType(team, slot, TYPE_ICE));
+    }
+
+    private static boolean hasType(CompactTeam team, int slot, int type) {
+        return team.type1[slot] == type || team.type2[slot] == type;
+    }
+
+    private static boolean isNonVolatile(int effect) {
+        return effect != NONE && effect != CONFUSION;
+    }
+
+    private void modifyStage(int side, int slot, int stat, int change) {
+        int index = slot * CompactTeam.STAGES + stat;
+        stages[side][index] = Math.max(-MAX_STAGE, Math.min(MAX_STAGE, stages[side][index] + change));
+    }
+
+    private void endOfTurn() {
+        for (int side = PLAYER; side <= OPPONENT; side++) {
+            int slot = active[side];
+            int current = status[side][slot];
+            if (hp[side][slot] > 0 && (current == BURN || current == POISON)) {
+                int damage = Math.max(1, teams[side].maxHp[slot] / (current == BURN ? 16 : 8));
+                hp[side][slot] = Math.max(0, hp[side][slot] - damage);
+            }
+        }
+        checkOutcome();
+        if (isOver()) {
+            return;
+        }
+        for (int side = PLAYER; side <= OPPONENT; side++) {
+            if (hp[side][active[side]] <= 0) {
+                active[side] = nextUsable(side);
+            }
+        }
+    }
+
+    private void checkOutcome() {
+        if (nextUsable(PLAYER) < 0) {
+            outcome = Outcome.OPPONENT_WON;
+        } else if (nextUsable(OPPONENT) < 0) {
+            outcome = Outcome.PLAYER_WON;
+        }
+    }
+
+    private int nextUsable(int side) {
+        int[] sideHp = hp[side];
+        for (int slot = 0; slot < sideHp.length; slot++) {
+            if (sideHp[slot] > 0) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int moveIndex(int side, int move) {
+        return active[side] * CompactTeam.MAX_MOVES + move;
+    }
+
+    private int stagedStat(int side, int slot, int stat, int stage) {
+        return CompactTeam.applyStage(stat, stages[side][slot * CompactTeam.STAGES + stage]);
+    }
+
+    private int effectiveSpeed(int side) {
+        int slot = active[side];
+        return stagedStat(side, slot, teams[side].speed[slot], CompactTeam.SPEED);
+    }
+
+    // Special stats have no stages in Stats, so only the physical ones are adjusted
+    private int attackStat(int side, int index) {
+        int slot = active[side];
+        CompactTeam team = teams[side];
+        return team.isPhysical(index)
+                ? stagedStat(side, slot, team.attack[slot], CompactTeam.ATTACK)
+                : team.spAttack[slot];
+    }
+
+    private int defenseStat(int side, boolean physical) {
+        int slot = active[side];
+        CompactTeam team = teams[side];
+        return physical
+                ? stagedStat(side, slot, team.defense[slot], CompactTeam.DEFENSE)
+                : team.spDefense[slot];
+    }
+
+    /**
+     * Average damage the side's active Pokémon would do with a move right
+     * now, counting accuracy, STAB and type effectiveness. Status moves and
+     * moves without PP score zero.
+     */
+    public double expectedDamage(Side side, int move) {
+        int attacker = side.ordinal();
+        int index = moveIndex(attacker, move);
+        CompactTeam team = teams[attacker];
+        if (pp[attacker][index] <= 0 || team.movePower[index] <= 0) {
+            return 0;
+        }
+        int target = 1 - attacker;
+        double multiplier = effectiveness[attacker][index * teams[target].size + active[target]];
+        double damage = DamageCalculator.expectedDamage(team.level[active[attacker]], team.movePower[index],
+                attackStat(attacker, index), defenseStat(target, team.isPhysical(index)),
+                team.hasStab(active[attacker], index), multiplier);
+        int accuracy = team.moveAccuracy[index];
+        return accuracy == 0 ? damage : damage * accuracy / 100.0;
+    }
+
+    // Zobrist hash of the position; the turn number is not part of it
+    public long hash() {
+        if (zobrist == null) {
+            zobrist = new ZobristKeys(teams);
+        }
+        return zobrist.hash(hp, pp, status, stages, active);
+    }
+
+    public boolean isOver() {
+        return outcome != Outcome.ONGOING;
+    }
+
+    // PLAYER_WON, OPPONENT_WON, or DRAW for a battle stopped at MAX_TURNS
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    public CompactTeam getTeam(Side side) {
+        return teams[side.ordinal()];
+    }
+
+    public int getActive(Side side) {
+        return active[side.ordinal()];
+    }
+
+    public int getHp(Side side, int slot) {
+        return hp[side.ordinal()][slot];
+    }
+
+    public int getPp(Side side, int move) {
+        return pp[side.ordinal()][moveIndex(side.ordinal(), move)];
+    }
+
+    public int getMovePower(Side side, int move) {
+        return teams[side.ordinal()].movePower[moveIndex(side.ordinal(), move)];
+    }
+
+    public int getKnockouts(Side side, int slot) {
+        return knockouts[side.ordinal()][slot];
+    }
+
+    public StatusEffect getStatus(Side side, int slot) {
+        return STATUSES[status[side.ordinal()][slot]];
+    }
+
+    public int getMoveCount(Side side) {
+        int s = side.ordinal();
+        return teams[s].moveCount[active[s]];
+    }
+
+    public boolean hasUsableMove(Side side) {
+        int s = side.ordinal();
+        int base = active[s] * CompactTeam.MAX_MOVES;
+        for (int move = 0; move < teams[s].moveCount[active[s]]; move++) {
+            if (pp[s][base + move] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int remainingHp(Side side) {
+        int total = 0;
+        for (int value : hp[side.ordinal()]) {
+            total += value;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,241 @@
+package battle;
+
+import java.util.List;
+
+import model.Move;
+import model.Move.MoveCategory;
+import model.Move.StatModifier;
+import model.Move.StatusEffect;
+import pokes.Pokemon;
+import pokes.Pokemon.PokemonType;
+import pokes.TypeEffectivenessChart;
+
+/**
+ * A team boiled down to primitive arrays for simulation and search. Only
+ * the numbers the battle rules look at are kept, so a battle can be copied
+ * or reset without touching the real Pokémon. Everything here is fixed for
+ * the whole battle; HP, PP, status and stat stages live in CompactBattle.
+ *
+ * Moves are stored flat, slot * MAX_MOVES + move, with unused entries left
+ * at zero power and zero PP.
+ */
+public final class CompactTeam {
+    public static final int MAX_MOVES = 4;
+
+    private static final PokemonType[] TYPES = PokemonType.values();
+
+    // Stat stage indexes; only these three change effective stats in Stats
+    static final int ATTACK = 0;
+    static final int DEFENSE = 1;
+    static final int SPEED = 2;
+    static final int STAGES = 3;
+
+    final int size;
+    final String[] names;
+    final int[] level;
+    final int[] maxHp;
+    final int[] attack;
+    final int[] defense;
+    final int[] spAttack;
+    final int[] spDefense;
+    final int[] speed;
+    final int[] type1;
+    final int[] type2;
+
+    final int[] moveCount;
+    final String[] moveName;
+    final int[] movePower;
+    final int[] moveType;
+    final int[] moveCategory;
+    final int[] moveAccuracy;
+    final int[] movePriority;
+    final int[] moveMaxPp;
+    final int[] moveStatus;
+    final int[] moveStatusChance;
+    // Stat stage changes, indexed [move * STAGES + stat]
+    final int[] moveUserStages;
+    final int[] moveTargetStages;
+
+    // Starting values, so a battle can be reset without rebuilding the team
+    final int[] startHp;
+    final int[] startPp;
+    final int[] startStatus;
+    final int[] startStages;
+
+    private CompactTeam(int size) {
+        this.size = size;
+        names = new String[size];
+        level = new int[size];
+        maxHp = new int[size];
+        attack = new int[size];
+        defense = new int[size];
+        spAttack = new int[size];
+        spDefense = new int[size];
+        speed = new int[size];
+        type1 = new int[size];
+        type2 = new int[size];
+        moveCount = new int[size];
+
+        int moves = size * MAX_MOVES;
+        moveName = new String[moves];
+        movePower = new int[moves];
+        moveType = new int[moves];
+        moveCategory = new int[moves];
+        moveAccuracy = new int[moves];
+        movePriority = new int[moves];
+        moveMaxPp = new int[moves];
+        moveStatus = new int[moves];
+        moveStatusChance = new int[moves];
+        moveUserStages = new int[moves * STAGES];
+        moveTargetStages = new int[moves * STAGES];
+
+        startHp = new int[size];
+        startPp = new int[moves];
+        startStatus = new int[size];
+        startStages = new int[size * STAGES];
+    }
+
+    /**
+     * Snapshots the team as it is right now, including current HP, PP and
+     * status. Later changes to the Pokémon are not seen by the snapshot.
+     */
+    public static CompactTeam of(List<Pokemon> team) {
+        if (team.isEmpty()) {
+            throw new IllegalArgumentException("Team is empty");
+        }
+        CompactTeam compact = new CompactTeam(team.size());
+        for (int slot = 0; slot < team.size(); slot++) {
+            compact.read(slot, team.get(slot));
+        }
+        return compact;
+    }
+
+    private void read(int slot, Pokemon pokemon) {
+        names[slot] = pokemon.getName();
+        level[slot] = pokemon.getLevelManager().getLevel();
+        maxHp[slot] = pokemon.getStats().getMaxHp();
+        attack[slot] = pokemon.getStats().getAttack();
+        defense[slot] = pokemon.getStats().getDefense();
+        spAttack[slot] = pokemon.getStats().getEffectiveStat("sp. attack");
+        spDefense[slot] = pokemon.getStats().getEffectiveStat("sp.defense");
+        speed[slot] = pokemon.getStats().getSpeed();
+
+        List<PokemonType> types = pokemon.getTypes();
+        type1[slot] = types.isEmpty() ? PokemonType.NORMAL.ordinal() : types.get(0).ordinal();
+        type2[slot] = types.size() > 1 ? types.get(1).ordinal() : -1;
+
+        startHp[slot] = Math.max(0, pokemon.getStats().getCurrentHp());
+        startStatus[slot] = pokemon.getStatus().ordinal();
+        int base = slot * STAGES;
+        startStages[base + ATTACK] = stageOf(pokemon, "attack");
+        startStages[base + DEFENSE] = stageOf(pokemon, "defense");
+        startStages[base + SPEED] = stageOf(pokemon, "speed");
+
+        // Move lists can have gaps, so only real moves are packed in
+        for (Move move : pokemon.getMoves()) {
+            if (move != null && moveCount[slot] < MAX_MOVES) {
+                readMove(slot * MAX_MOVES + moveCount[slot], move);
+                moveCount[slot]++;
+            }
+        }
+    }
+
+    private void readMove(int index, Move move) {
+        moveName[index] = move.getName();
+        movePower[index] = move.getCategory() == MoveCategory.STATUS ? 0 : move.getPower();
+        moveType[index] = move.getType().ordinal();
+        moveCategory[index] = move.getCategory().ordinal();
+        moveAccuracy[index] = move.getAccuracy();
+        movePriority[index] = move.getPriority();
+        moveMaxPp[index] = move.getMaxPP();
+        startPp[index] = move.getCurrentPP();
+
+        StatusEffect effect = move.getStatusEffect();
+        moveStatus[index] = effect != null ? effect.ordinal() : StatusEffect.NONE.ordinal();
+        moveStatusChance[index] = move.getCategory() == MoveCategory.STATUS ? 100 : move.getStatusChance();
+
+        for (StatModifier modifier : move.getStatModifiers()) {
+            int stat = stageIndex(modifier.getStat());
+            if (stat >= 0) {
+                int[] stages = modifier.affectsUser() ? moveUserStages : moveTargetStages;
+                stages[index * STAGES + stat] += modifier.getStages();
+            }
+        }
+    }
+
+    // Recovers the stage from the multiplier Stats reports
+    private static int stageOf(Pokemon pokemon, String stat) {
+        double multiplier = pokemon.getStats().getStatMultiplier(stat);
+        return multiplier >= 1.0
+                ? (int) Math.round(multiplier * 2 - 2)
+                : -(int) Math.round(2 / multiplier - 2);
+    }
+
+    private static int stageIndex(String stat) {
+        switch (stat.toLowerCase()) {
+            case "attack":
+                return ATTACK;
+            case "defense":
+                return DEFENSE;
+            case "speed":
+                return SPEED;
+            default:
+                return -1;
+        }
+    }
+
+    // Same multipliers and rounding as Stats.getEffectiveStat
+    static int applyStage(int stat, int stage) {
+        return (int) (stat * (stage >= 0 ? (stage + 2) / 2.0 : 2.0 / (2 - stage)));
+    }
+
+    double effectiveness(int move, CompactTeam defender, int slot) {
+        TypeEffectivenessChart chart = TypeEffectivenessChart.getInstance();
+        PokemonType attackType = TYPES[moveType[move]];
+        double multiplier = chart.getEffectiveness(attackType, TYPES[defender.type1[slot]]);
+        if (defender.type2[slot] >= 0) {
+            multiplier *= chart.getEffectiveness(attackType, TYPES[defender.type2[slot]]);
+        }
+        return multiplier;
+    }
+
+    boolean hasStab(int slot, int move) {
+        return moveType[move] == type1[slot] || moveType[move] == type2[slot];
+    }
+
+    boolean isPhysical(int move) {
+        return moveCategory[move] == MoveCategory.PHYSICAL.ordinal();
+    }
+
+    boolean isStatusMove(int move) {
+        return moveCategory[move] == MoveCategory.STATUS.ordinal();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName(int slot) {
+        return names[slot];
+    }
+
+    public int getMaxHp(int slot) {
+        return maxHp[slot];
+    }
+
+    public int getMoveCount(int slot) {
+        return moveCount[slot];
+    }
+
+    public String getMoveName(int slot, int move) {
+        return moveName[slot * MAX_MOVES + move];
+    }
+
+    public int totalMaxHp() {
+        int total = 0;
+        for (int slot = 0; slot < size; slot++) {
+            total += maxHp[slot];
+        }
+        return total;
+    }
+}
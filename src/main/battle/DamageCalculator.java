@@ -0,0 +1,118 @@
+package battle;
+
+import java.util.random.RandomGenerator;
+
+import model.Move;
+import model.Move.MoveCategory;
+import pokes.Pokemon;
+
+/**
+ * The one damage formula used by the battle screen, the engine, moves used
+ * outside of battle and any simulation or AI code. Damage is computed the
+ * way the games do it: base damage, then one of 16 random rolls (85% to
+ * 100%), then STAB, then type effectiveness, truncating after each step.
+ *
+ * Everything works on primitives and nothing allocates, so the AI can ask
+ * for min/max damage or the odds of a knockout millions of times a second.
+ * Because damage never decreases as the roll goes up, the full distribution
+ * is just the 16 values for roll 0 through 15, each with probability 1/16.
+ */
+public final class DamageCalculator {
+    public static final int ROLLS = 16;
+
+    private DamageCalculator() {}
+
+    public static int baseDamage(int level, int power, int attack, int defense) {
+        return ((2 * level / 5 + 2) * power * attack / Math.max(1, defense)) / 50 + 2;
+    }
+
+    // Damage for a specific roll, 0 (85%) to 15 (100%)
+    public static int damage(int level, int power, int attack, int defense,
+                             boolean stab, double effectiveness, int roll) {
+        if (power <= 0 || effectiveness <= 0) {
+            return 0;
+        }
+        int damage = baseDamage(level, power, attack, defense) * (85 + roll) / 100;
+        if (stab) {
+            damage = damage * 3 / 2;
+        }
+        damage = (int) (damage * effectiveness);
+        return Math.max(1, damage);
+    }
+
+    public static int roll(int level, int power, int attack, int defense,
+                           boolean stab, double effectiveness, RandomGenerator random) {
+        return damage(level, power, attack, defense, stab, effectiveness, random.nextInt(ROLLS));
+    }
+
+    public static int minDamage(int level, int power, int attack, int defense, boolean stab, double effectiveness) {
+        return damage(level, power, attack, defense, stab, effectiveness, 0);
+    }
+
+    public static int maxDamage(int level, int power, int attack, int defense, boolean stab, double effectiveness) {
+        return damage(level, power, attack, defense, stab, effectiveness, ROLLS - 1);
+    }
+
+    // How many of the 16 rolls deal at least the given damage
+    public static int rollsReaching(int level, int power, int attack, int defense,
+                                    boolean stab, double effectiveness, int hp) {
+        // Rolls are monotonic, so count down from the top until one falls short
+        int count = 0;
+        for (int roll = ROLLS - 1; roll >= 0; roll--) {
+            if (damage(level, power, attack, defense, stab, effectiveness, roll) < hp) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    public static double chanceToReach(int level, int power, int attack, int defense,
+                                       boolean stab, double effectiveness, int hp) {
+        return rollsReaching(level, power, attack, defense, stab, effectiveness, hp) / (double) ROLLS;
+    }
+
+    // Fills out[0..15] with the damage for each roll
+    public static void distribution(int level, int power, int attack, int defense,
+                                    boolean stab, double effectiveness, int[] out) {
+        for (int roll = 0; roll < ROLLS; roll++) {
+            out[roll] = damage(level, power, attack, defense, stab, effectiveness, roll);
+        }
+    }
+
+    public static double expectedDamage(int level, int power, int attack, int defense,
+                                        boolean stab, double effectiveness) {
+        int total = 0;
+        for (int roll = 0; roll < ROLLS; roll++) {
+            total += damage(level, power, attack, defense, stab, effectiveness, roll);
+        }
+        return total / (double) ROLLS;
+    }
+
+    // Helpers for pulling the primitive inputs out of the game objects
+
+    public static int attackStat(Pokemon attacker, Move move) {
+        return move.getCategory() == MoveCategory.PHYSICAL
+                ? attacker.getStats().getEffectiveStat("attack")
+                : attacker.getStats().getEffectiveStat("sp. attack");
+    }
+
+    public static int defenseStat(Pokemon defender, Move move) {
+        return move.getCategory() == MoveCategory.PHYSICAL
+                ? defender.getStats().getEffectiveStat("defense")
+                : defender.getStats().getEffectiveStat("sp.defense");
+    }
+
+    public static boolean hasStab(Pokemon attacker, Move move) {
+        return attacker.getTypes().contains(move.getType());
+    }
+
+    public static int roll(Pokemon attacker, Pokemon defender, Move move, double effectiveness,
+                           RandomGenerator random) {
+        if (move.getCategory() == MoveCategory.STATUS) {
+            return 0;
+        }
+        return roll(attacker.getLevel(), move.getPower(), attackStat(attacker, move), defenseStat(defender, move),
+                hasStab(attacker, move), effectiveness, random);
+    }
+}
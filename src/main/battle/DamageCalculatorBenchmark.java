@@ -0,0 +1,90 @@
+package battle;
+
+import java.util.SplittableRandom;
+
+/**
+ * Rough throughput check for DamageCalculator. Runs each operation in timed
+ * batches after a warm-up and prints calls per second. Inputs vary per call
+ * and results are folded into a checksum so the JIT can't drop the work.
+ *
+ * Run with: java battle.DamageCalculatorBenchmark [seconds per operation]
+ */
+public class DamageCalculatorBenchmark {
+    private static final int BATCH = 1 << 20;
+    private static final int INPUTS = 1024;
+
+    private final int[] levels = new int[INPUTS];
+    private final int[] powers = new int[INPUTS];
+    private final int[] attacks = new int[INPUTS];
+    private final int[] defenses = new int[INPUTS];
+    private final boolean[] stabs = new boolean[INPUTS];
+    private final double[] effectiveness = new double[INPUTS];
+    private final int[] hps = new int[INPUTS];
+    private final SplittableRandom random = new SplittableRandom(42);
+    private long checksum;
+
+    private interface Operation {
+        void run(int i);
+    }
+
+    private DamageCalculatorBenchmark() {
+        double[] multipliers = {0.25, 0.5, 1.0, 1.0, 2.0, 4.0};
+        SplittableRandom setup = new SplittableRandom(7);
+        for (int i = 0; i < INPUTS; i++) {
+            levels[i] = setup.nextInt(1, 101);
+            powers[i] = setup.nextInt(20, 151);
+            attacks[i] = setup.nextInt(10, 400);
+            defenses[i] = setup.nextInt(10, 400);
+            stabs[i] = setup.nextBoolean();
+            effectiveness[i] = multipliers[setup.nextInt(multipliers.length)];
+            hps[i] = setup.nextInt(10, 300);
+        }
+    }
+
+    public static void main(String[] args) {
+        double seconds = args.length > 0 ? Double.parseDouble(args[0]) : 2.0;
+        DamageCalculatorBenchmark bench = new DamageCalculatorBenchmark();
+
+        bench.measure("roll", seconds, i -> bench.checksum += DamageCalculator.roll(
+                bench.levels[i], bench.powers[i], bench.attacks[i], bench.defenses[i],
+                bench.stabs[i], bench.effectiveness[i], bench.random));
+        bench.measure("maxDamage", seconds, i -> bench.checksum += DamageCalculator.maxDamage(
+                bench.levels[i], bench.powers[i], bench.attacks[i], bench.defenses[i],
+                bench.stabs[i], bench.effectiveness[i]));
+        bench.measure("rollsReaching", seconds, i -> bench.checksum += DamageCalculator.rollsReaching(
+                bench.levels[i], bench.powers[i], bench.attacks[i], bench.defenses[i],
+                bench.stabs[i], bench.effectiveness[i], bench.hps[i]));
+        bench.measure("expectedDamage", seconds, i -> bench.checksum += (long) DamageCalculator.expectedDamage(
+                bench.levels[i], bench.powers[i], bench.attacks[i], bench.defenses[i],
+                bench.stabs[i], bench.effectiveness[i]));
+
+        System.out.println("checksum " + bench.checksum);
+    }
+
+    private void measure(String name, double seconds, Operation operation) {
+        // Warm up so the timed part runs compiled code
+        runFor(operation, seconds / 2);
+        long calls = 0;
+        long start = System.nanoTime();
+        long deadline = start + (long) (seconds * 1e9);
+        while (System.nanoTime() < deadline) {
+            runBatch(operation);
+            calls += BATCH;
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-16s %,15.0f calls/s%n", name, calls / elapsed);
+    }
+
+    private void runFor(Operation operation, double seconds) {
+        long deadline = System.nanoTime() + (long) (seconds * 1e9);
+        while (System.nanoTime() < deadline) {
+            runBatch(operation);
+        }
+    }
+
+    private static void runBatch(Operation operation) {
+        for (int i = 0; i < BATCH; i++) {
+            operation.run(i & (INPUTS - 1));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package battle;
+
+import java.util.List;
+
+import model.EncounterTable;
+import model.GameRandom;
+import model.EncounterTable.EncounterEntry;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+import pokes.Pokemon;
+import pokes.PokemonFactory;
+import pokes.PokemonStatsLoader;
+
+/**
+ * Prints, as CSV, how a given Pokémon fares against every entry of every
+ * encounter table at the entry's lowest and highest level. Used when tuning
+ * the level ranges in the encounter table files: an entry the intended
+ * Pokémon loses to more often than not is probably set too high for its
+ * route.
+ *
+ * Run with: java battle.EncounterBalanceReport dex level [battles per row]
+ */
+public class EncounterBalanceReport {
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: EncounterBalanceReport dex level [battles]");
+            System.exit(1);
+        }
+        int dex = Integer.parseInt(args[0]);
+        int level = Integer.parseInt(args[1]);
+        int battles = args.length > 2 ? Integer.parseInt(args[2]) : 100000;
+
+        GameRandom.setSeed(1);
+        PokemonStatsLoader stats = PokemonStatsLoader.getInstance();
+        stats.loadFromCSV("/resources/pokemon_information.csv");
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+        EncounterTable.initializeEncounterTables();
+
+        Pokemon player = PokemonFactory.createPokemon(dex, level, stats.getPokemonName(dex));
+        player.generateWildMoves();
+        CompactTeam playerTeam = CompactTeam.of(List.of(player));
+        // The player plays well; wild Pokémon use the battle screen's move picker
+        BattleSimulator simulator = new BattleSimulator(StandardPolicy.GREEDY, StandardPolicy.HIGHEST_POWER);
+
+        System.out.println("location,pokemon,level,win_rate,win_low,win_high,turns,hp_left");
+        long seed = 1;
+        for (String location : EncounterTable.getAvailableLocations()) {
+            for (EncounterEntry entry : EncounterTable.getEncounterTable(location)) {
+                for (int wildLevel : new int[] {entry.getMinLevel(), entry.getMaxLevel()}) {
+                    Pokemon wild = EncounterTable.createEncounter(entry, wildLevel, location);
+                    SimulationResult result = simulator.simulate(playerTeam, CompactTeam.of(List.of(wild)),
+                            battles, seed++);
+                    System.out.printf("%s,%s,%d,%.4f,%.4f,%.4f,%.2f,%.4f%n", location, wild.getName(), wildLevel,
+                            result.getWinRate(), result.getWinRateLow(), result.getWinRateHigh(),
+                            result.getMeanTurns(), result.getMeanHpLeft());
+                }
+            }
+        }
+    }
+}
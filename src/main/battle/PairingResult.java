@@ -0,0 +1,61 @@
+package battle;
+
+/**
+ * How one pairing of a Tournament went. The win rate, turns and HP left are
+ * from team A's side; team B's wins are counted separately since draws
+ * belong to neither.
+ */
+public final class PairingResult {
+    private final String teamA;
+    private final String teamB;
+    private final SimulationResult forA;
+    private final int winsB;
+    private final String mvpA;
+    private final String mvpB;
+
+    PairingResult(String teamA, String teamB, SimulationResult forA, int winsB, String mvpA, String mvpB) {
+        this.teamA = teamA;
+        this.teamB = teamB;
+        this.forA = forA;
+        this.winsB = winsB;
+        this.mvpA = mvpA;
+        this.mvpB = mvpB;
+    }
+
+    public String getTeamA() {
+        return teamA;
+    }
+
+    public String getTeamB() {
+        return teamB;
+    }
+
+    public SimulationResult getResultForA() {
+        return forA;
+    }
+
+    public int getBattles() {
+        return forA.getBattles();
+    }
+
+    public int getWinsA() {
+        return forA.getWins();
+    }
+
+    public int getWinsB() {
+        return winsB;
+    }
+
+    public String getMvpA() {
+        return mvpA;
+    }
+
+    public String getMvpB() {
+        return mvpB;
+    }
+
+    @Override
+    public String toString() {
+        return teamA + " vs " + teamB + ": " + forA;
+    }
+}
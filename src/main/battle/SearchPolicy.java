@@ -0,0 +1,305 @@
+package battle;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import battle.BattleState.Outcome;
+import battle.BattleState.Side;
+import model.Move.StatusEffect;
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Expectiminimax over whole turns. The searching side picks the move with
+ * the best worst case over the other side's replies, and each pair of moves
+ * is scored as the expectation over the chance nodes that matter most:
+ * whether each move hits, and its damage roll. The 16 rolls are grouped
+ * into three bands to keep the tree small. Everything else that is random
+ * (status checks, secondary effects, speed ties) is sampled from a
+ * generator seeded once per search, so the same position always gets the
+ * same answer.
+ *
+ * The search deepens one turn at a time until the difficulty's depth or
+ * node budget runs out and plays the best move of the last depth it
+ * finished. The budget counts nodes rather than time so that a seeded
+ * battle plays out the same on any machine and under any load. Positions
+ * are cached in a transposition table keyed by the battle's Zobrist hash.
+ */
+public class SearchPolicy implements BattlePolicy {
+    private static final Logger LOG = Log.getLogger(SearchPolicy.class);
+
+    private static final double WIN = 1000.0;
+    // Middle roll of each band and the share of the 16 rolls that fall in it
+    private static final int[] BAND_ROLLS = {2, 7, 13};
+    private static final double[] BAND_WEIGHTS = {5 / 16.0, 6 / 16.0, 5 / 16.0};
+    private static final int TABLE_SIZE = 1 << 16;
+
+    private static final Map<AiDifficulty, SearchPolicy> SHARED = new EnumMap<>(AiDifficulty.class);
+
+    static {
+        for (AiDifficulty difficulty : AiDifficulty.values()) {
+            SHARED.put(difficulty, new SearchPolicy(difficulty));
+        }
+    }
+
+    private final AiDifficulty difficulty;
+    // Scratch battles and the table are per thread, so one policy can drive a whole simulation
+    private final ThreadLocal<Search> searches;
+
+    public SearchPolicy(AiDifficulty difficulty) {
+        this.difficulty = difficulty;
+        this.searches = ThreadLocal.withInitial(() -> new Search(difficulty.getMaxDepth(), difficulty.getMaxNodes()));
+    }
+
+    // One policy per difficulty is enough, and sharing it keeps one table per thread
+    public static SearchPolicy forDifficulty(AiDifficulty difficulty) {
+        return SHARED.get(difficulty);
+    }
+
+    public AiDifficulty getDifficulty() {
+        return difficulty;
+    }
+
+    @Override
+    public int chooseMove(CompactBattle battle, Side side, RandomGenerator random) {
+        if (!battle.hasUsableMove(side)) {
+            return CompactBattle.STRUGGLE;
+        }
+        if (difficulty.getMistakeChance() > 0 && random.nextDouble() < difficulty.getMistakeChance()) {
+            return StandardPolicy.randomUsableMove(battle, side, random);
+        }
+        return searches.get().run(battle, side, random.nextLong());
+    }
+
+    private static final class Search {
+        private final int maxDepth;
+        private final int maxNodes;
+        // [depth][step]: 0 turn start, 1 after the first move, 2 before the second, 3 after it
+        private CompactBattle[][] scratch;
+        private final int[][] myMoves;
+        private final int[][] replies;
+
+        private final long[] tableKeys = new long[TABLE_SIZE];
+        private final double[] tableValues = new double[TABLE_SIZE];
+        private final byte[] tableDepths = new byte[TABLE_SIZE];
+        private final byte[] tableMoves = new byte[TABLE_SIZE];
+        private final int[] tableStamps = new int[TABLE_SIZE];
+        // Entries from earlier searches are ignored rather than cleared
+        private int stamp;
+
+        private Side me;
+        private SplittableRandom random;
+        private int nodes;
+        private boolean outOfNodes;
+        private int bestMove;
+
+        Search(int maxDepth, int maxNodes) {
+            this.maxDepth = maxDepth;
+            this.maxNodes = maxNodes;
+            this.myMoves = new int[maxDepth + 1][CompactTeam.MAX_MOVES];
+            this.replies = new int[maxDepth + 1][CompactTeam.MAX_MOVES];
+        }
+
+        int run(CompactBattle root, Side side, long seed) {
+            prepareScratch(root);
+            stamp++;
+            me = side;
+            outOfNodes = false;
+            nodes = 0;
+
+            int best = StandardPolicy.GREEDY.chooseMove(root, side, new SplittableRandom(seed));
+            int completed = 0;
+            for (int depth = 1; depth <= maxDepth; depth++) {
+                // Same samples every iteration so deeper results stay comparable
+                random = new SplittableRandom(seed);
+                maxNode(root, depth, best);
+                if (outOfNodes) {
+                    break;
+                }
+                best = bestMove;
+                completed = depth;
+            }
+            LOG.debug("Picked move {} at depth {} after {} nodes", best, completed, nodes);
+            return best;
+        }
+
+        private void prepareScratch(CompactBattle root) {
+            // Hash first so the copies share the root's Zobrist keys
+            root.hash();
+            if (scratch != null && scratch[1][0].sharesTeamsWith(root)) {
+                return;
+            }
+            scratch = new CompactBattle[maxDepth + 1][];
+            for (int depth = 1; depth <= maxDepth; depth++) {
+                scratch[depth] = new CompactBattle[] {root.copy(), root.copy(), root.copy(), root.copy()};
+            }
+        }
+
+        private double value(CompactBattle state, int depth) {
+            if (state.isOver() || depth == 0) {
+                return evaluate(state, depth);
+            }
+            if (++nodes > maxNodes) {
+                outOfNodes = true;
+            }
+            if (outOfNodes) {
+                return 0;
+            }
+
+            long hash = state.hash();
+            int slot = (int) hash & (TABLE_SIZE - 1);
+            int firstTry = -1;
+            if (tableStamps[slot] == stamp && tableKeys[slot] == hash) {
+                if (tableDepths[slot] >= depth) {
+                    return tableValues[slot];
+                }
+                firstTry = tableMoves[slot];
+            }
+
+            double value = maxNode(state, depth, firstTry);
+            if (!outOfNodes) {
+                tableStamps[slot] = stamp;
+                tableKeys[slot] = hash;
+                tableDepths[slot] = (byte) depth;
+                tableValues[slot] = value;
+                tableMoves[slot] = (byte) bestMove;
+            }
+            return value;
+        }
+
+        // Best worst case over my moves; leaves the chosen move in bestMove
+        private double maxNode(CompactBattle state, int depth, int firstTry) {
+            int[] moves = myMoves[depth];
+            int moveCount = usableMoves(state, me, moves, firstTry);
+            int[] theirMoves = replies[depth];
+            int replyCount = usableMoves(state, me.other(), theirMoves, -1);
+
+            double best = Double.NEGATIVE_INFINITY;
+            int chosen = moves[0];
+            for (int i = 0; i < moveCount; i++) {
+                double worst = Double.POSITIVE_INFINITY;
+                for (int j = 0; j < replyCount && worst > best; j++) {
+                    worst = Math.min(worst, turnValue(state, moves[i], theirMoves[j], depth));
+                    if (outOfNodes) {
+                        return 0;
+                    }
+                }
+                if (worst > best) {
+                    best = worst;
+                    chosen = moves[i];
+                }
+            }
+            bestMove = chosen;
+            return best;
+        }
+
+        private double turnValue(CompactBattle state, int myMove, int theirMove, int depth) {
+            CompactBattle start = scratch[depth][0];
+            start.copyFrom(state);
+            start.startTurn();
+            Side other = me.other();
+            if (start.movesFirst(me, myMove, theirMove, random)) {
+                return firstAction(start, me, myMove, other, theirMove, depth);
+            }
+            return firstAction(start, other, theirMove, me, myMove, depth);
+        }
+
+        private double firstAction(CompactBattle ready, Side side, int move, Side second, int secondMove, int depth) {
+            if (!ready.tryToAct(side, random)) {
+                return secondAction(ready, second, secondMove, depth);
+            }
+            CompactBattle after = scratch[depth][1];
+            double hitChance = ready.hitChance(side, move);
+            boolean banded = ready.rollMatters(side, move);
+            double total = 0;
+            if (hitChance < 1.0) {
+                after.copyFrom(ready);
+                after.landMove(side, move, false, 0, random);
+                total += (1.0 - hitChance) * secondAction(after, second, secondMove, depth);
+            }
+            for (int band = 0; band < (banded ? BAND_ROLLS.length : 1); band++) {
+                after.copyFrom(ready);
+                after.landMove(side, move, true, banded ? BAND_ROLLS[band] : DamageCalculator.ROLLS - 1, random);
+                double weight = banded ? BAND_WEIGHTS[band] : 1.0;
+                total += hitChance * weight * secondAction(after, second, secondMove, depth);
+            }
+            return total;
+        }
+
+        private double secondAction(CompactBattle state, Side side, int move, int depth) {
+            CompactBattle ready = scratch[depth][2];
+            ready.copyFrom(state);
+            if (ready.isOver() || ready.isActiveFainted(side) || !ready.tryToAct(side, random)) {
+                return endTurn(ready, depth);
+            }
+            CompactBattle after = scratch[depth][3];
+            double hitChance = ready.hitChance(side, move);
+            boolean banded = ready.rollMatters(side, move);
+            double total = 0;
+            if (hitChance < 1.0) {
+                after.copyFrom(ready);
+                after.landMove(side, move, false, 0, random);
+                total += (1.0 - hitChance) * endTurn(after, depth);
+            }
+            for (int band = 0; band < (banded ? BAND_ROLLS.length : 1); band++) {
+                after.copyFrom(ready);
+                after.landMove(side, move, true, banded ? BAND_ROLLS[band] : DamageCalculator.ROLLS - 1, random);
+                double weight = banded ? BAND_WEIGHTS[band] : 1.0;
+                total += hitChance * weight * endTurn(after, depth);
+            }
+            return total;
+        }
+
+        private double endTurn(CompactBattle state, int depth) {
+            state.endTurn();
+            return value(state, depth - 1);
+        }
+
+        // Moves with PP left, preferred move first, or just Struggle
+        private static int usableMoves(CompactBattle state, Side side, int[] out, int preferred) {
+            int count = 0;
+            if (preferred >= 0 && preferred < state.getMoveCount(side) && state.getPp(side, preferred) > 0) {
+                out[count++] = preferred;
+            }
+            for (int move = 0; move < state.getMoveCount(side); move++) {
+                if (move != preferred && state.getPp(side, move) > 0) {
+                    out[count++] = move;
+                }
+            }
+            if (count == 0) {
+                out[count++] = CompactBattle.STRUGGLE;
+            }
+            return count;
+        }
+
+        // Positive is good for me; wins found sooner score a little higher
+        private double evaluate(CompactBattle state, int depthLeft) {
+            Outcome outcome = state.getOutcome();
+            if (outcome == Outcome.PLAYER_WON || outcome == Outcome.OPPONENT_WON) {
+                boolean iWon = (outcome == Outcome.PLAYER_WON) == (me == Side.PLAYER);
+                return iWon ? WIN + depthLeft : -WIN - depthLeft;
+            } else if (outcome == Outcome.DRAW) {
+                return 0;
+            }
+            return teamScore(state, me) - teamScore(state, me.other());
+        }
+
+        // One point per Pokémon still standing, plus its share of HP left, less a little for a status
+        private static double teamScore(CompactBattle state, Side side) {
+            CompactTeam team = state.getTeam(side);
+            double score = 0;
+            for (int slot = 0; slot < team.size(); slot++) {
+                int hp = state.getHp(side, slot);
+                if (hp > 0) {
+                    score += 1.0 + (double) hp / team.getMaxHp(slot);
+                    if (state.getStatus(side, slot) != StatusEffect.NONE) {
+                        score -= 0.25;
+                    }
+                }
+            }
+            return score;
+        }
+    }
+}
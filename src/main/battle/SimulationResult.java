@@ -0,0 +1,103 @@
+package battle;
+
+/**
+ * What a batch of simulated battles came to, from the player's side. Every
+ * estimate comes with a 95% confidence interval: a Wilson score interval
+ * for the win rate, and a normal approximation for the means.
+ */
+public final class SimulationResult {
+    private static final double Z_95 = 1.96;
+
+    private final int battles;
+    private final int wins;
+    private final int draws;
+    private final double meanTurns;
+    private final double turnsMargin;
+    private final double meanHpLeft;
+    private final double hpLeftMargin;
+    private final long elapsedNanos;
+
+    SimulationResult(int battles, int wins, int draws, long turns, long turnsSquared,
+                     double hpLeft, double hpLeftSquared, long elapsedNanos) {
+        this.battles = battles;
+        this.wins = wins;
+        this.draws = draws;
+        this.meanTurns = battles > 0 ? (double) turns / battles : 0;
+        this.turnsMargin = margin(battles, meanTurns, (double) turnsSquared);
+        this.meanHpLeft = battles > 0 ? hpLeft / battles : 0;
+        this.hpLeftMargin = margin(battles, meanHpLeft, hpLeftSquared);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    private static double margin(int n, double mean, double sumOfSquares) {
+        if (n < 2) {
+            return 0;
+        }
+        double variance = Math.max(0, (sumOfSquares - n * mean * mean) / (n - 1));
+        return Z_95 * Math.sqrt(variance / n);
+    }
+
+    public int getBattles() {
+        return battles;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public double getWinRate() {
+        return battles > 0 ? (double) wins / battles : 0;
+    }
+
+    public double getWinRateLow() {
+        return wilson(-1);
+    }
+
+    public double getWinRateHigh() {
+        return wilson(1);
+    }
+
+    private double wilson(int sign) {
+        if (battles == 0) {
+            return sign < 0 ? 0 : 1;
+        }
+        double p = getWinRate();
+        double z2 = Z_95 * Z_95;
+        double centre = p + z2 / (2 * battles);
+        double spread = Z_95 * Math.sqrt(p * (1 - p) / battles + z2 / (4.0 * battles * battles));
+        return Math.max(0, Math.min(1, (centre + sign * spread) / (1 + z2 / battles)));
+    }
+
+    public double getMeanTurns() {
+        return meanTurns;
+    }
+
+    // Half-width of the 95% interval around getMeanTurns
+    public double getTurnsMargin() {
+        return turnsMargin;
+    }
+
+    // Fraction of the player's total max HP left at the end, 0 to 1
+    public double getMeanHpLeft() {
+        return meanHpLeft;
+    }
+
+    public double getHpLeftMargin() {
+        return hpLeftMargin;
+    }
+
+    public double getBattlesPerSecond() {
+        return elapsedNanos > 0 ? battles * 1e9 / elapsedNanos : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d battles: win %.1f%% (%.1f-%.1f%%), %.1f +/- %.2f turns, %.1f%% +/- %.1f%% HP left",
+                battles, getWinRate() * 100, getWinRateLow() * 100, getWinRateHigh() * 100,
+                meanTurns, turnsMargin, meanHpLeft * 100, hpLeftMargin * 100);
+    }
+}
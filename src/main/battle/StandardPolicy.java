@@ -0,0 +1,72 @@
+package battle;
+
+import java.util.random.RandomGenerator;
+
+import battle.BattleState.Side;
+
+/**
+ * The simple move pickers: uniformly random, the battle screen's
+ * "usually the highest power" rule, and greedy expected damage.
+ */
+public enum StandardPolicy implements BattlePolicy {
+    RANDOM {
+        @Override
+        public int chooseMove(CompactBattle battle, Side side, RandomGenerator random) {
+            return randomUsableMove(battle, side, random);
+        }
+    },
+
+    // Highest base power 70% of the time, otherwise any move with PP
+    HIGHEST_POWER {
+        @Override
+        public int chooseMove(CompactBattle battle, Side side, RandomGenerator random) {
+            if (random.nextDouble() >= 0.7) {
+                return randomUsableMove(battle, side, random);
+            }
+            int best = CompactBattle.STRUGGLE;
+            for (int move = 0; move < battle.getMoveCount(side); move++) {
+                if (battle.getPp(side, move) > 0
+                        && (best == CompactBattle.STRUGGLE
+                            || battle.getMovePower(side, move) > battle.getMovePower(side, best))) {
+                    best = move;
+                }
+            }
+            return best;
+        }
+    },
+
+    // Whatever does the most damage on average right now
+    GREEDY {
+        @Override
+        public int chooseMove(CompactBattle battle, Side side, RandomGenerator random) {
+            int best = CompactBattle.STRUGGLE;
+            double bestDamage = 0;
+            for (int move = 0; move < battle.getMoveCount(side); move++) {
+                double damage = battle.expectedDamage(side, move);
+                if (damage > bestDamage) {
+                    best = move;
+                    bestDamage = damage;
+                }
+            }
+            return best != CompactBattle.STRUGGLE ? best : randomUsableMove(battle, side, random);
+        }
+    };
+
+    static int randomUsableMove(CompactBattle battle, Side side, RandomGenerator random) {
+        int usable = 0;
+        for (int move = 0; move < battle.getMoveCount(side); move++) {
+            if (battle.getPp(side, move) > 0) {
+                usable++;
+            }
+        }
+        if (usable == 0) {
+            return CompactBattle.STRUGGLE;
+        }
+        int pick = random.nextInt(usable);
+        for (int move = 0; ; move++) {
+            if (battle.getPp(side, move) > 0 && pick-- == 0) {
+                return move;
+            }
+        }
+    }
+}
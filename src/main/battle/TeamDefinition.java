@@ -0,0 +1,146 @@
+package battle;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import model.Move;
+import moves.MoveFactory;
+import pokes.Pokemon;
+import pokes.PokemonFactory;
+
+/**
+ * A named team written as one line of text, the same Pokémon a trainer
+ * would get from TrainerNpc.addPokemon:
+ *
+ *   Bug Catcher: 10 Caterpie 8 [Tackle, String Shot]; 13 Weedle 9
+ *
+ * Each Pokémon is dex number, name and level, with an optional move list.
+ * Without one it gets the same wild moves a trainer's Pokémon would. Blank
+ * lines and lines starting with # are ignored when reading a file.
+ */
+public final class TeamDefinition {
+    private static final Pattern ENTRY = Pattern.compile("^(\\d+)\\s+(.+?)\\s+(\\d+)\\s*(?:\\[(.*)\\])?$");
+
+    public static final class Entry {
+        private final int dex;
+        private final String name;
+        private final int level;
+        private final List<String> moves;
+
+        Entry(int dex, String name, int level, List<String> moves) {
+            this.dex = dex;
+            this.name = name;
+            this.level = level;
+            this.moves = moves;
+        }
+
+        public int getDex() {
+            return dex;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public List<String> getMoves() {
+            return moves;
+        }
+    }
+
+    private final String name;
+    private final List<Entry> entries;
+
+    private TeamDefinition(String name, List<Entry> entries) {
+        this.name = name;
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    public static List<TeamDefinition> load(Path file) throws IOException {
+        List<TeamDefinition> teams = new ArrayList<>();
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                teams.add(parse(line));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(file + ":" + (i + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        return teams;
+    }
+
+    public static TeamDefinition parse(String line) {
+        int colon = line.indexOf(':');
+        if (colon <= 0) {
+            throw new IllegalArgumentException("Expected 'Team name: pokemon; pokemon', got: " + line);
+        }
+        String teamName = line.substring(0, colon).trim();
+        List<Entry> entries = new ArrayList<>();
+        for (String part : line.substring(colon + 1).split(";")) {
+            String text = part.trim();
+            if (text.isEmpty()) {
+                continue;
+            }
+            Matcher matcher = ENTRY.matcher(text);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Expected 'dex name level [moves]', got: " + text);
+            }
+            List<String> moves = new ArrayList<>();
+            if (matcher.group(4) != null) {
+                for (String move : matcher.group(4).split(",")) {
+                    if (!move.isBlank()) {
+                        moves.add(move.trim());
+                    }
+                }
+            }
+            entries.add(new Entry(Integer.parseInt(matcher.group(1)), matcher.group(2).trim(),
+                    Integer.parseInt(matcher.group(3)), moves));
+        }
+        if (entries.isEmpty() || entries.size() > 6) {
+            throw new IllegalArgumentException("A team needs 1 to 6 Pokemon, got " + entries.size());
+        }
+        return new TeamDefinition(teamName, entries);
+    }
+
+    // Fresh Pokémon for this team, built the way WorldManager builds a trainer's roster
+    public List<Pokemon> build() {
+        List<Pokemon> team = new ArrayList<>();
+        for (Entry entry : entries) {
+            Pokemon pokemon = PokemonFactory.createPokemon(entry.dex, entry.level, entry.name);
+            for (String moveName : entry.moves) {
+                Move move = MoveFactory.createMove(moveName);
+                if (move == null) {
+                    throw new IllegalArgumentException("Unknown move '" + moveName + "' for " + entry.name);
+                }
+                pokemon.addMove(move);
+            }
+            if (pokemon.getMoves().isEmpty()) {
+                pokemon.generateWildMoves();
+            }
+            team.add(pokemon);
+        }
+        return team;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+}
@@ -0,0 +1,321 @@
+package battle;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import battle.BattleState.Outcome;
+import battle.BattleState.Side;
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Plays teams against each other many times per pairing to see how a set
+ * of trainer rosters stack up. Every pairing of a round is split into
+ * fork/join tasks on one pool, so a big tournament keeps every core busy.
+ *
+ * Each battle is seeded from the tournament seed, the two team indexes and
+ * the battle's number within the pairing, so results don't depend on how
+ * the work was scheduled, and any single battle can be played again with
+ * replay. The teams swap sides every other battle so the side that wins
+ * speed ties doesn't skew the win rates.
+ */
+public class Tournament {
+    private static final Logger LOG = Log.getLogger(Tournament.class);
+
+    // Battles per leaf task, same as BattleSimulator
+    private static final int BATCH = 1024;
+
+    public enum Format {
+        ROUND_ROBIN,
+        // Rounds of teams with similar scores, about log2(teams) of them
+        SWISS
+    }
+
+    private final ForkJoinPool pool;
+    // Plays each battle out with the one policy on both sides
+    private final BattleSimulator simulator;
+
+    public Tournament(BattlePolicy policy) {
+        this(ForkJoinPool.commonPool(), policy);
+    }
+
+    public Tournament(ForkJoinPool pool, BattlePolicy policy) {
+        this.pool = pool;
+        this.simulator = new BattleSimulator(pool, policy, policy);
+    }
+
+    public List<PairingResult> run(List<String> names, List<CompactTeam> teams, Format format,
+                                   int battlesPerPairing, long seed) {
+        if (names.size() != teams.size() || teams.size() < 2) {
+            throw new IllegalArgumentException("Need at least two named teams, got " + teams.size());
+        }
+        if (battlesPerPairing <= 0) {
+            throw new IllegalArgumentException("Need at least one battle per pairing, got " + battlesPerPairing);
+        }
+        return format == Format.SWISS
+                ? runSwiss(names, teams, battlesPerPairing, seed)
+                : runRoundRobin(names, teams, battlesPerPairing, seed);
+    }
+
+    private List<PairingResult> runRoundRobin(List<String> names, List<CompactTeam> teams, int battles, long seed) {
+        List<int[]> pairings = new ArrayList<>();
+        for (int a = 0; a < teams.size(); a++) {
+            for (int b = a + 1; b < teams.size(); b++) {
+                pairings.add(new int[] {a, b});
+            }
+        }
+        return playRound(names, teams, pairings, battles, seed);
+    }
+
+    private List<PairingResult> runSwiss(List<String> names, List<CompactTeam> teams, int battles, long seed) {
+        int count = teams.size();
+        int rounds = 32 - Integer.numberOfLeadingZeros(count - 1);
+        double[] scores = new double[count];
+        Set<Long> played = new HashSet<>();
+        List<PairingResult> results = new ArrayList<>();
+
+        for (int round = 0; round < rounds; round++) {
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            // Highest score first, earlier teams first on a tie
+            Arrays.sort(order, Comparator.comparingDouble((Integer i) -> -scores[i]).thenComparingInt(i -> i));
+
+            boolean[] paired = new boolean[count];
+            List<int[]> pairings = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int a = order[i];
+                if (paired[a]) {
+                    continue;
+                }
+                int opponent = -1;
+                // Closest score it hasn't met yet, or the closest score if it has met them all
+                for (int j = i + 1; j < count; j++) {
+                    int b = order[j];
+                    if (paired[b]) {
+                        continue;
+                    }
+                    if (opponent < 0) {
+                        opponent = b;
+                    }
+                    if (!played.contains(pairKey(a, b))) {
+                        opponent = b;
+                        break;
+                    }
+                }
+                paired[a] = true;
+                if (opponent < 0) {
+                    // Odd team out gets a bye, worth a match win
+                    scores[a] += 1;
+                    continue;
+                }
+                paired[opponent] = true;
+                played.add(pairKey(a, opponent));
+                pairings.add(new int[] {Math.min(a, opponent), Math.max(a, opponent)});
+            }
+
+            List<PairingResult> roundResults = playRound(names, teams, pairings, battles, seed);
+            for (int i = 0; i < pairings.size(); i++) {
+                PairingResult result = roundResults.get(i);
+                int a = pairings.get(i)[0];
+                int b = pairings.get(i)[1];
+                if (result.getWinsA() > result.getWinsB()) {
+                    scores[a] += 1;
+                } else if (result.getWinsB() > result.getWinsA()) {
+                    scores[b] += 1;
+                } else {
+                    scores[a] += 0.5;
+                    scores[b] += 0.5;
+                }
+            }
+            LOG.debug("Swiss round {} of {} played {} pairings", round + 1, rounds, pairings.size());
+            results.addAll(roundResults);
+        }
+        return results;
+    }
+
+    private static long pairKey(int a, int b) {
+        return ((long) Math.min(a, b) << 32) | Math.max(a, b);
+    }
+
+    private List<PairingResult> playRound(List<String> names, List<CompactTeam> teams, List<int[]> pairings,
+                                          int battles, long seed) {
+        long start = System.nanoTime();
+        List<PairingTask> tasks = new ArrayList<>();
+        for (int[] pairing : pairings) {
+            tasks.add(new PairingTask(teams.get(pairing[0]), teams.get(pairing[1]),
+                    pairing[0], pairing[1], 0, battles, seed));
+        }
+        pool.invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                ForkJoinTask.invokeAll(tasks);
+                return null;
+            }
+        });
+
+        List<PairingResult> results = new ArrayList<>();
+        for (int i = 0; i < pairings.size(); i++) {
+            int a = pairings.get(i)[0];
+            int b = pairings.get(i)[1];
+            Tally tally = tasks.get(i).join();
+            results.add(tally.toResult(names.get(a), names.get(b), teams.get(a), teams.get(b), battles,
+                    System.nanoTime() - start));
+        }
+        LOG.debug("Played {} pairings of {} battles in {} ms", pairings.size(), battles,
+                (System.nanoTime() - start) / 1_000_000);
+        return results;
+    }
+
+    /**
+     * Plays one battle of a pairing again, exactly as the tournament played
+     * it. Team a is the player side on even battles and the opponent side
+     * on odd ones.
+     */
+    public CompactBattle replay(CompactTeam a, CompactTeam b, int teamA, int teamB, int battle, long seed) {
+        CompactBattle compact = battle % 2 == 0 ? new CompactBattle(a, b) : new CompactBattle(b, a);
+        simulator.playOut(compact, new SplittableRandom(battleSeed(seed, teamA, teamB, battle)));
+        return compact;
+    }
+
+    // SplitMix64's finaliser over the battle's coordinates
+    static long battleSeed(long seed, int teamA, int teamB, int battle) {
+        long z = seed + 0x9E3779B97F4A7C15L * (((long) teamA << 40) ^ ((long) teamB << 20) ^ battle ^ 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @SuppressWarnings("serial") // forked, never serialized
+    private class PairingTask extends RecursiveTask<Tally> {
+        private final CompactTeam a;
+        private final CompactTeam b;
+        private final int teamA;
+        private final int teamB;
+        private final int from;
+        private final int to;
+        private final long seed;
+
+        PairingTask(CompactTeam a, CompactTeam b, int teamA, int teamB, int from, int to, long seed) {
+            this.a = a;
+            this.b = b;
+            this.teamA = teamA;
+            this.teamB = teamB;
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= BATCH) {
+                return play();
+            }
+            int middle = (from + to) >>> 1;
+            PairingTask left = new PairingTask(a, b, teamA, teamB, from, middle, seed);
+            PairingTask right = new PairingTask(a, b, teamA, teamB, middle, to, seed);
+            left.fork();
+            Tally tally = right.compute();
+            tally.add(left.join());
+            return tally;
+        }
+
+        private Tally play() {
+            Tally tally = new Tally(a.size(), b.size());
+            CompactBattle aFirst = new CompactBattle(a, b);
+            CompactBattle bFirst = new CompactBattle(b, a);
+            double totalHp = a.totalMaxHp();
+            for (int i = from; i < to; i++) {
+                boolean aIsPlayer = i % 2 == 0;
+                CompactBattle battle = aIsPlayer ? aFirst : bFirst;
+                battle.reset();
+                simulator.playOut(battle, new SplittableRandom(battleSeed(seed, teamA, teamB, i)));
+                Side sideA = aIsPlayer ? Side.PLAYER : Side.OPPONENT;
+                tally.record(battle, sideA, battle.remainingHp(sideA) / totalHp);
+            }
+            return tally;
+        }
+    }
+
+    private static class Tally {
+        int winsA;
+        int winsB;
+        int draws;
+        long turns;
+        long turnsSquared;
+        double hpLeft;
+        double hpLeftSquared;
+        final int[] knockoutsA;
+        final int[] knockoutsB;
+
+        Tally(int sizeA, int sizeB) {
+            knockoutsA = new int[sizeA];
+            knockoutsB = new int[sizeB];
+        }
+
+        void record(CompactBattle battle, Side sideA, double hpFraction) {
+            Outcome outcome = battle.getOutcome();
+            if (outcome == Outcome.DRAW) {
+                draws++;
+            } else if ((outcome == Outcome.PLAYER_WON) == (sideA == Side.PLAYER)) {
+                winsA++;
+            } else {
+                winsB++;
+            }
+            long battleTurns = battle.getTurn();
+            turns += battleTurns;
+            turnsSquared += battleTurns * battleTurns;
+            hpLeft += hpFraction;
+            hpLeftSquared += hpFraction * hpFraction;
+            for (int slot = 0; slot < knockoutsA.length; slot++) {
+                knockoutsA[slot] += battle.getKnockouts(sideA, slot);
+            }
+            for (int slot = 0; slot < knockoutsB.length; slot++) {
+                knockoutsB[slot] += battle.getKnockouts(sideA.other(), slot);
+            }
+        }
+
+        void add(Tally other) {
+            winsA += other.winsA;
+            winsB += other.winsB;
+            draws += other.draws;
+            turns += other.turns;
+            turnsSquared += other.turnsSquared;
+            hpLeft += other.hpLeft;
+            hpLeftSquared += other.hpLeftSquared;
+            for (int slot = 0; slot < knockoutsA.length; slot++) {
+                knockoutsA[slot] += other.knockoutsA[slot];
+            }
+            for (int slot = 0; slot < knockoutsB.length; slot++) {
+                knockoutsB[slot] += other.knockoutsB[slot];
+            }
+        }
+
+        PairingResult toResult(String nameA, String nameB, CompactTeam a, CompactTeam b, int battles,
+                               long elapsedNanos) {
+            SimulationResult forA = new SimulationResult(battles, winsA, draws, turns, turnsSquared,
+                    hpLeft, hpLeftSquared, elapsedNanos);
+            return new PairingResult(nameA, nameB, forA, winsB, mvp(a, knockoutsA), mvp(b, knockoutsB));
+        }
+
+        // The Pokémon with the most knockouts, or the lead if nobody knocked anything out
+        private static String mvp(CompactTeam team, int[] knockouts) {
+            int best = 0;
+            for (int slot = 1; slot < knockouts.length; slot++) {
+                if (knockouts[slot] > knockouts[best]) {
+                    best = slot;
+                }
+            }
+            return team.getName(best);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package battle;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import model.GameRandom;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+import pokes.PokemonStatsLoader;
+
+/**
+ * Runs a Tournament between the teams in a team file (see TeamDefinition)
+ * and writes one CSV row per pairing. Used when balancing trainer rosters:
+ * a team that wins nearly every pairing is probably too strong for where
+ * it's met.
+ *
+ * Run with: java battle.TournamentRunner teams.txt [out.csv] [--swiss]
+ *           [--battles N] [--seed S] [--policy greedy|random|power|easy|normal|hard|gym]
+ *
+ * Results go to standard output when no CSV file is given.
+ */
+public class TournamentRunner {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TournamentRunner teams.txt [out.csv] [--swiss] [--battles N] [--seed S] "
+                    + "[--policy greedy|random|power|easy|normal|hard|gym]");
+            System.exit(1);
+        }
+        Path teamFile = Path.of(args[0]);
+        String output = null;
+        Tournament.Format format = Tournament.Format.ROUND_ROBIN;
+        int battles = 10000;
+        long seed = 1;
+        BattlePolicy policy = StandardPolicy.GREEDY;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--swiss":
+                    format = Tournament.Format.SWISS;
+                    break;
+                case "--battles":
+                    battles = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                case "--policy":
+                    policy = BattlePolicy.named(args[++i]);
+                    break;
+                default:
+                    output = args[i];
+            }
+        }
+
+        // Teams roll IVs, natures and moves as they're built, so seed those too
+        GameRandom.setSeed(seed);
+        PokemonStatsLoader.getInstance().loadFromCSV("/resources/pokemon_information.csv");
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+
+        List<String> names = new ArrayList<>();
+        List<CompactTeam> teams = new ArrayList<>();
+        for (TeamDefinition definition : TeamDefinition.load(teamFile)) {
+            names.add(definition.getName());
+            teams.add(CompactTeam.of(definition.build()));
+        }
+
+        long start = System.nanoTime();
+        List<PairingResult> results = new Tournament(policy).run(names, teams, format, battles, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        try (PrintStream out = output != null ? new PrintStream(output, StandardCharsets.UTF_8) : System.out) {
+            out.println("team_a,team_b,battles,win_rate_a,win_low,win_high,draws,avg_turns,mvp_a,mvp_b");
+            for (PairingResult pairing : results) {
+                SimulationResult result = pairing.getResultForA();
+                out.printf("%s,%s,%d,%.4f,%.4f,%.4f,%d,%.2f,%s,%s%n", pairing.getTeamA(), pairing.getTeamB(),
+                        result.getBattles(), result.getWinRate(), result.getWinRateLow(), result.getWinRateHigh(),
+                        result.getDraws(), result.getMeanTurns(), pairing.getMvpA(), pairing.getMvpB());
+            }
+        }
+        long total = (long) results.size() * battles;
+        System.err.printf("%,d battles in %.2f s (%,.0f battles/s)%n", total, seconds, total / seconds);
+    }
+}
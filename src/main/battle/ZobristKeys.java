@@ -0,0 +1,82 @@
+package battle;
+
+import java.util.SplittableRandom;
+
+import model.Move.StatusEffect;
+
+/**
+ * Random 64-bit keys for every value each part of a CompactBattle can take,
+ * so a position hashes to the XOR of the keys for its current values. Two
+ * battles between the same teams in the same position always get the same
+ * hash, which is what the search's transposition table is keyed on.
+ */
+final class ZobristKeys {
+    private static final int STATUS_COUNT = StatusEffect.values().length;
+    private static final int STAGE_VALUES = 13;
+
+    // [side][slot][hp]
+    private final long[][][] hpKeys;
+    // [side][move][pp]
+    private final long[][][] ppKeys;
+    // [side][slot * STATUS_COUNT + status]
+    private final long[][] statusKeys;
+    // [side][(slot * STAGES + stat) * STAGE_VALUES + stage + 6]
+    private final long[][] stageKeys;
+    // [side][slot]
+    private final long[][] activeKeys;
+
+    ZobristKeys(CompactTeam[] teams) {
+        // A fixed seed keeps hashes stable between runs, which makes search logs comparable
+        SplittableRandom random = new SplittableRandom(0x2545F4914F6CDD1DL);
+        hpKeys = new long[2][][];
+        ppKeys = new long[2][][];
+        statusKeys = new long[2][];
+        stageKeys = new long[2][];
+        activeKeys = new long[2][];
+        for (int side = 0; side < 2; side++) {
+            CompactTeam team = teams[side];
+            hpKeys[side] = new long[team.size][];
+            for (int slot = 0; slot < team.size; slot++) {
+                hpKeys[side][slot] = keys(random, Math.max(team.maxHp[slot], team.startHp[slot]) + 1);
+            }
+            ppKeys[side] = new long[team.size * CompactTeam.MAX_MOVES][];
+            for (int move = 0; move < ppKeys[side].length; move++) {
+                ppKeys[side][move] = keys(random, Math.max(team.moveMaxPp[move], team.startPp[move]) + 1);
+            }
+            statusKeys[side] = keys(random, team.size * STATUS_COUNT);
+            stageKeys[side] = keys(random, team.size * CompactTeam.STAGES * STAGE_VALUES);
+            activeKeys[side] = keys(random, team.size);
+        }
+    }
+
+    private static long[] keys(SplittableRandom random, int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = random.nextLong();
+        }
+        return keys;
+    }
+
+    long hash(int[][] hp, int[][] pp, int[][] status, int[][] stages, int[] active) {
+        long hash = 0;
+        for (int side = 0; side < 2; side++) {
+            long[][] sideHp = hpKeys[side];
+            for (int slot = 0; slot < sideHp.length; slot++) {
+                hash ^= sideHp[slot][hp[side][slot]];
+                hash ^= statusKeys[side][slot * STATUS_COUNT + status[side][slot]];
+            }
+            long[][] sidePp = ppKeys[side];
+            for (int move = 0; move < sidePp.length; move++) {
+                hash ^= sidePp[move][pp[side][move]];
+            }
+            int[] sideStages = stages[side];
+            for (int i = 0; i < sideStages.length; i++) {
+                hash ^= stageKeys[side][i * STAGE_VALUES + sideStages[i] + 6];
+            }
+            if (active[side] >= 0) {
+                hash ^= activeKeys[side][active[side]];
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,34 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * An image read from the classpath or file system. The event duration covers
+ * the whole load; decode time is the ImageIO part only.
+ */
+@Name("poke.AssetLoad")
+@Label("Asset Load")
+@Category({"Poke", "Assets"})
+public class AssetLoadEvent extends jdk.jfr.Event {
+    @Label("Path")
+    public String path;
+
+    @Label("Encoded Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Decoded Size")
+    @DataAmount
+    public long decodedBytes;
+
+    @Label("Decode Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long decodeNanos;
+
+    @Label("Found")
+    public boolean found;
+}
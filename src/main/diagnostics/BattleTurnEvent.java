@@ -0,0 +1,25 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("poke.BattleTurn")
+@Label("Battle Turn")
+@Category({"Poke", "Battle"})
+public class BattleTurnEvent extends jdk.jfr.Event {
+    @Label("Side")
+    public String side;
+
+    @Label("Attacker")
+    public String attacker;
+
+    @Label("Defender")
+    public String defender;
+
+    @Label("Move")
+    public String move;
+
+    @Label("Damage")
+    public int damage;
+}
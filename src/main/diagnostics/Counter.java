@@ -0,0 +1,29 @@
+package diagnostics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic counter backed by a striped LongAdder, so increments from the
+ * EDT and background threads neither contend nor allocate.
+ */
+public class Counter implements CounterMBean {
+    private final LongAdder adder = new LongAdder();
+
+    public void increment() {
+        adder.increment();
+    }
+
+    public void add(long amount) {
+        adder.add(amount);
+    }
+
+    @Override
+    public long getCount() {
+        return adder.sum();
+    }
+
+    @Override
+    public void reset() {
+        adder.reset();
+    }
+}
@@ -0,0 +1,7 @@
+package diagnostics;
+
+public interface CounterMBean {
+    long getCount();
+
+    void reset();
+}
@@ -0,0 +1,29 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("poke.DataLoad")
+@Label("Data Load")
+@Category({"Poke", "Data"})
+public class DataLoadEvent extends jdk.jfr.Event {
+    @Label("Loader")
+    public String loader;
+
+    @Label("Source")
+    public String source;
+
+    @Label("Rows")
+    public int rows;
+
+    public void finish(String loader, String source, int rows) {
+        end();
+        if (shouldCommit()) {
+            this.loader = loader;
+            this.source = source;
+            this.rows = rows;
+            commit();
+        }
+    }
+}
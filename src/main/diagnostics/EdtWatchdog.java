@@ -0,0 +1,308 @@
+package diagnostics;
+
+import java.awt.Window;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Detects stalls on the Event Dispatch Thread. A daemon thread posts a tiny
+ * heartbeat runnable to the EDT and waits for it to run. If the heartbeat is
+ * still pending after the threshold, the EDT stack is captured together with
+ * the game context, and once the heartbeat finally runs the full stall
+ * duration is recorded. If any stall was seen, a summary report is written
+ * when the JVM exits.
+ *
+ * Configured with -Dpoke.watchdog=false, -Dpoke.watchdog.thresholdMs=50 and
+ * -Dpoke.watchdog.report=edt-stalls.txt.
+ */
+public class EdtWatchdog {
+    private static final Logger LOG = Log.getLogger(EdtWatchdog.class);
+
+    private static final long POLL_INTERVAL_MS = 5;
+    private static final int MAX_RECORDED_STALLS = 64;
+    private static final int STACK_DEPTH = 24;
+    // Upper bounds (ms) of the stall histogram buckets; the last bucket is open ended
+    private static final long[] BUCKET_LIMITS = {50, 100, 200, 500, 1000, 2000, 5000};
+
+    private static EdtWatchdog instance;
+
+    private final long thresholdNanos;
+    private final Path reportPath;
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_LIMITS.length + 1);
+    private final Deque<Stall> recentStalls = new ArrayDeque<>();
+    private final Map<String, Integer> stallsByFrame = new HashMap<>();
+    private final Runnable heartbeat = this::beat;
+
+    private volatile Supplier<String> contextSupplier = () -> "";
+    private volatile Thread edtThread;
+    private volatile long pendingSince;
+    private volatile boolean pending;
+    private volatile boolean running;
+    private long totalStalls;
+    private long longestStallNanos;
+    private long startedAt;
+
+    public static class Stall {
+        private final Instant when;
+        private final long durationNanos;
+        private final String context;
+        private final StackTraceElement[] stack;
+
+        Stall(Instant when, long durationNanos, String context, StackTraceElement[] stack) {
+            this.when = when;
+            this.durationNanos = durationNanos;
+            this.context = context;
+            this.stack = stack;
+        }
+
+        public long getDurationMillis() {
+            return durationNanos / 1_000_000L;
+        }
+
+        public String getContext() {
+            return context;
+        }
+
+        public StackTraceElement[] getStack() {
+            return stack;
+        }
+
+        public Instant getWhen() {
+            return when;
+        }
+    }
+
+    private EdtWatchdog(long thresholdMillis, Path reportPath) {
+        this.thresholdNanos = thresholdMillis * 1_000_000L;
+        this.reportPath = reportPath;
+    }
+
+    public static synchronized EdtWatchdog getInstance() {
+        if (instance == null) {
+            long threshold = Long.getLong("poke.watchdog.thresholdMs", 50);
+            Path report = Paths.get(System.getProperty("poke.watchdog.report", "edt-stalls.txt"));
+            instance = new EdtWatchdog(threshold, report);
+        }
+        return instance;
+    }
+
+    public static boolean isEnabledByConfig() {
+        return !"false".equalsIgnoreCase(System.getProperty("poke.watchdog"));
+    }
+
+    // Supplies a short description of what the game was doing (world, battle, menu)
+    public void setContextSupplier(Supplier<String> supplier) {
+        this.contextSupplier = supplier;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        startedAt = System.nanoTime();
+
+        Thread monitor = new Thread(this::monitor, "edt-watchdog");
+        monitor.setDaemon(true);
+        monitor.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::writeReport, "edt-watchdog-report"));
+        LOG.info("EDT watchdog started (threshold {} ms)", thresholdNanos / 1_000_000L);
+    }
+
+    public void stop() {
+        running = false;
+    }
+
+    private void beat() {
+        edtThread = Thread.currentThread();
+        pending = false;
+    }
+
+    private void monitor() {
+        while (running) {
+            if (!hasDisplayableWindow()) {
+                // Keep the event queue empty so AWT can shut down on its own
+                sleep(POLL_INTERVAL_MS * 20);
+                continue;
+            }
+            pendingSince = System.nanoTime();
+            pending = true;
+            SwingUtilities.invokeLater(heartbeat);
+
+            StackTraceElement[] stack = null;
+            String context = null;
+            while (pending && running) {
+                sleep(POLL_INTERVAL_MS);
+                long waited = System.nanoTime() - pendingSince;
+                if (stack == null && waited >= thresholdNanos) {
+                    // Capture while the EDT is still stuck, not after it recovers
+                    Thread edt = edtThread;
+                    stack = edt != null ? edt.getStackTrace() : new StackTraceElement[0];
+                    context = describeContext();
+                }
+            }
+
+            long duration = System.nanoTime() - pendingSince;
+            // A missing EDT reference means this was the first beat, i.e. toolkit startup
+            if (stack != null && stack.length > 0) {
+                record(new Stall(Instant.now(), duration, context, trim(stack)));
+            }
+            sleep(POLL_INTERVAL_MS);
+        }
+    }
+
+    private static boolean hasDisplayableWindow() {
+        for (Window window : Window.getWindows()) {
+            if (window.isDisplayable()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String describeContext() {
+        try {
+            return contextSupplier.get();
+        } catch (RuntimeException e) {
+            // Context is read off the EDT, so a half-updated world can throw here
+            return "unavailable (" + e.getClass().getSimpleName() + ")";
+        }
+    }
+
+    private synchronized void record(Stall stall) {
+        totalStalls++;
+        longestStallNanos = Math.max(longestStallNanos, stall.durationNanos);
+        histogram.incrementAndGet(bucketFor(stall.getDurationMillis()));
+
+        recentStalls.addLast(stall);
+        if (recentStalls.size() > MAX_RECORDED_STALLS) {
+            recentStalls.removeFirst();
+        }
+        String frame = topGameFrame(stall.stack);
+        stallsByFrame.merge(frame, 1, Integer::sum);
+
+        LOG.warn("EDT stalled for {} ms at {} [{}]", stall.getDurationMillis(), frame, stall.context);
+    }
+
+    private static int bucketFor(long millis) {
+        for (int i = 0; i < BUCKET_LIMITS.length; i++) {
+            if (millis < BUCKET_LIMITS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_LIMITS.length;
+    }
+
+    // First frame that belongs to the game rather than the JDK, for grouping stalls
+    private static String topGameFrame(StackTraceElement[] stack) {
+        for (StackTraceElement element : stack) {
+            String cls = element.getClassName();
+            if (!cls.startsWith("java.") && !cls.startsWith("javax.") && !cls.startsWith("sun.")
+                    && !cls.startsWith("jdk.")) {
+                return cls + "." + element.getMethodName() + ":" + element.getLineNumber();
+            }
+        }
+        return stack.length > 0 ? stack[0].toString() : "unknown";
+    }
+
+    private static StackTraceElement[] trim(StackTraceElement[] stack) {
+        if (stack.length <= STACK_DEPTH) {
+            return stack;
+        }
+        StackTraceElement[] trimmed = new StackTraceElement[STACK_DEPTH];
+        System.arraycopy(stack, 0, trimmed, 0, STACK_DEPTH);
+        return trimmed;
+    }
+
+    public synchronized long getStallCount() {
+        return totalStalls;
+    }
+
+    public synchronized List<Stall> getRecentStalls() {
+        return new ArrayList<>(recentStalls);
+    }
+
+    public long[] getHistogram() {
+        long[] copy = new long[histogram.length()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = histogram.get(i);
+        }
+        return copy;
+    }
+
+    public synchronized String buildReport() {
+        StringBuilder sb = new StringBuilder();
+        long uptimeSeconds = (System.nanoTime() - startedAt) / 1_000_000_000L;
+        sb.append("EDT stall report\n");
+        sb.append("Threshold: ").append(thresholdNanos / 1_000_000L).append(" ms, uptime: ")
+          .append(uptimeSeconds).append(" s\n");
+        sb.append("Stalls: ").append(totalStalls).append(", longest: ")
+          .append(longestStallNanos / 1_000_000L).append(" ms\n\n");
+
+        sb.append("Duration histogram\n");
+        long lower = 0;
+        for (int i = 0; i <= BUCKET_LIMITS.length; i++) {
+            String range = i < BUCKET_LIMITS.length
+                    ? lower + "-" + BUCKET_LIMITS[i] + " ms"
+                    : ">= " + lower + " ms";
+            sb.append(String.format("  %-14s %d%n", range, histogram.get(i)));
+            if (i < BUCKET_LIMITS.length) {
+                lower = BUCKET_LIMITS[i];
+            }
+        }
+
+        sb.append("\nStalls by location\n");
+        stallsByFrame.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(e -> sb.append("  ").append(e.getValue()).append("x ").append(e.getKey()).append('\n'));
+
+        sb.append("\nMost recent stalls\n");
+        for (Stall stall : recentStalls) {
+            sb.append("\n").append(stall.when).append("  ").append(stall.getDurationMillis())
+              .append(" ms  [").append(stall.context).append("]\n");
+            for (StackTraceElement element : stall.stack) {
+                sb.append("    at ").append(element).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private void writeReport() {
+        running = false;
+        // A clean run leaves nothing behind in the working directory
+        if (getStallCount() == 0) {
+            return;
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(reportPath))) {
+            writer.print(buildReport());
+        } catch (IOException e) {
+            LOG.error("Could not write EDT stall report to " + reportPath, e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
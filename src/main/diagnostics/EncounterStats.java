@@ -0,0 +1,107 @@
+package diagnostics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * What one encounter area has actually produced during play: how often
+ * each species and each level came up, how many were shiny and how many
+ * had a move swapped by the area's move overrides. Every encounter is a
+ * handful of atomic increments into fixed arrays indexed by dex number and
+ * level, so recording never locks or allocates. The counts read as
+ * "dex=count" lists in JConsole, to hold up against the table's weights.
+ */
+public class EncounterStats implements EncounterStatsMBean {
+    // Dex numbers and levels past the end share the last slot
+    private static final int DEX_SLOTS = 1026;
+    private static final int LEVEL_SLOTS = 101;
+
+    private final AtomicLongArray species = new AtomicLongArray(DEX_SLOTS);
+    private final AtomicLongArray levels = new AtomicLongArray(LEVEL_SLOTS);
+    private final LongAdder encounters = new LongAdder();
+    private final LongAdder shinies = new LongAdder();
+    private final LongAdder moveOverrides = new LongAdder();
+
+    public void record(int dex, int level, boolean shiny, boolean movesOverridden) {
+        species.incrementAndGet(slot(dex, DEX_SLOTS));
+        levels.incrementAndGet(slot(level, LEVEL_SLOTS));
+        encounters.increment();
+        if (shiny) {
+            shinies.increment();
+        }
+        if (movesOverridden) {
+            moveOverrides.increment();
+        }
+    }
+
+    private static int slot(int value, int slots) {
+        return Math.max(0, Math.min(slots - 1, value));
+    }
+
+    public long getSpeciesCount(int dex) {
+        return species.get(slot(dex, DEX_SLOTS));
+    }
+
+    public long getLevelCount(int level) {
+        return levels.get(slot(level, LEVEL_SLOTS));
+    }
+
+    @Override
+    public long getEncounters() {
+        return encounters.sum();
+    }
+
+    @Override
+    public long getShinies() {
+        return shinies.sum();
+    }
+
+    @Override
+    public long getMoveOverrides() {
+        return moveOverrides.sum();
+    }
+
+    @Override
+    public double getMoveOverrideRate() {
+        long total = encounters.sum();
+        return total == 0 ? 0.0 : (double) moveOverrides.sum() / total;
+    }
+
+    @Override
+    public String getSpeciesCounts() {
+        return describe(species);
+    }
+
+    @Override
+    public String getLevelCounts() {
+        return describe(levels);
+    }
+
+    // Only the slots that were hit, e.g. "16=120, 19=84"
+    private static String describe(AtomicLongArray counts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < counts.length(); i++) {
+            long count = counts.get(i);
+            if (count > 0) {
+                if (sb.length() > 0) {
+                    sb.append(", ");
+                }
+                sb.append(i).append('=').append(count);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < species.length(); i++) {
+            species.set(i, 0);
+        }
+        for (int i = 0; i < levels.length(); i++) {
+            levels.set(i, 0);
+        }
+        encounters.reset();
+        shinies.reset();
+        moveOverrides.reset();
+    }
+}
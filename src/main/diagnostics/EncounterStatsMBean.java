@@ -0,0 +1,17 @@
+package diagnostics;
+
+public interface EncounterStatsMBean {
+    long getEncounters();
+
+    long getShinies();
+
+    long getMoveOverrides();
+
+    double getMoveOverrideRate();
+
+    String getSpeciesCounts();
+
+    String getLevelCounts();
+
+    void reset();
+}
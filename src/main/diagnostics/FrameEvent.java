@@ -0,0 +1,37 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One rendered frame of the overworld, with the time spent in each paint phase.
+ */
+@Name("poke.Frame")
+@Label("Frame")
+@Category({"Poke", "Rendering"})
+@Description("Board.paintComponent with per-phase durations")
+@StackTrace(false)
+public class FrameEvent extends jdk.jfr.Event {
+    @Label("World")
+    public String world;
+
+    @Label("Tiles")
+    @Timespan(Timespan.NANOSECONDS)
+    public long tilesNanos;
+
+    @Label("Objects")
+    @Timespan(Timespan.NANOSECONDS)
+    public long objectsNanos;
+
+    @Label("Player and NPCs")
+    @Timespan(Timespan.NANOSECONDS)
+    public long actorsNanos;
+
+    @Label("Debug Overlay")
+    @Timespan(Timespan.NANOSECONDS)
+    public long overlayNanos;
+}
@@ -0,0 +1,32 @@
+package diagnostics;
+
+/**
+ * The game's well-known metrics. Resolved once here so the render loop, the
+ * tick timer and the battle screens only ever touch a field and an adder.
+ */
+public final class GameMetrics {
+    private static final Metrics METRICS = Metrics.getInstance();
+
+    public static final Counter FRAMES_RENDERED = METRICS.counter("framesRendered");
+    public static final Histogram FRAME_TIME_MICROS = METRICS.histogram("frameTimeMicros");
+    public static final Histogram TICK_TIME_MICROS = METRICS.histogram("tickTimeMicros");
+    public static final Counter TICK_OVERRUNS = METRICS.counter("tickOverruns");
+    public static final Counter BATTLES_STARTED = METRICS.counter("battlesStarted");
+    public static final Counter BATTLES_FINISHED = METRICS.counter("battlesFinished");
+    public static final Counter WORLD_SWITCHES = METRICS.counter("worldSwitches");
+    public static final Counter ASSET_CACHE_HITS = METRICS.counter("assetCacheHits");
+    public static final Counter ASSET_CACHE_MISSES = METRICS.counter("assetCacheMisses");
+    public static final Counter ENCOUNTER_PREFETCH_HITS = METRICS.counter("encounterPrefetchHits");
+    public static final Counter ENCOUNTER_PREFETCH_MISSES = METRICS.counter("encounterPrefetchMisses");
+    public static final Counter DIALOGUE_MESSAGES_QUEUED = METRICS.counter("dialogueMessagesQueued");
+
+    private GameMetrics() {}
+
+    public static Counter encountersTriggered(String world) {
+        return METRICS.counter("encountersTriggered", "world", world);
+    }
+
+    public static EncounterStats encounterStats(String area) {
+        return METRICS.encounterStats(area);
+    }
+}
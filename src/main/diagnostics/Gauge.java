@@ -0,0 +1,19 @@
+package diagnostics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Value that is sampled when a JMX client reads it rather than recorded.
+ */
+public class Gauge implements GaugeMBean {
+    private final LongSupplier supplier;
+
+    public Gauge(LongSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    @Override
+    public long getValue() {
+        return supplier.getAsLong();
+    }
+}
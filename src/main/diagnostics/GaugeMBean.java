@@ -0,0 +1,5 @@
+package diagnostics;
+
+public interface GaugeMBean {
+    long getValue();
+}
@@ -0,0 +1,132 @@
+package diagnostics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size log-linear histogram in the spirit of HdrHistogram. Values below
+ * 32 get their own bucket; above that every power of two is split into 16
+ * linear sub-buckets, so any recorded value is reported to within about 6%.
+ * Recording is a few bit operations plus atomic increments and never
+ * allocates; percentiles are only computed when a JMX client asks for them.
+ */
+public class Histogram implements HistogramMBean {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final int BUCKET_COUNT = SUB_BUCKETS * (64 - SUB_BUCKET_BITS) + LINEAR_LIMIT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(0);
+
+    public void record(long value) {
+        long v = Math.max(0, value);
+        buckets.incrementAndGet(indexFor(v));
+        count.increment();
+        sum.add(v);
+
+        long current = min.get();
+        while (v < current && !min.compareAndSet(current, v)) {
+            current = min.get();
+        }
+        current = max.get();
+        while (v > current && !max.compareAndSet(current, v)) {
+            current = max.get();
+        }
+    }
+
+    static int indexFor(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        // Shift so the top five significant bits remain, i.e. 16..31
+        int shift = (64 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS + 1);
+        return SUB_BUCKETS * shift + (int) (value >>> shift);
+    }
+
+    // Largest value that falls into the given bucket
+    static long highestValueFor(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    public long getValueAtPercentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += buckets.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return Math.min(highestValueFor(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getMin() {
+        long value = min.get();
+        return value == Long.MAX_VALUE ? 0 : value;
+    }
+
+    @Override
+    public long getMax() {
+        return max.get();
+    }
+
+    @Override
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : (double) sum.sum() / n;
+    }
+
+    @Override
+    public long get50thPercentile() {
+        return getValueAtPercentile(50.0);
+    }
+
+    @Override
+    public long get90thPercentile() {
+        return getValueAtPercentile(90.0);
+    }
+
+    @Override
+    public long get99thPercentile() {
+        return getValueAtPercentile(99.0);
+    }
+
+    @Override
+    public long get999thPercentile() {
+        return getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        min.set(Long.MAX_VALUE);
+        max.set(0);
+    }
+}
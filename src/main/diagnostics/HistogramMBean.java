@@ -0,0 +1,21 @@
+package diagnostics;
+
+public interface HistogramMBean {
+    long getCount();
+
+    long getMin();
+
+    long getMax();
+
+    double getMean();
+
+    long get50thPercentile();
+
+    long get90thPercentile();
+
+    long get99thPercentile();
+
+    long get999thPercentile();
+
+    void reset();
+}
@@ -0,0 +1,90 @@
+package diagnostics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Registry of counters, gauges and histograms, each exported as an MBean under
+ * the "poke" domain so they can be watched live in JConsole or VisualVM.
+ * Lookups go through a map and are meant to happen once; callers keep the
+ * returned metric in a field and record into it on the hot path.
+ *
+ * Export can be turned off with -Dpoke.metrics=false; metrics still record.
+ */
+public class Metrics {
+    private static final Logger LOG = Log.getLogger(Metrics.class);
+    private static final String DOMAIN = "poke";
+
+    private static Metrics instance;
+
+    private final Map<String, Object> metrics = new ConcurrentHashMap<>();
+    private final MBeanServer server;
+
+    private Metrics(MBeanServer server) {
+        this.server = server;
+    }
+
+    public static synchronized Metrics getInstance() {
+        if (instance == null) {
+            boolean export = !"false".equalsIgnoreCase(System.getProperty("poke.metrics"));
+            instance = new Metrics(export ? ManagementFactory.getPlatformMBeanServer() : null);
+        }
+        return instance;
+    }
+
+    public Counter counter(String name) {
+        return (Counter) metrics.computeIfAbsent(objectName("Counter", name, null, null), key -> register(key, new Counter()));
+    }
+
+    // Counter split by one dimension, e.g. encounters per world
+    public Counter counter(String name, String tag, String value) {
+        return (Counter) metrics.computeIfAbsent(objectName("Counter", name, tag, value), key -> register(key, new Counter()));
+    }
+
+    public Gauge gauge(String name, LongSupplier supplier) {
+        return (Gauge) metrics.computeIfAbsent(objectName("Gauge", name, null, null), key -> register(key, new Gauge(supplier)));
+    }
+
+    public Histogram histogram(String name) {
+        return (Histogram) metrics.computeIfAbsent(objectName("Histogram", name, null, null), key -> register(key, new Histogram()));
+    }
+
+    // What one encounter area has produced, species and levels included
+    public EncounterStats encounterStats(String area) {
+        return (EncounterStats) metrics.computeIfAbsent(objectName("EncounterStats", "wildEncounters", "area", area),
+                key -> register(key, new EncounterStats()));
+    }
+
+    private static String objectName(String type, String name, String tag, String value) {
+        String objectName = DOMAIN + ":type=" + type + ",name=" + name;
+        if (tag != null) {
+            objectName += "," + tag + "=" + ObjectName.quote(value);
+        }
+        return objectName;
+    }
+
+    private Object register(String objectName, Object metric) {
+        if (server == null) {
+            return metric;
+        }
+        try {
+            ObjectName mbeanName = new ObjectName(objectName);
+            if (server.isRegistered(mbeanName)) {
+                server.unregisterMBean(mbeanName);
+            }
+            server.registerMBean(metric, mbeanName);
+        } catch (JMException e) {
+            LOG.warn("Could not register metric " + objectName, e);
+        }
+        return metric;
+    }
+}
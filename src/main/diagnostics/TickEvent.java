@@ -0,0 +1,37 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One game loop tick (Board.actionPerformed), split into its update phases.
+ */
+@Name("poke.Tick")
+@Label("Game Tick")
+@Category({"Poke", "Game Loop"})
+@Description("Board.actionPerformed with per-phase durations")
+@StackTrace(false)
+public class TickEvent extends jdk.jfr.Event {
+    @Label("World")
+    public String world;
+
+    @Label("NPC Update")
+    @Timespan(Timespan.NANOSECONDS)
+    public long npcNanos;
+
+    @Label("Encounter Check")
+    @Timespan(Timespan.NANOSECONDS)
+    public long encounterNanos;
+
+    @Label("Movement")
+    @Timespan(Timespan.NANOSECONDS)
+    public long movementNanos;
+
+    @Label("Tile Animation")
+    @Timespan(Timespan.NANOSECONDS)
+    public long tileAnimationNanos;
+}
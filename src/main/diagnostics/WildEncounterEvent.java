@@ -0,0 +1,22 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("poke.WildEncounter")
+@Label("Wild Encounter Generation")
+@Category({"Poke", "Encounters"})
+public class WildEncounterEvent extends jdk.jfr.Event {
+    @Label("Location")
+    public String location;
+
+    @Label("Species")
+    public String species;
+
+    @Label("Dex Number")
+    public int dex;
+
+    @Label("Level")
+    public int level;
+}
@@ -0,0 +1,16 @@
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("poke.WorldSwitch")
+@Label("World Switch")
+@Category({"Poke", "World"})
+public class WorldSwitchEvent extends jdk.jfr.Event {
+    @Label("From")
+    public String from;
+
+    @Label("To")
+    public String to;
+}
@@ -0,0 +1,162 @@
+package logging;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded multi-producer / single-consumer ring buffer drained by a daemon
+ * writer thread. Producers claim a slot with a CAS on the tail and publish it
+ * through the slot's sequence number, so the game thread never takes a lock
+ * or touches the output stream. When the buffer is full the record is dropped
+ * and counted instead of blocking the caller.
+ */
+final class AsyncLogQueue {
+    static final int CAPACITY = 8192;
+    private static final int MASK = CAPACITY - 1;
+    private static final long IDLE_PARK_NANOS = 2_000_000L;
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final AtomicLongArray sequences = new AtomicLongArray(CAPACITY);
+    private final AtomicLong tail = new AtomicLong();
+    private long head; // only touched by the writer thread
+    private volatile long written;
+
+    // Slot payloads, written by the producer before the sequence is published
+    private final Level[] levels = new Level[CAPACITY];
+    private final String[] names = new String[CAPACITY];
+    private final String[] messages = new String[CAPACITY];
+    private final String[] threads = new String[CAPACITY];
+    private final Throwable[] errors = new Throwable[CAPACITY];
+    private final long[] times = new long[CAPACITY];
+
+    private final LongAdder dropped = new LongAdder();
+    private final PrintStream out;
+    private final PrintStream err;
+    private final Thread writer;
+    private volatile boolean running = true;
+    private final StringBuilder line = new StringBuilder(256);
+
+    AsyncLogQueue(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+        for (int i = 0; i < CAPACITY; i++) {
+            sequences.set(i, i);
+        }
+        writer = new Thread(this::run, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    boolean offer(Level level, String name, String message, Throwable error) {
+        long pos = tail.get();
+        int index;
+        while (true) {
+            index = (int) (pos & MASK);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    break;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // Writer has fallen a full lap behind
+                dropped.increment();
+                return false;
+            } else {
+                pos = tail.get();
+            }
+        }
+
+        levels[index] = level;
+        names[index] = name;
+        messages[index] = message;
+        threads[index] = Thread.currentThread().getName();
+        errors[index] = error;
+        times[index] = System.currentTimeMillis();
+        sequences.set(index, pos + 1);
+
+        if (level.ordinal() >= Level.ERROR.ordinal()) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Blocks until everything queued before the call has been written, or
+     * the timeout passes.
+     */
+    void flush(long timeoutMillis) {
+        long target = tail.get();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        LockSupport.unpark(writer);
+        while (written < target && System.currentTimeMillis() < deadline) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 2);
+        }
+    }
+
+    void shutdown() {
+        flush(1000);
+        running = false;
+        LockSupport.unpark(writer);
+    }
+
+    private void run() {
+        while (running) {
+            if (drain() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        drain();
+    }
+
+    private int drain() {
+        int count = 0;
+        while (true) {
+            int index = (int) (head & MASK);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            write(index);
+
+            levels[index] = null;
+            names[index] = null;
+            messages[index] = null;
+            threads[index] = null;
+            errors[index] = null;
+            sequences.set(index, head + CAPACITY);
+            head++;
+            count++;
+        }
+        if (count > 0) {
+            out.flush();
+            err.flush();
+            written = head;
+        }
+        return count;
+    }
+
+    private void write(int index) {
+        Level level = levels[index];
+        line.setLength(0);
+        TIME_FORMAT.formatTo(Instant.ofEpochMilli(times[index]), line);
+        line.append(' ').append(level).append(" [").append(threads[index]).append("] ")
+                .append(names[index]).append(" - ").append(messages[index]);
+
+        PrintStream target = level.ordinal() >= Level.WARN.ordinal() ? err : out;
+        target.println(line);
+        if (errors[index] != null) {
+            errors[index].printStackTrace(target);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package logging;
+
+public enum Level {
+    TRACE, DEBUG, INFO, WARN, ERROR, OFF;
+
+    public static Level parse(String value, Level fallback) {
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Level.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package logging;
+
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entry point for game logging.
+ *
+ * Thresholds are resolved per logger name by the longest matching package
+ * prefix. They come from system properties, e.g.
+ * -Dpoke.log.level=WARN -Dpoke.log.level.model=DEBUG
+ * -Dpoke.log.level.moves.LearnsetLoader=INFO, and can be changed at runtime
+ * with {@link #setLevel(String, Level)}. -Dpoke.log.file=game.log sends all
+ * output to a file instead of stdout/stderr.
+ */
+public final class Log {
+    private static final String LEVEL_PROPERTY = "poke.log.level";
+    private static final String FILE_PROPERTY = "poke.log.file";
+
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+    private static final Map<String, Level> thresholds = new ConcurrentHashMap<>();
+    private static volatile Level rootLevel = Level.INFO;
+
+    static {
+        rootLevel = Level.parse(System.getProperty(LEVEL_PROPERTY), Level.INFO);
+        String prefix = LEVEL_PROPERTY + ".";
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                thresholds.put(key.substring(prefix.length()),
+                        Level.parse(System.getProperty(key), rootLevel));
+            }
+        }
+    }
+
+    private Log() {}
+
+    public static Logger getLogger(Class<?> type) {
+        return getLogger(type.getName());
+    }
+
+    public static Logger getLogger(String name) {
+        return loggers.computeIfAbsent(name, key -> new Logger(key, resolve(key)));
+    }
+
+    public static void setRootLevel(Level level) {
+        rootLevel = level;
+        refresh();
+    }
+
+    // Sets the threshold for a package or class name and everything below it
+    public static void setLevel(String prefix, Level level) {
+        thresholds.put(prefix, level);
+        refresh();
+    }
+
+    public static long getDroppedCount() {
+        return queue().getDroppedCount();
+    }
+
+    // Waits for queued records to be written, e.g. before the process exits
+    public static void flush() {
+        queue().flush(1000);
+    }
+
+    static AsyncLogQueue queue() {
+        return QueueHolder.QUEUE;
+    }
+
+    // The writer thread only starts once something is actually logged
+    private static final class QueueHolder {
+        static final AsyncLogQueue QUEUE = create();
+
+        private static AsyncLogQueue create() {
+            PrintStream out = System.out;
+            PrintStream err = System.err;
+            String file = System.getProperty(FILE_PROPERTY);
+            if (file != null) {
+                try {
+                    out = new PrintStream(new FileOutputStream(file, true), false);
+                    err = out;
+                } catch (FileNotFoundException e) {
+                    err.println("Could not open log file " + file + ", using console");
+                }
+            }
+            AsyncLogQueue queue = new AsyncLogQueue(out, err);
+            Runtime.getRuntime().addShutdownHook(new Thread(queue::shutdown, "log-shutdown"));
+            return queue;
+        }
+    }
+
+    private static void refresh() {
+        for (Logger logger : loggers.values()) {
+            logger.setThreshold(resolve(logger.getName()));
+        }
+    }
+
+    private static Level resolve(String name) {
+        String candidate = name;
+        while (true) {
+            Level level = thresholds.get(candidate);
+            if (level != null) {
+                return level;
+            }
+            int dot = candidate.lastIndexOf('.');
+            if (dot < 0) {
+                return rootLevel;
+            }
+            candidate = candidate.substring(0, dot);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package logging;
+
+/**
+ * Named logger handed out by {@link Log}. Every call checks the level first, so
+ * a disabled statement costs one volatile read and never builds its message.
+ * Messages use "{}" placeholders and are queued for the background writer.
+ */
+public final class Logger {
+    private final String name;
+    private volatile int threshold;
+
+    Logger(String name, Level threshold) {
+        this.name = name;
+        this.threshold = threshold.ordinal();
+    }
+
+    void setThreshold(Level level) {
+        this.threshold = level.ordinal();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= threshold;
+    }
+
+    public boolean isTraceEnabled() {
+        return isEnabled(Level.TRACE);
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    public boolean isInfoEnabled() {
+        return isEnabled(Level.INFO);
+    }
+
+    public void trace(String message) {
+        log(Level.TRACE, message, 0, null, null, null, null);
+    }
+
+    public void trace(String pattern, Object arg) {
+        log(Level.TRACE, pattern, 1, arg, null, null, null);
+    }
+
+    public void trace(String pattern, Object arg1, Object arg2) {
+        log(Level.TRACE, pattern, 2, arg1, arg2, null, null);
+    }
+
+    public void trace(String pattern, Object arg1, Object arg2, Object arg3) {
+        log(Level.TRACE, pattern, 3, arg1, arg2, arg3, null);
+    }
+
+    public void debug(String message) {
+        log(Level.DEBUG, message, 0, null, null, null, null);
+    }
+
+    public void debug(String pattern, Object arg) {
+        log(Level.DEBUG, pattern, 1, arg, null, null, null);
+    }
+
+    public void debug(String pattern, Object arg1, Object arg2) {
+        log(Level.DEBUG, pattern, 2, arg1, arg2, null, null);
+    }
+
+    public void debug(String pattern, Object arg1, Object arg2, Object arg3) {
+        log(Level.DEBUG, pattern, 3, arg1, arg2, arg3, null);
+    }
+
+    public void info(String message) {
+        log(Level.INFO, message, 0, null, null, null, null);
+    }
+
+    public void info(String pattern, Object arg) {
+        log(Level.INFO, pattern, 1, arg, null, null, null);
+    }
+
+    public void info(String pattern, Object arg1, Object arg2) {
+        log(Level.INFO, pattern, 2, arg1, arg2, null, null);
+    }
+
+    public void info(String pattern, Object arg1, Object arg2, Object arg3) {
+        log(Level.INFO, pattern, 3, arg1, arg2, arg3, null);
+    }
+
+    public void warn(String message) {
+        log(Level.WARN, message, 0, null, null, null, null);
+    }
+
+    public void warn(String pattern, Object arg) {
+        log(Level.WARN, pattern, 1, arg, null, null, null);
+    }
+
+    public void warn(String pattern, Object arg1, Object arg2) {
+        log(Level.WARN, pattern, 2, arg1, arg2, null, null);
+    }
+
+    public void warn(String pattern, Object arg1, Object arg2, Object arg3) {
+        log(Level.WARN, pattern, 3, arg1, arg2, arg3, null);
+    }
+
+    public void warn(String message, Throwable error) {
+        log(Level.WARN, message, 0, null, null, null, error);
+    }
+
+    public void error(String message) {
+        log(Level.ERROR, message, 0, null, null, null, null);
+    }
+
+    public void error(String pattern, Object arg) {
+        log(Level.ERROR, pattern, 1, arg, null, null, null);
+    }
+
+    public void error(String pattern, Object arg1, Object arg2) {
+        log(Level.ERROR, pattern, 2, arg1, arg2, null, null);
+    }
+
+    public void error(String pattern, Object arg1, Object arg2, Object arg3) {
+        log(Level.ERROR, pattern, 3, arg1, arg2, arg3, null);
+    }
+
+    public void error(String message, Throwable error) {
+        log(Level.ERROR, message, 0, null, null, null, error);
+    }
+
+    private void log(Level level, String pattern, int argCount,
+                     Object arg1, Object arg2, Object arg3, Throwable error) {
+        if (level.ordinal() < threshold) {
+            return;
+        }
+        String message = argCount == 0 ? pattern : format(pattern, argCount, arg1, arg2, arg3);
+        Log.queue().offer(level, name, message, error);
+    }
+
+    static String format(String pattern, int argCount, Object arg1, Object arg2, Object arg3) {
+        StringBuilder sb = new StringBuilder(pattern.length() + 32);
+        int argIndex = 0;
+        int start = 0;
+        int marker;
+        while (argIndex < argCount && (marker = pattern.indexOf("{}", start)) >= 0) {
+            sb.append(pattern, start, marker);
+            Object arg = argIndex == 0 ? arg1 : argIndex == 1 ? arg2 : arg3;
+            sb.append(arg);
+            argIndex++;
+            start = marker + 2;
+        }
+        sb.append(pattern, start, pattern.length());
+        return sb.toString();
+    }
+}
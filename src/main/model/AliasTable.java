@@ -0,0 +1,91 @@
+package model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples an index in proportion to a fixed set of weights in constant
+ * time, using Vose's alias method. Building the table is linear in the
+ * number of weights; every draw after that is one random column, one
+ * random fraction and two array reads.
+ */
+public final class AliasTable {
+    private final double[] probability;
+    private final int[] alias;
+
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("No weights");
+        }
+        double total = 0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Bad weight: " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Weights add up to zero");
+        }
+
+        probability = new double[n];
+        alias = new int[n];
+        // Each column holds one unit once the weights are scaled to average 1
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        // Top up each short column from a long one, which may then become short itself
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is full up to rounding error
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+    }
+
+    public int sample(RandomGenerator random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    public int size() {
+        return probability.length;
+    }
+
+    // Exact chance that sample returns index, read back from the columns
+    double probabilityOf(int index) {
+        double total = 0;
+        for (int column = 0; column < probability.length; column++) {
+            if (column == index) {
+                total += probability[column];
+            }
+            if (alias[column] == index && probability[column] < 1.0) {
+                total += 1.0 - probability[column];
+            }
+        }
+        return total / probability.length;
+    }
+}
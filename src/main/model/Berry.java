@@ -1,8 +1,11 @@
 package model;
 
 import javax.swing.ImageIcon;
+import logging.Log;
+import logging.Logger;
 
 public class Berry extends Item {
+    private static final Logger LOG = Log.getLogger(Berry.class);
     private BerryType type;
     
     public enum BerryType {
@@ -40,10 +43,10 @@ public class Berry extends Item {
             if (file.exists()) {
                 image = new ImageIcon(file.getAbsolutePath()).getImage();
             } else {
-                System.err.println("Berry image not found: " + imagePath);
+                LOG.warn("Berry image not found: {}", imagePath);
             }
         } catch (Exception e) {
-            System.err.println("Error loading berry image: " + e.getMessage());
+            LOG.error("Error loading berry image: {}", e.getMessage());
         }
     }
     
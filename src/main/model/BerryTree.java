@@ -2,8 +2,12 @@ package model;
 
 import java.awt.Point;
 import ui.Board;
+import ui.ImageLoader;
+import logging.Log;
+import logging.Logger;
 
 public class BerryTree extends InteractableObject {
+    private static final Logger LOG = Log.getLogger(BerryTree.class);
     private Berry.BerryType berryType;
     private int currentBerries;
     private int maxBerries;
@@ -20,9 +24,9 @@ public class BerryTree extends InteractableObject {
         
         // Add validation similar to InteractableItem
         if (this.sprite == null) {
-            System.err.println("Failed to load berry tree sprite: " + generateTreeSpritePath(berryType));
+            LOG.warn("Failed to load berry tree sprite: {}", generateTreeSpritePath(berryType));
         } else {
-            System.out.println("Successfully loaded berry tree sprite for: " + berryType.getName());
+            LOG.debug("Successfully loaded berry tree sprite for: {}", berryType.getName());
         }
     }
     
@@ -107,7 +111,7 @@ public class BerryTree extends InteractableObject {
                 currentBerries = maxBerries;
                 updateSprite();
                 // Note: We don't show a dialogue here as this is a background process
-                System.out.println("The " + berryType.getName() + " tree has grown new berries!");
+                LOG.info("The {} tree has grown new berries!", berryType.getName());
             }
         }
     }
@@ -117,16 +121,12 @@ public class BerryTree extends InteractableObject {
             generateTreeSpritePath(berryType) : 
             generateEmptyTreeSpritePath(berryType);
         try {
-            java.io.InputStream imageStream = getClass().getClassLoader().getResourceAsStream(spritePath);
-            if (imageStream != null) {
-                this.sprite = javax.imageio.ImageIO.read(imageStream);
-                imageStream.close();
-                System.out.println("Successfully updated berry tree sprite: " + spritePath);
-            } else {
-                System.err.println("Berry tree sprite resource not found: " + spritePath);
-            }
+            this.sprite = ImageLoader.readResource("/" + spritePath);
+            LOG.debug("Successfully updated berry tree sprite: {}", spritePath);
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Berry tree sprite resource not found: {}", spritePath);
         } catch (Exception e) {
-            System.err.println("Error loading berry tree sprite: " + e.getMessage());
+            LOG.error("Error loading berry tree sprite: {}", e.getMessage());
         }
         width = sprite.getWidth(null);
         height = sprite.getHeight(null);
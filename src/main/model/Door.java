@@ -4,8 +4,11 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import exceptions.NoSuchWorldException;
 import ui.Board;
+import logging.Log;
+import logging.Logger;
 
 public class Door extends InteractableObject {
+    private static final Logger LOG = Log.getLogger(Door.class);
     private String targetWorld;
     private Point spawnPoint;
     
@@ -41,10 +44,10 @@ public class Door extends InteractableObject {
     public void performAction(Player player, Board board) {
         try {
             Point destinationPoint = getSpawnPoint();
-            System.out.println("Door teleporting player to: (" + destinationPoint.x + ", " + destinationPoint.y + ")");
+            LOG.debug("Door teleporting player to: ({}, {})", destinationPoint.x, destinationPoint.y);
             board.getWorldManager().switchWorld(targetWorld, destinationPoint);
         } catch (NoSuchWorldException e) {
-            System.err.println("Could not find world: " + targetWorld);
+            LOG.error("Could not find world: {}", targetWorld);
         }
     }
     
@@ -0,0 +1,69 @@
+package model;
+
+import diagnostics.EncounterStats;
+import diagnostics.GameMetrics;
+
+/**
+ * A named place wild Pokémon are met in, such as route1 or cave. Maps bind
+ * their encounter zones to areas once when they load, and an area keeps
+ * pointing at its current compiled table and rate, so reloading the tables
+ * reaches every map without binding anything again.
+ */
+public final class EncounterArea {
+    private final String name;
+    private final String battleBackground;
+    private final EncounterStats stats;
+    private volatile EncounterTable.CompiledTable table;
+    // Chance in 100 per step, or -1 to use the encounter manager's default
+    private volatile int encounterRate = -1;
+
+    EncounterArea(String name) {
+        this.name = name;
+        switch (name) {
+            case "cave":
+            case "city":
+                this.battleBackground = name;
+                break;
+            default:
+                this.battleBackground = "route";
+                break;
+        }
+        this.stats = GameMetrics.encounterStats(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // The battle scene's backdrop for encounters here: route, city or cave
+    public String getBattleBackground() {
+        return battleBackground;
+    }
+
+    // What this area has produced so far; survives table reloads
+    public EncounterStats getStats() {
+        return stats;
+    }
+
+    public int getEncounterRate(int defaultRate) {
+        int rate = encounterRate;
+        return rate >= 0 ? rate : defaultRate;
+    }
+
+    EncounterTable.CompiledTable getTable() {
+        return table;
+    }
+
+    void setTable(EncounterTable.CompiledTable table) {
+        this.table = table;
+    }
+
+    void setEncounterRate(int encounterRate) {
+        this.encounterRate = encounterRate;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -2,132 +2,112 @@ package model;
 
 import java.util.*;
 import pokes.Pokemon;
+import diagnostics.WildEncounterEvent;
+import diagnostics.Counter;
+import diagnostics.GameMetrics;
 
 public class EncounterManager {
-    private static final Random random = new Random();
     private static final int DEFAULT_ENCOUNTER_RATE = 30; // 30% chance per step
-    private static final int ENCOUNTER_CHECK_DELAY = 5; // Check every 5 frames
     
     private int encounterRate;
-    private int frameCounter;
-    private Map<String, List<EncounterTable.EncounterEntry>> locationTables;
+    // Steps left until the next encounter in currentArea; 0 until one is drawn
+    private EncounterArea currentArea;
+    private int stepsUntilEncounter;
+    private final Counter encountersTriggered;
     
     public EncounterManager() {
+        this("unknown");
+    }
+    
+    public EncounterManager(String worldName) {
+        this.encountersTriggered = GameMetrics.encountersTriggered(worldName);
         this.encounterRate = DEFAULT_ENCOUNTER_RATE;
-        this.frameCounter = 0;
+        this.stepsUntilEncounter = 0;
         initializeEncounterTables();
     }
     
     private void initializeEncounterTables() {
-        locationTables = new HashMap<>();
-        
-        // Initialize the encounter tables
+        // Loads the tables from disk the first time any board needs them
         EncounterTable.initializeEncounterTables();
-        
-        // Use the existing encounter tables from EncounterTable class
-        for (String location : getAvailableLocations()) {
-            locationTables.put(location, EncounterTable.getEncounterTable(location));
-        }
-    }
-    
-    private List<String> getAvailableLocations() {
-        // Return all available location keys from EncounterTable
-        return EncounterTable.getAvailableLocations();
     }
     
+    // Default for areas whose tables don't set a rate
     public void setEncounterRate(int rate) {
         this.encounterRate = Math.max(0, Math.min(100, rate)); // Clamp between 0-100
+        this.stepsUntilEncounter = 0;
     }
     
-    public boolean checkEncounter(boolean isInGrass, boolean isMoving) {
-        if (isInGrass && isMoving) {
-            frameCounter++;
-            
-            if (frameCounter >= ENCOUNTER_CHECK_DELAY) {
-                frameCounter = 0;
-                
-                int chance = random.nextInt(100);
-                
-                if (chance < encounterRate) {
-                    return true;
-                }
-            }
-        } else {
-            frameCounter = 0;
+    /**
+     * Called once for every tile the player steps onto, with the encounter
+     * area under it or null if there is none. Entering an area draws how
+     * many steps it will take to run into a wild Pokémon, so every other
+     * step is just a countdown. Leaving the area forgets the draw.
+     */
+    public boolean takeStep(EncounterArea area) {
+        if (area != currentArea) {
+            currentArea = area;
+            stepsUntilEncounter = 0;
+        }
+        if (area == null) {
+            return false;
+        }
+        if (stepsUntilEncounter == 0) {
+            stepsUntilEncounter = stepsUntilEncounter(area.getEncounterRate(encounterRate));
+        }
+        if (--stepsUntilEncounter == 0) {
+            encountersTriggered.increment();
+            return true;
         }
-        
         return false;
     }
     
-    public Pokemon generateWildPokemon(String location) {
-        // Normalize location string and get the appropriate encounter table
-        String normalizedLocation = normalizeLocation(location);
-        
-        // Use the EncounterTable class to get a random encounter
-        return EncounterTable.getRandomEncounter(normalizedLocation);
+    // Geometric draw: the first step that succeeds when each one has rate in 100 odds
+    private static int stepsUntilEncounter(int rate) {
+        if (rate <= 0) {
+            return Integer.MAX_VALUE;
+        } else if (rate >= 100) {
+            return 1;
+        }
+        double u = 1.0 - GameRandom.ENCOUNTERS.get().nextDouble(); // (0, 1], so the log is finite
+        double steps = Math.floor(Math.log(u) / Math.log1p(-rate / 100.0)) + 1;
+        return (int) Math.min(steps, Integer.MAX_VALUE);
     }
     
-    private String normalizeLocation(String location) {
-        if (location == null) {
-            return "route1";
-        }
-        
-        location = location.toLowerCase().trim();
+    /**
+     * Rolls a wild Pokémon for the area. Nothing is counted until the
+     * caller records the encounter, since prepared encounters can still be
+     * thrown away.
+     */
+    public WildEncounter generateWildPokemon(EncounterArea area) {
+        WildEncounterEvent event = new WildEncounterEvent();
+        event.begin();
         
-        // Check for specific location patterns
-        if (location.contains("route")) {
-            // Extract route number if possible
-            if (location.matches(".*\\d+.*")) {
-                String routeNumber = location.replaceAll("\\D+", "");
-                String routeKey = "route" + routeNumber;
-                // Check if this specific route exists, otherwise default to route1
-                if (locationTables.containsKey(routeKey)) {
-                    return routeKey;
-                }
-            }
-            return "route1"; // Default to route1 if no number or route doesn't exist
-        } else if (location.contains("forest") || location.contains("woods")) {
-            return "forest";
-        } else if (location.contains("cave") || location.contains("tunnel")) {
-            return "cave";
-        } else if (location.contains("mountain") || location.contains("peak")) {
-            return "mountain";
-        } else if (location.contains("water") || location.contains("sea") || location.contains("ocean") || 
-                   location.contains("lake") || location.contains("river")) {
-            return "water";
-        } else if (location.contains("city") || location.contains("town")) {
-            return "city";
-        } else if (location.contains("grass") || location.contains("meadow") || location.contains("field")) {
-            return "grass";
-        } else if (location.contains("tropical") || location.contains("island")) {
-            return "tropical";
-        } else if (location.contains("galar") || location.contains("crown")) {
-            return "galar";
-        }
+        WildEncounter encounter = EncounterTable.rollEncounter(area);
         
-        // Check if the exact location exists in our tables
-        if (locationTables.containsKey(location)) {
-            return location;
+        event.end();
+        if (event.shouldCommit()) {
+            Pokemon pokemon = encounter.getPokemon();
+            event.location = area.getName();
+            event.species = pokemon.getName();
+            event.dex = pokemon.getDex();
+            event.level = pokemon.getLevel();
+            encounter.setEvent(event);
         }
-        
-        // Default fallback
-        return "route1";
+        return encounter;
     }
     
     // Method to get encounter information for a location
     public List<EncounterTable.EncounterEntry> getLocationEncounters(String location) {
-        String normalizedLocation = normalizeLocation(location);
-        return locationTables.getOrDefault(normalizedLocation, locationTables.get("default"));
+        return EncounterTable.getEncounterTable(location);
     }
     
     // Method to check if a location has encounters
     public boolean hasEncounters(String location) {
-        String normalizedLocation = normalizeLocation(location);
-        return locationTables.containsKey(normalizedLocation);
+        return EncounterTable.hasTable(location);
     }
     
     // Method to add custom encounters for modding/testing
     public void addCustomLocation(String locationName, List<EncounterTable.EncounterEntry> encounters) {
-        locationTables.put(locationName.toLowerCase(), encounters);
+        EncounterTable.putTable(locationName, encounters);
     }
 }
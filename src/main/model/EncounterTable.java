@@ -1,16 +1,39 @@
 package model;
 
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
 
+import au.com.bytecode.opencsv.CSVReader;
 import moves.MoveLoader;
 import pokes.Pokemon;
 import pokes.PokemonFactory;
 import pokes.PokemonStatsLoader;
+import logging.Log;
+import logging.Logger;
 
+/**
+ * Wild encounter tables, one CSV file per location in the encounters
+ * directory (poke.encounters.dir). Each row is a species, its level range
+ * and its weight. At load every table is compiled into an alias table over
+ * (species, level) pairs, so a draw picks both in constant time however
+ * big the table is. rates.txt in the same directory can give an area its
+ * own chance per step of an encounter. reload() swaps freshly read tables
+ * into the existing areas while the game runs.
+ */
 public class EncounterTable {
-    private static Map<String, List<EncounterEntry>> locationTables = new HashMap<>();
-    private static Random random = new Random();
-    private static boolean initialized = false;
+    private static final Logger LOG = Log.getLogger(EncounterTable.class);
+    private static final String DEFAULT_DIRECTORY = "src/main/resources/encounters";
+
+    // Areas live for the whole game; reloads only swap what they point at
+    private static final Map<String, EncounterArea> areas = new ConcurrentHashMap<>();
+    private static volatile boolean initialized = false;
     
     // Inner class to represent an encounter entry with weight
     public static class EncounterEntry {
@@ -39,116 +62,205 @@ public class EncounterTable {
         public String getSpecificForm() { return specificForm; }
     }
     
-    // Initialize encounter tables for different locations using CSV data
-    public static void initializeEncounterTables() {
-        if (initialized) return;
-        // Route 1 encounters - Early game Pokémon
-        List<EncounterEntry> route1Encounters = new ArrayList<>();
-        route1Encounters.add(new EncounterEntry(16, 3, 5, 30)); // Pidgey
-        route1Encounters.add(new EncounterEntry(19, 2, 4, 30)); // Rattata
-        route1Encounters.add(new EncounterEntry(10, 3, 5, 15)); // Caterpie
-        route1Encounters.add(new EncounterEntry(13, 3, 5, 15)); // Weedle
-        route1Encounters.add(new EncounterEntry(25, 4, 6, 10)); // Pikachu
-        locationTables.put("route1", route1Encounters);
-        
-        // Route 2 encounters - Slightly higher level
-        List<EncounterEntry> route2Encounters = new ArrayList<>();
-        route2Encounters.add(new EncounterEntry(16, 4, 6, 25)); // Pidgey
-        route2Encounters.add(new EncounterEntry(19, 3, 5, 25)); // Rattata
-        route2Encounters.add(new EncounterEntry(21, 4, 6, 20)); // Spearow
-        route2Encounters.add(new EncounterEntry(32, 4, 6, 15)); // Nidoran♂
-        route2Encounters.add(new EncounterEntry(29, 4, 6, 15)); // Nidoran♀
-        locationTables.put("route2", route2Encounters);
-        
-        // Forest encounters - Bug types and forest dwellers
-        List<EncounterEntry> forestEncounters = new ArrayList<>();
-        forestEncounters.add(new EncounterEntry(10, 4, 7, 25)); // Caterpie
-        forestEncounters.add(new EncounterEntry(11, 5, 7, 15)); // Metapod
-        forestEncounters.add(new EncounterEntry(13, 4, 7, 25)); // Weedle
-        forestEncounters.add(new EncounterEntry(14, 5, 7, 15)); // Kakuna
-        forestEncounters.add(new EncounterEntry(25, 5, 8, 10)); // Pikachu
-        forestEncounters.add(new EncounterEntry(127, 6, 9, 5)); // Pinsir
-        forestEncounters.add(new EncounterEntry(43, 5, 8, 15)); // Oddish
-        locationTables.put("forest", forestEncounters);
+    /**
+     * One location's entries with every level of every entry laid out as
+     * its own outcome, weighted by the entry's weight over its level span.
+     */
+    static final class CompiledTable {
+        private final List<EncounterEntry> entries;
+        private final AliasTable alias;
+        private final EncounterEntry[] entryOf;
+        private final int[] levelOf;
         
-        // Cave encounters - Rock, Ground, and cave-dwelling Pokémon
-        List<EncounterEntry> caveEncounters = new ArrayList<>();
-        caveEncounters.add(new EncounterEntry(41, 8, 12, 30)); // Zubat
-        caveEncounters.add(new EncounterEntry(74, 9, 13, 25)); // Geodude
-        caveEncounters.add(new EncounterEntry(95, 10, 14, 15)); // Onix
-        caveEncounters.add(new EncounterEntry(66, 9, 13, 20)); // Machop
-        caveEncounters.add(new EncounterEntry(104, 10, 15, 10)); // Cubone
-        locationTables.put("cave", caveEncounters);
+        CompiledTable(List<EncounterEntry> entries) {
+            this.entries = List.copyOf(entries);
+            int outcomes = 0;
+            for (EncounterEntry entry : entries) {
+                outcomes += levelSpan(entry);
+            }
+            entryOf = new EncounterEntry[outcomes];
+            levelOf = new int[outcomes];
+            double[] weights = new double[outcomes];
+            int outcome = 0;
+            for (EncounterEntry entry : entries) {
+                int span = levelSpan(entry);
+                for (int level = entry.getMinLevel(); level <= entry.getMaxLevel(); level++) {
+                    entryOf[outcome] = entry;
+                    levelOf[outcome] = level;
+                    weights[outcome] = entry.getWeight() / span;
+                    outcome++;
+                }
+            }
+            alias = new AliasTable(weights);
+        }
         
-        // Water encounters - Water types
-        List<EncounterEntry> waterEncounters = new ArrayList<>();
-        waterEncounters.add(new EncounterEntry(129, 5, 15, 40)); // Magikarp
-        waterEncounters.add(new EncounterEntry(54, 10, 20, 25)); // Psyduck
-        waterEncounters.add(new EncounterEntry(60, 10, 20, 20)); // Poliwag
-        waterEncounters.add(new EncounterEntry(118, 10, 20, 10)); // Goldeen
-        waterEncounters.add(new EncounterEntry(120, 15, 25, 5)); // Staryu
-        locationTables.put("water", waterEncounters);
+        private static int levelSpan(EncounterEntry entry) {
+            if (entry.getMaxLevel() < entry.getMinLevel()) {
+                throw new IllegalArgumentException("Level range " + entry.getMinLevel() + "-"
+                        + entry.getMaxLevel() + " for #" + entry.getDexNumber() + " is backwards");
+            }
+            return entry.getMaxLevel() - entry.getMinLevel() + 1;
+        }
         
-        // City encounters - Urban Pokémon
-        List<EncounterEntry> cityEncounters = new ArrayList<>();
-        cityEncounters.add(new EncounterEntry(19, 5, 10, 30)); // Rattata
-        cityEncounters.add(new EncounterEntry(20, 10, 15, 15)); // Raticate
-        cityEncounters.add(new EncounterEntry(81, 10, 15, 20)); // Magnemite
-        cityEncounters.add(new EncounterEntry(100, 10, 15, 20)); // Voltorb
-        cityEncounters.add(new EncounterEntry(52, 8, 12, 15)); // Meowth
-        locationTables.put("city", cityEncounters);
+        // One (entry, level) outcome, as an index for entryOf and levelOf
+        int draw(RandomGenerator random) {
+            return alias.sample(random);
+        }
         
-        // Mountain encounters - High-level mountain Pokémon
-        List<EncounterEntry> mountainEncounters = new ArrayList<>();
-        mountainEncounters.add(new EncounterEntry(74, 15, 25, 25)); // Geodude
-        mountainEncounters.add(new EncounterEntry(75, 20, 30, 15)); // Graveler
-        mountainEncounters.add(new EncounterEntry(95, 15, 25, 20)); // Onix
-        mountainEncounters.add(new EncounterEntry(77, 15, 25, 15)); // Ponyta
-        mountainEncounters.add(new EncounterEntry(27, 12, 20, 15)); // Sandshrew
-        mountainEncounters.add(new EncounterEntry(142, 20, 30, 10)); // Aerodactyl
-        locationTables.put("mountain", mountainEncounters);
+        int outcomeCount() {
+            return levelOf.length;
+        }
         
-        // Grass encounters - General grassland Pokémon
-        List<EncounterEntry> grassEncounters = new ArrayList<>();
-        grassEncounters.add(new EncounterEntry(16, 5, 10, 25)); // Pidgey
-        grassEncounters.add(new EncounterEntry(19, 5, 10, 25)); // Rattata
-        grassEncounters.add(new EncounterEntry(43, 8, 12, 20)); // Oddish
-        grassEncounters.add(new EncounterEntry(46, 8, 12, 15)); // Paras
-        grassEncounters.add(new EncounterEntry(48, 10, 15, 10)); // Venonat
-        grassEncounters.add(new EncounterEntry(114, 12, 18, 5)); // Tangela
-        locationTables.put("grass", grassEncounters);
+        EncounterEntry entryOf(int outcome) {
+            return entryOf[outcome];
+        }
         
-        // Default encounters (fallback) - Starter Pokémon
-        List<EncounterEntry> defaultEncounters = new ArrayList<>();
-        defaultEncounters.add(new EncounterEntry(1, 5, 10, 33)); // Bulbasaur
-        defaultEncounters.add(new EncounterEntry(4, 5, 10, 33)); // Charmander
-        defaultEncounters.add(new EncounterEntry(7, 5, 10, 34)); // Squirtle
-        locationTables.put("default", defaultEncounters);
+        int levelOf(int outcome) {
+            return levelOf[outcome];
+        }
         
+        List<EncounterEntry> getEntries() {
+            return entries;
+        }
+    }
+    
+    // Loads the tables the first time anything asks for them
+    public static void initializeEncounterTables() {
+        if (initialized) return;
+        synchronized (EncounterTable.class) {
+            if (!initialized) {
+                reload();
+            }
+        }
+    }
+    
+    /**
+     * Reads every table in the encounters directory again and swaps them
+     * into their areas. A file that fails to parse keeps its old table.
+     */
+    public static synchronized void reload() {
+        Path directory = Paths.get(System.getProperty("poke.encounters.dir", DEFAULT_DIRECTORY));
+        int loaded = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.csv")) {
+            for (Path file : files) {
+                String location = file.getFileName().toString().replaceFirst("\\.csv$", "");
+                try {
+                    getArea(location).setTable(new CompiledTable(readTable(file)));
+                    loaded++;
+                } catch (IOException | IllegalArgumentException e) {
+                    LOG.error("Bad encounter table {}: {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Could not read encounter tables from {}: {}", directory, e.getMessage());
+        }
+        Map<String, Integer> rates = readRates(directory.resolve("rates.txt"));
+        rates.keySet().forEach(EncounterTable::getArea);
+        for (EncounterArea area : areas.values()) {
+            area.setEncounterRate(rates.getOrDefault(area.getName(), -1));
+        }
         initialized = true;
+        LOG.info("Loaded {} encounter tables from {}", loaded, directory);
     }
     
-    public static Pokemon getRandomEncounter(String location) {
-        if (!initialized) {
-            initializeEncounterTables();
+    // Lines are "location rate"; blank lines and # comments are skipped
+    static Map<String, Integer> readRates(Path file) {
+        Map<String, Integer> rates = new HashMap<>();
+        if (!Files.exists(file)) {
+            return rates;
         }
-        
-        if (!locationTables.containsKey(location)) {
-            location = "default";
+        try {
+            for (String line : Files.readAllLines(file)) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split("\\s+");
+                try {
+                    rates.put(parts[0].toLowerCase(), Math.max(0, Math.min(100, Integer.parseInt(parts[1]))));
+                } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                    LOG.error("Bad encounter rate line in {}: {}", file, line);
+                }
+            }
+        } catch (IOException e) {
+            LOG.error("Could not read encounter rates from {}: {}", file, e.getMessage());
+        }
+        return Map.copyOf(rates);
+    }
+    
+    // Rows are dex,min_level,max_level,weight,form; the header and blank rows are skipped
+    static List<EncounterEntry> readTable(Path file) throws IOException {
+        List<EncounterEntry> entries = new ArrayList<>();
+        try (CSVReader reader = new CSVReader(new FileReader(file.toFile()))) {
+            reader.readNext();
+            String[] row;
+            while ((row = reader.readNext()) != null) {
+                if (row.length < 4 || row[0].isBlank()) {
+                    continue;
+                }
+                String form = row.length > 4 && !row[4].isBlank() ? row[4].trim() : null;
+                entries.add(new EncounterEntry(Integer.parseInt(row[0].trim()), Integer.parseInt(row[1].trim()),
+                        Integer.parseInt(row[2].trim()), Double.parseDouble(row[3].trim()), form));
+            }
         }
+        return entries;
+    }
+    
+    // The same area object for a name every time; unknown names fall back to the default table
+    public static EncounterArea getArea(String location) {
+        return areas.computeIfAbsent(location.toLowerCase(), EncounterArea::new);
+    }
+    
+    public static boolean hasTable(String location) {
+        initializeEncounterTables();
+        EncounterArea area = location != null ? areas.get(location.toLowerCase()) : null;
+        return area != null && area.getTable() != null;
+    }
+    
+    // Compiles and installs a table that didn't come from a file, for modding and tests
+    public static synchronized void putTable(String location, List<EncounterEntry> entries) {
+        initializeEncounterTables();
+        getArea(location).setTable(new CompiledTable(entries));
+    }
+    
+    public static Pokemon getRandomEncounter(String location) {
+        return getRandomEncounter(getArea(location != null ? location : "default"));
+    }
+    
+    public static Pokemon getRandomEncounter(EncounterArea area) {
+        return rollEncounter(area).getPokemon();
+    }
+    
+    // Counted in the area's stats only once the caller records it
+    static WildEncounter rollEncounter(EncounterArea area) {
+        initializeEncounterTables();
         
-        List<EncounterEntry> encounters = locationTables.get(location);
-        if (encounters == null || encounters.isEmpty()) {
+        CompiledTable table = tableFor(area);
+        if (table == null) {
             Pokemon fallback = PokemonFactory.createPokemon(1, 5, "Bulbasaur");
             fallback.generateWildMoves();
-            return fallback;
+            return new WildEncounter(fallback, null, false);
         }
         
-        EncounterEntry selectedEntry = getWeightedRandomEncounter(encounters);
-        
-        int level = selectedEntry.getMinLevel() + 
-                    random.nextInt(selectedEntry.getMaxLevel() - selectedEntry.getMinLevel() + 1);
-        
+        int outcome = table.draw(GameRandom.ENCOUNTERS.get());
+        Pokemon pokemon = createPokemon(table.entryOf(outcome), table.levelOf(outcome));
+        boolean overridden = applyLocationMoveModifications(pokemon, area.getName());
+        return new WildEncounter(pokemon, area.getStats(), overridden);
+    }
+    
+    static CompiledTable tableFor(EncounterArea area) {
+        CompiledTable table = area.getTable();
+        return table != null ? table : getArea("default").getTable();
+    }
+    
+    // Builds the wild Pokémon for an entry at a given level, moves and all
+    public static Pokemon createEncounter(EncounterEntry selectedEntry, int level, String location) {
+        Pokemon wildPokemon = createPokemon(selectedEntry, level);
+        applyLocationMoveModifications(wildPokemon, location);
+        return wildPokemon;
+    }
+    
+    private static Pokemon createPokemon(EncounterEntry selectedEntry, int level) {
         PokemonStatsLoader loader = PokemonStatsLoader.getInstance();
         String pokemonName;
         
@@ -174,49 +286,49 @@ public class EncounterTable {
         // Generate appropriate moves based on learnset and level
         wildPokemon.generateWildMoves();
         
-        // Apply location-specific move modifications
-        applyLocationMoveModifications(wildPokemon, location);
-        
         return wildPokemon;
     }
     
-    private static void applyLocationMoveModifications(Pokemon pokemon, String location) {
-        Random random = new Random();
+    // True if any move was swapped for a location or rare move
+    private static boolean applyLocationMoveModifications(Pokemon pokemon, String location) {
+        RandomGenerator random = GameRandom.ENCOUNTERS.get();
+        boolean overridden = false;
         
         // Higher level areas might have Pokemon with more diverse movesets
         if (location != null) {
             switch (location.toLowerCase()) {
                 case "cave":
                     // Cave Pokemon might know more Rock/Ground type moves
-                    addLocationSpecificMoves(pokemon, Arrays.asList("rockthrow", "mudslap", "sandattack", "rockslide"));
+                    overridden = addLocationSpecificMoves(pokemon, Arrays.asList("rockthrow", "mudslap", "sandattack", "rockslide"));
                     break;
                 case "water":
                     // Water areas might have Pokemon with water moves
-                    addLocationSpecificMoves(pokemon, Arrays.asList("watergun", "bubble", "surf", "hydropump"));
+                    overridden = addLocationSpecificMoves(pokemon, Arrays.asList("watergun", "bubble", "surf", "hydropump"));
                     break;
                 case "forest":
                     // Forest Pokemon might know Grass moves
-                    addLocationSpecificMoves(pokemon, Arrays.asList("vinewhip", "razorleaf", "sleeppowder", "synthesis"));
+                    overridden = addLocationSpecificMoves(pokemon, Arrays.asList("vinewhip", "razorleaf", "sleeppowder", "synthesis"));
                     break;
                 case "mountain":
                     // Mountain Pokemon might know Rock/Fire moves
-                    addLocationSpecificMoves(pokemon, Arrays.asList("rockthrow", "ember", "flamethrower", "earthquake"));
+                    overridden = addLocationSpecificMoves(pokemon, Arrays.asList("rockthrow", "ember", "flamethrower", "earthquake"));
                     break;
                 case "city":
                     // Urban Pokemon might know Electric/Steel moves
-                    addLocationSpecificMoves(pokemon, Arrays.asList("thundershock", "metalclaw", "spark", "thunderbolt"));
+                    overridden = addLocationSpecificMoves(pokemon, Arrays.asList("thundershock", "metalclaw", "spark", "thunderbolt"));
                     break;
             }
         }
         
         // Small chance for wild Pokemon to have rare moves (3% chance for high-level Pokemon)
         if (pokemon.getLevel() >= 15 && random.nextDouble() < 0.03) {
-            addRareMoves(pokemon);
+            overridden |= addRareMoves(pokemon);
         }
+        return overridden;
     }
     
-    private static void addLocationSpecificMoves(Pokemon pokemon, List<String> locationMoves) {
-        Random random = new Random();
+    private static boolean addLocationSpecificMoves(Pokemon pokemon, List<String> locationMoves) {
+        RandomGenerator random = GameRandom.ENCOUNTERS.get();
         MoveLoader moveDB = MoveLoader.getInstance();
         
         // 25% chance to replace one move with a location-specific move
@@ -227,17 +339,19 @@ public class EncounterTable {
             if (locationMove != null) {
                 // Replace a random move with the location-specific move
                 int replaceIndex = random.nextInt(pokemon.getMoves().size());
-                pokemon.getMoves().set(replaceIndex, locationMove);
+                pokemon.getMoves().set(replaceIndex, locationMove.copy());
+                return true;
             }
         }
+        return false;
     }
     
-    private static void addRareMoves(Pokemon pokemon) {
+    private static boolean addRareMoves(Pokemon pokemon) {
         moves.LearnsetLoader loader = moves.LearnsetLoader.getInstance();
         moves.PokemonMoveData moveData = loader.getPokemonMoveData(pokemon.getName().toLowerCase());
         
         if (moveData != null && !moveData.getEggMoves().isEmpty()) {
-            Random random = new Random();
+            RandomGenerator random = GameRandom.ENCOUNTERS.get();
             List<String> eggMoves = new ArrayList<>(moveData.getEggMoves());
             
             if (!eggMoves.isEmpty()) {
@@ -245,72 +359,35 @@ public class EncounterTable {
                 Move eggMove = MoveLoader.getInstance().getMove(randomEggMove);
                 
                 if (eggMove != null && pokemon.getMoves().size() < 4) {
-                    pokemon.getMoves().add(eggMove);
+                    pokemon.getMoves().add(eggMove.copy());
+                    return true;
                 } else if (eggMove != null) {
                     // Replace a random move
                     int replaceIndex = random.nextInt(pokemon.getMoves().size());
-                    pokemon.getMoves().set(replaceIndex, eggMove);
+                    pokemon.getMoves().set(replaceIndex, eggMove.copy());
+                    return true;
                 }
             }
         }
-    }
-    
-    private static EncounterEntry getWeightedRandomEncounter(List<EncounterEntry> encounters) {
-        // Calculate total weight
-        int totalWeight = 0;
-        for (EncounterEntry entry : encounters) {
-            totalWeight += entry.getWeight();
-        }
-        
-        // Select a random value within the total weight
-        int randomValue = random.nextInt(totalWeight);
-        
-        // Find the corresponding entry
-        int currentWeight = 0;
-        for (EncounterEntry entry : encounters) {
-            currentWeight += entry.getWeight();
-            if (randomValue < currentWeight) {
-                return entry;
-            }
-        }
-        
-        // Fallback (should never happen)
-        return encounters.get(0);
+        return false;
     }
     
     // Get encounter table for a specific location
     public static List<EncounterEntry> getEncounterTable(String location) {
-        if (!initialized) {
-            initializeEncounterTables();
-        }
-        return locationTables.getOrDefault(location, locationTables.get("default"));
+        initializeEncounterTables();
+        CompiledTable table = tableFor(getArea(location != null ? location : "default"));
+        return table != null ? table.getEntries() : List.of();
     }
     
     // Get all available locations
     public static List<String> getAvailableLocations() {
-        if (!initialized) {
-            initializeEncounterTables();
+        initializeEncounterTables();
+        List<String> locations = new ArrayList<>();
+        for (EncounterArea area : areas.values()) {
+            if (area.getTable() != null) {
+                locations.add(area.getName());
+            }
         }
-        return new ArrayList<>(locationTables.keySet());
-    }
-    
-    // Add method to create regional variant encounters
-    public static void addRegionalVariants() {
-        // Example: Add Alolan forms to tropical locations
-        List<EncounterEntry> tropicalEncounters = new ArrayList<>();
-        tropicalEncounters.add(new EncounterEntry(19, 5, 10, 30, "Rattata (Alola)"));
-        tropicalEncounters.add(new EncounterEntry(20, 10, 15, 15, "Raticate (Alola)"));
-        tropicalEncounters.add(new EncounterEntry(27, 8, 12, 25, "Sandshrew (Alola)"));
-        tropicalEncounters.add(new EncounterEntry(28, 15, 20, 10, "Sandslash (Alola)"));
-        tropicalEncounters.add(new EncounterEntry(37, 8, 12, 20, "Vulpix (Alola)"));
-        locationTables.put("tropical", tropicalEncounters);
-        
-        // Add Galarian forms to certain locations
-        List<EncounterEntry> galarEncounters = new ArrayList<>();
-        galarEncounters.add(new EncounterEntry(77, 10, 15, 30, "Ponyta (Galar)"));
-        galarEncounters.add(new EncounterEntry(78, 20, 25, 15, "Rapidash (Galar)"));
-        galarEncounters.add(new EncounterEntry(83, 8, 12, 25, "Farfetch'd (Galar)"));
-        galarEncounters.add(new EncounterEntry(52, 5, 10, 30, "Meowth (Galar)"));
-        locationTables.put("galar", galarEncounters);
+        return locations;
     }
 }
@@ -0,0 +1,142 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import model.EncounterTable.CompiledTable;
+import model.EncounterTable.EncounterEntry;
+
+/**
+ * Checks that every encounter table draws species and levels in the
+ * proportions its file asks for. Each table is sampled through the same
+ * compiled draw the game uses, split into chunks that run in parallel on
+ * their own random streams, and the counts are compared with the weights
+ * by a chi-square test, once per entry and once per (entry, level). Only
+ * the draw is sampled, not the Pokémon built from it, so tens of millions
+ * of draws per table take seconds. The live counts from play are in the
+ * EncounterStats MBeans.
+ *
+ * Prints one CSV row per table and exits with 1 if any table's p-value is
+ * below 0.0001.
+ *
+ * Run with: java model.EncounterTableVerifier [draws per table] [seed]
+ */
+public class EncounterTableVerifier {
+    private static final double ALPHA = 0.0001;
+    private static final int CHUNK = 1 << 20;
+
+    public static void main(String[] args) {
+        long draws = args.length > 0 ? Long.parseLong(args[0]) : 20_000_000L;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1;
+
+        EncounterTable.initializeEncounterTables();
+        List<String> locations = new ArrayList<>(EncounterTable.getAvailableLocations());
+        Collections.sort(locations);
+
+        System.out.println("location,entries,outcomes,draws,species_chi2,species_df,species_p,"
+                + "level_chi2,level_df,level_p,max_rel_error,millis");
+        SplittableRandom root = new SplittableRandom(seed);
+        boolean failed = false;
+        for (String location : locations) {
+            CompiledTable table = EncounterTable.tableFor(EncounterTable.getArea(location));
+            long start = System.nanoTime();
+            long[] counts = sample(table, draws, root.split());
+            long millis = (System.nanoTime() - start) / 1_000_000L;
+
+            List<EncounterEntry> entries = table.getEntries();
+            double totalWeight = entries.stream().mapToDouble(EncounterEntry::getWeight).sum();
+            // Per entry: fold each entry's levels back together
+            long[] entryCounts = new long[entries.size()];
+            double[] entryExpected = new double[entries.size()];
+            double[] outcomeExpected = new double[counts.length];
+            for (int outcome = 0; outcome < counts.length; outcome++) {
+                EncounterEntry entry = table.entryOf(outcome);
+                int index = entries.indexOf(entry);
+                int span = entry.getMaxLevel() - entry.getMinLevel() + 1;
+                entryCounts[index] += counts[outcome];
+                outcomeExpected[outcome] = draws * entry.getWeight() / span / totalWeight;
+            }
+            for (int i = 0; i < entries.size(); i++) {
+                entryExpected[i] = draws * entries.get(i).getWeight() / totalWeight;
+            }
+
+            Test species = chiSquare(entryCounts, entryExpected);
+            Test levels = chiSquare(counts, outcomeExpected);
+            System.out.printf("%s,%d,%d,%d,%.2f,%d,%.4g,%.2f,%d,%.4g,%.6f,%d%n", location, entries.size(),
+                    counts.length, draws, species.chi2, species.df, species.p, levels.chi2, levels.df, levels.p,
+                    Math.max(species.maxRelativeError, levels.maxRelativeError), millis);
+            failed |= species.p < ALPHA || levels.p < ALPHA;
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    // Draws split into chunks, each on its own stream split off up front so the result only depends on the seed
+    private static long[] sample(CompiledTable table, long draws, SplittableRandom random) {
+        int chunks = (int) ((draws + CHUNK - 1) / CHUNK);
+        SplittableRandom[] streams = new SplittableRandom[chunks];
+        for (int i = 0; i < chunks; i++) {
+            streams[i] = random.split();
+        }
+        int outcomes = table.outcomeCount();
+        return IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+            long[] counts = new long[outcomes];
+            long n = Math.min(CHUNK, draws - (long) chunk * CHUNK);
+            SplittableRandom stream = streams[chunk];
+            for (long i = 0; i < n; i++) {
+                counts[table.draw(stream)]++;
+            }
+            return counts;
+        }).reduce(new long[outcomes], (a, b) -> {
+            long[] sum = new long[outcomes];
+            for (int i = 0; i < outcomes; i++) {
+                sum[i] = a[i] + b[i];
+            }
+            return sum;
+        });
+    }
+
+    private static final class Test {
+        double chi2;
+        int df;
+        double p;
+        double maxRelativeError;
+    }
+
+    // Cells expected to be empty are left out; df counts the rest
+    private static Test chiSquare(long[] observed, double[] expected) {
+        Test test = new Test();
+        int cells = 0;
+        for (int i = 0; i < observed.length; i++) {
+            if (expected[i] <= 0) {
+                continue;
+            }
+            double diff = observed[i] - expected[i];
+            test.chi2 += diff * diff / expected[i];
+            test.maxRelativeError = Math.max(test.maxRelativeError, Math.abs(diff) / expected[i]);
+            cells++;
+        }
+        test.df = Math.max(1, cells - 1);
+        test.p = upperTail(test.chi2, test.df);
+        return test;
+    }
+
+    // P(X > chi2) for df degrees of freedom, by the Wilson-Hilferty normal approximation
+    private static double upperTail(double chi2, int df) {
+        double k = df;
+        double z = (Math.cbrt(chi2 / k) - (1 - 2 / (9 * k))) / Math.sqrt(2 / (9 * k));
+        return 0.5 * erfc(z / Math.sqrt(2));
+    }
+
+    // Abramowitz and Stegun 7.1.26, good to about 1e-7
+    private static double erfc(double x) {
+        if (x < 0) {
+            return 2 - erfc(-x);
+        }
+        double t = 1 / (1 + 0.3275911 * x);
+        double poly = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152073 + t * 1.061405429))));
+        return poly * Math.exp(-x * x);
+    }
+}
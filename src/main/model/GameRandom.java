@@ -0,0 +1,149 @@
+package model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * The game's randomness, as named streams derived from one session seed.
+ * Each subsystem draws from its own stream, so adding a roll to battles
+ * doesn't shift what the next encounter turns out to be, and a seed
+ * (-Dpoke.seed, or setSeed) replays encounters, IVs and battles exactly.
+ *
+ * Every thread gets its own generator per stream, seeded from the session
+ * seed, the stream and the thread's name, so drawing never locks and the
+ * EDT and the encounter prefetch thread each see a repeatable sequence.
+ * Work that fans out over a pool should take split() generators on the
+ * submitting thread and hand one to each task; work handed to a thread
+ * whose timing varies can run under withSeed or a Context instead.
+ */
+public enum GameRandom {
+    ENCOUNTERS,
+    POKEMON,
+    MOVES,
+    BATTLE,
+    WORLD;
+
+    private static final Logger LOG = Log.getLogger(GameRandom.class);
+    private static final GameRandom[] STREAMS = values();
+
+    private static volatile long seed = initialSeed();
+    // Bumped by setSeed so every thread reseeds on its next draw
+    private static volatile int epoch;
+
+    private static final ThreadLocal<ThreadStreams> LOCAL = ThreadLocal.withInitial(ThreadStreams::new);
+
+    private static final class ThreadStreams {
+        private int epoch = -1;
+        // Set for a Context's streams, which ignore setSeed
+        private final boolean pinned;
+        private final long pinnedSeed;
+        private final SplittableRandom[] generators = new SplittableRandom[STREAMS.length];
+
+        ThreadStreams() {
+            this(false, 0);
+        }
+
+        ThreadStreams(boolean pinned, long pinnedSeed) {
+            this.pinned = pinned;
+            this.pinnedSeed = pinnedSeed;
+        }
+    }
+
+    private static long initialSeed() {
+        Long configured = Long.getLong("poke.seed");
+        long value = configured != null ? configured : mix(System.nanoTime() ^ System.identityHashCode(GameRandom.class));
+        LOG.info("Random seed {} (replay with -Dpoke.seed={})", value, value);
+        return value;
+    }
+
+    public static long getSeed() {
+        return seed;
+    }
+
+    // Restarts every stream on every thread from the new seed
+    public static synchronized void setSeed(long newSeed) {
+        seed = newSeed;
+        epoch++;
+        LOG.info("Random seed set to {}", newSeed);
+    }
+
+    /**
+     * Runs work with every stream on this thread started from seed, then
+     * puts the thread's own streams back. Whatever work draws depends only
+     * on the seed, not on what else ran on the thread before it.
+     */
+    public static <T> T withSeed(long seed, Supplier<T> work) {
+        return new Context(seed).call(work);
+    }
+
+    /**
+     * A set of streams of its own, started from one seed, that work can be
+     * run under on any thread. Each call carries on where the last one left
+     * off, so a simulated world run in batches on a pool draws the same
+     * sequence whichever threads pick its batches up. Use from one thread
+     * at a time.
+     */
+    public static final class Context {
+        private final ThreadStreams streams;
+
+        public Context(long seed) {
+            this.streams = new ThreadStreams(true, seed);
+        }
+
+        public <T> T call(Supplier<T> work) {
+            ThreadStreams saved = LOCAL.get();
+            LOCAL.set(streams);
+            try {
+                return work.get();
+            } finally {
+                LOCAL.set(saved);
+            }
+        }
+
+        public void run(Runnable work) {
+            call(() -> {
+                work.run();
+                return null;
+            });
+        }
+    }
+
+    // This stream's generator for the calling thread; don't pass it to other threads
+    public RandomGenerator get() {
+        return generator();
+    }
+
+    // An independent generator for one battle, task or simulation, free to move between threads
+    public SplittableRandom split() {
+        return generator().split();
+    }
+
+    private SplittableRandom generator() {
+        ThreadStreams streams = LOCAL.get();
+        int current = epoch;
+        if (!streams.pinned && streams.epoch != current) {
+            streams.epoch = current;
+            Arrays.fill(streams.generators, null);
+        }
+        SplittableRandom generator = streams.generators[ordinal()];
+        if (generator == null) {
+            long base = streams.pinned ? streams.pinnedSeed : seed;
+            long threadKey = streams.pinned ? 0 : Thread.currentThread().getName().hashCode();
+            generator = new SplittableRandom(mix(base ^ mix(ordinal() + 1L) ^ mix(threadKey << 8)));
+            streams.generators[ordinal()] = generator;
+        }
+        return generator;
+    }
+
+    // SplitMix64 finalizer, so nearby inputs give unrelated seeds
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
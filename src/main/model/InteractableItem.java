@@ -2,8 +2,11 @@ package model;
 
 import java.awt.Point;
 import ui.Board;
+import logging.Log;
+import logging.Logger;
 
 public class InteractableItem extends InteractableObject {
+    private static final Logger LOG = Log.getLogger(InteractableItem.class);
     private String itemName;
     private int quantity;
     private boolean collected = false;
@@ -24,10 +27,10 @@ public class InteractableItem extends InteractableObject {
             if (this.sprite != null) {
                 // System.out.println("Successfully loaded item image using item's loadImage() method for: " + itemName);
             } else {
-                System.err.println("Item's loadImage() method failed to load image for: " + itemName);
+                LOG.warn("Item's loadImage() method failed to load image for: {}", itemName);
             }
         } else {
-            System.err.println("Warning: Could not create item '" + itemName + "' during InteractableItem construction");
+            LOG.warn("Warning: Could not create item '{}' during InteractableItem construction", itemName);
         }
     }
     
@@ -62,7 +65,7 @@ public class InteractableItem extends InteractableObject {
                     player.addToInventory(itemName);
                 } else {
                     allItemsAdded = false;
-                    System.err.println("Failed to create item instance: " + itemName);
+                    LOG.error("Failed to create item instance: {}", itemName);
                 }
             }
             
@@ -1,6 +1,10 @@
 package model;
 
+import logging.Log;
+import logging.Logger;
+
 public class ItemFactory {
+    private static final Logger LOG = Log.getLogger(ItemFactory.class);
 
     public static Item createItem(String itemName) {
         // Normalize the item name for lookup
@@ -37,7 +41,7 @@ public class ItemFactory {
         }
         
         // If no match found, log error and return null
-        System.err.println("Unknown item: " + itemName);
+        LOG.warn("Unknown item: {}", itemName);
         return null;
     }
 }
@@ -1,8 +1,11 @@
 package model;
 
 import javax.swing.ImageIcon;
+import logging.Log;
+import logging.Logger;
 
 public class KeyItem extends Item {
+    private static final Logger LOG = Log.getLogger(KeyItem.class);
     private KeyItemType type;
     
     public enum KeyItemType {
@@ -46,10 +49,10 @@ public class KeyItem extends Item {
             if (file.exists()) {
                 image = new ImageIcon(file.getAbsolutePath()).getImage();
             } else {
-                System.err.println("File not found: " + imagePath);
+                LOG.warn("File not found: {}", imagePath);
             }
         } catch (Exception e) {
-            System.err.println("Error loading item image: " + e.getMessage());
+            LOG.error("Error loading item image: {}", e.getMessage());
         }
     }
     
@@ -57,7 +60,7 @@ public class KeyItem extends Item {
     @Override
     public boolean use(Player player) {
         // Implementation for using key items
-        System.out.println("Using key item: " + name);
+        LOG.debug("Using key item: {}", name);
         
         // Key items aren't consumed when used
         return true;
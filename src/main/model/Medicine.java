@@ -3,8 +3,11 @@ package model;
 import javax.swing.ImageIcon;
 
 import pokes.Pokemon;
+import logging.Log;
+import logging.Logger;
 
 public class Medicine extends Item {
+    private static final Logger LOG = Log.getLogger(Medicine.class);
     private int healAmount;
     private MedicineType type;
     
@@ -57,10 +60,10 @@ public class Medicine extends Item {
             if (file.exists()) {
                 image = new ImageIcon(file.getAbsolutePath()).getImage();
             } else {
-                System.err.println("File not found: " + imagePath);
+                LOG.warn("File not found: {}", imagePath);
             }
         } catch (Exception e) {
-            System.err.println("Error loading item image: " + e.getMessage());
+            LOG.error("Error loading item image: {}", e.getMessage());
         }
     }
     
@@ -2,6 +2,9 @@ package model;
 
 import pokes.Pokemon;
 import pokes.Pokemon.PokemonType;
+import battle.BattleEngine;
+import battle.DamageCalculator;
+
 
 public class Move {
     // Basic properties
@@ -84,6 +87,30 @@ public class Move {
         this.statModifiers = statModifiers;
     }
     
+    private Move(Move other) {
+        this.name = other.name;
+        this.type = other.type;
+        this.power = other.power;
+        this.accuracy = other.accuracy;
+        this.maxPP = other.maxPP;
+        this.currentPP = other.currentPP;
+        this.category = other.category;
+        this.priority = other.priority;
+        this.makesContact = other.makesContact;
+        this.statusEffect = other.statusEffect;
+        this.statusChance = other.statusChance;
+        this.statModifiers = other.statModifiers;
+    }
+    
+    /**
+     * The same move with its own PP. MoveLoader hands out one Move per
+     * move, so whoever learns it should keep a copy rather than the
+     * loader's, or every Pokémon knowing it would spend the same PP.
+     */
+    public Move copy() {
+        return new Move(this);
+    }
+    
     // Use the move in battle
     public boolean use(Pokemon user, Pokemon target) {
         if (currentPP <= 0) {
@@ -104,7 +131,7 @@ public class Move {
         }
         
         // Apply status effects if applicable
-        if (statusEffect != StatusEffect.NONE && Math.random() * 100 <= statusChance) {
+        if (statusEffect != StatusEffect.NONE && GameRandom.BATTLE.get().nextDouble() * 100 <= statusChance) {
             applyStatus(target);
         }
         
@@ -124,90 +151,14 @@ public class Move {
         }
         
         // Otherwise, random check based on accuracy percentage
-        return Math.random() * 100 <= accuracy;
+        return GameRandom.BATTLE.get().nextDouble() * 100 <= accuracy;
     }
     
     // Apply damage to the target
     private void applyDamage(Pokemon user, Pokemon target) {
-        // Basic damage formula (simplified from actual Pokémon games)
-        double level = user.getStats().getLevel();
-        double attackStat = (category == MoveCategory.PHYSICAL) ? 
-                            user.getStats().getEffectiveStat("attack") : 
-                            user.getStats().getEffectiveStat("special");
-        double defenseStat = (category == MoveCategory.PHYSICAL) ? 
-                             target.getStats().getEffectiveStat("defense") : 
-                             target.getStats().getEffectiveStat("special");
-        
-        // Type effectiveness
-        double typeEffectiveness = calculateTypeEffectiveness(target);
-        
-        // STAB (Same Type Attack Bonus)
-        double stab = 1.0;
-        for (PokemonType userType : user.getTypes()) {
-            if (userType == type) {
-                stab = 1.5;
-                break;
-            }
-        }
-        
-        // Random factor (0.85 to 1.0)
-        double random = 0.85 + (Math.random() * 0.15);
-        
-        // Calculate damage
-        double damage = ((2 * level / 5 + 2) * power * (attackStat / defenseStat) / 50 + 2) 
-                        * stab * typeEffectiveness * random;
-        
-        // Apply damage to target
-        target.getStats().takeDamage((int)damage);
-    }
-    
-    // Calculate type effectiveness
-    private double calculateTypeEffectiveness(Pokemon target) {
-        double effectiveness = 1.0;
-        
-        for (PokemonType targetType : target.getTypes()) {
-            if (isTypeEffective(type, targetType)) {
-                effectiveness *= 2.0;
-            } else if (isTypeResistant(type, targetType)) {
-                effectiveness *= 0.5;
-            } else if (isTypeImmune(type, targetType)) {
-                effectiveness = 0;
-                break;
-            }
-        }
-        
-        return effectiveness;
-    }
-    
-    // Type effectiveness checks (simplified)
-    private boolean isTypeEffective(PokemonType attackType, PokemonType defenseType) {
-        // Implement type effectiveness chart
-        // Example: WATER is super effective against FIRE
-        if (attackType == PokemonType.WATER && defenseType == PokemonType.FIRE) {
-            return true;
-        }
-        // Add more type matchups here
-        return false;
-    }
-    
-    private boolean isTypeResistant(PokemonType attackType, PokemonType defenseType) {
-        // Implement type resistance chart
-        // Example: FIRE is not very effective against WATER
-        if (attackType == PokemonType.FIRE && defenseType == PokemonType.WATER) {
-            return true;
-        }
-        // Add more type matchups here
-        return false;
-    }
-    
-    private boolean isTypeImmune(PokemonType attackType, PokemonType defenseType) {
-        // Implement type immunity chart
-        // Example: NORMAL has no effect on GHOST
-        if (attackType == PokemonType.NORMAL && defenseType == PokemonType.GHOST) {
-            return true;
-        }
-        // Add more type matchups here
-        return false;
+        double typeEffectiveness = BattleEngine.effectiveness(this, target);
+        int damage = DamageCalculator.roll(user, target, this, typeEffectiveness, GameRandom.BATTLE.get());
+        target.getStats().takeDamage(damage);
     }
     
     // Apply status effect to target
@@ -0,0 +1,192 @@
+package model;
+
+import java.awt.Rectangle;
+import java.util.List;
+
+import model.Player.Direction;
+import tiles.TileMap;
+
+/**
+ * The rules of walking around one world, with nothing drawn: which way
+ * the held keys move the player, what blocks them, and which tile and
+ * encounter area their feet are on. The board feeds it key presses each
+ * tick; a headless simulation feeds it whatever its bot decides.
+ */
+public class Overworld {
+    public static final int TILE_SIZE = 32;
+    private static final int WALK_SPEED = 4;
+
+    // Input bits, one per held key
+    public static final int UP = 1;
+    public static final int DOWN = 2;
+    public static final int LEFT = 4;
+    public static final int RIGHT = 8;
+    public static final int RUN = 16;
+
+    public enum Step { IDLE, MOVED, BLOCKED }
+
+    private final String name;
+    private final TileMap map;
+    private final Player player;
+    private final List<WorldObject> objects;
+    // Tile under the player's feet when encounters last looked
+    private int stepTileX = -1;
+    private int stepTileY = -1;
+
+    // objects is the world's live list, so buildings added later still block
+    public Overworld(String name, TileMap map, Player player, List<WorldObject> objects) {
+        this.name = name;
+        this.map = map;
+        this.player = player;
+        this.objects = objects;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public TileMap getMap() {
+        return map;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Moves the player one tick's worth for the held input. Only a single
+     * direction moves; none or several leave the player where they are.
+     */
+    public Step move(int input) {
+        Direction dir;
+        int dx = 0;
+        int dy = 0;
+        switch (input & (UP | DOWN | LEFT | RIGHT)) {
+            case UP:
+                dir = Direction.FRONT;
+                dy = -1;
+                break;
+            case DOWN:
+                dir = Direction.BACK;
+                dy = 1;
+                break;
+            case LEFT:
+                dir = Direction.LEFT;
+                dx = -1;
+                break;
+            case RIGHT:
+                dir = Direction.RIGHT;
+                dx = 1;
+                break;
+            default:
+                return Step.IDLE;
+        }
+        boolean running = (input & RUN) != 0;
+        int speed = WALK_SPEED;
+        if (running) {
+            speed = speed * Math.round(player.getMoveSpeed());
+        }
+        if (!canMove(dx * speed, dy * speed)) {
+            player.setMoving(false);
+            return Step.BLOCKED;
+        }
+        player.setDirection(dir);
+        player.move(dx * speed, dy * speed);
+        player.setMoving(true);
+        player.setSprintKeyPressed(running);
+        return Step.MOVED;
+    }
+
+    public boolean canMove(int dx, int dy) {
+        Rectangle playerBounds = player.getBounds(TILE_SIZE);
+        Rectangle nextBounds = new Rectangle(
+            playerBounds.x + dx,
+            playerBounds.y + dy,
+            playerBounds.width,
+            playerBounds.height
+        );
+
+        Rectangle fullPixelRectangle = player.getFullBounds(TILE_SIZE);
+        Rectangle nextFullPixelRectangle = new Rectangle(
+            fullPixelRectangle.x + dx,
+            fullPixelRectangle.y + dy,
+            fullPixelRectangle.width,
+            fullPixelRectangle.height
+        );
+
+        // Check world boundaries (logical coordinates)
+        if (nextFullPixelRectangle.x < 0 || nextFullPixelRectangle.y < 0 ||
+            nextFullPixelRectangle.x + nextFullPixelRectangle.width > map.getColumns() * TILE_SIZE ||
+            nextFullPixelRectangle.y + nextFullPixelRectangle.height > map.getRows() * TILE_SIZE) {
+            return false;
+        }
+
+        // Check object collisions (logical coordinates)
+        for (WorldObject obj : objects) {
+            if (obj.getClass() == Door.class) {
+                continue; // Skip doors for collision detection
+            } else if (obj.isWalkable()) {
+                continue;
+            } else if (nextBounds.intersects(obj.getBounds(TILE_SIZE))) {
+                return false; // Collision detected
+            }
+        }
+
+        // Check tile collisions
+        return !checkTileBoundsCollision(nextBounds);
+    }
+
+    private boolean checkTileBoundsCollision(Rectangle bounds) {
+        // Convert pixel coordinates to tile coordinates (logical)
+        int startTileX = bounds.x / TILE_SIZE;
+        int startTileY = bounds.y / TILE_SIZE;
+        int endTileX = (bounds.x + bounds.width - 1) / TILE_SIZE;
+        int endTileY = (bounds.y + bounds.height - 1) / TILE_SIZE;
+
+        // Check all tiles that the bounds intersect with
+        for (int tileY = startTileY; tileY <= endTileY; tileY++) {
+            for (int tileX = startTileX; tileX <= endTileX; tileX++) {
+                if (map.isTileCollision(tileX, tileY)) {
+                    return true; // Collision found
+                }
+            }
+        }
+        return false; // No collision
+    }
+
+    // The middle of the player's feet, in pixels
+    public int getFeetX() {
+        Rectangle feet = player.getBounds(TILE_SIZE);
+        return feet.x + feet.width / 2;
+    }
+
+    public int getFeetY() {
+        Rectangle feet = player.getBounds(TILE_SIZE);
+        return feet.y + feet.height / 2;
+    }
+
+    // True once per tile the player's feet move onto
+    public boolean updateStepTile() {
+        int tileX = getFeetX() / TILE_SIZE;
+        int tileY = getFeetY() / TILE_SIZE;
+        if (tileX == stepTileX && tileY == stepTileY) {
+            return false;
+        }
+        stepTileX = tileX;
+        stepTileY = tileY;
+        return true;
+    }
+
+    public int getStepTileX() {
+        return stepTileX;
+    }
+
+    public int getStepTileY() {
+        return stepTileY;
+    }
+
+    // The encounter area under the player's feet as of the last updateStepTile, or null
+    public EncounterArea getStepArea() {
+        return map.getEncounterArea(stepTileX, stepTileY);
+    }
+}
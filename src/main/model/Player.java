@@ -4,8 +4,11 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.HashSet;
 import java.util.Set;
+import logging.Log;
+import logging.Logger;
 
 public class Player extends Trainer {
+    private static final Logger LOG = Log.getLogger(Player.class);
     protected Point pos;
     protected String facingFront;
 
@@ -54,7 +57,7 @@ public class Player extends Trainer {
         exactY = pos.y;
         inventory = new HashSet<>();
         money = 0;
-        trainerId = (int)(Math.random() * 100000);
+        trainerId = GameRandom.WORLD.get().nextInt(100000);
         inBattle = false;
     }
 
@@ -81,7 +84,7 @@ public class Player extends Trainer {
                 int oldFrame = animationFrame;
                 nextAnimationFrame();
                 animationCounter = 0;
-                System.out.println("Animation frame changed from " + oldFrame + " to " + animationFrame + " (Direction: " + direction + ")");
+                LOG.trace("Animation frame changed from {} to {} (Direction: {})", oldFrame, animationFrame, direction);
             }
         }
     }
@@ -198,7 +201,7 @@ public class Player extends Trainer {
     
     public void nextAnimationFrame() {
         animationFrame = (animationFrame + 1) % NUM_FRAMES;
-        System.out.println("Animation frame updated to: " + animationFrame);
+        LOG.trace("Animation frame updated to: {}", animationFrame);
     }
     
     public int getAnimationFrame() {    
@@ -2,8 +2,11 @@ package model;
 
 import javax.swing.ImageIcon;
 import javax.swing.JOptionPane;
+import logging.Log;
+import logging.Logger;
 
 public class Pokeball extends Item {
+    private static final Logger LOG = Log.getLogger(Pokeball.class);
     private double catchRate;
     private PokeBallType type;
     
@@ -50,7 +53,7 @@ public class Pokeball extends Item {
 
     public void loadImage() {
         if (type == null) {
-            System.out.println("type is null");
+            LOG.warn("type is null");
             return;
         }
         String lookupName = type.getName().replace(" ", "-").toLowerCase();
@@ -61,10 +64,10 @@ public class Pokeball extends Item {
             if (file.exists()) {
                 image = new ImageIcon(file.getAbsolutePath()).getImage();
             } else {
-                System.err.println("File not found: " + imagePath);
+                LOG.warn("File not found: {}", imagePath);
             }
         } catch (Exception e) {
-            System.err.println("Error loading item image: " + e.getMessage());
+            LOG.error("Error loading item image: {}", e.getMessage());
         }
     }
     
@@ -80,7 +83,7 @@ public class Pokeball extends Item {
         }
         
         // Implementation for using a Poké Ball in battle
-        System.out.println("Using " + name + " with catch rate: " + catchRate);
+        LOG.debug("Using {} with catch rate: {}", name, catchRate);
         
         // Reduce quantity when used
         return reduceQuantity(1);
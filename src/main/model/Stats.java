@@ -1,8 +1,12 @@
 package model;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
+
+import logging.Log;
+import logging.Logger;
 
 public class Stats {
+    private static final Logger LOG = Log.getLogger(Stats.class);
     // Base stats for a Pokémon
     private int maxHp;
     private int currentHp;
@@ -47,7 +51,7 @@ public class Stats {
     // Constructor for creating stats with base values
     public Stats(int baseHp, int baseAttack, int baseDefense, int baseSpeed, int baseSpAtt, int baseSpDef, int level) {
         // Generate random IVs (0-15 range for Gen 1 style)
-        Random random = new Random();
+        RandomGenerator random = GameRandom.POKEMON.get();
         this.hpIV = random.nextInt(32);
         this.attackIV = random.nextInt(32);
         this.defenseIV = random.nextInt(32);
@@ -185,7 +189,7 @@ public class Stats {
             this.getClass().getDeclaredField(fieldName).setInt(this, newMod);
             return true;
         } catch (Exception e) {
-            System.err.println("Error modifying stat: " + e.getMessage());
+            LOG.error("Error modifying stat: {}", e.getMessage());
             return false;
         }
     }
@@ -370,6 +374,7 @@ public class Stats {
      * Update stats when the Pokémon levels up
      */
     public void updateLevel(int newLevel) {
+        this.level = newLevel;
         calculateStats(newLevel);
     }
     
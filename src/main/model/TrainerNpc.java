@@ -10,13 +10,18 @@ import pokes.Pokemon;
 import ui.Board;
 import ui.Icon;
 import ui.NpcView;
+import logging.Log;
+import logging.Logger;
+import battle.AiDifficulty;
 
 public class TrainerNpc extends Npc {
+    private static final Logger LOG = Log.getLogger(TrainerNpc.class);
     private List<Pokemon> team;
     private boolean hasBeenDefeated;
     private boolean defeated;
     private int visionRange;
     private String trainerClass;
+    private AiDifficulty difficulty;
     private boolean canMove;
     private NpcView npcView;
     
@@ -40,6 +45,7 @@ public class TrainerNpc extends Npc {
         this.defeated = false;
         this.visionRange = 5;
         this.trainerClass = trainerClass;
+        this.difficulty = AiDifficulty.forTrainerClass(trainerClass);
         this.canMove = canMove;
         this.dialogueText = "Let's battle!";
         this.originalPosition = new Point(position);
@@ -87,7 +93,7 @@ public class TrainerNpc extends Npc {
         this.isApproachingForBattle = true;
         this.isMovingTowardsPlayer = true;
         
-        System.out.println(getName() + " is now approaching the player!");
+        LOG.debug("{} is now approaching the player!", getName());
         
         // Calculate initial direction to face player
         double playerPixelX = player.getWorldX();
@@ -124,9 +130,11 @@ public class TrainerNpc extends Npc {
         double totalDistance = Math.sqrt(distanceX * distanceX + distanceY * distanceY);
         
         // Debug output
-        System.out.println("NPC at: " + currentPixelX + ", " + currentPixelY + 
-                          " | Player at: " + playerPixelX + ", " + playerPixelY + 
-                          " | Distance: " + totalDistance + " | Facing: " + facing);
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("NPC at: " + currentPixelX + ", " + currentPixelY + 
+                      " | Player at: " + playerPixelX + ", " + playerPixelY + 
+                      " | Distance: " + totalDistance + " | Facing: " + facing);
+        }
         
         // Check for collision with player
         Rectangle npcBounds = new Rectangle(
@@ -139,7 +147,7 @@ public class TrainerNpc extends Npc {
         
         if (npcBounds.intersects(playerBounds) || totalDistance <= tileSize) {
             // Collision detected - stop moving and initiate battle
-            System.out.println("COLLISION DETECTED! Starting battle...");
+            LOG.debug("COLLISION DETECTED! Starting battle...");
             isMovingTowardsPlayer = false;
             stopMoving();
             facePlayer(targetPlayer, tileSize);
@@ -207,14 +215,14 @@ public class TrainerNpc extends Npc {
             Direction newDirection = (distanceX > 0) ? Direction.RIGHT : Direction.LEFT;
             if (facing != newDirection) {
                 setFacing(newDirection);
-                System.out.println("Turning to face: " + newDirection);
+                LOG.debug("Turning to face: {}", newDirection);
             }
         } else {
             // Player is more up or down
             Direction newDirection = (distanceY > 0) ? Direction.BACK : Direction.FRONT;
             if (facing != newDirection) {
                 setFacing(newDirection);
-                System.out.println("Turning to face: " + newDirection);
+                LOG.debug("Turning to face: {}", newDirection);
             }
         }
     }
@@ -330,7 +338,7 @@ public class TrainerNpc extends Npc {
             player.setMovementState(MovementState.FROZEN);
             showExclamationIcon();
             
-            System.out.println("Player spotted by " + getName() + "! Movement disabled.");
+            LOG.debug("Player spotted by {}! Movement disabled.", getName());
         }
         
         return hasLineOfSight;
@@ -496,6 +504,8 @@ public class TrainerNpc extends Npc {
     public int getSightRange() { return visionRange; }
     public void setVisionRange(int range) { this.visionRange = range; }
     public String getTrainerClass() { return trainerClass; }
+    public AiDifficulty getDifficulty() { return difficulty; }
+    public void setDifficulty(AiDifficulty difficulty) { this.difficulty = difficulty; }
 
     public int getWorldX() {
         return (int) Math.round(exactX * Board.TILE_SIZE);
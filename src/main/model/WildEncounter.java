@@ -0,0 +1,53 @@
+package model;
+
+import diagnostics.EncounterStats;
+import diagnostics.WildEncounterEvent;
+import pokes.Pokemon;
+
+/**
+ * A wild Pokémon rolled for an area, not yet met. Encounters are often
+ * built ahead of time and thrown away when the player walks off, so
+ * nothing about one is counted until record() is called at the moment the
+ * player actually runs into it.
+ */
+public final class WildEncounter {
+    private final Pokemon pokemon;
+    // Null for the fallback Pokémon of an area with no table
+    private final EncounterStats stats;
+    private final boolean movesOverridden;
+    private WildEncounterEvent event;
+    private boolean recorded;
+
+    WildEncounter(Pokemon pokemon, EncounterStats stats, boolean movesOverridden) {
+        this.pokemon = pokemon;
+        this.stats = stats;
+        this.movesOverridden = movesOverridden;
+    }
+
+    public Pokemon getPokemon() {
+        return pokemon;
+    }
+
+    // Generation is timed when it happens and only committed if the encounter is used
+    void setEvent(WildEncounterEvent event) {
+        this.event = event;
+    }
+
+    /**
+     * Counts the encounter in its area's stats and commits its generation
+     * event. Only the first call counts.
+     */
+    public synchronized void record() {
+        if (recorded) {
+            return;
+        }
+        if (stats != null) {
+            stats.record(pokemon.getDex(), pokemon.getLevel(), pokemon.getIsShiny(), movesOverridden);
+        }
+        if (event != null && event.shouldCommit()) {
+            event.commit();
+        }
+        event = null;
+        recorded = true;
+    }
+}
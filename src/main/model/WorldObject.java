@@ -6,9 +6,12 @@ import java.awt.Image;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.ImageObserver;
-import javax.imageio.ImageIO;
+import logging.Log;
+import logging.Logger;
+import ui.ImageLoader;
 
 public abstract class WorldObject implements Drawable {
+    private static final Logger LOG = Log.getLogger(WorldObject.class);
     protected Point position;
     protected String location;
     protected Image sprite;
@@ -24,14 +27,14 @@ public abstract class WorldObject implements Drawable {
         try {
             if (location != null) {
                 // Try loading as resource first
-                sprite = ImageIO.read(getClass().getResource(location));
+                sprite = ImageLoader.readResource(location);
                 
                 if (sprite == null) {
                     // Fallback: try loading from file system
                     java.io.File file = new java.io.File("." + location);
                     if (file.exists()) {
-                        sprite = ImageIO.read(file);
-                        System.out.println("Loaded sprite from file system: " + location);
+                        sprite = ImageLoader.readFile(file);
+                        LOG.debug("Loaded sprite from file system: {}", location);
                     } else {
                         // Try alternative resource paths
                         String[] alternatePaths = {
@@ -42,9 +45,9 @@ public abstract class WorldObject implements Drawable {
                         
                         for (String altPath : alternatePaths) {
                             try {
-                                sprite = ImageIO.read(getClass().getResource(altPath));
+                                sprite = ImageLoader.readResource(altPath);
                                 if (sprite != null) {
-                                    System.out.println("Found sprite at: " + altPath);
+                                    LOG.debug("Found sprite at: {}", altPath);
                                     break;
                                 }
                             } catch (Exception e) {
@@ -59,7 +62,7 @@ public abstract class WorldObject implements Drawable {
                 width = sprite.getWidth(null);
                 height = sprite.getHeight(null);
             } else {
-                System.err.println("Could not load sprite: " + location);
+                LOG.warn("Could not load sprite: {}", location);
                 width = 32;
                 height = 32;
             }
@@ -113,12 +116,12 @@ public abstract class WorldObject implements Drawable {
             java.io.File file = new java.io.File(spritePath);
             if (file.exists()) {
                 sprite = new javax.swing.ImageIcon(file.getAbsolutePath()).getImage();
-                System.out.println("Successfully loaded sprite: " + spritePath);
+                LOG.debug("Successfully loaded sprite: {}", spritePath);
             } else {
-                System.err.println("Sprite file not found: " + spritePath);
+                LOG.warn("Sprite file not found: {}", spritePath);
             }
         } catch (Exception e) {
-            System.err.println("Error loading sprite: " + e.getMessage());
+            LOG.error("Error loading sprite: {}", e.getMessage());
         }
     }
 
@@ -0,0 +1,110 @@
+package moves;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * One species' level-up moves as parallel arrays sorted by level, so the
+ * usual questions are a binary search away and need no allocation:
+ *
+ * moves learnable at or below L:  [0, endOfLevel(L))
+ * moves learned exactly at L:     [startOfLevel(L), endOfLevel(L))
+ * moves learned from L1 up to L2: [startOfLevel(L1), endOfLevel(L2))
+ *
+ * TM, tutor and egg moves are kept as plain id arrays beside them, for
+ * picking wild movesets without touching move names. Moves the move list
+ * doesn't know are left out, since nothing could use them anyway.
+ */
+public final class Learnset {
+    private static final int[] NONE = new int[0];
+    static final Learnset EMPTY = new Learnset(NONE, NONE, NONE, NONE, NONE);
+
+    private final int[] levels;
+    private final int[] moveIds;
+    private final int[] tmMoveIds;
+    private final int[] tutorMoveIds;
+    private final int[] eggMoveIds;
+
+    private Learnset(int[] levels, int[] moveIds, int[] tmMoveIds, int[] tutorMoveIds, int[] eggMoveIds) {
+        this.levels = levels;
+        this.moveIds = moveIds;
+        this.tmMoveIds = tmMoveIds;
+        this.tutorMoveIds = tutorMoveIds;
+        this.eggMoveIds = eggMoveIds;
+    }
+
+    // moveData may be null for species that only have default level-up moves
+    static Learnset of(Map<String, Integer> levelUpMoves, PokemonMoveData moveData, MoveLoader moveLoader) {
+        // Packed as level << 32 | id so one sort orders by level, then id
+        long[] packed = new long[levelUpMoves.size()];
+        int count = 0;
+        for (Map.Entry<String, Integer> entry : levelUpMoves.entrySet()) {
+            int id = moveLoader.getMoveId(entry.getKey());
+            if (id >= 0) {
+                packed[count++] = ((long) entry.getValue() << 32) | id;
+            }
+        }
+        Arrays.sort(packed, 0, count);
+        int[] levels = new int[count];
+        int[] moveIds = new int[count];
+        for (int i = 0; i < count; i++) {
+            levels[i] = (int) (packed[i] >>> 32);
+            moveIds[i] = (int) packed[i];
+        }
+        if (moveData == null) {
+            return new Learnset(levels, moveIds, NONE, NONE, NONE);
+        }
+        return new Learnset(levels, moveIds, idsOf(moveData.getTmMoves(), moveLoader),
+                idsOf(moveData.getTutorMoves(), moveLoader), idsOf(moveData.getEggMoves(), moveLoader));
+    }
+
+    // Sorted so the same data always gives the same arrays
+    private static int[] idsOf(Collection<String> moves, MoveLoader moveLoader) {
+        return moves.stream().mapToInt(moveLoader::getMoveId).filter(id -> id >= 0).sorted().toArray();
+    }
+
+    public int size() {
+        return levels.length;
+    }
+
+    public int getLevel(int index) {
+        return levels[index];
+    }
+
+    public int getMoveId(int index) {
+        return moveIds[index];
+    }
+
+    int[] tmMoveIds() {
+        return tmMoveIds;
+    }
+
+    int[] tutorMoveIds() {
+        return tutorMoveIds;
+    }
+
+    int[] eggMoveIds() {
+        return eggMoveIds;
+    }
+
+    // Index of the first move learned at level or later
+    public int startOfLevel(int level) {
+        int low = 0;
+        int high = levels.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (levels[mid] < level) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Index just past the last move learned at level or earlier
+    public int endOfLevel(int level) {
+        return level == Integer.MAX_VALUE ? levels.length : startOfLevel(level + 1);
+    }
+}
@@ -5,14 +5,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+
+import logging.Log;
+import logging.Logger;
+import diagnostics.DataLoadEvent;
 
 public class LearnsetLoader {
+    private static final Logger LOG = Log.getLogger(LearnsetLoader.class);
     private static LearnsetLoader instance;
     private Map<String, Map<String, Integer>> learnsets = new HashMap<>();
     private Map<String, PokemonMoveData> pokemonMoveData = new HashMap<>();
+    // Level-up moves per species as sorted arrays, built the first time each is asked for
+    private final Map<String, Learnset> learnsetIndex = new ConcurrentHashMap<>();
     
     private LearnsetLoader() {
     }
@@ -25,6 +32,9 @@ public class LearnsetLoader {
     }
     
     public void loadFromTypeScriptFile(String resourcePath) {
+        DataLoadEvent loadEvent = new DataLoadEvent();
+        loadEvent.begin();
+        learnsetIndex.clear();
         InputStream inputStream = getClass().getResourceAsStream(resourcePath);
     
         if (inputStream == null) {
@@ -32,19 +42,21 @@ public class LearnsetLoader {
         }
         
         if (inputStream == null) {
-            System.err.println("Resource not found: " + resourcePath);
+            LOG.error("Resource not found: {}", resourcePath);
             loadDefaultLearnsets();
+            loadEvent.finish("LearnsetLoader", resourcePath, learnsets.size());
             return;
         }
         
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
             parseTypeScriptLearnsetsGen7Only(reader);
-            System.out.println("Loaded learnsets for " + learnsets.size() + " Pokemon (Gen 1-7 only)");
+            LOG.info("Loaded learnsets for {} Pokemon (Gen 1-7 only)", learnsets.size());
             
         } catch (IOException e) {
-            System.err.println("Error loading learnsets: " + e.getMessage());
+            LOG.error("Error loading learnsets", e);
             loadDefaultLearnsets();
         }
+        loadEvent.finish("LearnsetLoader", resourcePath, learnsets.size());
     }
     
     private void parseTypeScriptLearnsetsGen7Only(BufferedReader reader) throws IOException {
@@ -368,17 +380,37 @@ public class LearnsetLoader {
         }
     }
     
+    /**
+     * The species' level-up moves as a Learnset. Names are matched by id, so
+     * "Mr. Mime" and "Rattata (Alola)" find mrmime and rattataalola.
+     */
+    public Learnset getLearnset(String pokemonName) {
+        String id = MoveLoader.toId(pokemonName);
+        MoveLoader moveLoader = MoveLoader.getInstance();
+        if (moveLoader.getMoveCount() == 0) {
+            // Moves aren't loaded yet, so don't remember an index missing all of them
+            return buildLearnset(id, moveLoader);
+        }
+        return learnsetIndex.computeIfAbsent(id, key -> buildLearnset(key, moveLoader));
+    }
+    
+    private Learnset buildLearnset(String id, MoveLoader moveLoader) {
+        Map<String, Integer> moves = learnsets.get(id);
+        PokemonMoveData moveData = pokemonMoveData.get(id);
+        if (moves == null && moveData == null) {
+            return Learnset.EMPTY;
+        }
+        return Learnset.of(moves != null ? moves : Map.of(), moveData, moveLoader);
+    }
+    
     public List<String> getAvailableMoves(String pokemonName, int level) {
-        PokemonMoveData moveData = pokemonMoveData.get(pokemonName.toLowerCase());
+        PokemonMoveData moveData = getPokemonMoveData(pokemonName);
         List<String> available = new ArrayList<>();
         
         if (moveData != null) {
             // Only level-up moves are restricted by level
-            for (Map.Entry<String, Integer> entry : moveData.getLevelUpMoves().entrySet()) {
-                if (entry.getValue() <= level) {
-                    available.add(entry.getKey());
-                }
-            }
+            Learnset learnset = getLearnset(pokemonName);
+            addMoveNames(available, learnset, 0, learnset.endOfLevel(level));
             
             // TM, Tutor, and Egg moves can be learned anytime (if available)
             available.addAll(moveData.getTmMoves());
@@ -394,22 +426,18 @@ public class LearnsetLoader {
     }
     
     public List<String> getAvailableLevelUpMovesOnly(String pokemonName, int level) {
-        PokemonMoveData moveData = pokemonMoveData.get(pokemonName.toLowerCase());
-        List<String> available = new ArrayList<>();
-        
-        if (moveData != null) {
-            for (Map.Entry<String, Integer> entry : moveData.getLevelUpMoves().entrySet()) {
-                if (entry.getValue() <= level) {
-                    available.add(entry.getKey());
-                }
-            }
+        return getAvailableLevelUpMoves(pokemonName, level);
+    }
+    
+    private static void addMoveNames(List<String> names, Learnset learnset, int from, int to) {
+        MoveLoader moveLoader = MoveLoader.getInstance();
+        for (int i = from; i < to; i++) {
+            names.add(moveLoader.getMove(learnset.getMoveId(i)).getName());
         }
-        
-        return available;
     }
     
     public List<String> getAllMovesForPokemon(String pokemonName) {
-        Map<String, Integer> moves = learnsets.get(pokemonName.toLowerCase());
+        Map<String, Integer> moves = learnsets.get(MoveLoader.toId(pokemonName));
         if (moves != null) {
             return new ArrayList<>(moves.keySet());
         }
@@ -417,14 +445,14 @@ public class LearnsetLoader {
     }
     
     public boolean canLearnMove(String pokemonName, String moveName) {
-        Map<String, Integer> moves = learnsets.get(pokemonName.toLowerCase());
-        return moves != null && moves.containsKey(moveName.toLowerCase());
+        Map<String, Integer> moves = learnsets.get(MoveLoader.toId(pokemonName));
+        return moves != null && moves.containsKey(MoveLoader.toId(moveName));
     }
     
     public int getMoveLearnLevel(String pokemonName, String moveName) {
-        Map<String, Integer> moves = learnsets.get(pokemonName.toLowerCase());
+        Map<String, Integer> moves = learnsets.get(MoveLoader.toId(pokemonName));
         if (moves != null) {
-            return moves.getOrDefault(moveName.toLowerCase(), -1);
+            return moves.getOrDefault(MoveLoader.toId(moveName), -1);
         }
         return -1;
     }
@@ -433,46 +461,42 @@ public class LearnsetLoader {
      * Print and return all moves that a specific Pokemon can learn with their levels
      */
     public Map<String, Integer> getMoves(String pokemonName) {
-        String normalizedName = pokemonName.toLowerCase();
-        Map<String, Integer> moves = learnsets.get(normalizedName);
+        Map<String, Integer> moves = learnsets.get(MoveLoader.toId(pokemonName));
         
         if (moves == null || moves.isEmpty()) {
-            System.out.println("No learnset found for Pokemon: " + pokemonName);
+            LOG.debug("No learnset found for Pokemon: {}", pokemonName);
             return new HashMap<>();
         }
         
-        System.out.println("\n=== Learnset for " + pokemonName.toUpperCase() + " ===");
-        System.out.println("Total moves: " + moves.size());
-        System.out.println();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(formatLearnset(pokemonName, moves));
+        }
         
-        // Sort moves by level, then alphabetically
-        List<Map.Entry<String, Integer>> sortedMoves = moves.entrySet().stream()
-            .sorted(Map.Entry.<String, Integer>comparingByValue()
-                    .thenComparing(Map.Entry.comparingByKey()))
-            .collect(Collectors.toList());
+        return new HashMap<>(moves);
+    }
+
+    private String formatLearnset(String pokemonName, Map<String, Integer> moves) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n=== Learnset for ").append(pokemonName.toUpperCase()).append(" ===\n");
+        sb.append("Total moves: ").append(moves.size()).append("\n\n");
         
-        // Group moves by level for better readability
+        // Group moves by level, then alphabetically, for better readability
         Map<Integer, List<String>> movesByLevel = new TreeMap<>();
-        for (Map.Entry<String, Integer> entry : sortedMoves) {
-            int level = entry.getValue();
-            String moveName = entry.getKey();
-            
-            movesByLevel.computeIfAbsent(level, k -> new ArrayList<>()).add(moveName);
+        for (Map.Entry<String, Integer> entry : moves.entrySet()) {
+            movesByLevel.computeIfAbsent(entry.getValue(), k -> new ArrayList<>()).add(entry.getKey());
         }
         
-        // Print moves grouped by level
         for (Map.Entry<Integer, List<String>> levelEntry : movesByLevel.entrySet()) {
-            int level = levelEntry.getKey();
             List<String> levelMoves = levelEntry.getValue();
+            Collections.sort(levelMoves);
             
-            System.out.println("Level " + level + ":");
+            sb.append("Level ").append(levelEntry.getKey()).append(":\n");
             for (String move : levelMoves) {
-                System.out.println("  - " + capitalizeMoveName(move));
+                sb.append("  - ").append(capitalizeMoveName(move)).append('\n');
             }
-            System.out.println();
+            sb.append('\n');
         }
-        
-        return new HashMap<>(moves);
+        return sb.toString();
     }
 
     /**
@@ -507,15 +531,9 @@ public class LearnsetLoader {
      * Get moves available at a specific level (convenience method)
      */
     public List<String> getMovesAtLevel(String pokemonName, int targetLevel) {
-        Map<String, Integer> allMoves = getMoves(pokemonName);
+        Learnset learnset = getLearnset(pokemonName);
         List<String> movesAtLevel = new ArrayList<>();
-        
-        for (Map.Entry<String, Integer> entry : allMoves.entrySet()) {
-            if (entry.getValue() == targetLevel) {
-                movesAtLevel.add(entry.getKey());
-            }
-        }
-        
+        addMoveNames(movesAtLevel, learnset, learnset.startOfLevel(targetLevel), learnset.endOfLevel(targetLevel));
         return movesAtLevel;
     }
 
@@ -534,100 +552,94 @@ public class LearnsetLoader {
         int earlyMoves = (int) moves.values().stream().filter(level -> level <= 10).count();
         int lateMoves = (int) moves.values().stream().filter(level -> level > 30).count();
         
-        System.out.println("=== Learnset Summary for " + pokemonName.toUpperCase() + " ===");
-        System.out.println("Total moves: " + totalMoves);
-        System.out.println("Level 1 moves: " + level1Moves);
-        System.out.println("Early moves (1-10): " + earlyMoves);
-        System.out.println("Late moves (30+): " + lateMoves);
-        System.out.println("Earliest move level: " + moves.values().stream().min(Integer::compareTo).orElse(0));
-        System.out.println("Latest move level: " + moves.values().stream().max(Integer::compareTo).orElse(0));
+        LOG.info("=== Learnset Summary for " + pokemonName.toUpperCase() + " ===" +
+                 "\nTotal moves: " + totalMoves +
+                 "\nLevel 1 moves: " + level1Moves +
+                 "\nEarly moves (1-10): " + earlyMoves +
+                 "\nLate moves (30+): " + lateMoves +
+                 "\nEarliest move level: " + moves.values().stream().min(Integer::compareTo).orElse(0) +
+                 "\nLatest move level: " + moves.values().stream().max(Integer::compareTo).orElse(0));
     }
 
     public PokemonMoveData getPokemonMoveData(String pokemonName) {
-        return pokemonMoveData.get(pokemonName.toLowerCase());
+        return pokemonMoveData.get(MoveLoader.toId(pokemonName));
     }
     
     public List<String> getAvailableLevelUpMoves(String pokemonName, int level) {
-        PokemonMoveData moveData = pokemonMoveData.get(pokemonName.toLowerCase());
+        Learnset learnset = getLearnset(pokemonName);
         List<String> available = new ArrayList<>();
-        
-        if (moveData != null) {
-            for (Map.Entry<String, Integer> entry : moveData.getLevelUpMoves().entrySet()) {
-                if (entry.getValue() <= level) {
-                    available.add(entry.getKey());
-                }
-            }
-        }
-        
+        addMoveNames(available, learnset, 0, learnset.endOfLevel(level));
         return available;
     }
     
     public Set<String> getAllLearnableMoves(String pokemonName) {
-        PokemonMoveData moveData = pokemonMoveData.get(pokemonName.toLowerCase());
+        PokemonMoveData moveData = pokemonMoveData.get(MoveLoader.toId(pokemonName));
         return moveData != null ? moveData.getAllMoves() : new HashSet<>();
     }
     
     public Set<String> getTmMoves(String pokemonName) {
-        PokemonMoveData moveData = pokemonMoveData.get(pokemonName.toLowerCase());
+        PokemonMoveData moveData = pokemonMoveData.get(MoveLoader.toId(pokemonName));
         return moveData != null ? moveData.getTmMoves() : new HashSet<>();
     }
     
     public Set<String> getTutorMoves(String pokemonName) {
-        PokemonMoveData moveData = pokemonMoveData.get(pokemonName.toLowerCase());
+        PokemonMoveData moveData = pokemonMoveData.get(MoveLoader.toId(pokemonName));
         return moveData != null ? moveData.getTutorMoves() : new HashSet<>();
     }
     
     public void printComprehensiveLearnset(String pokemonName) {
-        PokemonMoveData moveData = pokemonMoveData.get(pokemonName.toLowerCase());
+        PokemonMoveData moveData = pokemonMoveData.get(MoveLoader.toId(pokemonName));
         
         if (moveData == null) {
-            System.out.println("No learnset found for Pokemon: " + pokemonName);
+            LOG.info("No learnset found for Pokemon: {}", pokemonName);
             return;
         }
         
-        System.out.println("\n=== Comprehensive Learnset for " + pokemonName.toUpperCase() + " ===");
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n=== Comprehensive Learnset for ").append(pokemonName.toUpperCase()).append(" ===\n");
         
         // Level-up moves (restricted by level)
-        System.out.println("\n** Level-up Moves (learned when leveling up) **");
+        sb.append("\n** Level-up Moves (learned when leveling up) **\n");
         Map<Integer, List<String>> movesByLevel = new TreeMap<>();
         for (Map.Entry<String, Integer> entry : moveData.getLevelUpMoves().entrySet()) {
             movesByLevel.computeIfAbsent(entry.getValue(), k -> new ArrayList<>()).add(entry.getKey());
         }
         
         for (Map.Entry<Integer, List<String>> levelEntry : movesByLevel.entrySet()) {
-            System.out.println("Level " + levelEntry.getKey() + ": " + 
-                             String.join(", ", levelEntry.getValue()));
+            sb.append("Level ").append(levelEntry.getKey()).append(": ")
+              .append(String.join(", ", levelEntry.getValue())).append('\n');
         }
         
         // TM moves (can be learned anytime with TM)
         if (!moveData.getTmMoves().isEmpty()) {
-            System.out.println("\n** TM/HM Moves (can be learned anytime with TM/HM) **");
-            System.out.println(String.join(", ", moveData.getTmMoves()));
+            sb.append("\n** TM/HM Moves (can be learned anytime with TM/HM) **\n");
+            sb.append(String.join(", ", moveData.getTmMoves())).append('\n');
         }
         
         // Tutor moves (can be learned anytime from move tutor)
         if (!moveData.getTutorMoves().isEmpty()) {
-            System.out.println("\n** Tutor Moves (can be learned anytime from move tutor) **");
-            System.out.println(String.join(", ", moveData.getTutorMoves()));
+            sb.append("\n** Tutor Moves (can be learned anytime from move tutor) **\n");
+            sb.append(String.join(", ", moveData.getTutorMoves())).append('\n');
         }
         
         // Egg moves (inherited from breeding)
         if (!moveData.getEggMoves().isEmpty()) {
-            System.out.println("\n** Egg Moves (inherited from breeding) **");
-            System.out.println(String.join(", ", moveData.getEggMoves()));
+            sb.append("\n** Egg Moves (inherited from breeding) **\n");
+            sb.append(String.join(", ", moveData.getEggMoves())).append('\n');
         }
         
         // Event moves
         if (!moveData.getEventMoves().isEmpty()) {
-            System.out.println("\n** Event Moves (from special events) **");
-            System.out.println(String.join(", ", moveData.getEventMoves()));
+            sb.append("\n** Event Moves (from special events) **\n");
+            sb.append(String.join(", ", moveData.getEventMoves())).append('\n');
         }
         
-        System.out.println("\nTotal learnable moves: " + moveData.getAllMoves().size());
-        System.out.println("Level-up only: " + moveData.getLevelUpMoves().size());
-        System.out.println("Available anytime: " + (moveData.getTmMoves().size() + 
-                                                    moveData.getTutorMoves().size() + 
-                                                    moveData.getEggMoves().size()));
+        sb.append("\nTotal learnable moves: ").append(moveData.getAllMoves().size());
+        sb.append("\nLevel-up only: ").append(moveData.getLevelUpMoves().size());
+        sb.append("\nAvailable anytime: ").append(moveData.getTmMoves().size() + 
+                                                 moveData.getTutorMoves().size() + 
+                                                 moveData.getEggMoves().size());
+        LOG.info(sb.toString());
     }
     
 }
\ No newline at end of file
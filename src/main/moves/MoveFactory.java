@@ -4,15 +4,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
+import model.GameRandom;
 import model.Move;
 import pokes.Pokemon;
 import pokes.Pokemon.PokemonType;
 
 public class MoveFactory {
-    private static final Random random = new Random();
-    
     public static List<Move> getMovesForPokemon(Pokemon pokemon) {
         List<Move> moves = new ArrayList<>();
         String speciesName = pokemon.getName().split("\\s+")[0].toLowerCase();
@@ -20,7 +19,7 @@ public class MoveFactory {
         
         // Get learnset moves
         List<String> learnsetMoves = LearnsetLoader.getInstance().getAvailableMoves(speciesName, level);
-        Collections.shuffle(learnsetMoves);
+        shuffle(learnsetMoves);
         
         // Try to get 4 moves from learnset
         for (String moveName : learnsetMoves) {
@@ -50,8 +49,17 @@ public class MoveFactory {
         return moves;
     }
     
+    // Collections.shuffle only takes a java.util.Random
+    private static <T> void shuffle(List<T> list) {
+        RandomGenerator random = GameRandom.MOVES.get();
+        for (int i = list.size() - 1; i > 0; i--) {
+            Collections.swap(list, i, random.nextInt(i + 1));
+        }
+    }
+    
     public static Move createMove(String name) {
-        return MoveLoader.getInstance().getMoveByName(name);
+        Move move = MoveLoader.getInstance().getMoveByName(name);
+        return move == null ? null : move.copy();
     }
     
     public static List<Move> getRandomMoves(int count) {
@@ -67,7 +75,7 @@ public class MoveFactory {
         
         // Select random moves
         for (int i = 0; i < count && !moveNames.isEmpty(); i++) {
-            int randomIndex = random.nextInt(moveNames.size());
+            int randomIndex = GameRandom.MOVES.get().nextInt(moveNames.size());
             String moveName = moveNames.get(randomIndex);
             moves.add(allMoves.get(moveName));
             moveNames.remove(randomIndex); // Ensure no duplicates
@@ -104,7 +112,7 @@ public class MoveFactory {
         } else {
             // Select random moves of the specified type
             for (int i = 0; i < count && !typeMoves.isEmpty(); i++) {
-                int randomIndex = random.nextInt(typeMoves.size());
+                int randomIndex = GameRandom.MOVES.get().nextInt(typeMoves.size());
                 moves.add(typeMoves.get(randomIndex));
                 typeMoves.remove(randomIndex); // Ensure no duplicates
             }
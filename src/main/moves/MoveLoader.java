@@ -5,7 +5,9 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import pokes.Pokemon.PokemonType;
@@ -14,15 +16,46 @@ import model.Move.MoveCategory;
 import model.Move.StatusEffect;
 
 import au.com.bytecode.opencsv.CSVReader;
+import logging.Log;
+import logging.Logger;
+import diagnostics.DataLoadEvent;
 
 public class MoveLoader {
+    private static final Logger LOG = Log.getLogger(MoveLoader.class);
     private static MoveLoader instance;
     private Map<String, Move> movesByName;
+    // Moves numbered in load order, and those numbers by id ("Take Down" -> "takedown")
+    private final List<Move> movesById = new ArrayList<>();
+    private final Map<String, Integer> moveIds = new HashMap<>();
     
     private MoveLoader() {
         movesByName = new HashMap<>();
     }
     
+    /**
+     * The id learnset data uses for a move or species: lower case with
+     * everything but letters and digits dropped, so "Take Down" and
+     * "Mr. Mime" become "takedown" and "mrmime".
+     */
+    public static String toId(String name) {
+        StringBuilder id = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = Character.toLowerCase(name.charAt(i));
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                id.append(c);
+            }
+        }
+        return id.toString();
+    }
+    
+    private void addMove(String name, Move move) {
+        movesByName.put(name.toLowerCase(), move);
+        moveIds.computeIfAbsent(toId(name), id -> {
+            movesById.add(move);
+            return movesById.size() - 1;
+        });
+    }
+    
     public static MoveLoader getInstance() {
         if (instance == null) {
             instance = new MoveLoader();
@@ -31,6 +64,8 @@ public class MoveLoader {
     }
     
     public void loadFromCSV(String filePath) {
+        DataLoadEvent loadEvent = new DataLoadEvent();
+        loadEvent.begin();
         try (CSVReader reader = new CSVReader(new FileReader(filePath))) {
             // Skip header row
             reader.readNext();
@@ -68,20 +103,22 @@ public class MoveLoader {
                     }
                     
                     // Store move by name
-                    movesByName.put(name.toLowerCase(), move);
+                    addMove(name, move);
                     
                 } catch (ArrayIndexOutOfBoundsException e) {
-                    System.err.println("Skipping malformed row in CSV");
+                    LOG.warn("Skipping malformed row in CSV");
                 }
             }
-            System.out.println("Loaded " + movesByName.size() + " moves from CSV file.");
+            LOG.info("Loaded {} moves from CSV file.", movesByName.size());
         } catch (IOException e) {
-            System.err.println("Error loading moves from CSV: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error loading moves from CSV", e);
         }
+        loadEvent.finish("MoveLoader", filePath, movesByName.size());
     }
     
     public void loadFromResource(String resourcePath) {
+        DataLoadEvent loadEvent = new DataLoadEvent();
+        loadEvent.begin();
         try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath);
              BufferedReader br = new BufferedReader(new InputStreamReader(is))) {
             
@@ -126,15 +163,15 @@ public class MoveLoader {
                 }
                 
                 // Store move by name
-                movesByName.put(name.toLowerCase(), move);
+                addMove(name, move);
             }
             
-            System.out.println("Loaded " + movesByName.size() + " moves from resource.");
+            LOG.info("Loaded {} moves from resource.", movesByName.size());
             
         } catch (IOException e) {
-            System.err.println("Error loading moves from resource: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error loading moves from resource", e);
         }
+        loadEvent.finish("MoveLoader", resourcePath, movesByName.size());
     }
     
     private int parseIntOrDefault(String value, int defaultValue) {
@@ -230,7 +267,7 @@ public class MoveLoader {
     }
     
     public Move getMoveByName(String name) {
-        return movesByName.get(name.toLowerCase());
+        return getMove(name);
     }
     
     public Map<String, Move> getAllMoves() {
@@ -239,9 +276,30 @@ public class MoveLoader {
 
     public void clearMoves() {
         movesByName.clear();
+        movesById.clear();
+        moveIds.clear();
     }
 
+    // Takes display names and learnset ids alike
     public Move getMove(String name) {
-        return movesByName.get(name.toLowerCase());
+        Move move = movesByName.get(name.toLowerCase());
+        if (move == null) {
+            int id = getMoveId(name);
+            move = id >= 0 ? movesById.get(id) : null;
+        }
+        return move;
+    }
+    
+    // The move's number for compact lookups, or -1 if there is no such move
+    public int getMoveId(String name) {
+        return moveIds.getOrDefault(toId(name), -1);
+    }
+    
+    public Move getMove(int id) {
+        return movesById.get(id);
+    }
+    
+    public int getMoveCount() {
+        return movesById.size();
     }
 }
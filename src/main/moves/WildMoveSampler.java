@@ -0,0 +1,89 @@
+package moves;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Picks a wild Pokémon's moves as move ids. Every level-up move up to its
+ * level is a candidate, and each TM, tutor or egg move joins with a small
+ * chance that grows with level. Rather than rolling once per TM, the gap
+ * to the next one that joins is drawn directly, so a species with a
+ * hundred TMs costs a handful of draws. Up to four candidates are kept by
+ * reservoir sampling, which gives every set of four the same chance a
+ * shuffle of the whole pool would.
+ */
+public final class WildMoveSampler {
+    public static final int MAX_MOVES = 4;
+
+    private WildMoveSampler() {}
+
+    /**
+     * Fills out with up to MAX_MOVES move ids in random order and
+     * returns how many it wrote.
+     */
+    public static int pick(Learnset learnset, int level, RandomGenerator random, int[] out) {
+        int seen = 0;
+        int levelUpEnd = learnset.endOfLevel(level);
+        for (int i = 0; i < levelUpEnd; i++) {
+            seen = offer(learnset.getMoveId(i), seen, random, out);
+        }
+
+        double tmChance = Math.min(0.15, 0.05 + (level * 0.005)); // 5% base, +0.5% per level, max 15%
+        double tutorChance = Math.min(0.10, 0.02 + (level * 0.003)); // 2% base, +0.3% per level, max 10%
+        seen = offerEach(learnset.tmMoveIds(), tmChance, seen, random, out);
+        seen = offerEach(learnset.tutorMoveIds(), tutorChance, seen, random, out);
+        // Very rare chance for egg moves (1% for high level Pokemon)
+        if (level >= 20) {
+            double eggChance = Math.min(0.01, (level - 20) * 0.0005);
+            seen = offerEach(learnset.eggMoveIds(), eggChance, seen, random, out);
+        }
+
+        int count = Math.min(seen, MAX_MOVES);
+        // The reservoir keeps early candidates in their slots, so mix the order up
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = out[i];
+            out[i] = out[j];
+            out[j] = swap;
+        }
+        return count;
+    }
+
+    // Offers each id with the given chance, jumping straight from one that joins to the next
+    private static int offerEach(int[] ids, double chance, int seen, RandomGenerator random, int[] out) {
+        if (chance <= 0) {
+            return seen;
+        }
+        long i = skip(chance, random);
+        while (i < ids.length) {
+            seen = offer(ids[(int) i], seen, random, out);
+            i += 1 + skip(chance, random);
+        }
+        return seen;
+    }
+
+    // Failures before the next success when each try succeeds with the given chance
+    static long skip(double chance, RandomGenerator random) {
+        if (chance <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        if (chance >= 1) {
+            return 0;
+        }
+        double u = 1.0 - random.nextDouble(); // (0, 1], keeps log finite
+        double gap = Math.floor(Math.log(u) / Math.log1p(-chance));
+        return gap >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (long) gap;
+    }
+
+    // Algorithm R: the n-th candidate replaces a random kept one with chance MAX_MOVES / n
+    private static int offer(int moveId, int seen, RandomGenerator random, int[] out) {
+        if (seen < MAX_MOVES) {
+            out[seen] = moveId;
+        } else {
+            int slot = random.nextInt(seen + 1);
+            if (slot < MAX_MOVES) {
+                out[slot] = moveId;
+            }
+        }
+        return seen + 1;
+    }
+}
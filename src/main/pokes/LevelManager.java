@@ -1,9 +1,20 @@
 package pokes;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import model.Move;
+import moves.Learnset;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+import logging.Log;
+import logging.Logger;
 
 public class LevelManager {
+    private static final Logger LOG = Log.getLogger(LevelManager.class);
     // Constants for experience growth rates
     public enum ExpGrowthRate {
         ERRATIC,       // 600,000 total exp to level 100
@@ -20,9 +31,33 @@ public class LevelManager {
     private int currentLevelExp; // New property for exp within current level
     private ExpGrowthRate growthRate;
     private Pokemon pokemon;
+    // What the last addExperience taught, in order; forgotten is null when a slot was free
+    private final List<LearnedMove> movesLearned = new ArrayList<>();
+    
+    /**
+     * A move picked up on level-up, and the move it pushed out if the
+     * Pokémon already knew four.
+     */
+    public static final class LearnedMove {
+        private final Move learned;
+        private final Move forgotten;
+        
+        LearnedMove(Move learned, Move forgotten) {
+            this.learned = learned;
+            this.forgotten = forgotten;
+        }
+        
+        public Move getLearned() {
+            return learned;
+        }
+        
+        public Move getForgotten() {
+            return forgotten;
+        }
+    }
     
     // Cache for experience requirements to avoid recalculating
-    private static final Map<String, Integer> expCache = new HashMap<>();
+    private static final Map<String, Integer> expCache = new ConcurrentHashMap<>();
     
     public LevelManager(Pokemon pokemon, int startingLevel, ExpGrowthRate growthRate) {
         this.pokemon = pokemon;
@@ -69,7 +104,9 @@ public class LevelManager {
      */
     public boolean addExperience(int exp) {
         boolean leveledUp = false;
+        int startingLevel = level;
         currentExp += exp;
+        movesLearned.clear();
         
         // Check for level up
         while (currentExp >= calculateTotalExpForLevel(level + 1) && level < 100) {
@@ -78,9 +115,11 @@ public class LevelManager {
             
             // Update the Pokémon's stats for the new level
             pokemon.getStats().updateLevel(level);
-            
-            // Check if the Pokémon learns any moves at this level
-            checkForNewMoves();
+        }
+        
+        // Every level passed on the way counts, however many that was
+        if (leveledUp) {
+            learnMovesBetween(startingLevel + 1, level);
         }
         
         // Update exp required for next level
@@ -172,12 +211,38 @@ public class LevelManager {
     }
     
     /**
-     * Check if the Pokémon learns any new moves at the current level
+     * Teaches the level-up moves from fromLevel to toLevel, oldest first.
+     * Moves already known are skipped, a gap in the move list is filled
+     * first, and with four moves known the oldest one is forgotten.
      */
-    private void checkForNewMoves() {
-        // This would connect to a move database to check for level-up moves
-        // For now, we'll just log that we're checking
-        System.out.println("Checking if " + pokemon.getName() + " learns any moves at level " + level);
+    private void learnMovesBetween(int fromLevel, int toLevel) {
+        Learnset learnset = LearnsetLoader.getInstance().getLearnset(pokemon.getName());
+        MoveLoader moveLoader = MoveLoader.getInstance();
+        List<Move> known = pokemon.getMoves();
+        int end = learnset.endOfLevel(toLevel);
+        for (int i = learnset.startOfLevel(fromLevel); i < end; i++) {
+            Move move = moveLoader.getMove(learnset.getMoveId(i));
+            if (known.contains(move)) {
+                continue;
+            }
+            move = move.copy();
+            Move forgotten = null;
+            int gap = known.indexOf(null);
+            if (gap >= 0) {
+                known.set(gap, move);
+            } else if (known.size() < 4) {
+                known.add(move);
+            } else {
+                forgotten = known.remove(0);
+                known.add(move);
+            }
+            movesLearned.add(new LearnedMove(move, forgotten));
+            LOG.debug("{} learned {} at level {}", pokemon.getName(), move.getName(), learnset.getLevel(i));
+        }
+    }
+    
+    public List<LearnedMove> getMovesLearned() {
+        return Collections.unmodifiableList(movesLearned);
     }
     
     /**
@@ -1,11 +1,10 @@
 package pokes;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
+import model.GameRandom;
 import model.Item;
 import model.Move;
 import model.Move.StatusEffect;
@@ -13,8 +12,13 @@ import model.Stats;
 import pokes.LevelManager.ExpGrowthRate;
 import moves.LearnsetLoader;
 import moves.MoveLoader;
+import moves.WildMoveSampler;
 
 public abstract class Pokemon {
+    // Wild movesets are picked into this as ids, one buffer per thread
+    private static final ThreadLocal<int[]> PICKED_MOVES =
+            ThreadLocal.withInitial(() -> new int[WildMoveSampler.MAX_MOVES]);
+
     protected String name;
     protected int id;
     protected int dex;
@@ -57,9 +61,10 @@ public abstract class Pokemon {
     protected Pokemon(int dexNumber, String name, int level) {
         this.name = name;
         this.dex = dexNumber;
-        this.id = (int)(Math.random() * 100000);
-        this.isShiny = Math.random() < 0.0122; // Shiny chance
-        this.nature = PokemonNature.values()[(int)(Math.random() * PokemonNature.values().length)].name();
+        RandomGenerator random = GameRandom.POKEMON.get();
+        this.id = random.nextInt(100000);
+        this.isShiny = random.nextDouble() < 0.0122; // Shiny chance
+        this.nature = PokemonNature.values()[random.nextInt(PokemonNature.values().length)].name();
         
         // Get base stats from the loader using both dex and name
         int[] baseStats = PokemonStatsLoader.getInstance().getBaseStats(dexNumber, name);
@@ -186,9 +191,13 @@ public abstract class Pokemon {
         return levelManager;
     }
 
+    public StatusEffect getStatus() {
+        return status != null ? status : StatusEffect.NONE;
+    }
+
     public void addMove(Move move) {
         if (moves.size() < 4) {
-            moves.add(move);
+            moves.add(move.copy());
         }
     }
 
@@ -293,35 +302,20 @@ public abstract class Pokemon {
 
     public void generateWildMoves() {
         LearnsetLoader loader = LearnsetLoader.getInstance();
-        moves.PokemonMoveData moveData = loader.getPokemonMoveData(this.name.toLowerCase());
-        
-        if (moveData == null) {
+        if (loader.getPokemonMoveData(this.name) == null) {
             // Fallback to basic moves if no learnset data
             generateFallbackMoves();
             return;
         }
         
-        // Get all available moves for this Pokemon's level
-        List<String> availableMoves = getAvailableMovesForLevel(moveData, stats.getLevel());
+        int[] picked = PICKED_MOVES.get();
+        int count = WildMoveSampler.pick(loader.getLearnset(this.name), stats.getLevel(),
+                GameRandom.POKEMON.get(), picked);
         
-        // Clear existing moves
         this.moves.clear();
-        
-        // Generate random moveset (up to 4 moves)
-        int moveCount = Math.min(4, availableMoves.size());
-        if (moveCount == 0) {
-            generateFallbackMoves();
-            return;
-        }
-        
-        // Randomly select moves from available pool
-        Collections.shuffle(availableMoves);
-        for (int i = 0; i < moveCount; i++) {
-            String moveName = availableMoves.get(i);
-            Move move = MoveLoader.getInstance().getMove(moveName);
-            if (move != null) {
-                this.moves.add(move);
-            }
+        MoveLoader moveLoader = MoveLoader.getInstance();
+        for (int i = 0; i < count; i++) {
+            this.moves.add(moveLoader.getMove(picked[i]).copy());
         }
         
         // Ensure at least one move exists
@@ -330,47 +324,6 @@ public abstract class Pokemon {
         }
     }
     
-    private List<String> getAvailableMovesForLevel(moves.PokemonMoveData moveData, int level) {
-        List<String> available = new ArrayList<>();
-        Random random = new Random();
-        
-        // Add level-up moves that can be learned at or before this level
-        for (Map.Entry<String, Integer> entry : moveData.getLevelUpMoves().entrySet()) {
-            if (entry.getValue() <= level) {
-                available.add(entry.getKey());
-            }
-        }
-        
-        // For wild Pokemon, also include some TM/Tutor moves randomly
-        // Higher level Pokemon have better chance of knowing these moves
-        double tmChance = Math.min(0.15, 0.05 + (level * 0.005)); // 5% base, +0.5% per level, max 15%
-        double tutorChance = Math.min(0.10, 0.02 + (level * 0.003)); // 2% base, +0.3% per level, max 10%
-        
-        for (String tmMove : moveData.getTmMoves()) {
-            if (random.nextDouble() < tmChance) {
-                available.add(tmMove);
-            }
-        }
-        
-        for (String tutorMove : moveData.getTutorMoves()) {
-            if (random.nextDouble() < tutorChance) {
-                available.add(tutorMove);
-            }
-        }
-        
-        // Very rare chance for egg moves (1% for high level Pokemon)
-        if (level >= 20) {
-            double eggChance = Math.min(0.01, (level - 20) * 0.0005);
-            for (String eggMove : moveData.getEggMoves()) {
-                if (random.nextDouble() < eggChance) {
-                    available.add(eggMove);
-                }
-            }
-        }
-        
-        return available;
-    }
-    
     private void generateFallbackMoves() {
         this.moves.clear();
         
@@ -379,14 +332,14 @@ public abstract class Pokemon {
             PokemonType primaryType = this.types.get(0);
             Move defaultMove = getDefaultMoveForType(primaryType);
             if (defaultMove != null) {
-                this.moves.add(defaultMove);
+                this.moves.add(defaultMove.copy());
             }
         }
         
         // Always ensure Tackle as a backup
         Move tackle = MoveLoader.getInstance().getMove("tackle");
         if (tackle != null && !this.moves.contains(tackle)) {
-            this.moves.add(tackle);
+            this.moves.add(tackle.copy());
         }
     }
 
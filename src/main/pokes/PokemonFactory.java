@@ -3,8 +3,11 @@ package pokes;
 import java.util.HashMap;
 import java.util.Map;
 import pokes.Pokemon.PokemonType;
+import logging.Log;
+import logging.Logger;
 
 public class PokemonFactory {
+    private static final Logger LOG = Log.getLogger(PokemonFactory.class);
     private static Map<String, PokemonType> typeMap = new HashMap<>();
     
     static {
@@ -75,7 +78,7 @@ public class PokemonFactory {
             case "FAIRY":
                 return PokemonType.FAIRY;
             default:
-                System.out.println("Unknown type: " + typeString + " - defaulting to NORMAL");
+                LOG.warn("Unknown type: {} - defaulting to NORMAL", typeString);
                 return PokemonType.NORMAL;
         }
     }
@@ -10,8 +10,12 @@ import java.util.List;
 import java.util.Map;
 
 import au.com.bytecode.opencsv.CSVReader;
+import logging.Log;
+import logging.Logger;
+import diagnostics.DataLoadEvent;
 
 public class PokemonStatsLoader {
+    private static final Logger LOG = Log.getLogger(PokemonStatsLoader.class);
     private static PokemonStatsLoader instance;
     private Map<String, int[]> pokemonBaseStats = new HashMap<>();
     private Map<Integer, String> pokemonNames = new HashMap<>();
@@ -32,6 +36,8 @@ public class PokemonStatsLoader {
     }
 
     public void loadFromCSV(String filePath) {
+        DataLoadEvent loadEvent = new DataLoadEvent();
+        loadEvent.begin();
         try {
             // First try to load as a classpath resource
             InputStream inputStream = getClass().getResourceAsStream(filePath);
@@ -43,8 +49,9 @@ public class PokemonStatsLoader {
                 loadFromFile(filePath);
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            LOG.error("Error loading Pokemon data", e);
         }
+        loadEvent.finish("PokemonStatsLoader", filePath, pokemonBaseStats.size());
     }
 
     private void loadFromInputStream(InputStream inputStream) throws IOException {
@@ -138,11 +145,11 @@ public class PokemonStatsLoader {
                 }
                 
             } catch (ArrayIndexOutOfBoundsException e) {
-                System.err.println("Skipping malformed row in CSV: " + e.getMessage());
+                LOG.warn("Skipping malformed row in CSV: {}", e.getMessage());
             }
         }
         
-        System.out.println("Loaded " + pokemonBaseStats.size() + " Pokemon from CSV");
+        LOG.info("Loaded {} Pokemon from CSV", pokemonBaseStats.size());
     }
 
     // Clean Pokemon name by removing quotes and handling special characters
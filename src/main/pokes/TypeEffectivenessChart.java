@@ -4,17 +4,29 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import pokes.Pokemon.PokemonType;
+import logging.Log;
+import logging.Logger;
+import diagnostics.DataLoadEvent;
 
 public class TypeEffectivenessChart {
+    private static final Logger LOG = Log.getLogger(TypeEffectivenessChart.class);
     private static TypeEffectivenessChart instance;
-    private Map<PokemonType, Map<PokemonType, Double>> effectivenessChart;
+    // Indexed by attacking then defending type ordinal, so lookups don't box
+    private final double[][] effectivenessChart;
+    private int rowsLoaded;
     
     private TypeEffectivenessChart() {
-        effectivenessChart = new HashMap<>();
+        int typeCount = PokemonType.values().length;
+        effectivenessChart = new double[typeCount][typeCount];
+        for (double[] row : effectivenessChart) {
+            Arrays.fill(row, 1.0); // Default to normal effectiveness
+        }
+        DataLoadEvent loadEvent = new DataLoadEvent();
+        loadEvent.begin();
         loadTypeChart();
+        loadEvent.finish("TypeEffectivenessChart", "resources/type_effectiveness.csv", rowsLoaded);
     }
     
     public static TypeEffectivenessChart getInstance() {
@@ -30,7 +42,7 @@ public class TypeEffectivenessChart {
             InputStream is = getClass().getClassLoader().getResourceAsStream("resources/type_effectiveness.csv");
             
             if (is == null) {
-                System.err.println("Could not find type_effectiveness.csv");
+                LOG.error("Could not find type_effectiveness.csv");
                 return;
             }
             
@@ -40,7 +52,7 @@ public class TypeEffectivenessChart {
             // Read header line to get column types
             line = reader.readLine();
             if (line == null) {
-                System.err.println("Type chart file is empty");
+                LOG.error("Type chart file is empty");
                 return;
             }
             
@@ -60,42 +72,35 @@ public class TypeEffectivenessChart {
                 // First column is the attacking type
                 PokemonType attackingType = PokemonType.valueOf(values[0].toUpperCase());
                 
-                // Create a map for this attacking type
-                Map<PokemonType, Double> typeEffectiveness = new HashMap<>();
-                
                 // Read effectiveness values for each defending type
+                double[] typeEffectiveness = effectivenessChart[attackingType.ordinal()];
                 for (int i = 1; i < values.length; i++) {
                     if (i - 1 < columnTypes.length) {
                         PokemonType defendingType = columnTypes[i - 1];
-                        double effectiveness = Double.parseDouble(values[i]);
-                        typeEffectiveness.put(defendingType, effectiveness);
+                        typeEffectiveness[defendingType.ordinal()] = Double.parseDouble(values[i]);
                     }
                 }
-                
-                effectivenessChart.put(attackingType, typeEffectiveness);
+                rowsLoaded++;
             }
             
             reader.close();
             
         } catch (IOException e) {
-            System.err.println("Error loading type chart: " + e.getMessage());
+            LOG.error("Error loading type chart: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            System.err.println("Error parsing type name: " + e.getMessage());
+            LOG.error("Error parsing type name: {}", e.getMessage());
         }
     }
     
     public double getEffectiveness(PokemonType attackingType, PokemonType defendingType) {
-        if (effectivenessChart.containsKey(attackingType) && 
-            effectivenessChart.get(attackingType).containsKey(defendingType)) {
-            return effectivenessChart.get(attackingType).get(defendingType);
-        }
-        return 1.0; // Default to normal effectiveness
+        return effectivenessChart[attackingType.ordinal()][defendingType.ordinal()];
     }
     
     public double getEffectiveness(PokemonType attackingType, java.util.List<PokemonType> defendingTypes) {
+        double[] row = effectivenessChart[attackingType.ordinal()];
         double effectiveness = 1.0;
-        for (PokemonType defendingType : defendingTypes) {
-            effectiveness *= getEffectiveness(attackingType, defendingType);
+        for (int i = 0; i < defendingTypes.size(); i++) {
+            effectiveness *= row[defendingTypes.get(i).ordinal()];
         }
         return effectiveness;
     }
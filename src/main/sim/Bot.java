@@ -0,0 +1,43 @@
+package sim;
+
+import java.util.random.RandomGenerator;
+
+import model.Overworld;
+
+/**
+ * Stands in for the player's hands in a simulated world: every tick it
+ * says which keys are held, as Overworld input bits, after seeing how the
+ * last tick's input went.
+ */
+public interface Bot {
+
+    int nextInput(Overworld world, Overworld.Step last, RandomGenerator random);
+
+    // A fresh bot by the name SimulationRunner takes on its command line
+    static Bot named(String name) {
+        switch (name) {
+            case "walk":
+                return new RandomWalkBot();
+            case "path":
+                return PathBot.loop(new int[][] {{15, 10}, {30, 10}, {30, 20}, {15, 20}});
+            case "grass":
+                return new GrassGrinderBot();
+            default:
+                throw new IllegalArgumentException("Unknown bot: " + name);
+        }
+    }
+
+    // The input that walks the player's feet toward the middle of a tile, or 0 once there
+    static int toward(Overworld world, int tileX, int tileY) {
+        int dx = tileX * Overworld.TILE_SIZE + Overworld.TILE_SIZE / 2 - world.getFeetX();
+        int dy = tileY * Overworld.TILE_SIZE + Overworld.TILE_SIZE / 2 - world.getFeetY();
+        // Within a step of the middle counts as there
+        if (Math.abs(dx) < 4 && Math.abs(dy) < 4) {
+            return 0;
+        }
+        if (Math.abs(dx) >= Math.abs(dy)) {
+            return dx > 0 ? Overworld.RIGHT : Overworld.LEFT;
+        }
+        return dy > 0 ? Overworld.DOWN : Overworld.UP;
+    }
+}
@@ -0,0 +1,125 @@
+package sim;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+import model.Overworld;
+import tiles.TileMap;
+
+/**
+ * Finds the nearest tile with wild encounters, walks there, then paces
+ * from encounter tile to encounter tile for as long as it runs, the way
+ * a player levelling up a team would. The route is planned over tiles
+ * alone; buildings and trees it bumps into send it wandering a little
+ * before it plans again.
+ */
+public class GrassGrinderBot implements Bot {
+    private static final int[] DX = {0, 0, -1, 1};
+    private static final int[] DY = {-1, 1, 0, 0};
+    private static final int WANDER_TICKS = 12;
+
+    // Tiles left to walk, as x, y pairs, from index step on
+    private int[] route = new int[0];
+    private int step;
+    private int targetX = -1;
+    private int targetY = -1;
+    private final RandomWalkBot wander = new RandomWalkBot();
+    private int wanderTicks;
+
+    @Override
+    public int nextInput(Overworld world, Overworld.Step last, RandomGenerator random) {
+        if (last == Overworld.Step.BLOCKED) {
+            route = new int[0];
+            targetX = -1;
+            wanderTicks = WANDER_TICKS;
+        }
+        if (wanderTicks > 0) {
+            wanderTicks--;
+            return wander.nextInput(world, last, random);
+        }
+        if (targetX >= 0) {
+            int input = Bot.toward(world, targetX, targetY);
+            if (input != 0) {
+                return input;
+            }
+        }
+        TileMap map = world.getMap();
+        int x = world.getFeetX() / Overworld.TILE_SIZE;
+        int y = world.getFeetY() / Overworld.TILE_SIZE;
+        if (step < route.length) {
+            targetX = route[step++];
+            targetY = route[step++];
+        } else if (map.getEncounterArea(x, y) != null) {
+            // Already in the grass: on to a random neighbour that's grass too
+            int first = random.nextInt(DX.length);
+            targetX = -1;
+            for (int i = 0; i < DX.length; i++) {
+                int d = (first + i) % DX.length;
+                if (map.getEncounterArea(x + DX[d], y + DY[d]) != null) {
+                    targetX = x + DX[d];
+                    targetY = y + DY[d];
+                    break;
+                }
+            }
+        } else {
+            route = routeToGrass(map, x, y);
+            step = 0;
+            targetX = -1;
+            if (route.length == 0) {
+                // Nowhere to grind on this map
+                wanderTicks = WANDER_TICKS;
+            }
+        }
+        return targetX >= 0 ? Bot.toward(world, targetX, targetY) : 0;
+    }
+
+    // Breadth-first over open tiles to the closest encounter tile; empty if none can be reached
+    private static int[] routeToGrass(TileMap map, int startX, int startY) {
+        int columns = map.getColumns();
+        int rows = map.getRows();
+        if (startX < 0 || startX >= columns || startY < 0 || startY >= rows) {
+            return new int[0];
+        }
+        int[] cameFrom = new int[columns * rows];
+        Arrays.fill(cameFrom, -1);
+        int start = startY * columns + startX;
+        cameFrom[start] = start;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int tile = queue.poll();
+            int x = tile % columns;
+            int y = tile / columns;
+            if (map.getEncounterArea(x, y) != null) {
+                return unwind(cameFrom, tile, start, columns);
+            }
+            for (int d = 0; d < DX.length; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+                if (nx < 0 || nx >= columns || ny < 0 || ny >= rows || map.isTileCollision(nx, ny)) {
+                    continue;
+                }
+                int next = ny * columns + nx;
+                if (cameFrom[next] < 0) {
+                    cameFrom[next] = tile;
+                    queue.add(next);
+                }
+            }
+        }
+        return new int[0];
+    }
+
+    private static int[] unwind(int[] cameFrom, int end, int start, int columns) {
+        int length = 0;
+        for (int tile = end; tile != start; tile = cameFrom[tile]) {
+            length++;
+        }
+        int[] route = new int[length * 2];
+        for (int tile = end, i = length - 1; tile != start; tile = cameFrom[tile], i--) {
+            route[i * 2] = tile % columns;
+            route[i * 2 + 1] = tile / columns;
+        }
+        return route;
+    }
+}
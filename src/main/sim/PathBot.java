@@ -0,0 +1,56 @@
+package sim;
+
+import java.util.random.RandomGenerator;
+
+import model.Overworld;
+
+/**
+ * Walks a fixed round of waypoints, given as tile coordinates, over and
+ * over. It heads straight for each one along the longer axis first, and
+ * when something is in the way tries the other axis for a few ticks.
+ */
+public class PathBot implements Bot {
+    private static final int DETOUR_TICKS = 8;
+
+    private final int[][] waypoints;
+    private int next;
+    private int detour;
+    private int detourTicks;
+
+    private PathBot(int[][] waypoints) {
+        this.waypoints = waypoints;
+    }
+
+    public static PathBot loop(int[][] waypoints) {
+        if (waypoints.length == 0) {
+            throw new IllegalArgumentException("No waypoints");
+        }
+        return new PathBot(waypoints);
+    }
+
+    @Override
+    public int nextInput(Overworld world, Overworld.Step last, RandomGenerator random) {
+        int[] target = waypoints[next];
+        int input = Bot.toward(world, target[0], target[1]);
+        if (input == 0) {
+            next = (next + 1) % waypoints.length;
+            detourTicks = 0;
+            return Bot.toward(world, waypoints[next][0], waypoints[next][1]);
+        }
+        if (last == Overworld.Step.BLOCKED && detourTicks == 0) {
+            // Sidestep across the blocked axis, either way
+            boolean vertical = (input & (Overworld.UP | Overworld.DOWN)) != 0;
+            if (vertical) {
+                detour = random.nextBoolean() ? Overworld.LEFT : Overworld.RIGHT;
+            } else {
+                detour = random.nextBoolean() ? Overworld.UP : Overworld.DOWN;
+            }
+            detourTicks = DETOUR_TICKS;
+        }
+        if (detourTicks > 0) {
+            detourTicks--;
+            return detour;
+        }
+        return input;
+    }
+}
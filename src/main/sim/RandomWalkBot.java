@@ -0,0 +1,32 @@
+package sim;
+
+import java.util.random.RandomGenerator;
+
+import model.Overworld;
+
+/**
+ * Holds one direction for a random stretch of ticks, sometimes running,
+ * sometimes standing still, and picks again early whenever it walks into
+ * something.
+ */
+public class RandomWalkBot implements Bot {
+    private static final int[] DIRECTIONS = {Overworld.UP, Overworld.DOWN, Overworld.LEFT, Overworld.RIGHT};
+    private static final int MIN_TICKS = 4;
+    private static final int MAX_TICKS = 40;
+
+    private int input;
+    private int ticksLeft;
+
+    @Override
+    public int nextInput(Overworld world, Overworld.Step last, RandomGenerator random) {
+        if (ticksLeft-- <= 0 || last == Overworld.Step.BLOCKED) {
+            // One stretch in ten is spent standing around
+            input = random.nextInt(10) == 0 ? 0 : DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+            if (input != 0 && random.nextInt(4) == 0) {
+                input |= Overworld.RUN;
+            }
+            ticksLeft = random.nextInt(MIN_TICKS, MAX_TICKS + 1);
+        }
+        return input;
+    }
+}
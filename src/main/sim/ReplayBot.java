@@ -0,0 +1,88 @@
+package sim;
+
+import java.awt.event.KeyEvent;
+import java.util.random.RandomGenerator;
+
+import model.Overworld;
+import model.Player;
+import ui.InputRecording;
+
+/**
+ * Plays back the keys of a recorded session, one tick per call. Every
+ * key recorded before a tick is applied just before that tick moves the
+ * player, with the same keys and player updates as Board.keyPressed and
+ * Board.keyReleased, down to only the arrow keys being let go. Zoom and
+ * auto battle entries change nothing in a headless world and are skipped.
+ */
+class ReplayBot implements Bot {
+    private final InputRecording recording;
+    private int tick;
+    private int next;
+    private boolean up;
+    private boolean down;
+    private boolean left;
+    private boolean right;
+    private boolean run;
+
+    ReplayBot(InputRecording recording) {
+        this.recording = recording;
+    }
+
+    @Override
+    public int nextInput(Overworld world, Overworld.Step last, RandomGenerator random) {
+        Player player = world.getPlayer();
+        while (next < recording.size() && recording.getTick(next) <= tick) {
+            byte kind = recording.getKind(next);
+            if (kind == InputRecording.PRESS) {
+                press(player, recording.getValue(next));
+            } else if (kind == InputRecording.RELEASE) {
+                release(player, recording.getValue(next));
+            }
+            next++;
+        }
+        tick++;
+
+        int input = 0;
+        if (up) input |= Overworld.UP;
+        if (down) input |= Overworld.DOWN;
+        if (left) input |= Overworld.LEFT;
+        if (right) input |= Overworld.RIGHT;
+        if (run) input |= Overworld.RUN;
+        return input;
+    }
+
+    private void press(Player player, int key) {
+        if (key == KeyEvent.VK_SHIFT) {
+            run = true;
+            player.setSprintKeyPressed(true);
+        }
+        if (key == KeyEvent.VK_UP || key == KeyEvent.VK_W) {
+            up = true;
+            player.setDirection(Player.Direction.FRONT);
+        } else if (key == KeyEvent.VK_RIGHT || key == KeyEvent.VK_D) {
+            right = true;
+            player.setDirection(Player.Direction.RIGHT);
+        } else if (key == KeyEvent.VK_DOWN || key == KeyEvent.VK_S) {
+            down = true;
+            player.setDirection(Player.Direction.BACK);
+        } else if (key == KeyEvent.VK_LEFT || key == KeyEvent.VK_A) {
+            left = true;
+            player.setDirection(Player.Direction.LEFT);
+        }
+        player.setMoving(true);
+    }
+
+    private void release(Player player, int key) {
+        if (key == KeyEvent.VK_SHIFT) {
+            run = false;
+            player.setSprintKeyPressed(false);
+        }
+        if (key == KeyEvent.VK_UP) up = false;
+        if (key == KeyEvent.VK_DOWN) down = false;
+        if (key == KeyEvent.VK_LEFT) left = false;
+        if (key == KeyEvent.VK_RIGHT) right = false;
+        if (!up && !down && !left && !right) {
+            player.setMoving(false);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package sim;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import diagnostics.Histogram;
+import model.EncounterTable;
+import model.GameRandom;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+import pokes.PokemonStatsLoader;
+import ui.ImageLoader;
+import ui.InputRecording;
+
+/**
+ * Plays a session recorded with -Dpoke.record back on a headless world as
+ * fast as it can tick, then prints tick time percentiles and the final
+ * WorldHash. Run it on the same recording before and after a change: the
+ * hash says whether the overworld still does the same thing, the tick
+ * times whether it got faster.
+ *
+ * The replay starts in the recorded world from the recorded seed and
+ * feeds the recorded keys to the same Overworld the board uses. Wild
+ * encounters are fought as auto battles, as WorldSimulation always does,
+ * and there are no NPCs, so it follows the windowed game only as far as
+ * walking and wild encounters go.
+ *
+ * Run with: java -Djava.awt.headless=true sim.ReplayRunner recording.pkir [--expect hash]
+ */
+public class ReplayRunner {
+    private final InputRecording recording;
+    private final WorldSimulation simulation;
+    private final Histogram tickMicros = new Histogram();
+
+    ReplayRunner(InputRecording recording, int spriteWidth, int spriteHeight) {
+        this.recording = recording;
+        this.simulation = new WorldSimulation(WorldLayout.named(recording.getWorld()), new ReplayBot(recording),
+                recording.getSeed(), spriteWidth, spriteHeight);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayRunner recording.pkir [--expect hash]");
+            System.exit(1);
+        }
+        Path file = Path.of(args[0]);
+        String expected = null;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--expect") && i + 1 < args.length) {
+                expected = args[++i];
+            } else {
+                System.err.println("Unknown option " + args[i]);
+                System.exit(1);
+            }
+        }
+
+        InputRecording recording = InputRecording.read(file);
+        GameRandom.setSeed(recording.getSeed());
+        PokemonStatsLoader.getInstance().loadFromCSV("/resources/pokemon_information.csv");
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+        EncounterTable.initializeEncounterTables();
+        // Collision uses the player's sprite size, which the board takes from this image
+        BufferedImage sprite = ImageLoader.readResource("/resources/player_sprites/s_facing_front.png");
+
+        ReplayRunner runner = new ReplayRunner(recording, sprite.getWidth(), sprite.getHeight());
+        System.out.printf("Replaying %d ticks and %d inputs in %s from %s%n", recording.getTotalTicks(),
+                recording.size(), recording.getWorld(), file);
+        long start = System.nanoTime();
+        String hash = String.format("%016x", runner.run());
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        WorldSimulation simulation = runner.getSimulation();
+        Histogram micros = runner.getTickMicros();
+        System.out.printf("ticks %d in %.2f s (%.0f ticks/s), %d encounters%n", simulation.getTicks(), seconds,
+                simulation.getTicks() / Math.max(seconds, 1e-9), simulation.getEncounters());
+        System.out.printf("tick micros p50 %d p90 %d p99 %d max %d mean %.1f%n", micros.get50thPercentile(),
+                micros.get90thPercentile(), micros.get99thPercentile(), micros.getMax(), micros.getMean());
+        System.out.println("world hash " + hash);
+        if (expected != null && !expected.equalsIgnoreCase(hash)) {
+            System.out.println("expected   " + expected);
+            System.exit(1);
+        }
+    }
+
+    // Plays every recorded tick and returns the hash of the world it ends on
+    long run() {
+        simulation.run(recording.getTotalTicks(), tickMicros);
+        return simulation.hash();
+    }
+
+    Histogram getTickMicros() {
+        return tickMicros;
+    }
+
+    WorldSimulation getSimulation() {
+        return simulation;
+    }
+}
@@ -0,0 +1,172 @@
+package sim;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.ToLongFunction;
+
+import model.EncounterTable;
+import model.GameRandom;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+import pokes.PokemonStatsLoader;
+import ui.ImageLoader;
+
+/**
+ * Runs many headless worlds side by side, each with its own player, team
+ * and bot, and reports how fast they tick, how often stepping leads to a
+ * wild encounter, how battles go and whether the heap keeps growing. Used
+ * to check that an overworld or encounter change doesn't slow ticks down
+ * or shift encounter rates, and as a load to profile under.
+ *
+ * Run with: java -Djava.awt.headless=true sim.SimulationRunner
+ *           [--worlds N] [--seconds S | --ticks T] [--bot walk|path|grass]
+ *           [--world outside|house_interior] [--threads N] [--seed S]
+ *
+ * Worlds are built on the main thread and then advanced BATCH_TICKS at a
+ * time on a fixed pool. Each world has its own random context and its own
+ * Pokémon and moves, so with --ticks, which runs every world for exactly
+ * that many ticks, the same seed gives the same counts on any number of
+ * threads.
+ */
+public class SimulationRunner {
+    private static final int BATCH_TICKS = 200;
+    private static final long REPORT_NANOS = 5_000_000_000L;
+
+    public static void main(String[] args) throws IOException, InterruptedException, ExecutionException {
+        int worldCount = 100;
+        double seconds = 30;
+        long ticksPerWorld = 0;
+        String botName = "grass";
+        String worldName = "outside";
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--worlds":
+                    worldCount = Integer.parseInt(args[++i]);
+                    break;
+                case "--seconds":
+                    seconds = Double.parseDouble(args[++i]);
+                    break;
+                case "--ticks":
+                    ticksPerWorld = Long.parseLong(args[++i]);
+                    break;
+                case "--bot":
+                    botName = args[++i];
+                    break;
+                case "--world":
+                    worldName = args[++i];
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    System.err.println("Usage: SimulationRunner [--worlds N] [--seconds S | --ticks T] "
+                            + "[--bot walk|path|grass] [--world outside|house_interior] [--threads N] [--seed S]");
+                    System.exit(1);
+            }
+        }
+
+        GameRandom.setSeed(seed);
+        PokemonStatsLoader.getInstance().loadFromCSV("/resources/pokemon_information.csv");
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+        EncounterTable.initializeEncounterTables();
+
+        // Collision uses the player's sprite size, which the board takes from this image
+        BufferedImage sprite = ImageLoader.readResource("/resources/player_sprites/s_facing_front.png");
+        WorldLayout layout = WorldLayout.named(worldName);
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long heapBefore = usedHeapAfterGc(memory);
+
+        List<WorldSimulation> worlds = new ArrayList<>();
+        for (int i = 0; i < worldCount; i++) {
+            worlds.add(new WorldSimulation(layout, Bot.named(botName), seed * 1_000_003L + i,
+                    sprite.getWidth(), sprite.getHeight()));
+        }
+        long heapBuilt = usedHeapAfterGc(memory);
+        System.out.printf("%d worlds of %s with the %s bot on %d threads, %+d KB to build%n", worldCount, worldName,
+                botName, threads, (heapBuilt - heapBefore) / 1024);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        long end = ticksPerWorld > 0 ? Long.MAX_VALUE : start + (long) (seconds * 1e9);
+        long ticksRun = 0;
+        long nextReport = start + REPORT_NANOS;
+        long reportedTicks = 0;
+        long reportedAt = start;
+        try {
+            while (System.nanoTime() < end && (ticksPerWorld == 0 || ticksRun < ticksPerWorld)) {
+                int count = ticksPerWorld > 0 ? (int) Math.min(BATCH_TICKS, ticksPerWorld - ticksRun) : BATCH_TICKS;
+                List<Callable<Void>> batches = new ArrayList<>();
+                for (WorldSimulation world : worlds) {
+                    batches.add(() -> {
+                        world.run(count);
+                        return null;
+                    });
+                }
+                for (Future<Void> batch : pool.invokeAll(batches)) {
+                    batch.get();
+                }
+                ticksRun += count;
+                long now = System.nanoTime();
+                if (now >= nextReport) {
+                    long ticks = total(worlds, WorldSimulation::getTicks);
+                    System.out.printf("%6.1fs  %,.0f ticks/s  heap %d MB%n", (now - start) / 1e9,
+                            (ticks - reportedTicks) / ((now - reportedAt) / 1e9),
+                            memory.getHeapMemoryUsage().getUsed() >> 20);
+                    reportedTicks = ticks;
+                    reportedAt = now;
+                    nextReport = now + REPORT_NANOS;
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        long heapAfter = usedHeapAfterGc(memory);
+
+        long ticks = total(worlds, WorldSimulation::getTicks);
+        long steps = total(worlds, WorldSimulation::getSteps);
+        long encounterSteps = total(worlds, WorldSimulation::getEncounterSteps);
+        long encounters = total(worlds, WorldSimulation::getEncounters);
+        System.out.printf("ticks            %,d (%,.0f/s, %,.0f/s per world)%n", ticks, ticks / elapsed,
+                ticks / elapsed / worldCount);
+        System.out.printf("steps            %,d (%.1f%% blocked ticks)%n", steps,
+                100.0 * total(worlds, WorldSimulation::getBlocked) / Math.max(1, ticks));
+        System.out.printf("encounter steps  %,d%n", encounterSteps);
+        System.out.printf("encounters       %,d (%.1f per 1000 steps, %.1f per 1000 encounter steps)%n", encounters,
+                1000.0 * encounters / Math.max(1, steps), 1000.0 * encounters / Math.max(1, encounterSteps));
+        System.out.printf("battles won      %,d (%.1f%%), team fainted %,d times%n",
+                total(worlds, WorldSimulation::getBattlesWon),
+                100.0 * total(worlds, WorldSimulation::getBattlesWon) / Math.max(1, encounters),
+                total(worlds, WorldSimulation::getTeamFaints));
+        System.out.printf("heap growth      %+d KB while running (%d MB after GC)%n",
+                (heapAfter - heapBuilt) / 1024, heapAfter >> 20);
+    }
+
+    private static long total(List<WorldSimulation> worlds, ToLongFunction<WorldSimulation> stat) {
+        long sum = 0;
+        for (WorldSimulation world : worlds) {
+            sum += stat.applyAsLong(world);
+        }
+        return sum;
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        memory.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,70 @@
+package sim;
+
+import java.nio.charset.StandardCharsets;
+
+import model.Item;
+import model.Move;
+import model.Player;
+import pokes.Pokemon;
+
+/**
+ * A 64-bit fingerprint of the state a replay leaves behind: the world,
+ * where the player is and faces, their money, bag and team down to HP,
+ * exp and PP. Two replays of the same recording should end on the same
+ * hash; if a change makes them differ, it changed what the game does.
+ * Only the order of the bag is ignored, since the game keeps it in a set.
+ */
+final class WorldHash {
+    private long hash = 0xCBF29CE484222325L;
+
+    private WorldHash() {}
+
+    static long of(String world, Player player) {
+        WorldHash h = new WorldHash();
+        h.add(world);
+        h.add(player.getWorldX());
+        h.add(player.getWorldY());
+        h.add(player.getDirection().ordinal());
+        h.add(player.getMovementState().ordinal());
+        h.add(player.getMoney());
+
+        long bag = 0;
+        for (Item item : player.getInventory()) {
+            WorldHash itemHash = new WorldHash();
+            itemHash.add(item.getName());
+            itemHash.add(item.getQuantity());
+            bag += itemHash.hash;
+        }
+        h.add(bag);
+
+        for (Pokemon pokemon : player.getTeam()) {
+            h.add(pokemon.getDex());
+            h.add(pokemon.getLevel());
+            h.add(pokemon.getLevelManager().getCurrentExp());
+            h.add(pokemon.getStats().getCurrentHp());
+            h.add(pokemon.getStatus() != null ? pokemon.getStatus().ordinal() : -1);
+            for (Move move : pokemon.getMoves()) {
+                h.add(move != null ? move.getName() : "");
+                h.add(move != null ? move.getCurrentPP() : -1);
+            }
+        }
+        return h.hash;
+    }
+
+    // FNV-1a over the value's bytes
+    private void add(long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+    }
+
+    private void add(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        add(bytes.length);
+        for (byte b : bytes) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+    }
+}
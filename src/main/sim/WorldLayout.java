@@ -0,0 +1,97 @@
+package sim;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import model.Berry;
+import model.BerryTree;
+import model.Building;
+import model.WorldObject;
+import tiles.TileMap;
+
+/**
+ * A world's map and the solid things placed on it, loaded once and shared
+ * read-only by every simulated world walking it. Layouts mirror what
+ * WorldManager puts on its boards, minus doors, which never block, and
+ * NPCs, which need a board to live on.
+ */
+final class WorldLayout {
+    private final String name;
+    private final TileMap map;
+    private final List<WorldObject> objects = new ArrayList<>();
+
+    private WorldLayout(String name, int rows, int columns) {
+        this.name = name;
+        this.map = new TileMap(name, columns, rows);
+    }
+
+    static WorldLayout named(String name) {
+        switch (name) {
+            case "outside":
+                return outside();
+            case "house_interior":
+                return houseInterior();
+            default:
+                throw new IllegalArgumentException("Unknown world: " + name);
+        }
+    }
+
+    // See WorldManager.createOutsideBoard
+    private static WorldLayout outside() {
+        WorldLayout layout = new WorldLayout("outside", 30, 46);
+        int columns = layout.map.getColumns();
+        int rows = layout.map.getRows();
+        layout.placeMany("/resources/buildings/tree2.png", 0, 0, 4, 16, 2, 1);
+        layout.placeMany("/resources/buildings/tree2.png", 0, 21, 4, rows, 2, 1);
+        layout.placeMany("/resources/buildings/tree2.png", 6, 0, columns, 4, 2, 1);
+        layout.placeMany("/resources/buildings/tree2.png", 6, rows - 4, columns, rows, 2, 1);
+        layout.placeMany("/resources/buildings/tree2.png", columns - 6, 0, columns, rows, 2, 1);
+
+        layout.add("/resources/buildings/green_roof_two_floor_house.png", 10, 4);
+        layout.add("/resources/buildings/blue_roof_two_floor_house.png", 17, 4);
+        layout.add("/resources/buildings/green_roof_one_floor_house.png", 23, 5);
+        layout.add("/resources/buildings/green_fat_tree.png", 11, 11);
+        layout.add("/resources/buildings/tiny_tree1.png", 8, 11);
+        layout.add("/resources/buildings/tiny_tree1.png", 8, 12);
+
+        layout.objects.add(new BerryTree(new Point(14, 15), Berry.BerryType.ORAN_BERRY, 4));
+        return layout;
+    }
+
+    // See WorldManager.createInsideBoard
+    private static WorldLayout houseInterior() {
+        WorldLayout layout = new WorldLayout("house_interior", 10, 15);
+        layout.add("/resources/buildings/marroon_single_bed.png", 10, 0);
+        return layout;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    TileMap getMap() {
+        return map;
+    }
+
+    List<WorldObject> getObjects() {
+        return Collections.unmodifiableList(objects);
+    }
+
+    private void add(String path, int x, int y) {
+        objects.add(new Building(new Point(x, y), path));
+    }
+
+    // Same grid as Board.placeManyObjects
+    private void placeMany(String path, int startTileX, int startTileY, int endTileX, int endTileY,
+            int xSpacing, int ySpacing) {
+        for (int y = Math.min(startTileY, endTileY); y <= Math.max(startTileY, endTileY); y += ySpacing) {
+            for (int x = Math.min(startTileX, endTileX); x <= Math.max(startTileX, endTileX); x += xSpacing) {
+                if (x >= 0 && x < map.getColumns() && y >= 0 && y < map.getRows()) {
+                    add(path, x, y);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package sim;
+
+import java.awt.Point;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import battle.AiDifficulty;
+import battle.AutoBattle;
+import battle.BattleState;
+import battle.SearchPolicy;
+import battle.StandardPolicy;
+import diagnostics.Histogram;
+import model.EncounterArea;
+import model.EncounterManager;
+import model.GameRandom;
+import model.Move;
+import model.Overworld;
+import model.Player;
+import model.WildEncounter;
+import pokes.Pokemon;
+import pokes.PokemonFactory;
+import pokes.PokemonStatsLoader;
+
+/**
+ * One player walking one world with no window: a bot holds the keys, the
+ * overworld moves them exactly as the board would, steps onto encounter
+ * tiles roll wild Pokémon, and every encounter is fought out as an auto
+ * battle. A team that faints is healed on the spot so the run can go on.
+ *
+ * Each simulation draws from its own GameRandom.Context, so its ticks can
+ * run in batches on any pool thread and still come out the same for the
+ * same seed.
+ */
+final class WorldSimulation {
+    // Ticks after a battle before encounters are checked again, as on the board
+    private static final int ENCOUNTER_COOLDOWN_TIME = 3;
+    private static final int[][] TEAM = {{4, 12}, {1, 10}, {7, 10}};
+
+    private final GameRandom.Context random;
+    private final Overworld world;
+    private final Player player;
+    private final Bot bot;
+    private final EncounterManager encounterManager;
+    private RandomGenerator botRandom;
+    private SplittableRandom battleRandom;
+    private Overworld.Step last = Overworld.Step.IDLE;
+    private int encounterCooldown;
+
+    private long ticks;
+    private long steps;
+    private long encounterSteps;
+    private long blocked;
+    private long encounters;
+    private long battlesWon;
+    private long teamFaints;
+
+    WorldSimulation(WorldLayout layout, Bot bot, long seed, int spriteWidth, int spriteHeight) {
+        this.random = new GameRandom.Context(seed);
+        this.bot = bot;
+        this.encounterManager = new EncounterManager(layout.getName());
+        this.player = random.call(() -> {
+            Player p = new Player("sim");
+            PokemonStatsLoader stats = PokemonStatsLoader.getInstance();
+            for (int[] member : TEAM) {
+                Pokemon pokemon = PokemonFactory.createPokemon(member[0], member[1],
+                        stats.getPokemonName(member[0]));
+                pokemon.generateWildMoves();
+                p.addPokemonToCurrentTeam(pokemon);
+            }
+            botRandom = GameRandom.WORLD.get();
+            battleRandom = GameRandom.BATTLE.split();
+            return p;
+        });
+        player.setSpriteSize(spriteWidth, spriteHeight);
+        // Where the game drops a new player in
+        player.setPosition(new Point(15, 10));
+        this.world = new Overworld(layout.getName(), layout.getMap(), player, layout.getObjects());
+    }
+
+    void run(int count) {
+        run(count, null);
+    }
+
+    // Records how long each tick took, in microseconds, when tickMicros isn't null
+    void run(int count, Histogram tickMicros) {
+        random.run(() -> {
+            for (int i = 0; i < count; i++) {
+                long start = tickMicros != null ? System.nanoTime() : 0;
+                tick();
+                if (tickMicros != null) {
+                    tickMicros.record((System.nanoTime() - start) / 1000);
+                }
+            }
+        });
+    }
+
+    // The board's tick, minus NPCs, drawing and the camera
+    private void tick() {
+        ticks++;
+        player.updateAnimation();
+        if (encounterCooldown > 0) {
+            encounterCooldown--;
+        }
+        if (encounterCooldown == 0) {
+            boolean newTile = world.updateStepTile();
+            EncounterArea area = world.getStepArea();
+            if (newTile) {
+                steps++;
+                if (area != null) {
+                    encounterSteps++;
+                }
+                if (encounterManager.takeStep(area)) {
+                    battle(area);
+                }
+            }
+        }
+        last = world.move(bot.nextInput(world, last, botRandom));
+        if (last == Overworld.Step.BLOCKED) {
+            blocked++;
+        }
+    }
+
+    private void battle(EncounterArea area) {
+        encounters++;
+        encounterCooldown = ENCOUNTER_COOLDOWN_TIME;
+        WildEncounter encounter = encounterManager.generateWildPokemon(area);
+        encounter.record();
+        Pokemon wild = encounter.getPokemon();
+        if (wild.getMoves().isEmpty()) {
+            wild.generateWildMoves();
+        }
+        AutoBattle battle = new AutoBattle(StandardPolicy.GREEDY,
+                SearchPolicy.forDifficulty(AiDifficulty.EASY), battleRandom);
+        AutoBattle.Summary summary = battle.resolve(BattleState.wild(player.getTeam(), wild));
+        if (summary.getOutcome() == BattleState.Outcome.PLAYER_WON) {
+            battlesWon++;
+        }
+        List<Pokemon> team = player.getTeam();
+        if (team.stream().noneMatch(p -> p.getStats().getCurrentHp() > 0)) {
+            teamFaints++;
+            for (Pokemon pokemon : team) {
+                pokemon.getStats().setCurrentHp(pokemon.getStats().getMaxHp());
+                pokemon.cureStatus();
+                for (Move move : pokemon.getMoves()) {
+                    move.restoreAllPP();
+                }
+            }
+        }
+    }
+
+    // Fingerprint of where the player ended up and the state of their team
+    long hash() {
+        return WorldHash.of(world.getName(), player);
+    }
+
+    Overworld getWorld() {
+        return world;
+    }
+
+    long getTicks() {
+        return ticks;
+    }
+
+    long getSteps() {
+        return steps;
+    }
+
+    long getEncounterSteps() {
+        return encounterSteps;
+    }
+
+    long getBlocked() {
+        return blocked;
+    }
+
+    long getEncounters() {
+        return encounters;
+    }
+
+    long getBattlesWon() {
+        return battlesWon;
+    }
+
+    long getTeamFaints() {
+        return teamFaints;
+    }
+}
@@ -2,12 +2,14 @@ package tiles;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
-import javax.imageio.ImageIO;
+import ui.ImageLoader;
+import logging.Log;
+import logging.Logger;
 
 public class TileFactory {
+    private static final Logger LOG = Log.getLogger(TileFactory.class);
     private static TileFactory instance;
     private Map<Integer, Tile> tileCache;
     private Map<Integer, String> tiles;
@@ -104,7 +106,7 @@ public class TileFactory {
             return new Tile(id, name, loadImage("/resources/tiles/" + name + ".png"), false, 
                 false, false);
         } else { // unknown tiles
-            System.err.println("Unknown tile ID: " + id);
+            LOG.warn("Unknown tile ID: {}", id);
             return new Tile(GRASS, "Default Grass", loadImage("/resources/tiles/grass_tile.png"), 
                 false, false, false);
         }
@@ -114,32 +116,26 @@ public class TileFactory {
      * Load an image from the specified path
      */
     private BufferedImage loadImage(String path) {
-        InputStream stream = getClass().getResourceAsStream(path);
-        if (stream == null) {
-            System.err.println("Resource not found: " + path);
-            // Return fallback image
-        } else {
-            try {
-                return ImageIO.read(stream);
-            } catch (IOException e) {
-                e.printStackTrace();
+        try {
+            BufferedImage image = ImageLoader.readResource(path);
+            if (image != null) {
+                return image;
             }
+            LOG.error("Failed to decode tile image: {}", path);
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Resource not found: {}", path);
+        } catch (IOException e) {
+            LOG.error("Failed to load tile image: " + path, e);
         }
-        try {
-            return ImageIO.read(getClass().getResourceAsStream(path));
-        } catch (IOException | NullPointerException e) {
-            System.err.println("Failed to load tile image: " + path);
-            e.printStackTrace();
-            
-            // Create a simple colored image as fallback
-            BufferedImage fallback = new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB);
-            for (int y = 0; y < 32; y++) {
-                for (int x = 0; x < 32; x++) {
-                    fallback.setRGB(x, y, 0xFF00FF); // Magenta for missing textures
-                }
+        
+        // Create a simple colored image as fallback
+        BufferedImage fallback = new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 32; y++) {
+            for (int x = 0; x < 32; x++) {
+                fallback.setRGB(x, y, 0xFF00FF); // Magenta for missing textures
             }
-            return fallback;
         }
+        return fallback;
     }
 
     private BufferedImage[] loadAnimationFrames(String basePath, int frameCount) {
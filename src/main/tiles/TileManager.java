@@ -4,10 +4,8 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 
+import model.EncounterArea;
 import model.Player;
 import ui.App;
 import ui.Board;
@@ -15,108 +13,17 @@ import ui.Camera;
 
 public class TileManager {
     private Board board;
-    private int[][] mapTileNum;
+    private final TileMap map;
     private TileFactory tileFactory;
-    private boolean[][] grassTiles; // Track grass tiles for encounter optimization
     
     public TileManager(Board board, String boardName) {
         this.board = board;
         this.tileFactory = TileFactory.getInstance();
-        this.mapTileNum = new int[board.columns][board.rows];
-        this.grassTiles = new boolean[board.columns][board.rows];
-        loadMap(boardName);
-        cacheGrassTiles(); // Pre-cache grass tiles for faster lookup
+        this.map = new TileMap(boardName, board.columns, board.rows);
     }
     
-    // Cache which tiles are grass for faster lookup during gameplay
-    private void cacheGrassTiles() {
-        for (int col = 0; col < board.columns; col++) {
-            for (int row = 0; row < board.rows; row++) {
-                grassTiles[col][row] = tileFactory.isTallGrass(mapTileNum[col][row]);
-            }
-        }
-    }
-    
-    public void loadMap(String boardName) {
-        // Try these different path formats until one works
-        String pathName = "/resources/maps/" + boardName + ".txt";
-        InputStream is = null;
-
-        
-        is = getClass().getClassLoader().getResourceAsStream(pathName);
-        if (is != null) {
-            System.out.println("Found resource at: " + pathName);
-        }
-        
-        // Try with Class.getResourceAsStream as fallback
-        is = getClass().getResourceAsStream(pathName);
-        if (is != null) {
-            System.out.println("Found resource at: " + pathName);
-        }
-        
-        if (is == null) {
-            System.err.println("Could not find map file for: " + boardName);
-            // Fill with default grass tiles
-            fillWithDefaultTiles();
-            return;
-        }
-        
-        // Continue with your existing code to read the file
-        try (BufferedReader br = new BufferedReader(new InputStreamReader(is))) {
-            int col = 0;
-            int row = 0;
-            
-            while (row < board.rows) {
-                String line = br.readLine();
-                
-                if (line == null) {
-                    // If we run out of lines, fill the rest with grass (0)
-                    while (row < board.rows) {
-                        while (col < board.columns) {
-                            mapTileNum[col][row] = 0;
-                            col++;
-                        }
-                        col = 0;
-                        row++;
-                    }
-                    break;
-                }
-                
-                String[] numbers = line.split(" ");
-                
-                while (col < board.columns && col < numbers.length) {
-                    int num = Integer.parseInt(numbers[col]);
-                    mapTileNum[col][row] = num;
-                    col++;
-                }
-                
-                // If the line is shorter than the board width, fill with grass
-                while (col < board.columns) {
-                    mapTileNum[col][row] = 0;
-                    col++;
-                }
-                
-                col = 0;
-                row++;
-            }
-            
-            // After loading the map, update the grass tiles cache
-            cacheGrassTiles();
-        } catch (Exception e) {
-            fillWithDefaultTiles();
-            e.printStackTrace();
-        }
-    }    
-    
-    // Helper method to fill with default tiles
-    private void fillWithDefaultTiles() {
-        for (int i = 0; i < board.columns; i++) {
-            for (int j = 0; j < board.rows; j++) {
-                mapTileNum[i][j] = TileFactory.GRASS; // Default to grass
-            }
-        }
-        // Update grass tiles cache
-        cacheGrassTiles();
+    public TileMap getMap() {
+        return map;
     }
     
     public void draw(Graphics2D g2d) {
@@ -153,7 +60,7 @@ public class TileManager {
         // Draw visible tiles in logical coordinates
         for (int row = startRow; row < endRow; row++) {
             for (int col = startCol; col < endCol; col++) {
-                int tileNum = mapTileNum[col][row];
+                int tileNum = map.getTileId(col, row);
                 
                 Tile tile = tileFactory.getTile(tileNum);
                 
@@ -171,13 +78,7 @@ public class TileManager {
         }
     }
     public boolean isTileCollision(int col, int row) {
-        if (col < 0 || col >= board.columns || row < 0 || row >= board.rows) {
-            return true; // Out of bounds is considered collision
-        }
-        
-        int tileNum = mapTileNum[col][row];
-        Tile tile = tileFactory.getTile(tileNum);
-        return tile.hasCollision();
+        return map.isTileCollision(col, row);
     }
 
     public void update() {
@@ -186,12 +87,7 @@ public class TileManager {
     }
 
     public boolean isInTallGrass(int col, int row) {
-        if (col < 0 || col >= board.columns || row < 0 || row >= board.rows) {
-            return false;
-        }
-        
-        // Use cached grass tiles for faster lookup
-        return grassTiles[col][row];
+        return map.isInTallGrass(col, row);
     }
 
     public boolean isPlayerInTallGrass(Player player) {
@@ -216,6 +112,11 @@ public class TileManager {
         return false; // No grass found
     }
 
+    // The encounter area a tile belongs to, or null if nothing can be met there
+    public EncounterArea getEncounterArea(int col, int row) {
+        return map.getEncounterArea(col, row);
+    }
+
     public boolean isTileGrass(int col, int row) {
         return isInTallGrass(col, row);
     }
@@ -0,0 +1,229 @@
+package tiles;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+
+import model.EncounterArea;
+import model.EncounterTable;
+import logging.Log;
+import logging.Logger;
+import diagnostics.DataLoadEvent;
+
+/**
+ * What a map is made of, without any of the drawing: the tile ids read
+ * from maps/<name>.txt, which tiles are solid or tall grass, and the
+ * encounter zone layer. Nothing here needs a display, so the board and a
+ * headless simulation share the same map and the same rules.
+ */
+public class TileMap {
+    private static final Logger LOG = Log.getLogger(TileMap.class);
+    private final int columns;
+    private final int rows;
+    private final int[][] mapTileNum;
+    private final boolean[][] grassTiles; // Track grass tiles for encounter optimization
+    private final boolean[][] collisionTiles;
+    // Encounter zone id per tile, row by row; null when the map has no zone layer
+    private byte[] zoneIds;
+    // Area each zone id is bound to; zone 0 never has one
+    private final EncounterArea[] zoneAreas = new EncounterArea[256];
+    // Without a zone layer every tall grass tile is in the area named after the map
+    private EncounterArea defaultArea;
+
+    public TileMap(String boardName, int columns, int rows) {
+        this.columns = columns;
+        this.rows = rows;
+        this.mapTileNum = new int[columns][rows];
+        this.grassTiles = new boolean[columns][rows];
+        this.collisionTiles = new boolean[columns][rows];
+        DataLoadEvent loadEvent = new DataLoadEvent();
+        loadEvent.begin();
+        loadMap(boardName);
+        loadZones(boardName);
+        loadEvent.finish("TileManager", boardName, rows);
+        cacheGrassTiles(); // Pre-cache grass tiles for faster lookup
+    }
+    
+    /**
+     * Reads the optional encounter zone layer, maps/<board>_zones.txt. It
+     * starts with "id = table" lines binding zone ids to encounter tables,
+     * followed by a grid of zone ids laid out like the map, 0 meaning no
+     * encounters. Bindings are resolved here, once, so finding the area
+     * under the player is just an array read.
+     */
+    private void loadZones(String boardName) {
+        defaultArea = EncounterTable.getArea(boardName);
+        String pathName = "/resources/maps/" + boardName + "_zones.txt";
+        InputStream is = getClass().getResourceAsStream(pathName);
+        if (is == null) {
+            return;
+        }
+        
+        byte[] ids = new byte[columns * rows];
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(is))) {
+            int row = 0;
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                if (line.contains("=")) {
+                    String[] binding = line.split("=");
+                    int id = Integer.parseInt(binding[0].trim());
+                    if (id <= 0 || id >= zoneAreas.length) {
+                        throw new IllegalArgumentException("Zone id out of range: " + id);
+                    }
+                    zoneAreas[id] = EncounterTable.getArea(binding[1].trim());
+                    continue;
+                }
+                if (row >= rows) {
+                    continue;
+                }
+                String[] numbers = line.split("\\s+");
+                for (int col = 0; col < columns && col < numbers.length; col++) {
+                    int id = Integer.parseInt(numbers[col]);
+                    if (id != 0 && (id >= zoneAreas.length || zoneAreas[id] == null)) {
+                        throw new IllegalArgumentException("Zone " + id + " has no table");
+                    }
+                    ids[row * columns + col] = (byte) id;
+                }
+                row++;
+            }
+            zoneIds = ids;
+        } catch (Exception e) {
+            LOG.error("Error reading encounter zones for: " + boardName, e);
+        }
+    }
+    
+    // Cache which tiles are grass or solid, so lookups during play never touch the tile factory
+    private void cacheGrassTiles() {
+        TileFactory tileFactory = TileFactory.getInstance();
+        for (int col = 0; col < columns; col++) {
+            for (int row = 0; row < rows; row++) {
+                grassTiles[col][row] = tileFactory.isTallGrass(mapTileNum[col][row]);
+                Tile tile = tileFactory.getTile(mapTileNum[col][row]);
+                collisionTiles[col][row] = tile != null && tile.hasCollision();
+            }
+        }
+    }
+    
+    private void loadMap(String boardName) {
+        // Try these different path formats until one works
+        String pathName = "/resources/maps/" + boardName + ".txt";
+        InputStream is = null;
+
+        
+        is = getClass().getClassLoader().getResourceAsStream(pathName);
+        if (is != null) {
+            LOG.debug("Found resource at: {}", pathName);
+        }
+        
+        // Try with Class.getResourceAsStream as fallback
+        is = getClass().getResourceAsStream(pathName);
+        if (is != null) {
+            LOG.debug("Found resource at: {}", pathName);
+        }
+        
+        if (is == null) {
+            LOG.warn("Could not find map file for: {}", boardName);
+            // Fill with default grass tiles
+            fillWithDefaultTiles();
+            return;
+        }
+        
+        // Continue with your existing code to read the file
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(is))) {
+            int col = 0;
+            int row = 0;
+            
+            while (row < rows) {
+                String line = br.readLine();
+                
+                if (line == null) {
+                    // If we run out of lines, fill the rest with grass (0)
+                    while (row < rows) {
+                        while (col < columns) {
+                            mapTileNum[col][row] = 0;
+                            col++;
+                        }
+                        col = 0;
+                        row++;
+                    }
+                    break;
+                }
+                
+                String[] numbers = line.split(" ");
+                
+                while (col < columns && col < numbers.length) {
+                    int num = Integer.parseInt(numbers[col]);
+                    mapTileNum[col][row] = num;
+                    col++;
+                }
+                
+                // If the line is shorter than the board width, fill with grass
+                while (col < columns) {
+                    mapTileNum[col][row] = 0;
+                    col++;
+                }
+                
+                col = 0;
+                row++;
+            }
+            
+            // After loading the map, update the grass tiles cache
+            cacheGrassTiles();
+        } catch (Exception e) {
+            fillWithDefaultTiles();
+            LOG.error("Error reading map file for: " + boardName, e);
+        }
+    }    
+    
+    // Helper method to fill with default tiles
+    private void fillWithDefaultTiles() {
+        for (int i = 0; i < columns; i++) {
+            for (int j = 0; j < rows; j++) {
+                mapTileNum[i][j] = TileFactory.GRASS; // Default to grass
+            }
+        }
+        // Update grass tiles cache
+        cacheGrassTiles();
+    }
+    
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getTileId(int col, int row) {
+        return mapTileNum[col][row];
+    }
+
+    public boolean isTileCollision(int col, int row) {
+        if (col < 0 || col >= columns || row < 0 || row >= rows) {
+            return true; // Out of bounds is considered collision
+        }
+        return collisionTiles[col][row];
+    }
+
+    public boolean isInTallGrass(int col, int row) {
+        if (col < 0 || col >= columns || row < 0 || row >= rows) {
+            return false;
+        }
+        return grassTiles[col][row];
+    }
+
+    // The encounter area a tile belongs to, or null if nothing can be met there
+    public EncounterArea getEncounterArea(int col, int row) {
+        if (col < 0 || col >= columns || row < 0 || row >= rows) {
+            return null;
+        }
+        if (zoneIds == null) {
+            return grassTiles[col][row] ? defaultArea : null;
+        }
+        return zoneAreas[zoneIds[row * columns + col] & 0xFF];
+    }
+}
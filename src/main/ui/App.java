@@ -2,7 +2,9 @@ package ui;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
+import java.nio.file.Path;
 import javax.swing.*;
+import model.GameRandom;
 import model.Move;
 import model.Player;
 import moves.LearnsetLoader;
@@ -13,8 +15,14 @@ import pokes.PokemonFactory;
 import pokes.PokemonStatsLoader;
 import model.EncounterTable;
 import model.ItemFactory;
+import diagnostics.EdtWatchdog;
+import logging.Log;
+import logging.Logger;
 
 public class App {
+    private static final Logger LOG = Log.getLogger(App.class);
+    // Where a new game starts, and so where every recording starts
+    static final String START_WORLD = "outside";
     private static Player player = new Player("sarp");
     private static JFrame window = new JFrame("Poke test");
     private static WorldManager worldManager = new WorldManager(window);
@@ -53,7 +61,7 @@ public class App {
 
     public static void initWorlds() {
         worldManager.initBoards(player);
-        worldManager.setCurrentWorld("outside");
+        worldManager.setCurrentWorld(START_WORLD);
     }
 
     private static void addZoomKeyListener() {
@@ -81,6 +89,38 @@ public class App {
                         return true;
                     }
                     
+                    // F3 toggles the debug overlay
+                    if (e.getKeyCode() == KeyEvent.VK_F3) {
+                        DebugOverlay.toggle();
+                        if (currentBoard != null) {
+                            currentBoard.repaint();
+                        }
+                        return true;
+                    }
+                    
+                    // F4 toggles auto battles for wild encounters
+                    if (e.getKeyCode() == KeyEvent.VK_F4) {
+                        AutoBattleMode.toggle();
+                        InputRecorder recorder = InputRecorder.current();
+                        if (recorder != null) {
+                            recorder.toggleAutoBattle();
+                        }
+                        if (currentBoard != null) {
+                            currentBoard.showToast(AutoBattleMode.isEnabled()
+                                    ? "Auto battle on" : "Auto battle off");
+                        }
+                        return true;
+                    }
+                    
+                    // F5 reads the encounter tables from disk again
+                    if (e.getKeyCode() == KeyEvent.VK_F5) {
+                        EncounterTable.reload();
+                        if (currentBoard != null) {
+                            currentBoard.showToast("Encounter tables reloaded");
+                        }
+                        return true;
+                    }
+                    
                     // ESC key exits application
                     if (e.getKeyCode() == KeyEvent.VK_ESCAPE) {
                         System.exit(0);
@@ -90,6 +130,10 @@ public class App {
                 
                 // CRITICAL FIX: Only handle board keys if dialogue is not active
                 Board currentBoard = worldManager.getCurrentWorld();
+                // The battle scene sits in this window too and handles its own keys
+                if (currentBoard != null && currentBoard.isBattleActive()) {
+                    return false;
+                }
                 if (currentBoard != null && !currentBoard.isDialogueActive() && !currentBoard.hasFocus()) {
                     if (e.getID() == KeyEvent.KEY_PRESSED) {
                         currentBoard.keyPressed(e);
@@ -108,7 +152,7 @@ public class App {
     private static void initWindow() {
         // Force fullscreen - no windowed mode option
         if (!graphicsDevice.isFullScreenSupported()) {
-            System.err.println("Fullscreen not supported! Exiting...");
+            LOG.error("Fullscreen not supported! Exiting...");
             System.exit(1);
         }
 
@@ -189,6 +233,10 @@ public class App {
      * Change zoom level and update display
      */
     public static void changeZoom(int delta) {
+        InputRecorder recorder = InputRecorder.current();
+        if (recorder != null) {
+            recorder.zoom(delta);
+        }
         int newZoom = ZOOM_LEVEL + delta;
         if (newZoom >= MIN_ZOOM && newZoom <= MAX_ZOOM) {
             ZOOM_LEVEL = newZoom;
@@ -223,10 +271,22 @@ public class App {
             // Refresh display
             window.repaint();
             
-            System.out.println("Zoom level: " + ZOOM_LEVEL + "x");
+            LOG.info("Zoom level: {}x", ZOOM_LEVEL);
         }
     }
     
+    static WorldManager getWorldManager() {
+        return worldManager;
+    }
+
+    static JFrame getWindow() {
+        return window;
+    }
+
+    static Player getPlayer() {
+        return player;
+    }
+
     public static int getEffectiveTileSize() {
         return Board.TILE_SIZE * ZOOM_LEVEL;
     }
@@ -285,7 +345,27 @@ public class App {
         player.addToInventory("super potion");
     }
 
+    private static void initWatchdog() {
+        if (!EdtWatchdog.isEnabledByConfig()) {
+            return;
+        }
+        EdtWatchdog watchdog = EdtWatchdog.getInstance();
+        watchdog.setContextSupplier(() -> {
+            Board board = worldManager.getCurrentWorld();
+            String world = board != null ? board.getWorldName() : "none";
+            boolean battle = board != null && board.isBattleActive();
+            return "world=" + world + ", battle=" + battle + ", menu=" + Menu.getInstance().isMenuVisible();
+        });
+        watchdog.start();
+    }
+
     public static void main(String[] args) {
+        String recording = System.getProperty("poke.record");
+        if (recording != null) {
+            InputRecorder.start(Path.of(recording), GameRandom.getSeed(), AutoBattleMode.isEnabled(),
+                    ZOOM_LEVEL, START_WORLD);
+        }
+        initWatchdog();
         EncounterTable.initializeEncounterTables();
         initItems();
         initPokemonData();
@@ -0,0 +1,35 @@
+package ui;
+
+import battle.BattlePolicy;
+
+/**
+ * Opt-in fast grinding. While it's on, wild encounters are fought at once by
+ * battle.AutoBattle instead of opening a battle screen, and the result is
+ * shown as a toast over the overworld. Toggle with F4 or start with
+ * -Dpoke.autoBattle=true. The player's moves are picked by the policy named
+ * in -Dpoke.autoBattle.policy (see BattlePolicy.named), greedy by default.
+ */
+public final class AutoBattleMode {
+    private static volatile boolean enabled = Boolean.getBoolean("poke.autoBattle");
+    private static final BattlePolicy PLAYER_POLICY =
+            BattlePolicy.named(System.getProperty("poke.autoBattle.policy", "greedy"));
+
+    private AutoBattleMode() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static void toggle() {
+        enabled = !enabled;
+    }
+
+    public static BattlePolicy getPlayerPolicy() {
+        return PLAYER_POLICY;
+    }
+}
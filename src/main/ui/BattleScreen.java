@@ -2,28 +2,45 @@ package ui;
 
 import java.awt.*;
 import java.awt.event.*;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.util.Random;
 import java.util.Set;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.*;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.SplittableRandom;
 
+import model.GameRandom;
 import model.Item;
 import model.Move;
 import model.Player;
 import model.Pokeball;
 import pokes.Pokemon;
-import pokes.TypeEffectivenessChart;
+import battle.BattleAction;
+import battle.BattleEngine;
+import battle.BattleEvent;
+import battle.BattleState;
+import battle.BattleState.Side;
+import battle.AiDifficulty;
+import battle.BattlePolicy;
+import battle.CompactBattle;
+import battle.SearchPolicy;
+import logging.Log;
+import logging.Logger;
 
-public abstract class BattleScreen extends JFrame {
+/**
+ * The battle scene. Each kind of battle has one, built the first time it's
+ * needed and kept in the main window's layered pane above the overworld.
+ * Every encounter re-binds it to the new Pokémon and battle state and shows
+ * it again, instead of building a new window.
+ */
+public abstract class BattleScreen extends JPanel {
+    private static final Logger LOG = Log.getLogger(BattleScreen.class);
+    protected static final int MESSAGE_DELAY = 1500;
     protected Player player;
     protected Pokemon currentOpponentPokemon;
     protected Pokemon playerPokemon;
@@ -60,100 +77,67 @@ public abstract class BattleScreen extends JFrame {
     protected JButton[] moveButtons = new JButton[4];
     protected JButton backButton;
     
-    protected Timer animationTimer;
-    protected int animationStep = 0;
+    // Every delayed step of the battle runs through this; a new one per battle, cancelled when it closes
+    protected BattleTimeline timeline = new BattleTimeline();
     
     // Battle state
     protected boolean playerTurn = true;
     protected boolean battleEnded = false;
+    protected BattleState battleState;
+    protected final BattleEngine battleEngine = new BattleEngine(GameRandom.BATTLE.split());
+    // Wild Pokémon think like the easiest trainers; trainer battles swap in their own difficulty
+    protected BattlePolicy opponentPolicy = SearchPolicy.forDifficulty(AiDifficulty.EASY);
+    private final SplittableRandom aiRandom = GameRandom.BATTLE.split();
+    private boolean closed = true;
+    private Runnable onClose;
 
     protected Deque<String> messageQueue = new LinkedList<>();
     protected boolean isDisplayingMessages = false;
+    private Runnable afterMessages;
 
     // Add these fields to BattleScreen class
     protected PlayerBattleView playerBattleView;
     protected boolean isPlayingThrowAnimation = false;
-    protected Timer throwAnimationTimer;
+    private JLabel pokeballSprite;
+    // Sprite decoded ahead of time for the next opponent, used once by updateOpponentDisplay
+    private Pokemon preparedOpponent;
+    private ImageIcon preparedOpponentSprite;
         
-    public BattleScreen(Player player, Pokemon initialOpponent, String battleLocation) {
-        this.player = player;
-        this.currentOpponentPokemon = initialOpponent;
-        this.battleLocation = battleLocation != null ? battleLocation : "route";
-    
-        // Ensure opponent Pokemon has appropriate moves
-        if (currentOpponentPokemon.getMoves().isEmpty()) {
-            currentOpponentPokemon.generateWildMoves();
-        }
-
-        setUndecorated(true);
-        setExtendedState(JFrame.MAXIMIZED_BOTH);
-        setSize(App.CURRENT_WIDTH, App.CURRENT_HEIGHT);
-        setLocationRelativeTo(null);
-            
-        validateOpponentPokemonMoves();
-    
-        if ("route".equalsIgnoreCase(this.battleLocation)) {
-            try {
-                Image originalImage = ImageIO.read(getClass().getResource("/resources/backgrounds/route_bg.png"));
-                routeBackgroundImage = originalImage.getScaledInstance(App.CURRENT_WIDTH, App.CURRENT_HEIGHT, Image.SCALE_SMOOTH);
-            } catch (Exception e) {
-                System.err.println("Failed to load route background image: " + e.getMessage());
-                routeBackgroundImage = null;
-            }
-        }
-            
-        // Get the first non-fainted Pokémon from player's team
-        for (Pokemon p : player.getTeam()) {
-            if (p.getStats().getCurrentHp() > 0) {
-                this.playerPokemon = p;
-                break;
-            }
-        }
-        
-        if (this.playerPokemon == null) {
-            JOptionPane.showMessageDialog(this, "You have no usable Pokémon!", "Battle Error", JOptionPane.ERROR_MESSAGE);
-            dispose();
-            return;
-        }
+    protected BattleScreen() {
+        super(new BorderLayout());
+        setVisible(false);
+        // Takes focus while shown so the overworld stops seeing battle keys
+        setFocusable(true);
         
-        setTitle("Pokémon Battle");
-        setSize(800, 600);
-        setLocationRelativeTo(null);
-        setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
-        setResizable(false);
+        routeBackgroundImage = BattleSprites.routeBackground();
         
-        // Initialize battleMessageLabel with a default message instead of calling getInitialBattleMessage()
         this.battleMessageLabel = new JLabel("Battle is starting...");
         this.battleMessageLabel.setFont(new Font("Arial", Font.BOLD, 18));
         this.battleMessageLabel.setHorizontalAlignment(JLabel.CENTER);
     
         initializeUI();
-        startBattleSequence();
     }
-
-    public BattleScreen(Player player, Pokemon initialOpponent, String battleLocation, String initialMessage) {
+    
+    /**
+     * Binds the scene to a new battle and shows it over everything else in
+     * the window. onClose runs once the battle is over and the scene is
+     * hidden again.
+     */
+    protected void begin(JLayeredPane host, Player player, Pokemon initialOpponent, String battleLocation,
+                         String initialMessage, Runnable onClose) {
         this.player = player;
         this.currentOpponentPokemon = initialOpponent;
         this.battleLocation = battleLocation != null ? battleLocation : "route";
+        this.onClose = onClose;
     
         // Ensure opponent Pokemon has appropriate moves
         if (currentOpponentPokemon.getMoves().isEmpty()) {
             currentOpponentPokemon.generateWildMoves();
         }
-        
         validateOpponentPokemonMoves();
-    
-        if ("route".equalsIgnoreCase(this.battleLocation)) {
-            try {
-                Image originalImage = ImageIO.read(getClass().getResource("/resources/backgrounds/route_bg.png"));
-                routeBackgroundImage = originalImage.getScaledInstance(App.CURRENT_WIDTH, App.CURRENT_HEIGHT, Image.SCALE_SMOOTH);
-            } catch (Exception e) {
-                System.err.println("Failed to load route background image: " + e.getMessage());
-                routeBackgroundImage = null;
-            }
-        }
             
         // Get the first non-fainted Pokémon from player's team
+        this.playerPokemon = null;
         for (Pokemon p : player.getTeam()) {
             if (p.getStats().getCurrentHp() > 0) {
                 this.playerPokemon = p;
@@ -162,34 +146,78 @@ public abstract class BattleScreen extends JFrame {
         }
         
         if (this.playerPokemon == null) {
-            JOptionPane.showMessageDialog(this, "You have no usable Pokémon!", "Battle Error", JOptionPane.ERROR_MESSAGE);
-            dispose();
+            JOptionPane.showMessageDialog(host, "You have no usable Pokémon!", "Battle Error", JOptionPane.ERROR_MESSAGE);
+            onClose.run();
             return;
         }
+        this.battleState = createBattleState();
+        // Follows the window size, and the party is ready before anyone switches in
+        routeBackgroundImage = BattleSprites.routeBackground();
+        BattleSprites.preloadParty(player.getTeam());
+        
+        // Anything left over from the last battle is dropped along with its timeline
+        timeline.cancel();
+        timeline = new BattleTimeline();
+        closed = false;
+        playerTurn = true;
+        battleEnded = false;
+        messageQueue.clear();
+        isDisplayingMessages = false;
+        afterMessages = null;
+        isPlayingThrowAnimation = false;
+        
+        bindBattleground();
+        battleMessageLabel.setText(initialMessage != null ? initialMessage : "Battle is starting...");
+        runButton.setEnabled(canRun());
+        createMovePanel();
         
-        setTitle("Pokémon Battle");
-        setUndecorated(true);
-        setExtendedState(JFrame.MAXIMIZED_BOTH);
-        setSize(App.CURRENT_WIDTH, App.CURRENT_HEIGHT);
-        setLocationRelativeTo(null);
+        if (getParent() != host) {
+            if (getParent() != null) {
+                getParent().remove(this);
+            }
+            host.add(this, JLayeredPane.MODAL_LAYER);
+        }
+        setBounds(0, 0, App.CURRENT_WIDTH, App.CURRENT_HEIGHT);
+        setVisible(true);
+        revalidate();
+        repaint();
+        requestFocusInWindow();
         
-        // Use the provided initial message instead of calling getInitialBattleMessage()
-        String message = initialMessage != null ? initialMessage : "Battle is starting...";
-        this.battleMessageLabel = new JLabel(message);
-        this.battleMessageLabel.setFont(new Font("Arial", Font.BOLD, 18));
-        this.battleMessageLabel.setHorizontalAlignment(JLabel.CENTER);
-    
-        initializeUI();
         startBattleSequence();
-    }    
+    }
     
     // Abstract methods that subclasses must implement
     protected abstract String getInitialBattleMessage();
-    protected abstract void handleOpponentFainted();
     protected abstract boolean canUsePokeballs();
     protected abstract boolean canRun();
     protected abstract void handleBattleEnd(boolean playerWon);
-    protected abstract void switchOpponentPokemon(Pokemon newPokemon);
+    
+    // Subclasses with a full opposing team replace this
+    protected BattleState createBattleState() {
+        return BattleState.wild(player.getTeam(), currentOpponentPokemon);
+    }
+    
+    public boolean isInBattle() {
+        return !closed;
+    }
+    
+    /**
+     * Hides the scene and hands control back to whoever started the battle.
+     * Anything still waiting on the timeline is cancelled.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        timeline.cancel();
+        setVisible(false);
+        Runnable callback = onClose;
+        onClose = null;
+        if (callback != null) {
+            callback.run();
+        }
+    }
     
     protected void initializeUI() {
         mainPanel = new JPanel(new BorderLayout());
@@ -197,62 +225,62 @@ public abstract class BattleScreen extends JFrame {
         
         createBattlegroundPanel();
         createActionPanel();
-        createMovePanel();
         createInfoPanel();
         
         mainPanel.add(battlegroundPanel, BorderLayout.CENTER);
         mainPanel.add(actionPanel, BorderLayout.SOUTH);
         
-        setContentPane(mainPanel);
+        add(mainPanel, BorderLayout.CENTER);
+        installTimelineKeys();
+    }
+    
+    // Space, Enter or a click on the message box skips the text pause; F cycles the battle speed
+    private void installTimelineKeys() {
+        InputMap keys = mainPanel.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW);
+        keys.put(KeyStroke.getKeyStroke(KeyEvent.VK_SPACE, 0), "skipText");
+        keys.put(KeyStroke.getKeyStroke(KeyEvent.VK_ENTER, 0), "skipText");
+        keys.put(KeyStroke.getKeyStroke(KeyEvent.VK_F, 0), "cycleSpeed");
+        mainPanel.getActionMap().put("skipText", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                timeline.skip();
+            }
+        });
+        mainPanel.getActionMap().put("cycleSpeed", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                BattleTimeline.setSpeed(BattleTimeline.getSpeed().next());
+            }
+        });
+        battleMessageLabel.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                timeline.skip();
+            }
+        });
     }
     
     protected void createBattlegroundPanel() {
-        if ("route".equalsIgnoreCase(battleLocation) && routeBackgroundImage != null) {
-            battlegroundPanel = new JPanel(null) {
-                @Override
-                protected void paintComponent(Graphics g) {
-                    super.paintComponent(g);
+        battlegroundPanel = new JPanel(null) {
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                if ("route".equalsIgnoreCase(battleLocation) && routeBackgroundImage != null) {
                     g.drawImage(routeBackgroundImage, 0, 0, App.CURRENT_WIDTH, App.CURRENT_HEIGHT, this);
-                    
-                    // Draw player using PlayerBattleView
-                    if (playerBattleView != null) {
-                        playerBattleView.draw(g, this);
-                    }
                 }
-            };
-        } else {
-            battlegroundPanel = new JPanel(null) {
-                @Override
-                protected void paintComponent(Graphics g) {
-                    super.paintComponent(g);
-                    
-                    // Draw player using PlayerBattleView
-                    if (playerBattleView != null) {
-                        playerBattleView.draw(g, this);
-                    }
+                
+                // Draw player using PlayerBattleView
+                if (playerBattleView != null) {
+                    playerBattleView.draw(g, this);
                 }
-            };
-            
-            switch (battleLocation.toLowerCase()) {
-                case "city":
-                    battlegroundPanel.setBackground(new Color(180, 210, 230));
-                    break;
-                case "cave":
-                    battlegroundPanel.setBackground(new Color(100, 100, 120));
-                    break;
-                case "route":
-                default:
-                    battlegroundPanel.setBackground(new Color(144, 238, 144));
-                    break;
             }
-        }
+        };
         
         battlegroundPanel.setPreferredSize(new Dimension(App.CURRENT_WIDTH, App.CURRENT_HEIGHT - 200));
         
         // Opponent Pokémon sprite
         opponentPokemonImage = new JLabel();
         opponentPokemonImage.setBounds(scaleX(450), scaleY(140), scaleX(150), scaleY(150));
-        opponentPokemonImage.setIcon(loadPokemonImage(currentOpponentPokemon, true));
         battlegroundPanel.add(opponentPokemonImage);
     
         // Player Pokémon sprite - INITIALLY HIDDEN
@@ -262,12 +290,42 @@ public abstract class BattleScreen extends JFrame {
         playerPokemonImage.setVisible(false); // Start hidden
         battlegroundPanel.add(playerPokemonImage);
         
-        // Initialize player battle view
-        initializePlayerBattleView();
-        
         createInfoBoxes();
     }
     
+    // Points the battleground at this battle's location, Pokémon and player
+    private void bindBattleground() {
+        switch (battleLocation.toLowerCase()) {
+            case "city":
+                battlegroundPanel.setBackground(new Color(180, 210, 230));
+                break;
+            case "cave":
+                battlegroundPanel.setBackground(new Color(100, 100, 120));
+                break;
+            case "route":
+            default:
+                battlegroundPanel.setBackground(new Color(144, 238, 144));
+                break;
+        }
+        
+        updateOpponentDisplay(currentOpponentPokemon);
+        
+        playerPokemonImage.setVisible(false);
+        playerPokemonInfo.setText(playerPokemon.getName() + " L" + playerPokemon.getLevel());
+        playerPokemonHP.setMaximum(playerPokemon.getStats().getMaxHp());
+        updatePlayerPokemonHP();
+        updatePlayerExpBar();
+        
+        if (playerBattleView == null || playerBattleView.getPlayer() != player) {
+            initializePlayerBattleView();
+        }
+        playerBattleView.updateDirection(Player.Direction.BACK);
+        playerBattleView.stopThrowingAnimation();
+        if (pokeballSprite != null) {
+            pokeballSprite.setVisible(false);
+        }
+    }
+    
     // Separate method for creating info boxes to keep code clean
     private void createInfoBoxes() {
         // Opponent Pokémon info box
@@ -276,7 +334,7 @@ public abstract class BattleScreen extends JFrame {
         opponentInfoBox.setBackground(new Color(248, 248, 240));
         opponentInfoBox.setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
         
-        opponentPokemonInfo = new JLabel(currentOpponentPokemon.getName() + " L" + currentOpponentPokemon.getLevel());
+        opponentPokemonInfo = new JLabel();
         opponentPokemonInfo.setBounds(20, 10, 200, 30);
         opponentPokemonInfo.setFont(new Font("Arial", Font.BOLD, 16));
         opponentInfoBox.add(opponentPokemonInfo);
@@ -286,8 +344,7 @@ public abstract class BattleScreen extends JFrame {
         opponentHpText.setFont(new Font("Arial", Font.PLAIN, 12));
         opponentInfoBox.add(opponentHpText);
         
-        opponentPokemonHP = new JProgressBar(0, currentOpponentPokemon.getStats().getMaxHp());
-        opponentPokemonHP.setValue(currentOpponentPokemon.getStats().getCurrentHp());
+        opponentPokemonHP = new JProgressBar();
         opponentPokemonHP.setBounds(50, 40, 150, 10);
         opponentPokemonHP.setForeground(new Color(96, 192, 96));
         opponentPokemonHP.setBackground(new Color(224, 224, 224));
@@ -303,7 +360,7 @@ public abstract class BattleScreen extends JFrame {
         playerInfoBox.setBackground(new Color(248, 248, 240));
         playerInfoBox.setBorder(BorderFactory.createLineBorder(Color.BLACK, 2));
         
-        playerPokemonInfo = new JLabel(playerPokemon.getName() + " L" + playerPokemon.getLevel());
+        playerPokemonInfo = new JLabel();
         playerPokemonInfo.setBounds(20, 10, 200, 30);
         playerPokemonInfo.setFont(new Font("Arial", Font.BOLD, 16));
         playerInfoBox.add(playerPokemonInfo);
@@ -313,8 +370,7 @@ public abstract class BattleScreen extends JFrame {
         playerHpText.setFont(new Font("Arial", Font.PLAIN, 12));
         playerInfoBox.add(playerHpText);
         
-        playerPokemonHP = new JProgressBar(0, playerPokemon.getStats().getMaxHp());
-        playerPokemonHP.setValue(playerPokemon.getStats().getCurrentHp());
+        playerPokemonHP = new JProgressBar();
         playerPokemonHP.setBounds(50, 40, 150, 10);
         playerPokemonHP.setForeground(new Color(96, 192, 96));
         playerPokemonHP.setBackground(new Color(224, 224, 224));
@@ -322,7 +378,7 @@ public abstract class BattleScreen extends JFrame {
         playerPokemonHP.setStringPainted(false);
         playerInfoBox.add(playerPokemonHP);
     
-        hpValueLabel = new JLabel(playerPokemon.getStats().getCurrentHp() + "/" + playerPokemon.getStats().getMaxHp());
+        hpValueLabel = new JLabel();
         hpValueLabel.setBounds(130, 60, 100, 15);
         hpValueLabel.setFont(new Font("Arial", Font.PLAIN, 12));
         hpValueLabel.setHorizontalAlignment(JLabel.RIGHT);
@@ -335,13 +391,6 @@ public abstract class BattleScreen extends JFrame {
         playerExpBar.setBorderPainted(false);
         playerExpBar.setStringPainted(false);
     
-        int currentLevelExp = playerPokemon.getLevelManager().getCurrentLevelExp();
-        int expToNextLevel = playerPokemon.getLevelManager().getExpToNextLevel();
-        
-        playerExpBar.setMinimum(0);
-        playerExpBar.setMaximum(currentLevelExp + expToNextLevel);
-        playerExpBar.setValue(currentLevelExp);
-    
         playerInfoBox.add(playerExpBar);
         battlegroundPanel.add(playerInfoBox);
     }
@@ -358,11 +407,20 @@ public abstract class BattleScreen extends JFrame {
         playerBattleView.hidePlayer();
     }
     
+    // The next begin shows this sprite for opponent instead of loading it again
+    protected void usePreparedSprite(Pokemon opponent, ImageIcon sprite) {
+        this.preparedOpponent = opponent;
+        this.preparedOpponentSprite = sprite;
+    }
+    
     protected void updateOpponentDisplay(Pokemon newOpponent) {
         this.currentOpponentPokemon = newOpponent;
         
         // Update sprite
-        opponentPokemonImage.setIcon(loadPokemonImage(currentOpponentPokemon, true));
+        opponentPokemonImage.setIcon(newOpponent == preparedOpponent
+                ? preparedOpponentSprite : BattleSprites.loadPokemon(newOpponent, true));
+        preparedOpponent = null;
+        preparedOpponentSprite = null;
         
         // Update info
         opponentPokemonInfo.setText(currentOpponentPokemon.getName() + " L" + currentOpponentPokemon.getLevel());
@@ -528,40 +586,21 @@ public abstract class BattleScreen extends JFrame {
     }
     
     protected void startBattleSequence() {
-        mainPanel.remove(actionPanel);
-        mainPanel.add(infoPanel, BorderLayout.SOUTH);
+        switchToPanel(infoPanel);
         
-        animationTimer = new Timer(1000, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                animationStep++;
+        timeline.afterText(1000, () -> battleMessageLabel.setText(getInitialBattleMessage()));
+        timeline.afterText(2000, () -> {
+            battleMessageLabel.setText("Go, " + playerPokemon.getName() + "!");
+            // Play pokeball throwing animation - Pokemon sprite appears AFTER this
+            playPokeballThrowAnimation(() -> timeline.after(500, () -> {
+                battleMessageLabel.setText("What will " + playerPokemon.getName() + " do?");
                 
-                switch (animationStep) {
-                    case 1:
-                        battleMessageLabel.setText(getInitialBattleMessage());
-                        break;
-                    case 2:
-                        battleMessageLabel.setText("Go, " + playerPokemon.getName() + "!");
-                        // Play pokeball throwing animation - Pokemon sprite appears AFTER this
-                        playPokeballThrowAnimation(() -> {
-                            Timer continueTimer = new Timer(500, event -> {
-                                battleMessageLabel.setText("What will " + playerPokemon.getName() + " do?");
-                                
-                                mainPanel.remove(infoPanel);
-                                mainPanel.add(actionPanel, BorderLayout.SOUTH);
-                                mainPanel.revalidate();
-                                mainPanel.repaint();
-                            });
-                            continueTimer.setRepeats(false);
-                            continueTimer.start();
-                        });
-                        animationTimer.stop();
-                        break;
-                }
-            }
+                mainPanel.remove(infoPanel);
+                mainPanel.add(actionPanel, BorderLayout.SOUTH);
+                mainPanel.revalidate();
+                mainPanel.repaint();
+            }));
         });
-        
-        animationTimer.start();
     }
     
     protected void showMovePanel() {
@@ -588,181 +627,249 @@ public abstract class BattleScreen extends JFrame {
     
         playerTurn = false;
         
-        if (move.getCurrentPP() <= 0) {
-            showInfoPanel("No PP left for " + move.getName() + "!");
-            
-            animationTimer = new Timer(2000, new ActionListener() {
-                @Override
-                public void actionPerformed(ActionEvent e) {
-                    animationTimer.stop();
-                    animationStep = 0;
-                    opponentPokemonAttack();
-                }
-            });
-            
-            animationTimer.start();
-            return;
+        // With no PP left on any move the Pokémon can only Struggle
+        boolean hasPP = false;
+        for (Move m : playerPokemon.getMoves()) {
+            if (m != null && m.getCurrentPP() > 0) {
+                hasPP = true;
+                break;
+            }
         }
+        runTurn(BattleAction.fight(hasPP ? move : null));
+    }
+    
+    // Resolve the whole turn up front, then play it back message by message
+    protected void runTurn(BattleAction playerAction) {
+        switchToPanel(infoPanel);
+        List<BattleEvent> events = battleEngine.resolveTurn(battleState, playerAction, chooseOpponentAction());
+        playEvents(new ArrayDeque<>(events), this::afterTurn);
+    }
+    
+    protected BattleAction chooseOpponentAction() {
+        int slot = opponentPolicy.chooseMove(CompactBattle.of(battleState), Side.OPPONENT, aiRandom);
+        return BattleAction.fightSlot(battleState.getActive(Side.OPPONENT), slot);
+    }
+    
+    private void playEvents(Deque<BattleEvent> events, Runnable onDone) {
+        if (closed) return;
         
-        move.decreasePP();
-        showInfoPanel(playerPokemon.getName() + " used " + move.getName() + "!");
+        BattleEvent event = events.poll();
+        if (event == null) {
+            onDone.run();
+            return;
+        }
+        Runnable next = () -> playEvents(events, onDone);
         
-        int damage = calculateDamage(playerPokemon, currentOpponentPokemon, move);
-        double typeEffectiveness = calculateTypeEffectiveness(move.getType(), currentOpponentPokemon.getTypes());
+        if (event.getType() == BattleEvent.Type.SENT_OUT && event.getSide() == Side.PLAYER) {
+            battleMessageLabel.setText("Go, " + event.getPokemon().getName() + "!");
+            sendOutPlayerPokemon(event.getPokemon(), () -> timeline.after(500, next));
+            return;
+        }
         
-        animationTimer = new Timer(1000, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                animationStep++;
-                
-                switch (animationStep) {
-                    case 1:
-                        if (typeEffectiveness > 1.9) {
-                            battleMessageLabel.setText("It's super effective!");
-                        } else if (typeEffectiveness < 0.1) {
-                            battleMessageLabel.setText("It has no effect...");
-                        } else if (typeEffectiveness < 0.6) {
-                            battleMessageLabel.setText("It's not very effective...");
-                        }
-                        break;
-                    case 2:
-                        currentOpponentPokemon.damage(damage);
-                        updateOpponentPokemonHP();
-                        
-                        if (damage > 0) {
-                            battleMessageLabel.setText("It dealt " + damage + " damage!");
-                        } else {
-                            battleMessageLabel.setText("It had no effect...");
-                        }
-                        break;
-                    case 3:
-                        if (currentOpponentPokemon.getStats().getCurrentHp() <= 0) {
-                            battleMessageLabel.setText("The " + currentOpponentPokemon.getName() + " fainted!");
-                            battleEnded = true;
-                            
-                            Timer expTimer = new Timer(1500, event -> handleOpponentFainted());
-                            expTimer.setRepeats(false);
-                            expTimer.start();
-                        } else {
-                            animationTimer.stop();
-                            opponentPokemonAttack();
-                        }
-                        break;
+        applyEvent(event);
+        String message = describeEvent(event);
+        if (message == null) {
+            next.run();
+        } else {
+            battleMessageLabel.setText(message);
+            timeline.afterText(MESSAGE_DELAY, next);
+        }
+    }
+    
+    // Bring the HP bars, sprites and labels in line with an event as it is shown
+    private void applyEvent(BattleEvent event) {
+        boolean isPlayer = event.getSide() == Side.PLAYER;
+        switch (event.getType()) {
+            case DAMAGE:
+            case RECOIL:
+            case STATUS_DAMAGE:
+            case CONFUSION_DAMAGE:
+            case HEALED:
+                if (isPlayer) {
+                    updatePlayerPokemonHP(event.getHp(), event.getMaxHp());
+                } else {
+                    updateOpponentPokemonHP(event.getHp(), event.getMaxHp());
                 }
-            }
-        });
-        
-        animationStep = 0;
-        animationTimer.start();
+                break;
+            case EXP_GAINED:
+                updatePlayerExpBar();
+                break;
+            case LEVEL_UP:
+                playerPokemonInfo.setText(playerPokemon.getName() + " L" + event.getAmount());
+                playerPokemonHP.setMaximum(event.getMaxHp());
+                updatePlayerPokemonHP(event.getHp(), event.getMaxHp());
+                updatePlayerExpBar();
+                break;
+            case MOVE_LEARNED:
+                if (event.getPokemon() == playerPokemon) {
+                    createMovePanel();
+                }
+                break;
+            case WITHDRAWN:
+                if (isPlayer) {
+                    playerPokemonImage.setVisible(false);
+                }
+                break;
+            case SENT_OUT:
+                updateOpponentDisplay(event.getPokemon());
+                break;
+            case CAUGHT:
+                player.addPokemonToCurrentTeam(event.getPokemon());
+                break;
+            default:
+                break;
+        }
     }
     
-    protected void opponentPokemonAttack() {
-        List<Move> opponentMoves = currentOpponentPokemon.getMoves();
-        List<Move> usableMoves = new ArrayList<>();
-        
-        for (Move move : opponentMoves) {
-            if (move != null && move.getCurrentPP() > 0) {
-                usableMoves.add(move);
-            }
+    protected String describeEvent(BattleEvent event) {
+        Pokemon pokemon = event.getPokemon();
+        String name = pokemon != null ? pokemon.getName() : "";
+        // Opponent Pokémon are referred to as "The X", like the original messages
+        String subject = event.getSide() == Side.OPPONENT ? "The " + name : name;
+        
+        switch (event.getType()) {
+            case MOVE_USED:
+                return subject + " used " + event.getDetail() + "!";
+            case NO_PP:
+                return "No PP left for " + event.getDetail() + "!";
+            case MISSED:
+                return subject + "'s attack missed!";
+            case EFFECTIVENESS:
+                if (event.getMultiplier() > 1.9) {
+                    return "It's super effective!";
+                } else if (event.getMultiplier() < 0.1) {
+                    return "It has no effect...";
+                } else if (event.getMultiplier() < 0.6) {
+                    return "It's not very effective...";
+                }
+                return null;
+            case DAMAGE:
+                return "It dealt " + event.getAmount() + " damage!";
+            case RECOIL:
+                return subject + " is hurt by recoil!";
+            case NO_EFFECT:
+                return "But nothing happened!";
+            case STATUS_APPLIED:
+                return subject + " " + describeStatusApplied(event.getDetail());
+            case STATUS_PREVENTED:
+                return subject + " " + describeStatusPrevented(event.getDetail());
+            case STATUS_CURED:
+                return subject + " " + describeStatusCured(event.getDetail());
+            case STATUS_DAMAGE:
+                return subject + (Move.StatusEffect.BURN.name().equals(event.getDetail())
+                        ? " is hurt by its burn!" : " is hurt by poison!");
+            case CONFUSION_DAMAGE:
+                return "It hurt itself in its confusion!";
+            case STAT_CHANGED:
+                return subject + "'s " + event.getDetail() + (event.getAmount() > 0 ? " rose!" : " fell!");
+            case FAINTED:
+                return subject + " fainted!";
+            case EXP_GAINED:
+                return name + " gained " + event.getAmount() + " EXP. Points!";
+            case LEVEL_UP:
+                return name + " grew to level " + event.getAmount() + "!";
+            case MOVE_FORGOTTEN:
+                return name + " forgot " + event.getDetail() + "...";
+            case MOVE_LEARNED:
+                return name + " learned " + event.getDetail() + "!";
+            case WITHDRAWN:
+                return event.getSide() == Side.PLAYER ? "Come back " + name + "!" : "The opponent withdrew " + name + "!";
+            case SENT_OUT:
+                return getSendOutMessage(pokemon);
+            case ITEM_USED:
+                return "Used " + event.getDetail() + "!";
+            case HEALED:
+                return event.getDetail().toLowerCase().contains("berry")
+                        ? name + " ate the " + event.getDetail() + "!"
+                        : name + " was healed!";
+            case BALL_THROWN:
+                return "You threw a " + event.getDetail() + "!";
+            case BALL_SHAKE:
+                return "Shake...";
+            case CAUGHT:
+                return "Gotcha! " + name + " was caught!";
+            case BROKE_FREE:
+                return "Oh no! The Pokémon broke free!";
+            case FLED:
+                return "Got away safely!";
+            default:
+                return null;
         }
-        
-        if (usableMoves.isEmpty()) {
-            queueMessage("The " + currentOpponentPokemon.getName() + " used Struggle!");
-            
-            int damage = Math.max(1, currentOpponentPokemon.getStats().getMaxHp() / 4);
-            playerPokemon.damage(damage);
-            currentOpponentPokemon.damage(currentOpponentPokemon.getStats().getMaxHp() / 4);
-            
-            updatePlayerPokemonHP();
-            updateOpponentPokemonHP();
-            
-            queueMessage("It dealt " + damage + " damage!");
-            queueMessage("The " + currentOpponentPokemon.getName() + " is hurt by recoil!");
-        } else {
-            Move selectedMove = selectBestMove(usableMoves);
-            selectedMove.decreasePP();
-            
-            queueMessage("The " + currentOpponentPokemon.getName() + " used " + selectedMove.getName() + "!");
-            
-            int damage = calculateDamage(currentOpponentPokemon, playerPokemon, selectedMove);
-            double typeEffectiveness = calculateTypeEffectiveness(selectedMove.getType(), playerPokemon.getTypes());
-            
-            playerPokemon.damage(damage);
-            updatePlayerPokemonHP();
-            
-            if (typeEffectiveness > 1.9) {
-                queueMessage("It's super effective!");
-            } else if (typeEffectiveness < 0.1) {
-                queueMessage("It has no effect...");
-            } else if (typeEffectiveness < 0.6) {
-                queueMessage("It's not very effective...");
-            }
-            
-            queueMessage("It dealt " + damage + " damage!");
+    }
+    
+    private static String describeStatusApplied(String status) {
+        switch (Move.StatusEffect.valueOf(status)) {
+            case BURN:
+                return "was burned!";
+            case FREEZE:
+                return "was frozen solid!";
+            case PARALYSIS:
+                return "is paralyzed! It may be unable to move!";
+            case POISON:
+                return "was poisoned!";
+            case SLEEP:
+                return "fell asleep!";
+            case CONFUSION:
+                return "became confused!";
+            default:
+                return "was affected!";
         }
-        
-        checkBattleEnd();
     }
     
-    protected void checkBattleEnd() {
-        if (currentOpponentPokemon.getStats().getCurrentHp() <= 0) {
-            queueMessage("The " + currentOpponentPokemon.getName() + " fainted!");
-            handleOpponentFainted();
-            return;
+    private static String describeStatusPrevented(String status) {
+        switch (Move.StatusEffect.valueOf(status)) {
+            case SLEEP:
+                return "is fast asleep!";
+            case FREEZE:
+                return "is frozen solid!";
+            default:
+                return "is fully paralyzed!";
         }
-        
-        if (playerPokemon.getStats().getCurrentHp() <= 0) {
-            queueMessage(playerPokemon.getName() + " fainted!");
-            
-            boolean hasUsablePokemon = false;
-            for (Pokemon p : player.getTeam()) {
-                if (p != playerPokemon && p.getStats().getCurrentHp() > 0) {
-                    hasUsablePokemon = true;
+    }
+    
+    private static String describeStatusCured(String status) {
+        switch (Move.StatusEffect.valueOf(status)) {
+            case SLEEP:
+                return "woke up!";
+            case FREEZE:
+                return "thawed out!";
+            default:
+                return "snapped out of its confusion!";
+        }
+    }
+    
+    // Message shown when the opponent sends out its next Pokémon
+    protected String getSendOutMessage(Pokemon pokemon) {
+        return "The opponent sent out " + pokemon.getName() + "!";
+    }
+    
+    private void afterTurn() {
+        if (battleState.isOver()) {
+            battleEnded = true;
+            switch (battleState.getOutcome()) {
+                case PLAYER_WON:
+                    handleBattleEnd(true);
+                    break;
+                case OPPONENT_WON:
+                    handleBattleEnd(false);
+                    break;
+                default:
+                    // Caught or ran away
+                    timeline.after(2000, this::close);
                     break;
-                }
-            }
-            
-            if (hasUsablePokemon) {
-                queueMessage("Choose your next Pokemon!");
-                
-                Timer forceSwitch = new Timer(2000, e -> {
-                    switchPokemon();
-                });
-                forceSwitch.setRepeats(false);
-                forceSwitch.start();
-            } else {
-                battleEnded = true;
-                handleBattleEnd(false);
             }
-            
             return;
         }
         
-        if (!battleEnded) {
-            Timer returnTimer = new Timer(1500, e -> {
-                battleMessageLabel.setText("What will " + playerPokemon.getName() + " do?");
-                switchToPanel(actionPanel);
-                playerTurn = true;
-            });
-            returnTimer.setRepeats(false);
-            returnTimer.start();
+        if (battleState.isPlayerSwitchRequired()) {
+            battleMessageLabel.setText("Choose your next Pokemon!");
+            timeline.after(MESSAGE_DELAY, this::switchPokemon);
+            return;
         }
-    }
-    
-    private Move selectBestMove(List<Move> usableMoves) {
-        Random random = new Random();
         
-        if (random.nextDouble() < 0.7) {
-            Move bestMove = usableMoves.get(0);
-            for (Move move : usableMoves) {
-                if (move.getPower() > bestMove.getPower()) {
-                    bestMove = move;
-                }
-            }
-            return bestMove;
-        } else {
-            return usableMoves.get(random.nextInt(usableMoves.size()));
-        }
+        battleMessageLabel.setText("What will " + playerPokemon.getName() + " do?");
+        switchToPanel(actionPanel);
+        playerTurn = true;
     }
     
     protected void switchToPanel(JPanel newPanel) {
@@ -791,9 +898,11 @@ public abstract class BattleScreen extends JFrame {
     }
     
     protected void updateOpponentPokemonHP() {
-        int currentHP = currentOpponentPokemon.getStats().getCurrentHp();
-        int maxHP = currentOpponentPokemon.getStats().getMaxHp();
-        
+        updateOpponentPokemonHP(currentOpponentPokemon.getStats().getCurrentHp(), 
+                                currentOpponentPokemon.getStats().getMaxHp());
+    }
+    
+    protected void updateOpponentPokemonHP(int currentHP, int maxHP) {
         currentHP = Math.max(0, currentHP);
         opponentPokemonHP.setValue(currentHP);
         
@@ -802,13 +911,16 @@ public abstract class BattleScreen extends JFrame {
             opponentPokemonHP.setForeground(Color.RED);
         } else if (percentage < 0.5) {
             opponentPokemonHP.setForeground(Color.ORANGE);
+        } else {
+            opponentPokemonHP.setForeground(new Color(96, 192, 96));
         }
     }
     
     protected void updatePlayerPokemonHP() {
-        int currentHP = playerPokemon.getStats().getCurrentHp();
-        int maxHP = playerPokemon.getStats().getMaxHp();
-        
+        updatePlayerPokemonHP(playerPokemon.getStats().getCurrentHp(), playerPokemon.getStats().getMaxHp());
+    }
+    
+    protected void updatePlayerPokemonHP(int currentHP, int maxHP) {
         currentHP = Math.max(0, currentHP);
         playerPokemonHP.setValue(currentHP);
         hpValueLabel.setText(currentHP + "/" + maxHP);
@@ -822,33 +934,6 @@ public abstract class BattleScreen extends JFrame {
             playerPokemonHP.setForeground(new Color(96, 192, 96));
         }
     }
-
-    protected int calculateDamage(Pokemon attacker, Pokemon defender, Move move) {
-        int attackStat = (move.getCategory() == Move.MoveCategory.PHYSICAL) ? 
-                          attacker.getStats().getAttack() : 
-                          attacker.getStats().getSpecialAtk();
-        
-        int defenseStat = (move.getCategory() == Move.MoveCategory.PHYSICAL) ? 
-                           defender.getStats().getDefense() : 
-                           defender.getStats().getSpecialDef();
-        
-        double damage = (((2 * attacker.getLevel() / 5.0) + 2) * move.getPower() * attackStat / defenseStat) / 50 + 2;
-        
-        if (attacker.getTypes().contains(move.getType())) {
-            damage *= 1.5;
-        }
-        
-        double typeEffectiveness = calculateTypeEffectiveness(move.getType(), defender.getTypes());
-        damage *= typeEffectiveness;
-        
-        damage *= (0.85 + new Random().nextDouble() * 0.15);
-        
-        return (int) damage;
-    }
-    
-    protected double calculateTypeEffectiveness(Pokemon.PokemonType moveType, List<Pokemon.PokemonType> defenderTypes) {
-        return TypeEffectivenessChart.getInstance().getEffectiveness(moveType, defenderTypes);
-    }
     
     protected void openBag() {
         JPanel bagPanel = createMainBagPanel();
@@ -1042,9 +1127,27 @@ public abstract class BattleScreen extends JFrame {
         }
     }
 
+    // Runs the action once every queued message has had its full time on screen
+    protected void afterMessages(Runnable action) {
+        if (!isDisplayingMessages) {
+            action.run();
+            return;
+        }
+        Runnable earlier = afterMessages;
+        afterMessages = earlier == null ? action : () -> {
+            earlier.run();
+            action.run();
+        };
+    }
+
     private void displayNextMessage() {
         if (messageQueue.isEmpty()) {
             isDisplayingMessages = false;
+            Runnable action = afterMessages;
+            afterMessages = null;
+            if (action != null) {
+                action.run();
+            }
             return;
         }
         
@@ -1052,9 +1155,7 @@ public abstract class BattleScreen extends JFrame {
         String message = messageQueue.poll();
         battleMessageLabel.setText(message);
         
-        Timer messageTimer = new Timer(1500, e -> displayNextMessage());
-        messageTimer.setRepeats(false);
-        messageTimer.start();
+        timeline.afterText(MESSAGE_DELAY, this::displayNextMessage);
     }
     
     private String getItemType(Item item) {
@@ -1080,215 +1181,31 @@ public abstract class BattleScreen extends JFrame {
     protected void useItem(Item item) {
         String itemName = item.getName().toLowerCase();
         
-        if (!canUsePokeballs() && itemName.contains("ball") && !itemName.contains("berry")) {
+        if (!canUsePokeballs() && item instanceof Pokeball) {
             showInfoPanel("You can't use Poké Balls in this battle!");
-            
-            Timer returnTimer = new Timer(1500, e -> {
-                openBag();
-            });
-            returnTimer.setRepeats(false);
-            returnTimer.start();
+            timeline.afterText(MESSAGE_DELAY, this::openBag);
             return;
         }
         
-        showInfoPanel("Used " + item.getName() + "!");
-        
-        boolean itemUsed = false;
+        if (!playerTurn || battleEnded) return;
+        playerTurn = false;
         
-        if (itemName.contains("ball") && !itemName.contains("berry")) {
-            attemptCatch((Pokeball) item);
-            itemUsed = true;
-        } else if (itemName.contains("potion") || itemName.contains("heal")) {
-            int healAmount = 20;
-            
-            if (itemName.contains("super")) {
-                healAmount = 50;
-            } else if (itemName.contains("hyper")) {
-                healAmount = 200;
-            } else if (itemName.contains("max")) {
-                healAmount = playerPokemon.getStats().getMaxHp();
-            }
-            
-            int currentHP = playerPokemon.getStats().getCurrentHp();
-            int maxHP = playerPokemon.getStats().getMaxHp();
-            int newHP = Math.min(currentHP + healAmount, maxHP);
-            
-            playerPokemon.getStats().setCurrentHp(newHP);
-            updatePlayerPokemonHP();
-            itemUsed = true;
-            
-            animationTimer = new Timer(1000, new ActionListener() {
-                @Override
-                public void actionPerformed(ActionEvent e) {
-                    animationStep++;
-                    
-                    switch (animationStep) {
-                        case 1:
-                            battleMessageLabel.setText(playerPokemon.getName() + " was healed!");
-                            break;
-                        case 2:
-                            playerTurn = false;
-                            opponentPokemonAttack();
-                            break;
-                        case 3:
-                            if (playerPokemon.getStats().getCurrentHp() <= 0) {
-                                battleMessageLabel.setText(playerPokemon.getName() + " fainted!");
-                                battleEnded = true;
-                            } else {
-                                battleMessageLabel.setText("What will " + playerPokemon.getName() + " do?");
-                                animationTimer.stop();
-                                animationStep = 0;
-                                playerTurn = true;
-                                
-                                mainPanel.remove(infoPanel);
-                                mainPanel.add(actionPanel, BorderLayout.SOUTH);
-                                mainPanel.revalidate();
-                                mainPanel.repaint();
-                            }
-                            break;
-                    }
-                }
-            });
-            
-            animationStep = 0;
-            animationTimer.start();
-        } else if (itemName.contains("berry")) {
-            if (itemName.contains("oran")) {
-                int currentHP = playerPokemon.getStats().getCurrentHp();
-                int maxHP = playerPokemon.getStats().getMaxHp();
-                int newHP = Math.min(currentHP + 10, maxHP);
-                
-                playerPokemon.getStats().setCurrentHp(newHP);
-                updatePlayerPokemonHP();
-                itemUsed = true;
-            } else if (itemName.contains("sitrus")) {
-                int maxHP = playerPokemon.getStats().getMaxHp();
-                int healAmount = maxHP / 4;
-                int currentHP = playerPokemon.getStats().getCurrentHp();
-                int newHP = Math.min(currentHP + healAmount, maxHP);
-                
-                playerPokemon.getStats().setCurrentHp(newHP);
-                updatePlayerPokemonHP();
-                itemUsed = true;
-            }
-            
-            animationTimer = new Timer(1000, new ActionListener() {
-                @Override
-                public void actionPerformed(ActionEvent e) {
-                    animationStep++;
-                    
-                    switch (animationStep) {
-                        case 1:
-                            battleMessageLabel.setText(playerPokemon.getName() + " ate the " + item.getName() + "!");
-                            break;
-                        case 2:
-                            playerTurn = false;
-                            opponentPokemonAttack();
-                            break;
-                        case 3:
-                            if (playerPokemon.getStats().getCurrentHp() <= 0) {
-                                battleMessageLabel.setText(playerPokemon.getName() + " fainted!");
-                                battleEnded = true;
-                            } else {
-                                battleMessageLabel.setText("What will " + playerPokemon.getName() + " do?");
-                                animationTimer.stop();
-                                animationStep = 0;
-                                playerTurn = true;
-                                
-                                mainPanel.remove(infoPanel);
-                                mainPanel.add(actionPanel, BorderLayout.SOUTH);
-                                mainPanel.revalidate();
-                                mainPanel.repaint();
-                            }
-                            break;
-                    }
-                }
-            });
-            
-            animationStep = 0;
-            animationTimer.start();
-        }
+        LOG.debug("Using {} in battle", itemName);
+        runTurn(BattleAction.useItem(item));
         
-        if (itemUsed) {
-            item.decreaseQuantity();
-            if (item.getQuantity() <= 0) {
-                player.removeItem(item);
-            }
+        // The engine consumes the item; drop it from the bag once it runs out
+        if (item.getQuantity() <= 0) {
+            player.removeItem(item);
         }
     }
-    
-    private void attemptCatch(Pokeball pokeball) {
-        double catchRate = pokeball.getCatchRate();
-        
-        double hpFactor = 1.0 - ((double) currentOpponentPokemon.getStats().getCurrentHp() / currentOpponentPokemon.getStats().getMaxHp()) * 0.7;
-        catchRate *= (1.0 + hpFactor);
-        
-        catchRate = Math.min(1.0, Math.max(0.0, catchRate));
-        
-        boolean catchSuccess = Math.random() < catchRate;
-        
-        animationTimer = new Timer(1000, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                animationStep++;
-                
-                switch (animationStep) {
-                    case 1:
-                        battleMessageLabel.setText("You threw a " + pokeball.getName() + "!");
-                        break;
-                    case 2:
-                        battleMessageLabel.setText("Shake...");
-                        break;
-                    case 3:
-                        battleMessageLabel.setText("Shake...");
-                        break;
-                    case 4:
-                        battleMessageLabel.setText("Shake...");
-                        break;
-                    case 5:
-                        if (catchSuccess) {
-                            battleMessageLabel.setText("Gotcha! " + currentOpponentPokemon.getName() + " was caught!");
-                            player.addPokemonToCurrentTeam(currentOpponentPokemon);
-                            battleEnded = true;
-                            
-                            Timer closeTimer = new Timer(2000, event -> dispose());
-                            closeTimer.setRepeats(false);
-                            closeTimer.start();
-                        } else {
-                            battleMessageLabel.setText("Oh no! The Pokémon broke free!");
-                            
-                            Timer nextTurn = new Timer(1500, event -> {
-                                playerTurn = false;
-                                opponentPokemonAttack();
-                                
-                                animationStep = 0;
-                            });
-                            nextTurn.setRepeats(false);
-                            nextTurn.start();
-                        }
-                        break;
-                }
-            }
-        });
-        
-        animationStep = 0;
-        animationTimer.start();
-    }
 
     protected void switchPokemon() {
         if (player.getTeam().size() <= 1) {
             showInfoPanel("You tried to switch Pokémon...");
-            Timer switchTimer = new Timer(2000, e -> {
+            timeline.afterText(2000, () -> {
                 showInfoPanel("But you have no other Pokémon to switch to!");
-                
-                Timer returnTimer = new Timer(1500, event -> {
-                    switchToPanel(actionPanel);
-                });
-                returnTimer.setRepeats(false);
-                returnTimer.start();
+                timeline.afterText(MESSAGE_DELAY, () -> switchToPanel(actionPanel));
             });
-            switchTimer.setRepeats(false);
-            switchTimer.start();
         } else {
             JPanel pokemonSelectionPanel = createPokemonSelectionPanel();
             switchToPanel(pokemonSelectionPanel);
@@ -1372,143 +1289,53 @@ public abstract class BattleScreen extends JFrame {
         buttonPanel.add(backButton);
         pokemonSelectionPanel.add(buttonPanel, BorderLayout.SOUTH);
         
+        // A fainted Pokémon has to be replaced, so there is nothing to go back to
+        backButton.setVisible(!battleState.isPlayerSwitchRequired());
+        
         return pokemonSelectionPanel;
     }
     
     private void performSwitch(Pokemon newPokemon) {
-        switchToPanel(infoPanel);
+        int teamIndex = player.getTeam().indexOf(newPokemon);
         
-        battleMessageLabel.setText("Come back " + playerPokemon.getName() + "!");
-        
-        animationTimer = new Timer(1000, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                animationStep++;
-                
-                switch (animationStep) {
-                    case 1:
-                        // Hide current Pokemon sprite
-                        playerPokemonImage.setVisible(false);
-                        
-                        playerPokemon = newPokemon;
-                        battleMessageLabel.setText("Go, " + playerPokemon.getName() + "!");
-                        
-                        // Play throwing animation for new Pokemon
-                        playPokeballThrowAnimation(() -> {
-                            // Update UI after animation completes and sprite is shown
-                            playerPokemonInfo.setText(playerPokemon.getName() + " L" + playerPokemon.getLevel());
-                            
-                            playerPokemonHP.setMaximum(playerPokemon.getStats().getMaxHp());
-                            playerPokemonHP.setValue(playerPokemon.getStats().getCurrentHp());
-                            hpValueLabel.setText(playerPokemon.getStats().getCurrentHp() + "/" + playerPokemon.getStats().getMaxHp());
-                            
-                            createMovePanel();
-                            updatePlayerExpBar();
-                            
-                            // Continue with opponent's turn
-                            Timer opponentTurnTimer = new Timer(1000, event -> {
-                                playerTurn = false;
-                                opponentPokemonAttack();
-                                animationTimer.stop();
-                            });
-                            opponentTurnTimer.setRepeats(false);
-                            opponentTurnTimer.start();
-                        });
-                        break;
-                }
-            }
-        });
-        
-        animationStep = 0;
-        animationTimer.start();
-    }
-    
-    protected void attemptRun() {
-        if (!canRun()) {
-            showInfoPanel("You can't run from a trainer battle!");
-            
-            Timer returnTimer = new Timer(1500, e -> {
-                switchToPanel(actionPanel);
-            });
-            returnTimer.setRepeats(false);
-            returnTimer.start();
-            return;
+        if (battleState.isPlayerSwitchRequired()) {
+            // Replacing a fainted Pokémon does not cost a turn
+            switchToPanel(infoPanel);
+            List<BattleEvent> events = battleEngine.replaceFainted(battleState, teamIndex);
+            playEvents(new ArrayDeque<>(events), this::afterTurn);
+        } else {
+            playerTurn = false;
+            runTurn(BattleAction.switchTo(teamIndex));
         }
-        
-        showInfoPanel("Got away safely!");
-        
-        Timer runTimer = new Timer(2000, e -> dispose());
-        runTimer.setRepeats(false);
-        runTimer.start();
     }
     
-    private ImageIcon loadPokemonImage(Pokemon pokemon, boolean isWild) {
-        BufferedImage image = null;
-        int dexNumber = pokemon.getDex();
+    // Throw animation for a Pokémon entering mid-battle, then refresh its info box and moves
+    private void sendOutPlayerPokemon(Pokemon newPokemon, Runnable onComplete) {
+        playerPokemonImage.setVisible(false);
+        playerPokemon = newPokemon;
         
-        try {
-            String spritePath = "sprites/sprites/pokemon/";
-            
-            if (!isWild) {
-                spritePath += "/back";
-            }
+        playPokeballThrowAnimation(() -> {
+            playerPokemonInfo.setText(playerPokemon.getName() + " L" + playerPokemon.getLevel());
             
-            if (pokemon.getIsShiny()) {
-                spritePath += "/shiny";
-            }
-            
-            spritePath += "/" + dexNumber + ".png";
-            
-            File file = new File(spritePath);
-            if (file.exists()) {
-                image = javax.imageio.ImageIO.read(file);
-            }
+            playerPokemonHP.setMaximum(playerPokemon.getStats().getMaxHp());
+            updatePlayerPokemonHP();
             
-            if (image != null) {
-                int width = 150;
-                int height = 150;
-                
-                BufferedImage scaledImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-                Graphics2D g2d = scaledImage.createGraphics();
-                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-                g2d.drawImage(image, 0, 0, width, height, null);
-                g2d.dispose();
-                
-                return new ImageIcon(scaledImage);
-            }
-        } catch (Exception e) {
-            System.err.println("Error loading Pokémon sprite: " + e.getMessage());
-        }
-        
-        return createPlaceholderImage(pokemon, isWild);
+            createMovePanel();
+            updatePlayerExpBar();
+            onComplete.run();
+        });
     }
     
-    private ImageIcon createPlaceholderImage(Pokemon pokemon, boolean isWild) {
-        int width = 150;
-        int height = 150;
-        
-        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-        Graphics2D g2d = image.createGraphics();
-        
-        Color mainColor = Color.GRAY;
-        if (!pokemon.getTypes().isEmpty()) {
-            mainColor = UIComponentFactory.getColorForType(pokemon.getTypes().get(0));
-        }
-        
-        g2d.setColor(mainColor);
-        if (isWild) {
-            g2d.fillOval(0, 0, width, height);
-        } else {
-            g2d.fillRect(0, 0, width, height);
+    protected void attemptRun() {
+        if (!canRun()) {
+            showInfoPanel("You can't run from a trainer battle!");
+            timeline.afterText(MESSAGE_DELAY, () -> switchToPanel(actionPanel));
+            return;
         }
         
-        g2d.setColor(Color.WHITE);
-        g2d.setFont(new Font("Arial", Font.BOLD, 16));
-        g2d.drawString(pokemon.getName(), 10, height / 2);
-        
-        g2d.dispose();
-        
-        return new ImageIcon(image);
+        if (!playerTurn || battleEnded) return;
+        playerTurn = false;
+        runTurn(BattleAction.run());
     }
     
     private void validateOpponentPokemonMoves() {
@@ -1521,7 +1348,7 @@ public abstract class BattleScreen extends JFrame {
         }
         
         if (usableMoves.isEmpty()) {
-            System.out.println("Opponent " + currentOpponentPokemon.getName() + " has no usable moves, regenerating...");
+            LOG.debug("Opponent {} has no usable moves, regenerating...", currentOpponentPokemon.getName());
             currentOpponentPokemon.generateWildMoves();
         }
     }
@@ -1535,18 +1362,12 @@ public abstract class BattleScreen extends JFrame {
         playerBattleView.showForThrow();
         playerBattleView.startThrowingAnimation();
         
-        // Create pokeball sprite
-        JLabel pokeballSprite = new JLabel();
-        try {
-            Image pokeballImage = javax.imageio.ImageIO.read(getClass().getResource("/resources/items/pokeball.png"));
-            if (pokeballImage != null) {
-                pokeballSprite.setIcon(new javax.swing.ImageIcon(pokeballImage.getScaledInstance(32, 32, Image.SCALE_SMOOTH)));
-            }
-        } catch (Exception e) {
-            pokeballSprite.setText("●");
-            pokeballSprite.setForeground(Color.RED);
-            pokeballSprite.setFont(new Font("Arial", Font.BOLD, 24));
+        // The pokeball sprite is made once and kept hidden between throws
+        if (pokeballSprite == null) {
+            pokeballSprite = createPokeballSprite();
+            battlegroundPanel.add(pokeballSprite);
         }
+        JLabel pokeballSprite = this.pokeballSprite;
         
         Point throwingCenter = playerBattleView.getThrowingCenter();
         int startX = throwingCenter.x - 16;
@@ -1555,13 +1376,13 @@ public abstract class BattleScreen extends JFrame {
         int endY = 140 + 75;
         
         pokeballSprite.setBounds(startX, startY, 32, 32);
-        battlegroundPanel.add(pokeballSprite);
         battlegroundPanel.setComponentZOrder(pokeballSprite, 0);
+        pokeballSprite.setVisible(true);
         
         final int[] animationStep = {0};
         final int totalSteps = 20;
         
-        throwAnimationTimer = new Timer(50, e -> {
+        timeline.every(50, () -> {
             animationStep[0]++;
             
             // Update player throwing animation every 5th step
@@ -1581,15 +1402,14 @@ public abstract class BattleScreen extends JFrame {
             
             // Animation complete
             if (animationStep[0] >= totalSteps) {
-                throwAnimationTimer.stop();
-                battlegroundPanel.remove(pokeballSprite);
+                pokeballSprite.setVisible(false);
                 
                 // Hide player after throw is complete
                 playerBattleView.stopThrowingAnimation();
                 playerBattleView.hidePlayer();
                 
                 // NOW show the player's Pokemon sprite
-                playerPokemonImage.setIcon(loadPokemonImage(playerPokemon, false));
+                playerPokemonImage.setIcon(BattleSprites.loadPokemon(playerPokemon, false));
                 playerPokemonImage.setVisible(true);
                 
                 isPlayingThrowAnimation = false;
@@ -1598,17 +1418,31 @@ public abstract class BattleScreen extends JFrame {
                 if (onComplete != null) {
                     onComplete.run();
                 }
+                return false;
             }
+            return true;
         });
-        
-        throwAnimationTimer.start();
     }
 
-    private int scaleX(int originalX) {
+    private static JLabel createPokeballSprite() {
+        JLabel sprite = new JLabel();
+        ImageIcon pokeballIcon = BattleSprites.pokeball();
+        if (pokeballIcon != null) {
+            sprite.setIcon(pokeballIcon);
+        } else {
+            sprite.setText("●");
+            sprite.setForeground(Color.RED);
+            sprite.setFont(new Font("Arial", Font.BOLD, 24));
+        }
+        sprite.setVisible(false);
+        return sprite;
+    }
+
+    protected int scaleX(int originalX) {
         return (int)(originalX * ((double)App.CURRENT_WIDTH / 800.0));
     }
     
-    private int scaleY(int originalY) {
+    protected int scaleY(int originalY) {
         return (int)(originalY * ((double)App.CURRENT_HEIGHT / 600.0));
     }
 }
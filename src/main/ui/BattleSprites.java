@@ -0,0 +1,170 @@
+package ui;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.swing.ImageIcon;
+
+import pokes.Pokemon;
+import diagnostics.GameMetrics;
+import diagnostics.Metrics;
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Decodes, scales and caches the images the battle scene shows: Pokémon
+ * sprites per dex number, shininess, facing and size, the thrown ball and
+ * backgrounds scaled to the window. Scaled images are kept least recently
+ * used first under a byte budget, poke.battle.spriteCacheBytes. Nothing
+ * here touches Swing components, so it can run off the EDT while the next
+ * encounter or the party's sprites are being prepared.
+ */
+final class BattleSprites {
+    private static final Logger LOG = Log.getLogger(BattleSprites.class);
+    static final int POKEMON_SIZE = 150;
+    static final int BALL_SIZE = 32;
+
+    private static final long BUDGET_BYTES = Long.getLong("poke.battle.spriteCacheBytes", 32L << 20);
+
+    // Access ordered, so iteration starts at the least recently used image
+    private static final Map<String, BufferedImage> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private static long cachedBytes;
+
+    static {
+        Metrics.getInstance().gauge("battleSpriteCacheBytes", BattleSprites::getCachedBytes);
+    }
+
+    private BattleSprites() {}
+
+    // Front sprites for wild and opposing Pokémon, back sprites for the player's
+    static ImageIcon loadPokemon(Pokemon pokemon, boolean front) {
+        String path = spritePath(pokemon.getDex(), pokemon.getIsShiny(), front);
+        BufferedImage image = cached(path + "@" + POKEMON_SIZE, () -> {
+            File file = new File(path);
+            return file.exists() ? scale(ImageLoader.readFile(file), POKEMON_SIZE, POKEMON_SIZE) : null;
+        });
+        return image != null ? new ImageIcon(image) : placeholder(pokemon, front);
+    }
+
+    // Null if the image can't be read
+    static Image routeBackground() {
+        int width = App.CURRENT_WIDTH;
+        int height = App.CURRENT_HEIGHT;
+        return cached("route_bg@" + width + "x" + height, () -> scale(
+                ImageLoader.readResource("/resources/backgrounds/route_bg.png"), width, height));
+    }
+
+    // Null if the image can't be read
+    static ImageIcon pokeball() {
+        BufferedImage image = cached("pokeball@" + BALL_SIZE, () -> scale(
+                ImageLoader.readResource("/resources/items/pokeball.png"), BALL_SIZE, BALL_SIZE));
+        return image != null ? new ImageIcon(image) : null;
+    }
+
+    // Loads the party's back sprites in the background so switching in doesn't hit the disk
+    static void preloadParty(List<Pokemon> party) {
+        List<Pokemon> snapshot = List.copyOf(party);
+        CompletableFuture.runAsync(() -> {
+            for (Pokemon pokemon : snapshot) {
+                loadPokemon(pokemon, false);
+            }
+        });
+    }
+
+    static synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    private interface Loader {
+        BufferedImage load() throws Exception;
+    }
+
+    // Misses load outside the lock, so a slow decode never holds up the EDT
+    private static BufferedImage cached(String key, Loader loader) {
+        synchronized (BattleSprites.class) {
+            BufferedImage image = cache.get(key);
+            if (image != null) {
+                GameMetrics.ASSET_CACHE_HITS.increment();
+                return image;
+            }
+        }
+        GameMetrics.ASSET_CACHE_MISSES.increment();
+        BufferedImage image;
+        try {
+            image = loader.load();
+        } catch (Exception e) {
+            LOG.error("Error loading battle image {}: {}", key, e.getMessage());
+            return null;
+        }
+        if (image != null) {
+            put(key, image);
+        }
+        return image;
+    }
+
+    private static synchronized void put(String key, BufferedImage image) {
+        long bytes = bytesOf(image);
+        if (bytes > BUDGET_BYTES) {
+            LOG.debug("{} is bigger than the sprite cache, not keeping it", key);
+            return;
+        }
+        BufferedImage previous = cache.put(key, image);
+        cachedBytes += bytes - (previous != null ? bytesOf(previous) : 0);
+        Iterator<BufferedImage> eldest = cache.values().iterator();
+        while (cachedBytes > BUDGET_BYTES) {
+            cachedBytes -= bytesOf(eldest.next());
+            eldest.remove();
+        }
+    }
+
+    private static long bytesOf(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * 4;
+    }
+
+    private static String spritePath(int dex, boolean shiny, boolean front) {
+        return "sprites/sprites/pokemon/" + (front ? "" : "back/") + (shiny ? "shiny/" : "") + dex + ".png";
+    }
+
+    private static BufferedImage scale(Image image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = scaled.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(image, 0, 0, width, height, null);
+        g2d.dispose();
+        return scaled;
+    }
+
+    private static ImageIcon placeholder(Pokemon pokemon, boolean front) {
+        BufferedImage image = new BufferedImage(POKEMON_SIZE, POKEMON_SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+
+        Color mainColor = Color.GRAY;
+        if (!pokemon.getTypes().isEmpty()) {
+            mainColor = UIComponentFactory.getColorForType(pokemon.getTypes().get(0));
+        }
+
+        g2d.setColor(mainColor);
+        if (front) {
+            g2d.fillOval(0, 0, POKEMON_SIZE, POKEMON_SIZE);
+        } else {
+            g2d.fillRect(0, 0, POKEMON_SIZE, POKEMON_SIZE);
+        }
+
+        g2d.setColor(Color.WHITE);
+        g2d.setFont(new Font("Arial", Font.BOLD, 16));
+        g2d.drawString(pokemon.getName(), 10, POKEMON_SIZE / 2);
+
+        g2d.dispose();
+        return new ImageIcon(image);
+    }
+}
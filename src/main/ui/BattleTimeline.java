@@ -0,0 +1,204 @@
+package ui;
+
+import java.util.PriorityQueue;
+import java.util.function.BooleanSupplier;
+
+import javax.swing.Timer;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Everything a battle screen does later goes through its timeline: message
+ * pauses, the send-out sequence, the Poké Ball throw and closing the window.
+ * Steps wait in one queue ordered by when they are due and are run on the
+ * event dispatch thread by a single Swing timer, so they can't race each
+ * other and cancel() stops all of them at once.
+ *
+ * Delays are in battle time, written for normal speed. Battle time runs at
+ * the global speed (1x, 2x, 4x or instant) and steps always run in battle
+ * time order, so speeding up changes nothing but how long it takes. Pauses
+ * for reading text can be skipped, which runs the next one right away.
+ * Start with -Dpoke.battle.speed=1|2|4|instant.
+ */
+public class BattleTimeline {
+    private static final Logger LOG = Log.getLogger(BattleTimeline.class);
+
+    public enum Speed {
+        NORMAL(1), FAST(2), FASTER(4), INSTANT(0);
+
+        private final int multiplier;
+
+        Speed(int multiplier) {
+            this.multiplier = multiplier;
+        }
+
+        long toRealMillis(long battleMillis) {
+            return multiplier == 0 ? 0 : (battleMillis + multiplier - 1) / multiplier;
+        }
+
+        public Speed next() {
+            return values()[(ordinal() + 1) % values().length];
+        }
+
+        static Speed fromProperty(String value) {
+            switch (value == null ? "1" : value.trim().toLowerCase()) {
+                case "2":
+                    return FAST;
+                case "4":
+                    return FASTER;
+                case "instant":
+                    return INSTANT;
+                default:
+                    return NORMAL;
+            }
+        }
+    }
+
+    private static volatile Speed speed = Speed.fromProperty(System.getProperty("poke.battle.speed"));
+
+    private static final class Step implements Comparable<Step> {
+        final long sequence;
+        final long dueAt;
+        final Runnable action;
+        final boolean skippable;
+
+        Step(long sequence, long dueAt, Runnable action, boolean skippable) {
+            this.sequence = sequence;
+            this.dueAt = dueAt;
+            this.action = action;
+            this.skippable = skippable;
+        }
+
+        @Override
+        public int compareTo(Step other) {
+            // Steps due at the same moment run in the order they were added
+            int byTime = Long.compare(dueAt, other.dueAt);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final PriorityQueue<Step> steps = new PriorityQueue<>();
+    private final Timer clock;
+    private long nextSequence;
+    private boolean cancelled;
+    // Battle time, and the real time it was last brought up to date
+    private long battleNow;
+    private long lastReal = realNow();
+    // Due time of the step being run, so steps it adds are timed from it rather than from when it ran
+    private long running = -1;
+
+    public BattleTimeline() {
+        clock = SwingTimers.create(0, e -> runDueSteps());
+        clock.setRepeats(false);
+    }
+
+    public static Speed getSpeed() {
+        return speed;
+    }
+
+    public static void setSpeed(Speed value) {
+        speed = value;
+        LOG.info("Battle speed set to {}", value);
+    }
+
+    // Runs the action after the delay, at the current speed
+    public void after(int millis, Runnable action) {
+        schedule(millis, action, false);
+    }
+
+    // Same as after, but skip() can cut the wait short; for time spent reading text
+    public void afterText(int millis, Runnable action) {
+        schedule(millis, action, true);
+    }
+
+    /**
+     * Runs the frame every period until it returns false. At instant speed
+     * all the frames run back to back.
+     */
+    public void every(int periodMillis, BooleanSupplier frame) {
+        after(periodMillis, () -> {
+            if (frame.getAsBoolean()) {
+                every(periodMillis, frame);
+            }
+        });
+    }
+
+    // Brings the earliest text pause forward so it runs now
+    public void skip() {
+        Step first = null;
+        for (Step step : steps) {
+            if (step.skippable && (first == null || step.compareTo(first) < 0)) {
+                first = step;
+            }
+        }
+        if (first != null && steps.remove(first)) {
+            advance();
+            steps.add(new Step(first.sequence, battleNow, first.action, false));
+            restartClock();
+        }
+    }
+
+    // Drops every pending step; nothing added afterwards runs either
+    public void cancel() {
+        cancelled = true;
+        steps.clear();
+        clock.stop();
+    }
+
+    public boolean isIdle() {
+        return steps.isEmpty();
+    }
+
+    private void schedule(int millis, Runnable action, boolean skippable) {
+        if (cancelled) {
+            return;
+        }
+        if (running >= 0) {
+            steps.add(new Step(nextSequence++, running + millis, action, skippable));
+            return;
+        }
+        advance();
+        steps.add(new Step(nextSequence++, battleNow + millis, action, skippable));
+        restartClock();
+    }
+
+    private void runDueSteps() {
+        advance();
+        try {
+            // Steps added while draining are picked up here too, so instant speed never recurses
+            while (!cancelled && !steps.isEmpty()
+                    && (speed == Speed.INSTANT || steps.peek().dueAt <= battleNow)) {
+                Step step = steps.poll();
+                battleNow = Math.max(battleNow, step.dueAt);
+                running = step.dueAt;
+                step.action.run();
+            }
+        } finally {
+            running = -1;
+        }
+        restartClock();
+    }
+
+    // Moves battle time on by however much real time passed, at the current speed
+    private void advance() {
+        long real = realNow();
+        if (speed != Speed.INSTANT) {
+            battleNow += (real - lastReal) * speed.multiplier;
+        }
+        lastReal = real;
+    }
+
+    private void restartClock() {
+        if (cancelled || steps.isEmpty()) {
+            clock.stop();
+            return;
+        }
+        clock.setInitialDelay((int) speed.toRealMillis(Math.max(0, steps.peek().dueAt - battleNow)));
+        clock.restart();
+    }
+
+    private static long realNow() {
+        return System.nanoTime() / 1_000_000;
+    }
+}
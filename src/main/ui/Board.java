@@ -9,24 +9,37 @@ import model.BerryTree;
 import model.Building;
 import model.CivilianNpc;
 import model.Door;
+import model.EncounterArea;
 import model.EncounterManager;
+import model.GameRandom;
 import model.InteractableItem;
 import model.InteractableObject;
+import model.Overworld;
 import model.Player;
-import model.Player.Direction;
 import model.Player.MovementState;
 import model.TrainerNpc;
 import model.WorldObject;
 import pokes.Pokemon;
 import tiles.TileManager;
 import model.Npc;
+import diagnostics.FrameEvent;
+import diagnostics.TickEvent;
+import diagnostics.GameMetrics;
+import battle.AutoBattle;
+import battle.BattleState;
+import battle.SearchPolicy;
+import battle.AiDifficulty;
 
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 import java.util.ArrayList;
+import logging.Log;
+import logging.Logger;
 
 public class Board extends JPanel implements ActionListener, KeyListener {
+    private static final Logger LOG = Log.getLogger(Board.class);
     private final int DELAY = 50;
     public static final int TILE_SIZE = 32;
     public int rows;
@@ -40,8 +53,6 @@ public class Board extends JPanel implements ActionListener, KeyListener {
     private boolean upPressed, downPressed, leftPressed, rightPressed, 
             interactionKeyPressed, shiftPressed;
 
-    private static final int RUN_SPEED = 4; 
-
     private List<Door> doors;
     private List<WorldObject> objects;
     private List<InteractableObject> interactableObjects = new ArrayList<>();
@@ -51,8 +62,10 @@ public class Board extends JPanel implements ActionListener, KeyListener {
     private boolean npcBattleInProgress = false;
     private WorldManager worldManager;
     private TileManager tileManager;
+    private Overworld overworld;
 
     private EncounterManager encounterManager;
+    private EncounterPrefetcher encounterPrefetcher;
     private boolean inBattle = false;
     private int encounterCooldown = 0;
     private static final int ENCOUNTER_COOLDOWN_TIME = 3;
@@ -61,6 +74,12 @@ public class Board extends JPanel implements ActionListener, KeyListener {
     private DialogueBox dialogueBox;
     private boolean dialogueActive = false;
 
+    private DebugOverlay debugOverlay;
+
+    private static final int TOAST_MILLIS = 2500;
+    private final Toast toast = new Toast();
+    private final SplittableRandom autoBattleRandom = GameRandom.BATTLE.split();
+
     public Board(Player player, String worldName, int rows, int columns) {
         this.rows = rows;
         this.columns = columns;
@@ -76,8 +95,10 @@ public class Board extends JPanel implements ActionListener, KeyListener {
         tileManager = new TileManager(this, worldName);
         this.doors = new ArrayList<>();
         objects = new ArrayList<>();
+        overworld = new Overworld(worldName, tileManager.getMap(), player, objects);
+        debugOverlay = new DebugOverlay(this, tileManager);
         playerView = new PlayerView(player);
-        timer = new Timer(DELAY, this);
+        timer = SwingTimers.create(DELAY, this);
         timer.start();
         setFocusable(true);
         requestFocusInWindow();
@@ -101,7 +122,8 @@ public class Board extends JPanel implements ActionListener, KeyListener {
             camera.update(player);
         }
 
-        this.encounterManager = new EncounterManager();
+        this.encounterManager = new EncounterManager(worldName);
+        this.encounterPrefetcher = new EncounterPrefetcher(encounterManager);
         
         this.addFocusListener(new FocusAdapter() {
             @Override
@@ -153,19 +175,37 @@ public class Board extends JPanel implements ActionListener, KeyListener {
         doors.add(door);
         objects.add(door);
         interactableObjects.add(door);
+        debugOverlay.invalidate();
     }
 
     public void addInteractableObject(InteractableObject obj) {
         interactableObjects.add(obj);
         objects.add(obj);
+        debugOverlay.invalidate();
     }
     
     public Player getPlayer() {
         return player;
     }
 
+    // Only the current world's timer runs; WorldManager starts and stops it on switches
+    void startClock() {
+        if (!inBattle && !npcBattleInProgress) {
+            timer.start();
+        }
+    }
+
+    void stopClock() {
+        timer.stop();
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
+        long frameStart = System.nanoTime();
+        FrameEvent frame = new FrameEvent();
+        frame.begin();
+        boolean timed = frame.isEnabled();
+        
         super.paintComponent(g);
         
         Graphics2D g2d = (Graphics2D) g.create();
@@ -190,7 +230,12 @@ public class Board extends JPanel implements ActionListener, KeyListener {
         }
         
         // Draw tiles (in logical coordinates)
+        long mark = timed ? System.nanoTime() : 0;
         tileManager.draw(g2d);
+        if (timed) {
+            frame.tilesNanos = System.nanoTime() - mark;
+            mark = System.nanoTime();
+        }
         
         updateBerryTrees();
         
@@ -198,6 +243,10 @@ public class Board extends JPanel implements ActionListener, KeyListener {
         for (WorldObject obj : objects) {
             obj.draw(g2d, this, TILE_SIZE);
         }
+        if (timed) {
+            frame.objectsNanos = System.nanoTime() - mark;
+            mark = System.nanoTime();
+        }
 
         // Draw player (in logical coordinates)
         playerView.draw(g2d, this, TILE_SIZE);
@@ -206,22 +255,68 @@ public class Board extends JPanel implements ActionListener, KeyListener {
         for (TrainerNpc trainer : trainers) {
             trainer.drawIcon(g2d);
         }
+        if (timed) {
+            frame.actorsNanos = System.nanoTime() - mark;
+            mark = System.nanoTime();
+        }
+
+        int cameraX = camera != null && camera.isActive() ? camera.getX() : 0;
+        int cameraY = camera != null && camera.isActive() ? camera.getY() : 0;
+        if (DebugOverlay.isEnabled()) {
+            debugOverlay.drawWorldLayer(g2d, cameraX, cameraY, 
+                    getWidth() / zoomLevel, getHeight() / zoomLevel);
+        }
         
         g2d.dispose();
 
-        // Draw debug overlays in screen coordinates (after zoom)
-        drawDebugBounds(g);
+        // Debug text and legend are drawn in screen coordinates (after zoom)
+        if (DebugOverlay.isEnabled()) {
+            debugOverlay.drawScreenLayer(g, cameraX, cameraY, zoomLevel);
+        }
+        toast.draw(g, getWidth(), getHeight());
+        
+        frame.end();
+        if (frame.shouldCommit()) {
+            frame.world = worldName;
+            frame.overlayNanos = System.nanoTime() - mark;
+            frame.commit();
+        }
+        GameMetrics.FRAMES_RENDERED.increment();
+        GameMetrics.FRAME_TIME_MICROS.record((System.nanoTime() - frameStart) / 1000);
     }
 
     @Override
     public void actionPerformed(ActionEvent e) {
+        // Only the world the player is in moves; the others wait until they come back
+        if (worldManager != null && worldManager.getCurrentWorld() != this) {
+            return;
+        }
+        tick();
+    }
+
+    // One step of the overworld: NPCs, encounters, movement and tile animation
+    void tick() {
+        InputRecorder recorder = InputRecorder.current();
+        if (recorder != null) {
+            recorder.tick();
+        }
+        long tickStart = System.nanoTime();
+        TickEvent tick = new TickEvent();
+        tick.begin();
+        boolean timed = tick.isEnabled();
+        
         player.updateAnimation();
         if (worldManager != null) {
             worldManager.getCamera().update(player);
         }
 
+        long mark = timed ? System.nanoTime() : 0;
         checkNPCEncounters();
         updateNpcs();
+        if (timed) {
+            tick.npcNanos = System.nanoTime() - mark;
+            mark = System.nanoTime();
+        }
 
         if (approachingTrainer != null && approachingTrainer.isApproachingForBattle()) {
             // Force player to stay still
@@ -240,325 +335,76 @@ public class Board extends JPanel implements ActionListener, KeyListener {
         
         // Check for wild Pokémon encounters if not in battle and cooldown is over
         if (!player.isInBattle() && !inBattle && encounterCooldown == 0) {
-            boolean isInGrass = tileManager.isPlayerInTallGrass(player);
-            boolean isMoving = player.isMoving();
+            boolean newTile = overworld.updateStepTile();
+            EncounterArea area = overworld.getStepArea();
+            encounterPrefetcher.update(area);
             
-            if (encounterManager.checkEncounter(isInGrass, isMoving)) {
-                startWildEncounter();
+            if (newTile && encounterManager.takeStep(area)) {
+                startWildEncounter(area);
             }
         }
+        if (timed) {
+            tick.encounterNanos = System.nanoTime() - mark;
+            mark = System.nanoTime();
+        }
         
-        // Clear previous movement
-        boolean[] directions = {upPressed, downPressed, leftPressed, rightPressed};
-        int activeDirections = 0;
-        for(boolean dir : directions) if(dir) activeDirections++;
-        
-        // Allow only single direction
-        if(activeDirections == 1) {
-            int moveSpeed = 4;
-            if (shiftPressed) {
-                moveSpeed = moveSpeed * Math.round(player.getMoveSpeed());
-            }
-            
-            if (upPressed && canMove(0, -moveSpeed)) {
-                handleMovement(0, -1, Direction.FRONT);
-            } else if (downPressed && canMove(0, moveSpeed)) {
-                handleMovement(0, 1, Direction.BACK);
-            } else if (leftPressed && canMove(-moveSpeed, 0)) {
-                handleMovement(-1, 0, Direction.LEFT);
-            } else if (rightPressed && canMove(moveSpeed, 0)) {
-                handleMovement(1, 0, Direction.RIGHT);
-            } else {
-                // If we can't move in the desired direction, stop the player
-                player.setMoving(false);
-                playerView.loadImage();
-            }
+        Overworld.Step step = overworld.move(currentInput());
+        if (step == Overworld.Step.MOVED) {
+            playerView.loadImage();
+            worldManager.getCamera().update(player);
+        } else if (step == Overworld.Step.BLOCKED) {
+            // If we can't move in the desired direction, stop the player
+            playerView.loadImage();
         }
         if (worldManager != null) {
             Camera camera = worldManager.getCamera();
             camera.update(player);
         }
+        if (timed) {
+            tick.movementNanos = System.nanoTime() - mark;
+            mark = System.nanoTime();
+        }
         tileManager.update();
         
-        repaint();
-    }
-    
-    private void handleMovement(int dx, int dy, Direction dir) {
-        player.setDirection(dir);
-        
-        int moveSpeed = RUN_SPEED;
-        if (shiftPressed) {
-            moveSpeed = moveSpeed * Math.round(player.getMoveSpeed());
+        tick.end();
+        if (tick.shouldCommit()) {
+            tick.world = worldName;
+            tick.tileAnimationNanos = System.nanoTime() - mark;
+            tick.commit();
         }
-    
-        player.setDirection(dir);
-    
-        // Move player if no collision
-        player.move(dx * moveSpeed, dy * moveSpeed);
-        player.setMoving(true);
-        player.setSprintKeyPressed(shiftPressed);
-        
-        playerView.loadImage();
-        
-        // Update camera with pixel coordinates
-        Camera camera = worldManager.getCamera();
-        camera.update(player);
-        
+        recordTick(tickStart);
         repaint();
     }
     
-    public boolean canMove(int dx, int dy) {
-        Rectangle playerBounds = player.getBounds(TILE_SIZE);
-        Rectangle nextBounds = new Rectangle(
-            playerBounds.x + dx,
-            playerBounds.y + dy,
-            playerBounds.width,
-            playerBounds.height
-        );
+    // The held keys as Overworld input bits
+    private int currentInput() {
+        int input = 0;
+        if (upPressed) input |= Overworld.UP;
+        if (downPressed) input |= Overworld.DOWN;
+        if (leftPressed) input |= Overworld.LEFT;
+        if (rightPressed) input |= Overworld.RIGHT;
+        if (shiftPressed) input |= Overworld.RUN;
+        return input;
+    }
 
-        Rectangle fullPixelRectangle = player.getFullBounds(TILE_SIZE);
-        Rectangle nextFullPixelRectangle = new Rectangle(
-            fullPixelRectangle.x + dx,
-            fullPixelRectangle.y + dy,
-            fullPixelRectangle.width,
-            fullPixelRectangle.height
-        );
-        
-        // Check world boundaries (logical coordinates)
-        if (nextFullPixelRectangle.x < 0 || nextFullPixelRectangle.y < 0 || 
-            nextFullPixelRectangle.x + nextFullPixelRectangle.width > columns * TILE_SIZE || 
-            nextFullPixelRectangle.y + nextFullPixelRectangle.height > rows * TILE_SIZE) {
-            return false;
-        }
-        
-        // Check object collisions (logical coordinates)
-        for (WorldObject obj : objects) {
-            if (obj.getClass() == Door.class) {
-                continue; // Skip doors for collision detection
-            } else if (obj.isWalkable()) {
-                continue;
-            } else if (nextBounds.intersects(obj.getBounds(TILE_SIZE))) {
-                return false; // Collision detected
-            }
-        }
-        
-        // Check tile collisions
-        return !checkTileBoundsCollision(nextBounds);
-    } 
-    
-    private boolean checkTileBoundsCollision(Rectangle bounds) {
-        // Convert pixel coordinates to tile coordinates (logical)
-        int startTileX = bounds.x / TILE_SIZE;
-        int startTileY = bounds.y / TILE_SIZE;
-        int endTileX = (bounds.x + bounds.width - 1) / TILE_SIZE;
-        int endTileY = (bounds.y + bounds.height - 1) / TILE_SIZE;
-        
-        // Check all tiles that the bounds intersect with
-        for (int tileY = startTileY; tileY <= endTileY; tileY++) {
-            for (int tileX = startTileX; tileX <= endTileX; tileX++) {
-                if (tileManager.isTileCollision(tileX, tileY)) {
-                    return true; // Collision found
-                }
-            }
-        }
-        return false; // No collision
+    public boolean canMove(int dx, int dy) {
+        return overworld.canMove(dx, dy);
     }
 
     public void addObject(String path, int x, int y) {
         objects.add(new Building(new Point(x, y), path));
+        debugOverlay.invalidate();
     }
 
-    private void drawDebugBounds(Graphics g) {
-        // Convert logical coordinates to screen coordinates for debug display
-        int zoomLevel = App.getZoomLevel();
-        Camera camera = worldManager.getCamera();
-        int cameraX = camera != null && camera.isActive() ? camera.getX() : 0;
-        int cameraY = camera != null && camera.isActive() ? camera.getY() : 0;
-        
-        // Helper method to convert logical to screen coordinates
-        java.util.function.Function<Rectangle, Rectangle> toScreen = (logicalRect) -> {
-            return new Rectangle(
-                (logicalRect.x - cameraX) * zoomLevel,
-                (logicalRect.y - cameraY) * zoomLevel,
-                logicalRect.width * zoomLevel,
-                logicalRect.height * zoomLevel
-            );
-        };
-        
-        // RED: player bounds
-        g.setColor(Color.RED);
-        Rectangle playerBounds = toScreen.apply(player.getBounds(TILE_SIZE));
-        g.drawRect(playerBounds.x, playerBounds.y, playerBounds.width, playerBounds.height);
-        
-        // BLUE: object bounds
-        g.setColor(Color.BLUE);
-        for (WorldObject obj : objects) {
-            Rectangle bounds = toScreen.apply(obj.getBounds(TILE_SIZE));
-            g.drawRect(bounds.x, bounds.y, bounds.width, bounds.height);
-        }
-    
-        // GREEN: door bounds and interaction areas
-        g.setColor(Color.GREEN);
-        for (Door door : doors) {
-            Rectangle bounds = toScreen.apply(door.getBounds(TILE_SIZE));
-            g.drawRect(bounds.x, bounds.y, bounds.width, bounds.height);
-            
-            Rectangle logicalInteractionArea = new Rectangle(
-                door.getBounds(TILE_SIZE).x - TILE_SIZE, 
-                door.getBounds(TILE_SIZE).y - TILE_SIZE,
-                door.getBounds(TILE_SIZE).width + TILE_SIZE * 2, 
-                door.getBounds(TILE_SIZE).height + TILE_SIZE * 2
-            );
-            Rectangle interactionArea = toScreen.apply(logicalInteractionArea);
-            g.drawRect(interactionArea.x, interactionArea.y, 
-                    interactionArea.width, interactionArea.height);
-            drawDirectionIndicator(g, door, interactionArea);
-        }
-    
-        // ORANGE: Trainer NPC bounds
-        g.setColor(Color.ORANGE);
-        for (TrainerNpc trainer : trainers) {
-            Rectangle bounds = toScreen.apply(trainer.getBounds(TILE_SIZE));
-            g.drawRect(bounds.x, bounds.y, bounds.width, bounds.height);
-        }
-        
-        // CYAN: Battle initiation rectangles for trainers
-        g.setColor(Color.CYAN);
-        for (TrainerNpc trainer : trainers) {
-            if (!trainer.isDefeated()) {
-                Rectangle logicalBattleArea = getBattleInitiationArea(trainer, trainer.getBounds(TILE_SIZE), 0);
-                Rectangle battleArea = toScreen.apply(logicalBattleArea);
-                
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setColor(new Color(0, 255, 255, 50));
-                g2d.fillRect(battleArea.x, battleArea.y, battleArea.width, battleArea.height);
-                g2d.setColor(Color.CYAN);
-                g2d.drawRect(battleArea.x, battleArea.y, battleArea.width, battleArea.height);
-                g2d.dispose();
-            }
-        }
-
-        // LIGHT GREEN: Tall grass areas
-        g.setColor(new Color(0, 255, 0, 100));
-        for (int y = 0; y < rows; y++) {
-            for (int x = 0; x < columns; x++) {
-                if (tileManager.isInTallGrass(x, y)) {
-                    Rectangle grassRect = toScreen.apply(new Rectangle(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE));
-                    g.fillRect(grassRect.x, grassRect.y, grassRect.width, grassRect.height);
-                }
-            }
-        }
-    
-        // Player in grass indicator
-        if (tileManager.isPlayerInTallGrass(player)) {
-            g.setColor(Color.YELLOW);
-            g.drawString("IN GRASS", playerBounds.x, playerBounds.y - 10);
-        }
-    
-        // RED DOT: Player center
-        int playerCenterX = (player.getWorldX() + (player.getWidth() / 2) - cameraX) * zoomLevel;
-        int playerCenterY = (player.getWorldY() + (player.getHeight() / 2) - cameraY) * zoomLevel;
-        g.setColor(Color.RED);
-        g.fillOval(playerCenterX - 3, playerCenterY - 3, 6, 6);
-    
-        // Add legend for debug colors
-        drawDebugLegend(g);
-    }
-    
-    private Rectangle getBattleInitiationArea(TrainerNpc npc, Rectangle npcBounds, int sightRange) {
-        int playerWidth = TILE_SIZE; 
-        int playerHeight = TILE_SIZE;
-        
-        Rectangle battleArea;
-        
-        switch (npc.getDirection()) {
-            case FRONT: // Looking up - vertical rectangle
-                int frontVisionHeight = 5 * TILE_SIZE; 
-                battleArea = new Rectangle(
-                    npcBounds.x + (npcBounds.width / 2) - (playerWidth / 2), 
-                    npcBounds.y - frontVisionHeight, 
-                    playerWidth, 
-                    frontVisionHeight 
-                );
-                break;
-                
-            case BACK: // Looking down - vertical rectangle
-                int backVisionHeight = 5 * TILE_SIZE; 
-                battleArea = new Rectangle(
-                    npcBounds.x + (npcBounds.width / 2) - (playerWidth / 2), 
-                    npcBounds.y + npcBounds.height, 
-                    playerWidth,
-                    backVisionHeight 
-                );
-                break;
-                
-            case LEFT: // Looking left - horizontal rectangle
-                int leftVisionWidth = 5 * TILE_SIZE; 
-                battleArea = new Rectangle(
-                    npcBounds.x - leftVisionWidth, 
-                    npcBounds.y + (npcBounds.height / 2) - (playerHeight / 2), 
-                    leftVisionWidth, 
-                    playerHeight 
-                );
-                break;
-                
-            case RIGHT: // Looking right - horizontal rectangle
-                int rightVisionWidth = 5 * TILE_SIZE;
-                battleArea = new Rectangle(
-                    npcBounds.x + npcBounds.width,
-                    npcBounds.y + (npcBounds.height / 2) - (playerHeight / 2),
-                    rightVisionWidth, 
-                    playerHeight
-                );
-                break;
-                
-            default:
-                battleArea = new Rectangle(
-                    npcBounds.x - TILE_SIZE,
-                    npcBounds.y - TILE_SIZE,
-                    TILE_SIZE * 2,
-                    TILE_SIZE * 2
-                );
-                break;
-        }
-        
-        return battleArea;
-    }
-    
-    private void drawDebugLegend(Graphics g) {
-        g.setColor(Color.BLACK);
-        g.fillRect(10, 10, 200, 160);
-        g.setColor(Color.WHITE);
-        g.drawRect(10, 10, 200, 160);
-        
-        int y = 25;
-        g.setColor(Color.RED);
-        g.drawString("RED: Player Bounds", 15, y);
-        y += 15;
-        g.setColor(Color.BLUE);
-        g.drawString("BLUE: Object Bounds", 15, y);
-        y += 15;
-        g.setColor(Color.GREEN);
-        g.drawString("GREEN: Door Areas", 15, y);
-        y += 15;
-        g.setColor(Color.ORANGE);
-        g.drawString("ORANGE: NPC Bounds", 15, y);
-        y += 15;
-        g.setColor(Color.CYAN);
-        g.drawString("CYAN: NPC Battle Range", 15, y);
-        y += 15;
-        g.setColor(Color.GREEN);
-        g.drawString("GREEN: Tall Grass", 15, y);
-        y += 15;
-        g.setColor(Color.YELLOW);
-        g.drawString("YELLOW: In Grass Indicator", 15, y);
-    }
-    
     @Override
     public void keyTyped(KeyEvent e) {}
 
     @Override
     public void keyPressed(KeyEvent e) {
+        InputRecorder recorder = InputRecorder.current();
+        if (recorder != null) {
+            recorder.key(true, e.getKeyCode());
+        }
         // Don't process movement keys during dialogue
         if (isDialogueActive()) {
             e.consume();
@@ -604,6 +450,10 @@ public class Board extends JPanel implements ActionListener, KeyListener {
 
     @Override
     public void keyReleased(KeyEvent e) {
+        InputRecorder recorder = InputRecorder.current();
+        if (recorder != null) {
+            recorder.key(false, e.getKeyCode());
+        }
         if (isDialogueActive()) {
             e.consume();
             return;
@@ -668,7 +518,7 @@ public class Board extends JPanel implements ActionListener, KeyListener {
                         
                         break; // Only interact with one object at a time
                     } else {
-                        System.out.println("You need to face the object to interact with it!");
+                        LOG.info("You need to face the object to interact with it!");
                     }
                 }
             }
@@ -682,6 +532,9 @@ public class Board extends JPanel implements ActionListener, KeyListener {
                 doors.remove(obj);
             }
         }
+        if (!objectsToRemove.isEmpty()) {
+            debugOverlay.invalidate();
+        }
     }
 
     public void resetKeyStates() {
@@ -698,6 +551,7 @@ public class Board extends JPanel implements ActionListener, KeyListener {
     }
 
     public void setWorldName(String worldName) {
+        encounterPrefetcher.discard();
         this.worldName = worldName;
     }
 
@@ -712,8 +566,8 @@ public class Board extends JPanel implements ActionListener, KeyListener {
     private void playEncounterAnimation(Pokemon wildPokemon) {
         // This would be where you'd implement a screen flash or transition animation
         // For now, just print to console
-        System.out.println("Moves: " + wildPokemon.getMoves().toString());
-        System.out.println("A wild " + wildPokemon.getName() + " appeared!");
+        LOG.debug("Moves: {}", wildPokemon.getMoves().toString());
+        LOG.info("A wild {} appeared!", wildPokemon.getName());
     }
     
     public void stopMoving() {
@@ -730,6 +584,11 @@ public class Board extends JPanel implements ActionListener, KeyListener {
         this.inBattle = inBattle;
     }
 
+    // True for both wild and trainer battles
+    public boolean isBattleActive() {
+        return inBattle || npcBattleInProgress;
+    }
+
     public void placeManyObjects(String path, int startTileX, int startTileY, int endTileX, int endTileY, int xSpacing, int ySpacing) {
         // Ensure start coordinates are less than end coordinates
         if (startTileX > endTileX) {
@@ -767,16 +626,30 @@ public class Board extends JPanel implements ActionListener, KeyListener {
         return objects;
     }
 
+    public List<Door> getDoors() {
+        return doors;
+    }
+
+    public List<TrainerNpc> getTrainers() {
+        return trainers;
+    }
+
+    public DebugOverlay getDebugOverlay() {
+        return debugOverlay;
+    }
+
     public void addTrainer(TrainerNpc trainer) {
         trainers.add(trainer);
         allNpcs.add(trainer);
         objects.add(trainer);
+        debugOverlay.invalidate();
     }
     
     public void addCivilian(CivilianNpc civilian) {
         civilians.add(civilian);
         allNpcs.add(civilian);
         objects.add(civilian);
+        debugOverlay.invalidate();
     }
     
     // For trainer encounters
@@ -808,31 +681,61 @@ public class Board extends JPanel implements ActionListener, KeyListener {
         }
     } */
 
-    private void startWildEncounter() {
+    // A tick that takes longer than the timer period delays the next one
+    private void recordTick(long tickStart) {
+        long micros = (System.nanoTime() - tickStart) / 1000;
+        GameMetrics.TICK_TIME_MICROS.record(micros);
+        if (micros > DELAY * 1000L) {
+            GameMetrics.TICK_OVERRUNS.increment();
+        }
+    }
+
+    public void showToast(String message) {
+        toast.show(message, TOAST_MILLIS);
+        repaint();
+    }
+
+    private void startWildEncounter(EncounterArea area) {
+        if (AutoBattleMode.isEnabled()) {
+            autoBattleWildEncounter(area);
+            return;
+        }
+        GameMetrics.BATTLES_STARTED.increment();
         inBattle = true;
         resetKeyStates();
         player.setMoving(false);
         player.stopMoving();
         timer.stop();
         
-        Pokemon wildPokemon = encounterManager.generateWildPokemon(worldName);
+        EncounterPrefetcher.Encounter encounter = encounterPrefetcher.take(area);
+        Pokemon wildPokemon = encounter.getPokemon();
         playEncounterAnimation(wildPokemon);
         player.setMovementState(MovementState.IN_BATTLE);
         
-        SwingUtilities.invokeLater(() -> {
-            WildPokemonBattle battleScreen = new WildPokemonBattle(player, wildPokemon, "route");
-            battleScreen.setVisible(true);
-            
-            battleScreen.addWindowListener(new WindowAdapter() {
-                @Override
-                public void windowClosed(WindowEvent e) {
-                    endWildEncounter();
-                }
-            });
-        });
+        SwingUtilities.invokeLater(() -> WildPokemonBattle.getInstance()
+                .start(getRootPane().getLayeredPane(), player, encounter,
+                        area.getBattleBackground(), this::endWildEncounter));
+    }
+
+    // Fights the encounter right away on the tick thread; the overworld never stops
+    private void autoBattleWildEncounter(EncounterArea area) {
+        encounterCooldown = ENCOUNTER_COOLDOWN_TIME;
+        if (player.getTeam().stream().noneMatch(p -> p.getStats().getCurrentHp() > 0)) {
+            showToast("No usable Pokemon to auto battle with!");
+            return;
+        }
+        GameMetrics.BATTLES_STARTED.increment();
+        Pokemon wildPokemon = encounterPrefetcher.take(area).getPokemon();
+        AutoBattle battle = new AutoBattle(AutoBattleMode.getPlayerPolicy(),
+                SearchPolicy.forDifficulty(AiDifficulty.EASY), autoBattleRandom);
+        AutoBattle.Summary summary = battle.resolve(BattleState.wild(player.getTeam(), wildPokemon));
+        GameMetrics.BATTLES_FINISHED.increment();
+        LOG.info("Auto battle: {}", summary);
+        showToast(summary.toString());
     }
 
     private void endWildEncounter() {
+        GameMetrics.BATTLES_FINISHED.increment();
         inBattle = false;
         player.setInBattle(false);
         player.setMovementState(MovementState.FREE);
@@ -844,20 +747,14 @@ public class Board extends JPanel implements ActionListener, KeyListener {
     }
     
     private void startTrainerBattle(TrainerNpc npc) {
-        SwingUtilities.invokeLater(() -> {
-            TrainerBattle battleScreen = new TrainerBattle(player, npc, "route");
-            battleScreen.setVisible(true);
-            
-            battleScreen.addWindowListener(new java.awt.event.WindowAdapter() {
-                @Override
-                public void windowClosed(java.awt.event.WindowEvent e) {
-                    endNPCBattle();
-                }
-            });
-        });
+        GameMetrics.BATTLES_STARTED.increment();
+        npcBattleInProgress = true;
+        SwingUtilities.invokeLater(() -> TrainerBattle.getInstance()
+                .start(getRootPane().getLayeredPane(), player, npc, "route", this::endNPCBattle));
     }
 
     private void endNPCBattle() {
+        GameMetrics.BATTLES_FINISHED.increment();
         npcBattleInProgress = false;
         timer.start();
         requestFocusInWindow();
@@ -879,49 +776,12 @@ public class Board extends JPanel implements ActionListener, KeyListener {
                 approachingTrainer = trainer;
                 trainer.startApproachingPlayer(player, TILE_SIZE);
                 
-                System.out.println("Player movement stopped! " + trainer.getName() + " is approaching!");
+                LOG.debug("Player movement stopped! {} is approaching!", trainer.getName());
                 break;
             }
         }
     }
 
-    private void drawDirectionIndicator(Graphics g, InteractableObject obj, Rectangle bounds) {
-        g.setColor(Color.YELLOW);
-        int centerX = bounds.x + bounds.width / 2;
-        int centerY = bounds.y + bounds.height / 2;
-        
-        switch (obj.getDirection()) {
-            case FRONT:
-                // Arrow pointing up
-                g.drawLine(centerX, centerY, centerX, centerY - 10);
-                g.drawLine(centerX, centerY - 10, centerX - 3, centerY - 7);
-                g.drawLine(centerX, centerY - 10, centerX + 3, centerY - 7);
-                break;
-            case BACK:
-                // Arrow pointing down
-                g.drawLine(centerX, centerY, centerX, centerY + 10);
-                g.drawLine(centerX, centerY + 10, centerX - 3, centerY + 7);
-                g.drawLine(centerX, centerY + 10, centerX + 3, centerY + 7);
-                break;
-            case LEFT:
-                // Arrow pointing left
-                g.drawLine(centerX, centerY, centerX - 10, centerY);
-                g.drawLine(centerX - 10, centerY, centerX - 7, centerY - 3);
-                g.drawLine(centerX - 10, centerY, centerX - 7, centerY + 3);
-                break;
-            case RIGHT:
-                // Arrow pointing right
-                g.drawLine(centerX, centerY, centerX + 10, centerY);
-                g.drawLine(centerX + 10, centerY, centerX + 7, centerY - 3);
-                g.drawLine(centerX + 10, centerY, centerX + 7, centerY + 3);
-                break;
-            case ANY:
-                // Circle to indicate any direction
-                g.drawOval(centerX - 5, centerY - 5, 10, 10);
-                break;
-        }
-    }
-    
     public void onTrainerApproachComplete(TrainerNpc trainer) {
         // Called when trainer finishes approaching the player
         approachingTrainer = null;
@@ -978,13 +838,13 @@ public class Board extends JPanel implements ActionListener, KeyListener {
     public void addBerryTree(Berry.BerryType berryType, int maxBerries, int x, int y) {
         BerryTree berryTree = new BerryTree(new Point(x, y), berryType, maxBerries);
         addInteractableObject(berryTree);
-        System.out.println("Added " + berryType.getName() + " tree at (" + x + ", " + y + ")");
+        LOG.debug("Added {} tree at ({}, {})", berryType.getName(), x, y);
     }
 
     public void addBerryTreesInArea(Berry.BerryType berryType, int maxBerries, 
                                 int startX, int startY, int endX, int endY, 
                                 int spacing, int density) {
-        Random random = new Random();
+        RandomGenerator random = GameRandom.WORLD.get();
         
         for (int y = startY; y <= endY; y += spacing) {
             for (int x = startX; x <= endX; x += spacing) {
@@ -1038,6 +898,10 @@ public class Board extends JPanel implements ActionListener, KeyListener {
         dialogueBox.queueMessage(speaker, text, options, callback);
     }
     
+    DialogueBox getDialogueBox() {
+        return dialogueBox;
+    }
+
     public boolean isDialogueActive() {
         return dialogueActive && dialogueBox != null && dialogueBox.isVisible();
     }
@@ -0,0 +1,347 @@
+package ui;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import model.Door;
+import model.InteractableObject;
+import model.Player;
+import model.TrainerNpc;
+import model.WorldObject;
+import tiles.TileManager;
+
+/**
+ * Debug overlay for a single board. Geometry that only changes when the world
+ * changes (tall grass, object and door bounds, stationary trainer vision) is
+ * rendered once into chunk images in logical coordinates and blitted each frame;
+ * only the player and moving trainers are drawn live. Toggle with F3 or start
+ * with -Dpoke.debug=true.
+ */
+public class DebugOverlay {
+    private static final int TILE_SIZE = Board.TILE_SIZE;
+    private static final int CHUNK_TILES = 16;
+    private static final int CHUNK_SIZE = CHUNK_TILES * TILE_SIZE;
+    private static final int VISION_TILES = 5;
+
+    private static final Color GRASS_FILL = new Color(0, 255, 0, 100);
+    private static final Color VISION_FILL = new Color(0, 255, 255, 50);
+
+    private static volatile boolean enabled = Boolean.getBoolean("poke.debug");
+    private static BufferedImage legend;
+
+    private final Board board;
+    private final TileManager tileManager;
+    private final int chunkCols;
+    private final int chunkRows;
+    private final BufferedImage[][] chunks;
+    private final boolean[][] chunkValid;
+
+    // Reused so the per-frame path does not allocate
+    private final Rectangle scratch = new Rectangle();
+    private long trainerSignature;
+
+    public DebugOverlay(Board board, TileManager tileManager) {
+        this.board = board;
+        this.tileManager = tileManager;
+        this.chunkCols = (board.getColumns() + CHUNK_TILES - 1) / CHUNK_TILES;
+        this.chunkRows = (board.getRows() + CHUNK_TILES - 1) / CHUNK_TILES;
+        this.chunks = new BufferedImage[chunkCols][chunkRows];
+        this.chunkValid = new boolean[chunkCols][chunkRows];
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static void toggle() {
+        enabled = !enabled;
+    }
+
+    // Marks every chunk stale; chunks are rebuilt lazily the next time they are visible
+    public void invalidate() {
+        for (int cx = 0; cx < chunkCols; cx++) {
+            for (int cy = 0; cy < chunkRows; cy++) {
+                chunkValid[cx][cy] = false;
+            }
+        }
+    }
+
+    // Drop the chunk images entirely, e.g. when the board is no longer shown
+    public void release() {
+        for (int cx = 0; cx < chunkCols; cx++) {
+            for (int cy = 0; cy < chunkRows; cy++) {
+                chunks[cx][cy] = null;
+                chunkValid[cx][cy] = false;
+            }
+        }
+    }
+
+    /**
+     * Draws the world-space part of the overlay. Expects g2d to already be
+     * scaled by the zoom level and translated by the camera.
+     */
+    public void drawWorldLayer(Graphics2D g2d, int viewX, int viewY, int viewWidth, int viewHeight) {
+        long signature = computeTrainerSignature();
+        if (signature != trainerSignature) {
+            trainerSignature = signature;
+            invalidate();
+        }
+
+        int firstCol = Math.max(0, viewX / CHUNK_SIZE);
+        int firstRow = Math.max(0, viewY / CHUNK_SIZE);
+        int lastCol = Math.min(chunkCols - 1, (viewX + viewWidth) / CHUNK_SIZE);
+        int lastRow = Math.min(chunkRows - 1, (viewY + viewHeight) / CHUNK_SIZE);
+
+        for (int cx = firstCol; cx <= lastCol; cx++) {
+            for (int cy = firstRow; cy <= lastRow; cy++) {
+                if (!chunkValid[cx][cy]) {
+                    renderChunk(cx, cy);
+                }
+                g2d.drawImage(chunks[cx][cy], cx * CHUNK_SIZE, cy * CHUNK_SIZE, null);
+            }
+        }
+
+        // Moving trainers are the only world geometry that changes every frame
+        for (TrainerNpc trainer : board.getTrainers()) {
+            if (isTrainerMoving(trainer)) {
+                drawTrainer(g2d, trainer);
+            }
+        }
+
+        Player player = board.getPlayer();
+        g2d.setColor(Color.RED);
+        g2d.drawRect(player.getWorldX(), player.getWorldY() + player.getHeight() / 2,
+                player.getWidth(), player.getHeight() - player.getHeight() / 2);
+    }
+
+    /**
+     * Draws the screen-space part of the overlay (text, markers and legend)
+     * on the unscaled graphics.
+     */
+    public void drawScreenLayer(Graphics g, int cameraX, int cameraY, int zoomLevel) {
+        Player player = board.getPlayer();
+        int screenX = (player.getWorldX() - cameraX) * zoomLevel;
+        int screenY = (player.getWorldY() + player.getHeight() / 2 - cameraY) * zoomLevel;
+
+        if (tileManager.isPlayerInTallGrass(player)) {
+            g.setColor(Color.YELLOW);
+            g.drawString("IN GRASS", screenX, screenY - 10);
+        }
+
+        // RED DOT: Player center
+        int playerCenterX = (player.getWorldX() + (player.getWidth() / 2) - cameraX) * zoomLevel;
+        int playerCenterY = (player.getWorldY() + (player.getHeight() / 2) - cameraY) * zoomLevel;
+        g.setColor(Color.RED);
+        g.fillOval(playerCenterX - 3, playerCenterY - 3, 6, 6);
+
+        g.drawImage(getLegend(), 10, 10, null);
+    }
+
+    private void renderChunk(int cx, int cy) {
+        BufferedImage image = chunks[cx][cy];
+        if (image == null) {
+            image = new BufferedImage(CHUNK_SIZE + 1, CHUNK_SIZE + 1, BufferedImage.TYPE_INT_ARGB);
+            chunks[cx][cy] = image;
+        }
+
+        Graphics2D g = image.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g.setComposite(AlphaComposite.SrcOver);
+
+        int originX = cx * CHUNK_SIZE;
+        int originY = cy * CHUNK_SIZE;
+        g.translate(-originX, -originY);
+        Rectangle chunkArea = new Rectangle(originX - TILE_SIZE, originY - TILE_SIZE,
+                CHUNK_SIZE + TILE_SIZE * 2, CHUNK_SIZE + TILE_SIZE * 2);
+
+        // BLUE: object bounds (moving trainers are drawn live)
+        g.setColor(Color.BLUE);
+        for (WorldObject obj : board.getObjects()) {
+            if (obj instanceof TrainerNpc && isTrainerMoving((TrainerNpc) obj)) {
+                continue;
+            }
+            Rectangle bounds = obj.getBounds(TILE_SIZE);
+            if (bounds.intersects(chunkArea)) {
+                g.drawRect(bounds.x, bounds.y, bounds.width, bounds.height);
+            }
+        }
+
+        // GREEN: door bounds and interaction areas
+        for (Door door : board.getDoors()) {
+            Rectangle bounds = door.getBounds(TILE_SIZE);
+            Rectangle area = new Rectangle(bounds.x - TILE_SIZE, bounds.y - TILE_SIZE,
+                    bounds.width + TILE_SIZE * 2, bounds.height + TILE_SIZE * 2);
+            if (!area.intersects(chunkArea)) {
+                continue;
+            }
+            g.setColor(Color.GREEN);
+            g.drawRect(bounds.x, bounds.y, bounds.width, bounds.height);
+            g.drawRect(area.x, area.y, area.width, area.height);
+            drawDirectionIndicator(g, door, area);
+        }
+
+        // ORANGE / CYAN: stationary trainers and their vision
+        for (TrainerNpc trainer : board.getTrainers()) {
+            if (!isTrainerMoving(trainer)) {
+                drawTrainer(g, trainer);
+            }
+        }
+
+        // LIGHT GREEN: Tall grass areas
+        g.setColor(GRASS_FILL);
+        int firstTileX = cx * CHUNK_TILES;
+        int firstTileY = cy * CHUNK_TILES;
+        int lastTileX = Math.min(board.getColumns(), firstTileX + CHUNK_TILES);
+        int lastTileY = Math.min(board.getRows(), firstTileY + CHUNK_TILES);
+        for (int y = firstTileY; y < lastTileY; y++) {
+            for (int x = firstTileX; x < lastTileX; x++) {
+                if (tileManager.isInTallGrass(x, y)) {
+                    g.fillRect(x * TILE_SIZE, y * TILE_SIZE, TILE_SIZE, TILE_SIZE);
+                }
+            }
+        }
+
+        g.dispose();
+        chunkValid[cx][cy] = true;
+    }
+
+    private void drawTrainer(Graphics2D g, TrainerNpc trainer) {
+        Rectangle bounds = trainer.getBounds(TILE_SIZE);
+        g.setColor(Color.ORANGE);
+        g.drawRect(bounds.x, bounds.y, bounds.width, bounds.height);
+
+        if (!trainer.isDefeated()) {
+            Rectangle vision = getBattleInitiationArea(trainer, bounds, scratch);
+            g.setColor(VISION_FILL);
+            g.fillRect(vision.x, vision.y, vision.width, vision.height);
+            g.setColor(Color.CYAN);
+            g.drawRect(vision.x, vision.y, vision.width, vision.height);
+        }
+    }
+
+    private static boolean isTrainerMoving(TrainerNpc trainer) {
+        return trainer.isMoving() || trainer.isMovingTowardsPlayer();
+    }
+
+    // Cheap hash over everything that decides how trainers appear in the cached layer
+    private long computeTrainerSignature() {
+        long hash = 17;
+        for (TrainerNpc trainer : board.getTrainers()) {
+            boolean moving = isTrainerMoving(trainer);
+            hash = hash * 31 + (moving ? 1 : 0);
+            if (!moving) {
+                hash = hash * 31 + trainer.getWorldX();
+                hash = hash * 31 + trainer.getWorldY();
+                hash = hash * 31 + trainer.getDirection().ordinal();
+                hash = hash * 31 + (trainer.isDefeated() ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    private static Rectangle getBattleInitiationArea(TrainerNpc npc, Rectangle npcBounds, Rectangle out) {
+        int visionLength = VISION_TILES * TILE_SIZE;
+
+        switch (npc.getDirection()) {
+            case FRONT: // Looking up - vertical rectangle
+                out.setBounds(npcBounds.x + (npcBounds.width / 2) - (TILE_SIZE / 2),
+                        npcBounds.y - visionLength, TILE_SIZE, visionLength);
+                break;
+            case BACK: // Looking down - vertical rectangle
+                out.setBounds(npcBounds.x + (npcBounds.width / 2) - (TILE_SIZE / 2),
+                        npcBounds.y + npcBounds.height, TILE_SIZE, visionLength);
+                break;
+            case LEFT: // Looking left - horizontal rectangle
+                out.setBounds(npcBounds.x - visionLength,
+                        npcBounds.y + (npcBounds.height / 2) - (TILE_SIZE / 2), visionLength, TILE_SIZE);
+                break;
+            case RIGHT: // Looking right - horizontal rectangle
+                out.setBounds(npcBounds.x + npcBounds.width,
+                        npcBounds.y + (npcBounds.height / 2) - (TILE_SIZE / 2), visionLength, TILE_SIZE);
+                break;
+            default:
+                out.setBounds(npcBounds.x - TILE_SIZE, npcBounds.y - TILE_SIZE, TILE_SIZE * 2, TILE_SIZE * 2);
+                break;
+        }
+        return out;
+    }
+
+    private static void drawDirectionIndicator(Graphics g, InteractableObject obj, Rectangle bounds) {
+        g.setColor(Color.YELLOW);
+        int centerX = bounds.x + bounds.width / 2;
+        int centerY = bounds.y + bounds.height / 2;
+
+        switch (obj.getDirection()) {
+            case FRONT:
+                // Arrow pointing up
+                g.drawLine(centerX, centerY, centerX, centerY - 10);
+                g.drawLine(centerX, centerY - 10, centerX - 3, centerY - 7);
+                g.drawLine(centerX, centerY - 10, centerX + 3, centerY - 7);
+                break;
+            case BACK:
+                // Arrow pointing down
+                g.drawLine(centerX, centerY, centerX, centerY + 10);
+                g.drawLine(centerX, centerY + 10, centerX - 3, centerY + 7);
+                g.drawLine(centerX, centerY + 10, centerX + 3, centerY + 7);
+                break;
+            case LEFT:
+                // Arrow pointing left
+                g.drawLine(centerX, centerY, centerX - 10, centerY);
+                g.drawLine(centerX - 10, centerY, centerX - 7, centerY - 3);
+                g.drawLine(centerX - 10, centerY, centerX - 7, centerY + 3);
+                break;
+            case RIGHT:
+                // Arrow pointing right
+                g.drawLine(centerX, centerY, centerX + 10, centerY);
+                g.drawLine(centerX + 10, centerY, centerX + 7, centerY - 3);
+                g.drawLine(centerX + 10, centerY, centerX + 7, centerY + 3);
+                break;
+            case ANY:
+                // Circle to indicate any direction
+                g.drawOval(centerX - 5, centerY - 5, 10, 10);
+                break;
+        }
+    }
+
+    // The legend never changes, so it is shared by every board
+    private static BufferedImage getLegend() {
+        if (legend == null) {
+            legend = new BufferedImage(201, 161, BufferedImage.TYPE_INT_ARGB);
+            Graphics g = legend.getGraphics();
+            g.setColor(Color.BLACK);
+            g.fillRect(0, 0, 200, 160);
+            g.setColor(Color.WHITE);
+            g.drawRect(0, 0, 200, 160);
+
+            int y = 15;
+            g.setColor(Color.RED);
+            g.drawString("RED: Player Bounds", 5, y);
+            y += 15;
+            g.setColor(Color.BLUE);
+            g.drawString("BLUE: Object Bounds", 5, y);
+            y += 15;
+            g.setColor(Color.GREEN);
+            g.drawString("GREEN: Door Areas", 5, y);
+            y += 15;
+            g.setColor(Color.ORANGE);
+            g.drawString("ORANGE: NPC Bounds", 5, y);
+            y += 15;
+            g.setColor(Color.CYAN);
+            g.drawString("CYAN: NPC Battle Range", 5, y);
+            y += 15;
+            g.setColor(Color.GREEN);
+            g.drawString("GREEN: Tall Grass", 5, y);
+            y += 15;
+            g.setColor(Color.YELLOW);
+            g.drawString("YELLOW: In Grass Indicator", 5, y);
+            g.dispose();
+        }
+        return legend;
+    }
+}
@@ -9,8 +9,12 @@ import java.awt.event.KeyListener;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.function.Consumer;
+import logging.Log;
+import logging.Logger;
+import diagnostics.GameMetrics;
 
 public class DialogueBox extends JPanel implements KeyListener {
+    private static final Logger LOG = Log.getLogger(DialogueBox.class);
     private static final int DIALOGUE_HEIGHT = 180;
     private static final int DIALOGUE_WIDTH_MARGIN = 40;
     private static final int PADDING = 25;
@@ -99,7 +103,7 @@ public class DialogueBox extends JPanel implements KeyListener {
     }
     
     private void setupAnimationTimer() {
-        textAnimationTimer = new Timer(ANIMATION_SPEED, new ActionListener() {
+        textAnimationTimer = SwingTimers.create(ANIMATION_SPEED, new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
                 if (currentMessage != null && currentCharIndex < currentMessage.getText().length()) {
@@ -133,6 +137,7 @@ public class DialogueBox extends JPanel implements KeyListener {
     public void queueMessage(String speaker, String text, String[] options, Consumer<Integer> optionCallback, Runnable continueCallback) {
         DialogueMessage message = new DialogueMessage(speaker, text, options, optionCallback, continueCallback);
         messageQueue.offer(message);
+        GameMetrics.DIALOGUE_MESSAGES_QUEUED.increment();
         if (!isVisible()) {
             showNextMessage();
         }
@@ -372,10 +377,10 @@ public class DialogueBox extends JPanel implements KeyListener {
         if (!isVisible()) return;
         
         int keyCode = e.getKeyCode();
-        System.err.println("Key pressed: " + KeyEvent.getKeyText(keyCode));
+        LOG.debug("Key pressed: {}", KeyEvent.getKeyText(keyCode));
         
         if (isShowingOptions) {
-            System.out.println("Handling option selection");
+            LOG.debug("Handling option selection");
             switch (keyCode) {
                 case KeyEvent.VK_UP:
                 case KeyEvent.VK_W:
@@ -0,0 +1,127 @@
+package ui;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.swing.ImageIcon;
+
+import model.EncounterArea;
+import model.EncounterManager;
+import model.GameRandom;
+import model.WildEncounter;
+import pokes.Pokemon;
+import diagnostics.GameMetrics;
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Keeps the next wild encounter ready while the player walks through tall
+ * grass. The Pokémon is rolled and built, its moves picked and its front
+ * sprite decoded on a background thread, so when an encounter fires the
+ * board only has to show it. Leaving the encounter area or the world
+ * throws the prepared encounter away.
+ */
+public class EncounterPrefetcher {
+    private static final Logger LOG = Log.getLogger(EncounterPrefetcher.class);
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "encounter-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final EncounterManager encounterManager;
+    private EncounterArea area;
+    private CompletableFuture<Encounter> pending;
+
+    /**
+     * A wild Pokémon with everything the battle scene needs to show it.
+     */
+    public static final class Encounter {
+        private final WildEncounter wild;
+        private final ImageIcon sprite;
+
+        Encounter(WildEncounter wild, ImageIcon sprite) {
+            this.wild = wild;
+            this.sprite = sprite;
+        }
+
+        public Pokemon getPokemon() {
+            return wild.getPokemon();
+        }
+
+        public ImageIcon getSprite() {
+            return sprite;
+        }
+    }
+
+    public EncounterPrefetcher(EncounterManager encounterManager) {
+        this.encounterManager = encounterManager;
+    }
+
+    // Called every tick with the encounter area under the player, or null
+    public void update(EncounterArea area) {
+        if (area != this.area) {
+            discard();
+            this.area = area;
+        }
+        if (pending == null && area != null) {
+            long seed = GameRandom.ENCOUNTERS.get().nextLong();
+            pending = CompletableFuture.supplyAsync(() -> prepare(area, seed), EXECUTOR);
+        }
+    }
+
+    /**
+     * Hands over the prepared encounter for area and counts it as met;
+     * the next update starts on another. Waits if the background work is
+     * still running, and builds the encounter right here if nothing was
+     * prepared for this area.
+     */
+    public Encounter take(EncounterArea area) {
+        Encounter encounter = prepared(area);
+        encounter.wild.record();
+        return encounter;
+    }
+
+    private Encounter prepared(EncounterArea area) {
+        CompletableFuture<Encounter> ready = pending;
+        boolean matches = ready != null && area == this.area;
+        pending = null;
+        if (matches) {
+            try {
+                Encounter encounter = ready.join();
+                GameMetrics.ENCOUNTER_PREFETCH_HITS.increment();
+                return encounter;
+            } catch (RuntimeException e) {
+                LOG.warn("Prefetched encounter failed, building it now: {}", e.getMessage());
+            }
+        } else if (ready != null) {
+            ready.cancel(false);
+        }
+        GameMetrics.ENCOUNTER_PREFETCH_MISSES.increment();
+        return prepare(area, GameRandom.ENCOUNTERS.get().nextLong());
+    }
+
+    public void discard() {
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+            LOG.debug("Discarded prefetched encounter for {}", area);
+        }
+    }
+
+    // The seed is drawn by the caller, so a replay gets the same Pokémon whichever thread builds it
+    private Encounter prepare(EncounterArea area, long seed) {
+        WildEncounter wild = GameRandom.withSeed(seed, () -> {
+            WildEncounter rolled = encounterManager.generateWildPokemon(area);
+            if (rolled.getPokemon().getMoves().isEmpty()) {
+                rolled.getPokemon().generateWildMoves();
+            }
+            return rolled;
+        });
+        // Warms the sprite cache so the scene finds the background already scaled
+        BattleSprites.routeBackground();
+        return new Encounter(wild, BattleSprites.loadPokemon(wild.getPokemon(), true));
+    }
+}
@@ -2,10 +2,12 @@ package ui;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
 import java.io.IOException;
+import logging.Log;
+import logging.Logger;
 
 public class Icon {
+    private static final Logger LOG = Log.getLogger(Icon.class);
     private int x, y;
     private float alpha = 1.0f;
     private boolean visible = false;
@@ -42,9 +44,9 @@ public class Icon {
         }
         
         try {
-            iconImage = ImageIO.read(getClass().getResource(imagePath));
+            iconImage = ImageLoader.readResource(imagePath);
         } catch (IOException | IllegalArgumentException e) {
-            System.err.println("Failed to load icon: " + imagePath + " - " + e.getMessage());
+            LOG.error("Failed to load icon: {} - {}", imagePath, e.getMessage());
             // Create a fallback icon if image loading fails
             createFallbackIcon(iconType);
         }
@@ -0,0 +1,119 @@
+package ui;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+
+import diagnostics.AssetLoadEvent;
+import diagnostics.Metrics;
+
+/**
+ * Single place where sprites and backgrounds are read from disk, so every
+ * load shows up in flight recordings with its size and decode time.
+ * Behaves like the ImageIO.read overloads it replaces: a missing resource
+ * throws IllegalArgumentException and a missing file throws IIOException.
+ * Decoded images are tracked weakly so the imageHeapBytes gauge reflects
+ * the pixel memory of images that are still reachable.
+ */
+public final class ImageLoader {
+    private static final ReferenceQueue<BufferedImage> collected = new ReferenceQueue<>();
+    private static final Set<TrackedImage> tracked = ConcurrentHashMap.newKeySet();
+    private static final AtomicLong trackedBytes = new AtomicLong();
+
+    static {
+        Metrics.getInstance().gauge("imageHeapBytes", ImageLoader::getImageHeapBytes);
+    }
+
+    private static class TrackedImage extends WeakReference<BufferedImage> {
+        private final long bytes;
+
+        TrackedImage(BufferedImage image, long bytes) {
+            super(image, collected);
+            this.bytes = bytes;
+        }
+    }
+
+    private ImageLoader() {}
+
+    public static BufferedImage readResource(String path) throws IOException {
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.begin();
+        try (InputStream in = ImageLoader.class.getResourceAsStream(path)) {
+            if (in == null) {
+                commit(event, path, 0, null, 0);
+                throw new IllegalArgumentException("Resource not found: " + path);
+            }
+            return decode(event, path, in.readAllBytes());
+        }
+    }
+
+    public static BufferedImage readFile(File file) throws IOException {
+        AssetLoadEvent event = new AssetLoadEvent();
+        event.begin();
+        if (!file.canRead()) {
+            commit(event, file.getPath(), 0, null, 0);
+            throw new IIOException("Can't read input file!");
+        }
+        return decode(event, file.getPath(), Files.readAllBytes(file.toPath()));
+    }
+
+    private static BufferedImage decode(AssetLoadEvent event, String path, byte[] data) throws IOException {
+        long decodeStart = System.nanoTime();
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(data));
+        commit(event, path, data.length, image, System.nanoTime() - decodeStart);
+        if (image != null) {
+            track(image);
+        }
+        return image;
+    }
+
+    private static void track(BufferedImage image) {
+        long bytes = decodedBytes(image);
+        tracked.add(new TrackedImage(image, bytes));
+        trackedBytes.addAndGet(bytes);
+        expungeCollected();
+    }
+
+    private static void expungeCollected() {
+        Reference<? extends BufferedImage> ref;
+        while ((ref = collected.poll()) != null) {
+            if (tracked.remove(ref)) {
+                trackedBytes.addAndGet(-((TrackedImage) ref).bytes);
+            }
+        }
+    }
+
+    // Pixel memory of decoded images that have not been garbage collected yet
+    public static long getImageHeapBytes() {
+        expungeCollected();
+        return trackedBytes.get();
+    }
+
+    private static long decodedBytes(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * 4;
+    }
+
+    private static void commit(AssetLoadEvent event, String path, long bytes, BufferedImage image, long decodeNanos) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.bytes = bytes;
+            event.found = image != null;
+            event.decodedBytes = image != null ? decodedBytes(image) : 0;
+            event.decodeNanos = decodeNanos;
+            event.commit();
+        }
+    }
+}
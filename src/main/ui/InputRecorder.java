@@ -0,0 +1,103 @@
+package ui;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Writes an InputRecording while the game is played. Started from App with
+ * -Dpoke.record=file before anything random happens; the board reports
+ * each tick and each key it handles, and App reports zoom and auto battle
+ * toggles. The file is closed when the game exits.
+ */
+final class InputRecorder {
+    private static final Logger LOG = Log.getLogger(InputRecorder.class);
+
+    private static volatile InputRecorder current;
+
+    private final Path file;
+    private final DataOutputStream out;
+    private int tick;
+    private int lastEventTick;
+    private boolean closed;
+
+    private InputRecorder(Path file, DataOutputStream out) {
+        this.file = file;
+        this.out = out;
+    }
+
+    // The recorder in use, or null when this session isn't being recorded
+    static InputRecorder current() {
+        return current;
+    }
+
+    static synchronized void start(Path file, long seed, boolean autoBattle, int zoom, String world) {
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+            out.writeInt(InputRecording.MAGIC);
+            out.writeShort(InputRecording.VERSION);
+            out.writeLong(seed);
+            out.writeBoolean(autoBattle);
+            out.writeByte(zoom);
+            out.writeUTF(world);
+            InputRecorder recorder = new InputRecorder(file, out);
+            Runtime.getRuntime().addShutdownHook(new Thread(recorder::close, "input-recorder-close"));
+            current = recorder;
+            LOG.info("Recording input to {} (seed {})", file, seed);
+        } catch (IOException e) {
+            LOG.error("Could not start recording to {}: {}", file, e.getMessage());
+        }
+    }
+
+    synchronized void tick() {
+        tick++;
+    }
+
+    synchronized void key(boolean pressed, int keyCode) {
+        write(pressed ? InputRecording.PRESS : InputRecording.RELEASE, keyCode, true);
+    }
+
+    synchronized void zoom(int delta) {
+        write(InputRecording.ZOOM, delta, true);
+    }
+
+    synchronized void toggleAutoBattle() {
+        write(InputRecording.AUTO_BATTLE, 0, false);
+    }
+
+    private void write(byte kind, int value, boolean hasValue) {
+        if (closed) {
+            return;
+        }
+        try {
+            InputRecording.writeVarInt(out, tick - lastEventTick);
+            out.writeByte(kind);
+            if (hasValue) {
+                InputRecording.writeVarInt(out, value);
+            }
+            lastEventTick = tick;
+        } catch (IOException e) {
+            LOG.error("Recording to {} failed, stopping: {}", file, e.getMessage());
+            closed = true;
+        }
+    }
+
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        write(InputRecording.END, 0, false);
+        closed = true;
+        try {
+            out.close();
+            LOG.info("Recorded {} ticks to {}", tick, file);
+        } catch (IOException e) {
+            LOG.error("Could not finish recording {}: {}", file, e.getMessage());
+        }
+    }
+}
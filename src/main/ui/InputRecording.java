@@ -0,0 +1,163 @@
+package ui;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * A recorded play session: the random seed and starting settings, then
+ * every overworld input tagged with the tick it came before. The file is
+ * a small header followed by one entry per input, each a varint count of
+ * ticks since the previous one, a kind byte and, for keys and zoom, a
+ * varint value, closed by an END entry that carries the tick count.
+ * sim.ReplayRunner plays one back on a headless world.
+ */
+public final class InputRecording {
+    static final int MAGIC = 0x504B4952; // "PKIR"
+    static final int VERSION = 1;
+
+    public static final byte PRESS = 0;
+    public static final byte RELEASE = 1;
+    public static final byte AUTO_BATTLE = 2;
+    public static final byte ZOOM = 3;
+    public static final byte END = 4;
+
+    private final long seed;
+    private final boolean autoBattle;
+    private final int zoom;
+    private final String world;
+    private final int[] ticks;
+    private final byte[] kinds;
+    private final int[] values;
+    private final int totalTicks;
+
+    private InputRecording(long seed, boolean autoBattle, int zoom, String world,
+                           int[] ticks, byte[] kinds, int[] values, int totalTicks) {
+        this.seed = seed;
+        this.autoBattle = autoBattle;
+        this.zoom = zoom;
+        this.world = world;
+        this.ticks = ticks;
+        this.kinds = kinds;
+        this.values = values;
+        this.totalTicks = totalTicks;
+    }
+
+    public static InputRecording read(Path file) throws IOException {
+        try (InputStream raw = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(raw))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(file + " is not an input recording");
+            }
+            int version = in.readUnsignedShort();
+            if (version != VERSION) {
+                throw new IOException(file + " is recording version " + version + ", expected " + VERSION);
+            }
+            long seed = in.readLong();
+            boolean autoBattle = in.readBoolean();
+            int zoom = in.readUnsignedByte();
+            String world = in.readUTF();
+
+            int[] ticks = new int[64];
+            byte[] kinds = new byte[64];
+            int[] values = new int[64];
+            int count = 0;
+            int tick = 0;
+            while (true) {
+                int delta;
+                byte kind;
+                int value;
+                try {
+                    delta = readVarInt(in);
+                    kind = in.readByte();
+                    value = kind == AUTO_BATTLE || kind == END ? 0 : readVarInt(in);
+                } catch (EOFException e) {
+                    // The game died before it could close the file; keep every entry that made it to disk whole
+                    delta = 0;
+                    kind = END;
+                    value = 0;
+                }
+                tick += delta;
+                if (kind == END) {
+                    return new InputRecording(seed, autoBattle, zoom, world, Arrays.copyOf(ticks, count),
+                            Arrays.copyOf(kinds, count), Arrays.copyOf(values, count), tick);
+                }
+                if (count == ticks.length) {
+                    ticks = Arrays.copyOf(ticks, count * 2);
+                    kinds = Arrays.copyOf(kinds, count * 2);
+                    values = Arrays.copyOf(values, count * 2);
+                }
+                ticks[count] = tick;
+                kinds[count] = kind;
+                values[count] = value;
+                count++;
+            }
+        }
+    }
+
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        // Zigzag so the zoom's -1 stays one byte
+        int v = (value << 1) ^ (value >> 31);
+        while ((v & ~0x7F) != 0) {
+            out.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+
+    static int readVarInt(DataInputStream in) throws IOException {
+        int v = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            v |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (v >>> 1) ^ -(v & 1);
+            }
+        }
+        throw new IOException("Varint too long");
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean isAutoBattle() {
+        return autoBattle;
+    }
+
+    public int getZoom() {
+        return zoom;
+    }
+
+    public String getWorld() {
+        return world;
+    }
+
+    public int getTotalTicks() {
+        return totalTicks;
+    }
+
+    public int size() {
+        return ticks.length;
+    }
+
+    // The tick this input came just before
+    public int getTick(int index) {
+        return ticks[index];
+    }
+
+    public byte getKind(int index) {
+        return kinds[index];
+    }
+
+    // Key code for PRESS and RELEASE, zoom step for ZOOM
+    public int getValue(int index) {
+        return values[index];
+    }
+}
@@ -7,11 +7,14 @@ import model.Npc.Direction;
 import java.awt.*;
 import java.awt.image.ImageObserver;
 import java.io.IOException;
-import javax.imageio.ImageIO;
 import java.util.HashMap;
 import java.util.Map;
+import logging.Log;
+import logging.Logger;
+import diagnostics.GameMetrics;
 
 public class NpcView implements Drawable {
+    private static final Logger LOG = Log.getLogger(NpcView.class);
     private final Npc npc;
     private Image currentImage;
     private String npcType;
@@ -34,14 +37,14 @@ public class NpcView implements Drawable {
     
     private void cacheImage(String path) {
         try {
-            Image img = ImageIO.read(getClass().getResource(path));
+            Image img = ImageLoader.readResource(path);
             if (img != null) {
                 imageCache.put(path, img);
             } else {
-                System.out.println("Warning: NPC sprite not found, check bin: " + path);
+                LOG.warn("Warning: NPC sprite not found, check bin: {}", path);
             }
         } catch (IOException | IllegalArgumentException exc) {
-            System.out.println("Error preloading NPC image: " + path + " - " + exc.getMessage());
+            LOG.error("Error preloading NPC image: {} - {}", path, exc.getMessage());
         }
     }
     
@@ -98,16 +101,18 @@ public class NpcView implements Drawable {
         }
         
         if (imageCache.containsKey(path)) {
+            GameMetrics.ASSET_CACHE_HITS.increment();
             currentImage = imageCache.get(path);
         } else {
-            System.out.println("NPC sprite not in cache, loading from file: " + path);
+            GameMetrics.ASSET_CACHE_MISSES.increment();
+            LOG.debug("NPC sprite not in cache, loading from file: {}", path);
             try {
-                currentImage = ImageIO.read(getClass().getResource(path));
+                currentImage = ImageLoader.readResource(path);
                 if (currentImage != null) {
                     imageCache.put(path, currentImage);
                 }
             } catch (Exception e) {
-                System.out.println("Error loading NPC image: " + e.getMessage());
+                LOG.error("Error loading NPC image: {}", e.getMessage());
                 // Fallback to static sprite
                 String fallbackPath = String.format("/resources/npc_sprites/%s/facing_%s.png", 
                                                   npcType, direction.toString().toLowerCase());
@@ -6,11 +6,14 @@ import model.Player.Direction;
 import java.awt.*;
 import java.awt.image.ImageObserver;
 import java.io.IOException;
-import javax.imageio.ImageIO;
 import java.util.HashMap;
 import java.util.Map;
+import logging.Log;
+import logging.Logger;
+import diagnostics.GameMetrics;
 
 public class PlayerBattleView {
+    private static final Logger LOG = Log.getLogger(PlayerBattleView.class);
     private final Player player;
     private Image currentImage;
     
@@ -36,6 +39,10 @@ public class PlayerBattleView {
         loadImage();
     }
     
+    public Player getPlayer() {
+        return player;
+    }
+    
     private void preloadBattleImages() {
         String[] directions = {"front", "back", "left", "right"};
         
@@ -52,12 +59,12 @@ public class PlayerBattleView {
     
     private void cacheImage(String path) {
         try {
-            Image img = ImageIO.read(getClass().getResource(path));
+            Image img = ImageLoader.readResource(path);
             if (img != null) {
                 imageCache.put(path, img);
             }
         } catch (IOException | IllegalArgumentException exc) {
-            System.out.println("Battle sprite not found: " + path);
+            LOG.warn("Battle sprite not found: {}", path);
         }
     }
 
@@ -73,8 +80,10 @@ public class PlayerBattleView {
         }
         
         if (imageCache.containsKey(path)) {
+            GameMetrics.ASSET_CACHE_HITS.increment();
             currentImage = imageCache.get(path);
         } else {
+            GameMetrics.ASSET_CACHE_MISSES.increment();
             String fallbackPath = "/resources/player_sprites/battle_sprites/male_facing.png";
             if (imageCache.containsKey(fallbackPath)) {
                 currentImage = imageCache.get(fallbackPath);
@@ -88,9 +97,9 @@ public class PlayerBattleView {
         try {
             String path = String.format("/resources/player_sprites/s_facing_%s.png", 
                                       player.getDirection().toString().toLowerCase());
-            currentImage = ImageIO.read(getClass().getResource(path));
+            currentImage = ImageLoader.readResource(path);
         } catch (Exception e) {
-            System.out.println("Error loading fallback image: " + e.getMessage());
+            LOG.error("Error loading fallback image: {}", e.getMessage());
         }
     }
     
@@ -7,11 +7,14 @@ import model.Player.Direction;
 import java.awt.*;
 import java.awt.image.ImageObserver;
 import java.io.IOException;
-import javax.imageio.ImageIO;
 import java.util.HashMap;
 import java.util.Map;
+import logging.Log;
+import logging.Logger;
+import diagnostics.GameMetrics;
 
 public class PlayerView implements Drawable {
+    private static final Logger LOG = Log.getLogger(PlayerView.class);
     private final Player player;
     private Image currentImage;
     
@@ -31,12 +34,12 @@ public class PlayerView implements Drawable {
     
     private void cacheImage(String path) {
         try {
-            Image img = ImageIO.read(getClass().getResource(path));
+            Image img = ImageLoader.readResource(path);
             if (img != null) {
                 imageCache.put(path, img);
             }
         } catch (IOException | IllegalArgumentException exc) {
-            System.out.println("Error preloading image: " + path + " - " + exc.getMessage());
+            LOG.warn("Error preloading image: {} - {}", path, exc.getMessage());
         }
     }
     
@@ -76,16 +79,18 @@ public class PlayerView implements Drawable {
         }
         
         if (imageCache.containsKey(path)) {
+            GameMetrics.ASSET_CACHE_HITS.increment();
             currentImage = imageCache.get(path);
         } else {
-            System.out.println("Animation frame not in cache, loading: " + path);
+            GameMetrics.ASSET_CACHE_MISSES.increment();
+            LOG.debug("Animation frame not in cache, loading: {}", path);
             try {
-                currentImage = ImageIO.read(getClass().getResource(path));
+                currentImage = ImageLoader.readResource(path);
                 if (currentImage != null) {
                     imageCache.put(path, currentImage);
                 }
             } catch (Exception e) {
-                System.out.println("Error loading walking animation: " + e.getMessage());
+                LOG.error("Error loading walking animation: {}", e.getMessage());
                 // Fallback to facing sprite
                 String fallbackPath = String.format(
                     "/resources/player_sprites/s_facing_%s.png",
@@ -14,6 +14,8 @@ import pokes.Pokemon.PokemonType;
 public class PokemonPanelManager {
     private Player player;
     private Pokemon selectedPokemon;
+    // Sprites for selectedPokemon, loaded when it's picked rather than on every repaint
+    private PokemonView selectedView;
     private JPanel pokemonDetailsPanel;
     private JPanel pokemonImagePanel;
     private JLabel pokemonNameLabel;
@@ -109,6 +111,7 @@ public class PokemonPanelManager {
         row.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
         
         // Pokémon sprite on the left
+        PokemonView pokemonView = new PokemonView(pokemon);
         JPanel spritePanel = new JPanel() {
             @Override
             protected void paintComponent(Graphics g) {
@@ -117,7 +120,6 @@ public class PokemonPanelManager {
                 g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, 
                                     RenderingHints.VALUE_INTERPOLATION_BILINEAR);
                 
-                PokemonView pokemonView = new PokemonView(pokemon);
                 pokemonView.draw(g2d, this, 2, 2, getWidth() - 4, getHeight() - 4, 
                                false, pokemon.getIsShiny());
                 g2d.dispose();
@@ -298,8 +300,7 @@ public class PokemonPanelManager {
                     int y = (getHeight() - imageSize) / 2;
                     
                     // Draw Pokémon maintaining aspect ratio
-                    PokemonView pokemonView = new PokemonView(selectedPokemon);
-                    pokemonView.draw(g2d, this, x, y, imageSize, imageSize, 
+                    selectedView.draw(g2d, this, x, y, imageSize, imageSize, 
                                    false, selectedPokemon.getIsShiny());
                     g2d.dispose();
                 }
@@ -660,6 +661,7 @@ public class PokemonPanelManager {
     
     private void selectPokemon(Pokemon pokemon) {
         this.selectedPokemon = pokemon;
+        this.selectedView = pokemon != null ? new PokemonView(pokemon) : null;
         updatePokemonInfo();
     }
     
@@ -6,10 +6,12 @@ import java.awt.*;
 import java.io.File;
 import java.io.IOException;
 
-import javax.imageio.ImageIO;
 import javax.swing.JPanel;
+import logging.Log;
+import logging.Logger;
 
 public class PokemonView {
+    private static final Logger LOG = Log.getLogger(PokemonView.class);
     private final Pokemon pokemon;
     private Image normalIcon;
     private Image shinyIcon;
@@ -29,12 +31,12 @@ public class PokemonView {
         shinyBackPath = "sprites/sprites/pokemon/back/shiny/" + pokemon.getDex() + ".png";
 
         try {
-            normalIcon = ImageIO.read(new File(normalIconPath));
-            shinyIcon = ImageIO.read(new File(shinyIconPath));
-            normalBack = ImageIO.read(new File(normalBackPath));
-            shinyBack = ImageIO.read(new File(shinyBackPath));
+            normalIcon = ImageLoader.readFile(new File(normalIconPath));
+            shinyIcon = ImageLoader.readFile(new File(shinyIconPath));
+            normalBack = ImageLoader.readFile(new File(normalBackPath));
+            shinyBack = ImageLoader.readFile(new File(shinyBackPath));
         } catch (IOException | IllegalArgumentException exc) {
-            System.out.println("Error opening image file: " + exc.getMessage());
+            LOG.error("Error opening image file: {}", exc.getMessage());
             normalIcon = null;
             shinyIcon = null;
             normalBack = null;
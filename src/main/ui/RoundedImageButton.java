@@ -9,10 +9,12 @@ import java.awt.Shape;
 import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
 
-import javax.imageio.ImageIO;
 import javax.swing.JButton;
+import logging.Log;
+import logging.Logger;
 
 public class RoundedImageButton extends JButton {
+    private static final Logger LOG = Log.getLogger(RoundedImageButton.class);
     private static final int ARC_WIDTH = 20;
     private static final int ARC_HEIGHT = 20;
     private BufferedImage backgroundImage;
@@ -27,9 +29,9 @@ public class RoundedImageButton extends JButton {
         
         // Load background image
         try {
-            backgroundImage = ImageIO.read(getClass().getResource(imagePath));
+            backgroundImage = ImageLoader.readResource(imagePath);
         } catch (Exception e) {
-            System.err.println("Failed to load button background: " + e.getMessage());
+            LOG.error("Failed to load button background: {}", e.getMessage());
         }
     }
     
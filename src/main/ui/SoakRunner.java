@@ -0,0 +1,335 @@
+package ui;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.Point;
+import java.awt.Window;
+import java.awt.event.KeyEvent;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
+
+import model.Door;
+import model.GameRandom;
+import model.Player;
+import logging.Log;
+import logging.Logger;
+
+/**
+ * Plays the game by script for as long as it's told to and watches for
+ * anything that keeps piling up. The script walks around, goes in and out
+ * of the house through its doors, steps into the grass until a wild
+ * battle starts and runs from it, and opens and closes the menu, over and
+ * over. Every sample it records the heap after a GC, the listeners on the
+ * window, the components under it, the game's Swing timers and the live
+ * windows, and prints them as CSV.
+ *
+ * At the end, samples after the warm-up are split in half. A reading
+ * whose lowest value in the second half is above its highest value in the
+ * first half has a floor that keeps rising, which is what a leak looks
+ * like, and the run exits 1. The heap gets --heap-slack-mb of leeway for
+ * caches that are still filling.
+ *
+ * Needs a display, real or virtual (xvfb-run on a server). Manual battles
+ * stay on, since the battle screens are part of what's being soaked.
+ *
+ * Run with: java ui.SoakRunner [--minutes M] [--sample-seconds S]
+ *           [--warmup-samples N] [--heap-slack-mb MB]
+ */
+public class SoakRunner {
+    private static final Logger LOG = Log.getLogger(SoakRunner.class);
+    // A spot in the outside world's tall grass, in tiles
+    private static final Point GRASS = new Point(17, 11);
+    private static final long BATTLE_WAIT_MILLIS = 30_000;
+    private static final int[] ARROWS = {KeyEvent.VK_UP, KeyEvent.VK_DOWN, KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT};
+    private static final String[] COLUMNS = {"heap_kb", "window_listeners", "components", "timers_running",
+            "timers_live", "windows"};
+
+    private final long sampleNanos;
+    private final int warmupSamples;
+    private final long heapSlackKb;
+    private final SplittableRandom random = GameRandom.WORLD.split();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final List<long[]> samples = new ArrayList<>();
+    private long startNanos;
+    private long cycles;
+    private long battles;
+    private long doorTrips;
+
+    private SoakRunner(long sampleNanos, int warmupSamples, long heapSlackKb) {
+        this.sampleNanos = sampleNanos;
+        this.warmupSamples = warmupSamples;
+        this.heapSlackKb = heapSlackKb;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        double minutes = 240;
+        double sampleSeconds = 60;
+        int warmupSamples = 3;
+        long heapSlackMb = 16;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--minutes":
+                    minutes = Double.parseDouble(args[++i]);
+                    break;
+                case "--sample-seconds":
+                    sampleSeconds = Double.parseDouble(args[++i]);
+                    break;
+                case "--warmup-samples":
+                    warmupSamples = Integer.parseInt(args[++i]);
+                    break;
+                case "--heap-slack-mb":
+                    heapSlackMb = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    System.err.println("Usage: SoakRunner [--minutes M] [--sample-seconds S] "
+                            + "[--warmup-samples N] [--heap-slack-mb MB]");
+                    System.exit(1);
+            }
+        }
+
+        AutoBattleMode.setEnabled(false);
+        App.main(new String[0]);
+        SoakRunner runner = new SoakRunner((long) (sampleSeconds * 1e9), warmupSamples, heapSlackMb * 1024);
+        runner.run((long) (minutes * 60e9));
+        System.exit(runner.judge() ? 0 : 1);
+    }
+
+    private void run(long durationNanos) throws InterruptedException {
+        // Let the window come up before the script starts pressing keys
+        onEdt(() -> null);
+        Thread.sleep(1000);
+        System.out.println("elapsed_s," + String.join(",", COLUMNS) + ",cycles,battles,door_trips");
+        startNanos = System.nanoTime();
+        long nextSample = startNanos;
+        while (System.nanoTime() - startNanos < durationNanos) {
+            walk();
+            doorTrip();
+            wildBattle();
+            menu();
+            cycles++;
+            if (System.nanoTime() >= nextSample) {
+                sample();
+                nextSample = System.nanoTime() + sampleNanos;
+            }
+        }
+        sample();
+    }
+
+    private void walk() throws InterruptedException {
+        for (int i = 0; i < 4; i++) {
+            boolean run = random.nextBoolean();
+            if (run) {
+                press(KeyEvent.VK_SHIFT, true);
+            }
+            hold(ARROWS[random.nextInt(ARROWS.length)], random.nextLong(200, 1200));
+            if (run) {
+                press(KeyEvent.VK_SHIFT, false);
+            }
+            settle();
+        }
+    }
+
+    // Out through the first door of whichever world the player is in, then back the same way
+    private void doorTrip() throws InterruptedException {
+        for (int i = 0; i < 2; i++) {
+            boolean went = onEdt(() -> {
+                Board board = App.getWorldManager().getCurrentWorld();
+                if (board.isBattleActive() || board.isDialogueActive() || board.getDoors().isEmpty()) {
+                    return false;
+                }
+                board.resetKeyStates();
+                Door door = board.getDoors().get(0);
+                door.performAction(App.getPlayer(), board);
+                return true;
+            });
+            if (!went) {
+                return;
+            }
+            Thread.sleep(300);
+        }
+        doorTrips++;
+    }
+
+    // Paces the grass until something attacks, then runs from whatever battle it was
+    private void wildBattle() throws InterruptedException {
+        boolean placed = onEdt(() -> {
+            Board board = App.getWorldManager().getCurrentWorld();
+            if (!board.getWorldName().equals("outside") || board.isBattleActive()) {
+                return false;
+            }
+            Player player = App.getPlayer();
+            player.setPosition(new Point(GRASS));
+            player.updateExactCoordinates();
+            return true;
+        });
+        if (!placed) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + BATTLE_WAIT_MILLIS;
+        int direction = KeyEvent.VK_LEFT;
+        while (System.currentTimeMillis() < deadline && !onEdt(this::battleOrDialogue)) {
+            hold(direction, 300);
+            direction = direction == KeyEvent.VK_LEFT ? KeyEvent.VK_RIGHT : KeyEvent.VK_LEFT;
+        }
+        // Give the battle's intro time to play before leaving it
+        Thread.sleep(1500);
+        for (int i = 0; i < 20 && onEdt(this::battleOrDialogue); i++) {
+            onEdt(() -> {
+                Board board = App.getWorldManager().getCurrentWorld();
+                if (board.isDialogueActive()) {
+                    DialogueBox dialogue = board.getDialogueBox();
+                    dialogue.keyPressed(new KeyEvent(dialogue, KeyEvent.KEY_PRESSED, 0, 0, KeyEvent.VK_SPACE,
+                            KeyEvent.CHAR_UNDEFINED));
+                } else if (WildPokemonBattle.getInstance().isInBattle()) {
+                    WildPokemonBattle.getInstance().close();
+                    battles++;
+                } else if (TrainerBattle.getInstance().isInBattle()) {
+                    TrainerBattle.getInstance().close();
+                    battles++;
+                }
+                return null;
+            });
+            Thread.sleep(300);
+        }
+    }
+
+    private boolean battleOrDialogue() {
+        Board board = App.getWorldManager().getCurrentWorld();
+        return board.isBattleActive() || board.isDialogueActive();
+    }
+
+    private void menu() throws InterruptedException {
+        onEdt(() -> {
+            Menu.getInstance().showMenu();
+            return null;
+        });
+        Thread.sleep(500);
+        onEdt(() -> {
+            Menu.getInstance().hideMenu();
+            return null;
+        });
+        settle();
+    }
+
+    private void hold(int keyCode, long millis) throws InterruptedException {
+        press(keyCode, true);
+        Thread.sleep(millis);
+        press(keyCode, false);
+    }
+
+    private void press(int keyCode, boolean pressed) {
+        onEdt(() -> {
+            Board board = App.getWorldManager().getCurrentWorld();
+            KeyEvent event = new KeyEvent(board, pressed ? KeyEvent.KEY_PRESSED : KeyEvent.KEY_RELEASED,
+                    System.currentTimeMillis(), 0, keyCode, KeyEvent.CHAR_UNDEFINED);
+            if (pressed) {
+                board.keyPressed(event);
+            } else {
+                board.keyReleased(event);
+            }
+            return null;
+        });
+    }
+
+    // Lets queued invokeLater work, like the menu restoring focus, finish
+    private void settle() throws InterruptedException {
+        Thread.sleep(100);
+        onEdt(() -> null);
+    }
+
+    private void sample() {
+        memory.gc();
+        long heapKb = memory.getHeapMemoryUsage().getUsed() / 1024;
+        long[] sample = onEdt(() -> {
+            JFrame window = App.getWindow();
+            long listeners = window.getKeyListeners().length + window.getMouseListeners().length
+                    + window.getFocusListeners().length + window.getWindowListeners().length
+                    + window.getComponentListeners().length;
+            long windows = 0;
+            for (Window w : Window.getWindows()) {
+                if (w.isDisplayable()) {
+                    windows++;
+                }
+            }
+            return new long[] {heapKb, listeners, countComponents(window.getContentPane()),
+                    SwingTimers.running(), SwingTimers.live(), windows};
+        });
+        samples.add(sample);
+        StringBuilder line = new StringBuilder(String.format("%.0f", (System.nanoTime() - startNanos) / 1e9));
+        for (long value : sample) {
+            line.append(',').append(value);
+        }
+        System.out.println(line + "," + cycles + "," + battles + "," + doorTrips);
+    }
+
+    private static long countComponents(Container container) {
+        long count = 1;
+        for (Component child : container.getComponents()) {
+            count += child instanceof Container ? countComponents((Container) child) : 1;
+        }
+        return count;
+    }
+
+    // False if any reading's floor rose from the first half of the run to the second
+    private boolean judge() {
+        List<String> growing = growing(samples, warmupSamples, heapSlackKb);
+        System.out.printf("%d cycles, %d battles, %d door round trips: %s%n", cycles, battles, doorTrips,
+                growing.isEmpty() ? "nothing kept growing" : "something kept growing");
+        return growing.isEmpty();
+    }
+
+    /**
+     * The readings, by column name, whose lowest value after the warm-up's
+     * second half is above their highest in its first half. The heap gets
+     * heapSlackKb of leeway; everything else none.
+     */
+    static List<String> growing(List<long[]> samples, int warmupSamples, long heapSlackKb) {
+        List<String> growing = new ArrayList<>();
+        List<long[]> judged = samples.subList(Math.min(warmupSamples, samples.size()), samples.size());
+        if (judged.size() < 4) {
+            LOG.warn("Only {} samples after warm-up; run longer to judge growth", judged.size());
+            return growing;
+        }
+        int half = judged.size() / 2;
+        for (int column = 0; column < COLUMNS.length; column++) {
+            long firstMax = Long.MIN_VALUE;
+            long secondMin = Long.MAX_VALUE;
+            for (int i = 0; i < judged.size(); i++) {
+                long value = judged.get(i)[column];
+                if (i < half) {
+                    firstMax = Math.max(firstMax, value);
+                } else {
+                    secondMin = Math.min(secondMin, value);
+                }
+            }
+            long slack = column == 0 ? heapSlackKb : 0;
+            if (secondMin > firstMax + slack) {
+                System.out.printf("LEAK? %s kept rising: at least %d in the second half, at most %d in the first%n",
+                        COLUMNS[column], secondMin, firstMax);
+                growing.add(COLUMNS[column]);
+            }
+        }
+        return growing;
+    }
+
+    private static <T> T onEdt(Supplier<T> work) {
+        List<T> result = new ArrayList<>(1);
+        try {
+            SwingUtilities.invokeAndWait(() -> result.add(work.get()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the EDT", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Soak step failed", e.getCause());
+        }
+        return result.get(0);
+    }
+}
@@ -0,0 +1,46 @@
+package ui;
+
+import java.awt.event.ActionListener;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.swing.Timer;
+
+import diagnostics.Metrics;
+
+/**
+ * Makes the game's Swing timers and keeps count of them, so a long run
+ * can tell whether timers that should have stopped are piling up. Timers
+ * are held weakly and drop out of the count once nothing else uses them.
+ */
+final class SwingTimers {
+    private static final Set<Timer> timers = Collections.newSetFromMap(new WeakHashMap<>());
+
+    static {
+        Metrics.getInstance().gauge("swingTimersRunning", SwingTimers::running);
+    }
+
+    private SwingTimers() {}
+
+    static synchronized Timer create(int delay, ActionListener listener) {
+        Timer timer = new Timer(delay, listener);
+        timers.add(timer);
+        return timer;
+    }
+
+    // Timers that haven't been collected yet, running or not
+    static synchronized int live() {
+        return timers.size();
+    }
+
+    static synchronized int running() {
+        int count = 0;
+        for (Timer timer : timers) {
+            if (timer.isRunning()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,45 @@
+package ui;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+
+/**
+ * A one-line message drawn near the bottom of the board for a few seconds.
+ * Showing a new message replaces the old one.
+ */
+public class Toast {
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+    private static final Font FONT = new Font("Arial", Font.BOLD, 14);
+    private static final int PADDING = 8;
+
+    private String message;
+    private long hideAt;
+
+    public void show(String message, long millis) {
+        this.message = message;
+        this.hideAt = System.currentTimeMillis() + millis;
+    }
+
+    public boolean isVisible() {
+        return message != null && System.currentTimeMillis() < hideAt;
+    }
+
+    // Drawn in screen coordinates, on top of everything else
+    public void draw(Graphics g, int width, int height) {
+        if (!isVisible()) {
+            return;
+        }
+        g.setFont(FONT);
+        FontMetrics metrics = g.getFontMetrics();
+        int boxWidth = metrics.stringWidth(message) + PADDING * 2;
+        int boxHeight = metrics.getHeight() + PADDING * 2;
+        int x = (width - boxWidth) / 2;
+        int y = height - boxHeight - PADDING * 4;
+        g.setColor(BACKGROUND);
+        g.fillRoundRect(x, y, boxWidth, boxHeight, 12, 12);
+        g.setColor(Color.WHITE);
+        g.drawString(message, x + PADDING, y + PADDING + metrics.getAscent());
+    }
+}
@@ -1,43 +1,111 @@
 package ui;
 
+import battle.BattleSimulator;
+import battle.BattleState;
+import battle.CompactTeam;
+import battle.SearchPolicy;
+import battle.SimulationResult;
+import battle.StandardPolicy;
+import model.GameRandom;
 import model.Player;
 import model.TrainerNpc;
 import pokes.Pokemon;
 
-import java.awt.Component;
-import java.util.List;
-import javax.swing.Timer;
+import java.awt.Color;
+import java.awt.Font;
+import java.util.concurrent.CompletableFuture;
+
+import javax.swing.JLabel;
+import javax.swing.JLayeredPane;
+import javax.swing.SwingUtilities;
 
 public class TrainerBattle extends BattleScreen {
+    // Off by default; run with -Dpoke.battle.winChance=true to show the odds before the battle
+    private static final boolean SHOW_WIN_CHANCE = Boolean.getBoolean("poke.battle.winChance");
+    private static final int WIN_CHANCE_BATTLES = 20000;
+
+    private static TrainerBattle instance;
+
     private TrainerNpc trainer;
-    private List<Pokemon> trainerTeam;
-    private int currentTrainerPokemonIndex;
+    private JLabel winChanceLabel;
     
-    public TrainerBattle(Player player, TrainerNpc trainer, String battleLocation) {
-        super(player, getFirstUsablePokemon(trainer), battleLocation, 
-              trainer.getName() + " wants to battle!");
-        
+    private TrainerBattle() {
+        super();
+    }
+    
+    // Built on first use and reused for every trainer battle after that
+    public static TrainerBattle getInstance() {
+        if (instance == null) {
+            instance = new TrainerBattle();
+        }
+        return instance;
+    }
+    
+    public void start(JLayeredPane host, Player player, TrainerNpc trainer, String battleLocation, Runnable onClose) {
         this.trainer = trainer;
-        this.trainerTeam = trainer.getTeam();
-        this.currentTrainerPokemonIndex = findFirstUsablePokemonIndex(trainer);
+        this.opponentPolicy = SearchPolicy.forDifficulty(trainer.getDifficulty());
+        if (winChanceLabel != null) {
+            winChanceLabel.setVisible(false);
+        }
+        begin(host, player, getFirstUsablePokemon(trainer), battleLocation,
+              trainer.getName() + " wants to battle!", onClose);
+
+        if (SHOW_WIN_CHANCE && isInBattle()) {
+            estimateWinChance();
+        }
     }
     
-    private static Pokemon getFirstUsablePokemon(TrainerNpc trainer) {
+    // The trainer sends out the rest of the team as each Pokémon faints
+    @Override
+    protected BattleState createBattleState() {
+        return BattleState.trainer(player.getTeam(), trainer.getTeam());
+    }
+    
+    private void estimateWinChance() {
+        // Give the whole team moves now so the simulation sees what they will actually use
         for (Pokemon pokemon : trainer.getTeam()) {
-            if (pokemon.getStats().getCurrentHp() > 0) {
-                return pokemon;
+            if (pokemon.getMoves().isEmpty()) {
+                pokemon.generateWildMoves();
             }
         }
-        throw new IllegalStateException("Trainer has no usable Pokemon!");
+        // Snapshot here on the EDT, then simulate in the background
+        CompactTeam playerTeam = CompactTeam.of(player.getTeam());
+        CompactTeam trainerTeam = CompactTeam.of(trainer.getTeam());
+        // Greedy stands in for the trainer's search AI, which is too slow to run thousands of times
+        BattleSimulator simulator = new BattleSimulator(StandardPolicy.GREEDY, StandardPolicy.GREEDY);
+        TrainerNpc opponent = trainer;
+        // Drawn here so a seeded game shows the same estimate
+        long seed = GameRandom.BATTLE.split().nextLong();
+        CompletableFuture
+                .supplyAsync(() -> simulator.simulate(playerTeam, trainerTeam, WIN_CHANCE_BATTLES, seed))
+                .thenAccept(result -> SwingUtilities.invokeLater(() -> showWinChance(opponent, result)));
     }
     
-    private static int findFirstUsablePokemonIndex(TrainerNpc trainer) {
-        for (int i = 0; i < trainer.getTeam().size(); i++) {
-            if (trainer.getTeam().get(i).getStats().getCurrentHp() > 0) {
-                return i;
+    private void showWinChance(TrainerNpc opponent, SimulationResult result) {
+        // The scene may have moved on to another battle by the time the estimate is ready
+        if (!isInBattle() || opponent != trainer) {
+            return;
+        }
+        if (winChanceLabel == null) {
+            winChanceLabel = new JLabel();
+            winChanceLabel.setFont(new Font("Arial", Font.BOLD, 14));
+            winChanceLabel.setForeground(Color.DARK_GRAY);
+            winChanceLabel.setHorizontalAlignment(JLabel.RIGHT);
+            winChanceLabel.setBounds(scaleX(560), scaleY(10), scaleX(220), scaleY(25));
+            battlegroundPanel.add(winChanceLabel);
+        }
+        winChanceLabel.setText(String.format("Win chance: %.0f%%", result.getWinRate() * 100));
+        winChanceLabel.setVisible(true);
+        battlegroundPanel.repaint();
+    }
+    
+    private static Pokemon getFirstUsablePokemon(TrainerNpc trainer) {
+        for (Pokemon pokemon : trainer.getTeam()) {
+            if (pokemon.getStats().getCurrentHp() > 0) {
+                return pokemon;
             }
         }
-        return 0;
+        throw new IllegalStateException("Trainer has no usable Pokemon!");
     }
     
     @Override
@@ -47,63 +115,13 @@ public class TrainerBattle extends BattleScreen {
     }
     
     @Override
-    protected void handleOpponentFainted() {
-        Pokemon nextPokemon = getNextTrainerPokemon();
-        
-        if (nextPokemon != null) {
-            // Stop any existing timers to prevent conflicts
-            if (animationTimer != null && animationTimer.isRunning()) {
-                animationTimer.stop();
-            }
-            
-            awardExperience();
-            queueMessage(trainer.getName() + " sent out " + nextPokemon.getName() + "!");
-            
-            Timer switchTimer = new Timer(2000, e -> {
-                // Switch to the new Pokemon
-                switchOpponentPokemon(nextPokemon);
-                
-                // **CRITICAL**: Reset all battle state variables
-                animationStep = 0;
-                playerTurn = true;
-                battleEnded = false;
-                isDisplayingMessages = false;
-                
-                // Clear any remaining messages that might interfere
-                messageQueue.clear();
-                
-                Timer continueTimer = new Timer(1000, event -> {
-                    battleMessageLabel.setText("What will " + playerPokemon.getName() + " do?");
-                    switchToPanel(actionPanel);
-                    
-                    // Ensure action buttons are enabled
-                    enableActionButtons();
-                });
-                continueTimer.setRepeats(false);
-                continueTimer.start();
-            });
-            switchTimer.setRepeats(false);
-            switchTimer.start();
-        } else {
-            battleEnded = true;
-            awardExperience();
-            handleBattleEnd(true);
-        }
-    }
-
-    private void enableActionButtons() {
-        if (fightButton != null) fightButton.setEnabled(true);
-        if (bagButton != null) bagButton.setEnabled(true);
-        if (pokemonButton != null) pokemonButton.setEnabled(true);
-        if (runButton != null) runButton.setEnabled(canRun());
-        
-        if (actionPanel != null) {
-            for (Component component : actionPanel.getComponents()) {
-                component.setEnabled(true);
-            }
+    protected String getSendOutMessage(Pokemon pokemon) {
+        // Make sure the new Pokemon has valid moves before it is used
+        if (pokemon.getMoves().isEmpty()) {
+            pokemon.generateWildMoves();
         }
+        return trainer.getName() + " sent out " + pokemon.getName() + "!";
     }
-    
 
     @Override
     protected boolean canUsePokeballs() {
@@ -127,74 +145,6 @@ public class TrainerBattle extends BattleScreen {
             queueMessage("You blacked out!");
         }
         
-        Timer closeTimer = new Timer(4000, e -> dispose());
-        closeTimer.setRepeats(false);
-        closeTimer.start();
-    }
-    
-    @Override
-    protected void switchOpponentPokemon(Pokemon newPokemon) {
-        // Update the current opponent Pokemon reference
-        this.currentOpponentPokemon = newPokemon;
-        
-        // Update the display
-        updateOpponentDisplay(newPokemon);
-        
-        // Find and update the trainer's current Pokemon index
-        for (int i = 0; i < trainerTeam.size(); i++) {
-            if (trainerTeam.get(i) == newPokemon) {
-                currentTrainerPokemonIndex = i;
-                break;
-            }
-        }
-        
-        // Ensure the new Pokemon has valid moves
-        if (newPokemon.getMoves().isEmpty()) {
-            newPokemon.generateWildMoves();
-        }
-        
-        // Refresh the UI
-        battlegroundPanel.revalidate();
-        battlegroundPanel.repaint();
-    }
-
-    private Pokemon getNextTrainerPokemon() {
-        // Look for the next usable Pokemon starting from the current index + 1
-        for (int i = currentTrainerPokemonIndex + 1; i < trainerTeam.size(); i++) {
-            Pokemon pokemon = trainerTeam.get(i);
-            if (pokemon.getStats().getCurrentHp() > 0) {
-                return pokemon;
-            }
-        }
-        
-        // If no Pokemon found after current index, check from the beginning
-        // (in case there's a gap in the team)
-        for (int i = 0; i < currentTrainerPokemonIndex; i++) {
-            Pokemon pokemon = trainerTeam.get(i);
-            if (pokemon.getStats().getCurrentHp() > 0) {
-                return pokemon;
-            }
-        }
-        
-        return null; // No usable Pokemon left
-    }
-    
-    
-    private void awardExperience() {
-        int participantCount = 1;
-        int expGain = pokes.LevelManager.calculateExpGain(currentOpponentPokemon, participantCount, false);
-        
-        queueMessage(playerPokemon.getName() + " gained " + expGain + " EXP. Points!");
-        
-        boolean leveledUp = playerPokemon.gainExperience(expGain);
-        updatePlayerExpBar();
-        
-        if (leveledUp) {
-            queueMessage(playerPokemon.getName() + " grew to level " + playerPokemon.getLevel() + "!");
-            playerPokemonInfo.setText(playerPokemon.getName() + " L" + playerPokemon.getLevel());
-            playerPokemonHP.setMaximum(playerPokemon.getStats().getMaxHp());
-            playerPokemonHP.setValue(playerPokemon.getStats().getCurrentHp());
-            hpValueLabel.setText(playerPokemon.getStats().getCurrentHp() + "/" + playerPokemon.getStats().getMaxHp());
-        }
+        afterMessages(this::close);
     }
 }
@@ -2,36 +2,37 @@ package ui;
 
 import model.Player;
 import pokes.Pokemon;
-import javax.swing.Timer;
+import javax.swing.JLayeredPane;
 
 public class WildPokemonBattle extends BattleScreen {
-    private Pokemon wildPokemon;
+    private static WildPokemonBattle instance;
     
-    public WildPokemonBattle(Player player, Pokemon wildPokemon, String battleLocation) {
-        super(player, wildPokemon, battleLocation);
-        this.wildPokemon = wildPokemon;
+    private WildPokemonBattle() {
+        super();
     }
     
-    @Override
-    protected String getInitialBattleMessage() {
-        return "A wild " + currentOpponentPokemon.getName() + " appeared!";
+    // Built on first use and reused for every wild encounter after that
+    public static WildPokemonBattle getInstance() {
+        if (instance == null) {
+            instance = new WildPokemonBattle();
+        }
+        return instance;
+    }
+    
+    public void start(JLayeredPane host, Player player, Pokemon wildPokemon, String battleLocation, Runnable onClose) {
+        begin(host, player, wildPokemon, battleLocation, null, onClose);
+    }
+    
+    // Starts with the sprite the prefetcher already decoded
+    public void start(JLayeredPane host, Player player, EncounterPrefetcher.Encounter encounter,
+                      String battleLocation, Runnable onClose) {
+        usePreparedSprite(encounter.getPokemon(), encounter.getSprite());
+        start(host, player, encounter.getPokemon(), battleLocation, onClose);
     }
     
     @Override
-    protected void handleOpponentFainted() {
-        battleEnded = true;
-        
-        // Award experience
-        Timer expTimer = new Timer(1500, e -> {
-            awardExperience();
-            
-            // Close battle after experience is awarded
-            Timer closeTimer = new Timer(2000, event -> dispose());
-            closeTimer.setRepeats(false);
-            closeTimer.start();
-        });
-        expTimer.setRepeats(false);
-        expTimer.start();
+    protected String getInitialBattleMessage() {
+        return "A wild " + currentOpponentPokemon.getName() + " appeared!";
     }
     
     @Override
@@ -53,32 +54,6 @@ public class WildPokemonBattle extends BattleScreen {
             queueMessage("You blacked out!");
         }
         
-        Timer closeTimer = new Timer(3000, e -> dispose());
-        closeTimer.setRepeats(false);
-        closeTimer.start();
-    }
-    
-    @Override
-    protected void switchOpponentPokemon(Pokemon newPokemon) {
-        // Wild battles don't switch Pokemon - this shouldn't be called
-        throw new UnsupportedOperationException("Wild Pokemon don't switch!");
-    }
-    
-    private void awardExperience() {
-        int participantCount = 1;
-        int expGain = pokes.LevelManager.calculateExpGain(wildPokemon, participantCount, true);
-        
-        queueMessage(playerPokemon.getName() + " gained " + expGain + " EXP. Points!");
-        
-        boolean leveledUp = playerPokemon.gainExperience(expGain);
-        updatePlayerExpBar();
-        
-        if (leveledUp) {
-            queueMessage(playerPokemon.getName() + " grew to level " + playerPokemon.getLevel() + "!");
-            playerPokemonInfo.setText(playerPokemon.getName() + " L" + playerPokemon.getLevel());
-            playerPokemonHP.setMaximum(playerPokemon.getStats().getMaxHp());
-            playerPokemonHP.setValue(playerPokemon.getStats().getCurrentHp());
-            hpValueLabel.setText(playerPokemon.getStats().getCurrentHp() + "/" + playerPokemon.getStats().getMaxHp());
-        }
+        afterMessages(this::close);
     }
 }
@@ -11,6 +11,8 @@ import javax.swing.JFrame;
 import javax.swing.JLayeredPane;
 import javax.swing.JPanel;
 
+import diagnostics.WorldSwitchEvent;
+import diagnostics.GameMetrics;
 import exceptions.NoSuchWorldException;
 import model.Berry;
 import model.Door;
@@ -20,8 +22,11 @@ import model.TrainerNpc;
 import model.Npc.Direction;
 import pokes.Pokemon;
 import pokes.PokemonFactory;
+import logging.Log;
+import logging.Logger;
 
 public class WorldManager {
+    private static final Logger LOG = Log.getLogger(WorldManager.class);
     private Map<String, Board> worlds = new HashMap<>();
     private Board currentWorld;
     private JFrame window;
@@ -39,6 +44,8 @@ public class WorldManager {
             // Set the first added board as current world if not set yet
             if (currentWorld == null) {
                 currentWorld = board;
+            } else {
+                board.stopClock();
             }
         }
     }
@@ -58,6 +65,10 @@ public class WorldManager {
             throw new NoSuchWorldException(worldName);
         }
         
+        WorldSwitchEvent event = new WorldSwitchEvent();
+        event.begin();
+        String previousWorld = currentWorld.getWorldName();
+        
         // Get the new world
         Board newWorld = worlds.get(worldName);
         
@@ -70,11 +81,17 @@ public class WorldManager {
             player.updateExactCoordinates();
             
             // Debug output to verify correct spawn point
-            System.out.println("Teleporting player to: (" + safeSpawnPoint.x + ", " + safeSpawnPoint.y + ")");
+            LOG.debug("Teleporting player to: ({}, {})", safeSpawnPoint.x, safeSpawnPoint.y);
         }
         
-        // Update the current world
+        // The old world's debug chunks are rebuilt on demand if we come back
+        currentWorld.getDebugOverlay().release();
+
+        // Update the current world; the one left behind stops ticking
+        currentWorld.stopClock();
         currentWorld = newWorld;
+        currentWorld.startClock();
+        GameMetrics.WORLD_SWITCHES.increment();
         
         // Update camera with new world information
         camera.setWorldDimensions(
@@ -88,6 +105,13 @@ public class WorldManager {
         
         // Update the window content
         updateWindowContent();
+        
+        event.end();
+        if (event.shouldCommit()) {
+            event.from = previousWorld;
+            event.to = worldName;
+            event.commit();
+        }
     }
     
     public Board getCurrentWorld() {
@@ -100,7 +124,11 @@ public class WorldManager {
 
     public void setCurrentWorld(String worldName) {
         if (worlds.containsKey(worldName)) {
+            if (currentWorld != null) {
+                currentWorld.stopClock();
+            }
             currentWorld = worlds.get(worldName);
+            currentWorld.startClock();
             if (currentWorld.isLarge()) {
                 camera.setActive(true);
             } else {
@@ -110,8 +138,11 @@ public class WorldManager {
     }
     
     private void updateWindowContent() {
-        // Remove all components
+        // Remove all components, and the key listener the last world put on the window
         window.getContentPane().removeAll();
+        for (Board board : worlds.values()) {
+            window.removeKeyListener(board);
+        }
         
         // Create new layered pane
         JLayeredPane layeredPane = new JLayeredPane();
@@ -0,0 +1,102 @@
+package battle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import battle.BattleState.Outcome;
+import battle.BattleState.Side;
+import model.GameRandom;
+import model.Move;
+import model.Move.MoveCategory;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+import pokes.Pokemon;
+import pokes.Pokemon.PokemonType;
+import pokes.PokemonFactory;
+import pokes.PokemonStatsLoader;
+
+public class AutoBattleTest {
+
+    @BeforeAll
+    static void loadData() {
+        PokemonStatsLoader.getInstance().loadFromCSV("/resources/pokemon_information.csv");
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+    }
+
+    @Test
+    void winningGivesTheRealPokemonItsExperience() {
+        Pokemon snorlax = pokemon(143, "Snorlax", 30, tackle());
+        Pokemon wild = pokemon(19, "Rattata", 3, splash());
+        int expBefore = snorlax.getLevelManager().getCurrentExp();
+
+        AutoBattle.Summary summary = autoBattle(1).resolve(BattleState.wild(List.of(snorlax), wild));
+
+        assertEquals(Outcome.PLAYER_WON, summary.getOutcome());
+        assertTrue(summary.getExpGained() > 0);
+        assertEquals(expBefore + summary.getExpGained(), snorlax.getLevelManager().getCurrentExp());
+        assertEquals(0, wild.getStats().getCurrentHp());
+    }
+
+    // The second Pokémon has already fainted, so the third goes in
+    @Test
+    void nextHealthyPokemonGoesInAfterAFaint() {
+        Pokemon weak = pokemon(19, "Rattata", 5, splash());
+        weak.getStats().takeDamage(weak.getStats().getMaxHp() - 1);
+        Pokemon fainted = pokemon(4, "Charmander", 30, tackle());
+        fainted.getStats().takeDamage(fainted.getStats().getMaxHp());
+        Pokemon snorlax = pokemon(143, "Snorlax", 30, tackle());
+        Pokemon wild = pokemon(19, "Rattata", 10, tackle());
+        BattleState state = BattleState.wild(List.of(weak, fainted, snorlax), wild);
+
+        AutoBattle.Summary summary = autoBattle(1).resolve(state);
+
+        assertEquals(Outcome.PLAYER_WON, summary.getOutcome());
+        assertEquals(List.of("Rattata"), summary.getFainted());
+        assertEquals(2, state.getActiveIndex(Side.PLAYER));
+        assertEquals(0, fainted.getStats().getCurrentHp());
+    }
+
+    // Neither side can do any damage, so only the turn limit ends it
+    @Test
+    void stalemateWildBattleIsRunFrom() {
+        Pokemon snorlax = pokemon(143, "Snorlax", 30, splash());
+        Pokemon wild = pokemon(19, "Rattata", 30, splash());
+
+        AutoBattle.Summary summary = autoBattle(1).resolve(BattleState.wild(List.of(snorlax), wild));
+
+        assertEquals(Outcome.FLED, summary.getOutcome());
+        assertEquals(CompactBattle.MAX_TURNS + 1, summary.getTurns());
+        assertTrue(summary.toString().startsWith("Ran from Rattata"));
+    }
+
+    private static AutoBattle autoBattle(long seed) {
+        return new AutoBattle(StandardPolicy.GREEDY, StandardPolicy.GREEDY, new SplittableRandom(seed));
+    }
+
+    // Same IVs every run
+    private static Pokemon pokemon(int dex, String name, int level, Move... moves) {
+        Pokemon pokemon = GameRandom.withSeed(dex * 1000L + level, () -> PokemonFactory.createPokemon(dex, level, name));
+        pokemon.getMoves().clear();
+        for (Move move : moves) {
+            pokemon.addMove(move);
+        }
+        return pokemon;
+    }
+
+    // Never misses
+    private static Move tackle() {
+        return new Move("Tackle", PokemonType.NORMAL, 40, 0, 35, MoveCategory.PHYSICAL);
+    }
+
+    // Does nothing, with more PP than the longest battle needs
+    private static Move splash() {
+        return new Move("Splash", PokemonType.NORMAL, 0, 1000, new Move.StatModifier[0]);
+    }
+}
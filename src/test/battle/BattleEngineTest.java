@@ -0,0 +1,504 @@
+package battle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import battle.BattleEvent.Type;
+import battle.BattleState.Outcome;
+import battle.BattleState.Side;
+import model.GameRandom;
+import model.Medicine;
+import model.Move;
+import model.Move.MoveCategory;
+import model.Move.StatusEffect;
+import model.Pokeball;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+import pokes.LevelManager;
+import pokes.Pokemon;
+import pokes.Pokemon.PokemonType;
+import pokes.PokemonFactory;
+import pokes.PokemonStatsLoader;
+
+// Snorlax is always faster than Rattata at the same level, whatever their IVs
+public class BattleEngineTest {
+
+    @BeforeAll
+    static void loadData() {
+        PokemonStatsLoader.getInstance().loadFromCSV("/resources/pokemon_information.csv");
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+    }
+
+    @Test
+    void fasterPokemonMovesFirst() {
+        Pokemon rattata = rattata(50, tackle());
+        Pokemon snorlax = snorlax(50, tackle());
+        BattleState state = BattleState.trainer(List.of(rattata), List.of(snorlax));
+
+        List<BattleEvent> events = engine(new SplittableRandom(1)).resolveTurn(state,
+                BattleAction.fight(rattata.getMoves().get(0)), BattleAction.fight(snorlax.getMoves().get(0)));
+
+        List<BattleEvent> used = ofType(events, Type.MOVE_USED);
+        assertEquals(2, used.size());
+        assertEquals(Side.OPPONENT, used.get(0).getSide());
+        assertEquals(Side.PLAYER, used.get(1).getSide());
+        assertEquals(1, state.getTurn());
+    }
+
+    @Test
+    void itemsAndSwitchesGoBeforeMoves() {
+        Pokemon rattata = rattata(50, tackle());
+        Pokemon snorlax = snorlax(50, tackle());
+        rattata.getStats().setCurrentHp(10);
+        Medicine potion = new Medicine(Medicine.MedicineType.POTION);
+        potion.setQuantity(2);
+        BattleState state = BattleState.trainer(List.of(rattata), List.of(snorlax));
+
+        // The slower side's potion still comes first
+        List<BattleEvent> events = engine(new SplittableRandom(2)).resolveTurn(state,
+                BattleAction.useItem(potion), BattleAction.fight(snorlax.getMoves().get(0)));
+        assertEquals(Type.ITEM_USED, events.get(0).getType());
+        assertEquals(Type.HEALED, events.get(1).getType());
+        assertEquals(20, events.get(1).getAmount());
+        assertEquals(30, events.get(1).getHp());
+        assertEquals(1, potion.getQuantity());
+
+        // As does the opponent's switch, before the faster player's move
+        Pokemon second = rattata(50, splash());
+        state = BattleState.trainer(List.of(snorlax(50, tackle())), List.of(rattata(50, splash()), second));
+        events = engine(new SplittableRandom(3)).resolveTurn(state,
+                BattleAction.fight(state.getActive(Side.PLAYER).getMoves().get(0)), BattleAction.switchTo(1));
+        assertEquals(Type.WITHDRAWN, events.get(0).getType());
+        assertEquals(Type.SENT_OUT, events.get(1).getType());
+        assertSame(second, events.get(1).getPokemon());
+        assertEquals(Type.MOVE_USED, events.get(2).getType());
+        assertSame(second, ofType(events, Type.DAMAGE).get(0).getPokemon());
+    }
+
+    @Test
+    void sleepAndFreeze() {
+        // Still asleep: one in three wakes up, and the 1 says no
+        List<BattleEvent> events = statusTurn(StatusEffect.SLEEP, 1);
+        assertEquals(List.of(Type.STATUS_PREVENTED), playerTypes(events));
+        assertEquals("SLEEP", events.get(events.size() - 1).getDetail());
+
+        // Wakes and moves in the same turn, then rolls damage
+        events = statusTurn(StatusEffect.SLEEP, 0, 15);
+        assertEquals(List.of(Type.STATUS_CURED, Type.MOVE_USED, Type.DAMAGE), playerTypes(events));
+
+        events = statusTurn(StatusEffect.FREEZE, 4);
+        assertEquals(List.of(Type.STATUS_PREVENTED), playerTypes(events));
+        events = statusTurn(StatusEffect.FREEZE, 0, 15);
+        assertEquals(List.of(Type.STATUS_CURED, Type.MOVE_USED, Type.DAMAGE), playerTypes(events));
+    }
+
+    @Test
+    void paralysis() {
+        assertEquals(List.of(Type.STATUS_PREVENTED), playerTypes(statusTurn(StatusEffect.PARALYSIS, 0)));
+        assertEquals(List.of(Type.MOVE_USED, Type.DAMAGE), playerTypes(statusTurn(StatusEffect.PARALYSIS, 3, 15)));
+    }
+
+    @Test
+    void confusion() {
+        // Snaps out of it and moves
+        assertEquals(List.of(Type.STATUS_CURED, Type.MOVE_USED, Type.DAMAGE),
+                playerTypes(statusTurn(StatusEffect.CONFUSION, 0, 15)));
+        // Hurts itself instead, with a damage roll of its own
+        List<BattleEvent> events = statusTurn(StatusEffect.CONFUSION, 1, 0, 15);
+        assertEquals(List.of(Type.CONFUSION_DAMAGE), playerTypes(events));
+        BattleEvent hurt = ofType(events, Type.CONFUSION_DAMAGE).get(0);
+        assertEquals(hurt.getMaxHp() - hurt.getAmount(), hurt.getHp());
+        // Stays confused but moves anyway
+        assertEquals(List.of(Type.MOVE_USED, Type.DAMAGE), playerTypes(statusTurn(StatusEffect.CONFUSION, 1, 2, 15)));
+    }
+
+    @Test
+    void struggleHitsBothSides() {
+        Pokemon rattata = rattata(50, tackle());
+        Pokemon snorlax = snorlax(50, splash());
+        BattleState state = BattleState.trainer(List.of(rattata), List.of(snorlax));
+        int quarter = rattata.getStats().getMaxHp() / 4;
+        int snorlaxHp = snorlax.getStats().getCurrentHp();
+
+        Script script = new Script();
+        List<BattleEvent> events = engine(script).resolveTurn(state,
+                BattleAction.fight(null), BattleAction.fight(snorlax.getMoves().get(0)));
+
+        assertEquals(List.of(Type.MOVE_USED, Type.DAMAGE, Type.RECOIL), playerTypes(events));
+        assertEquals("Struggle", ofType(events, Type.MOVE_USED).get(1).getDetail());
+        assertEquals(quarter, ofType(events, Type.DAMAGE).get(0).getAmount());
+        assertEquals(quarter, ofType(events, Type.RECOIL).get(0).getAmount());
+        assertEquals(snorlaxHp - quarter, snorlax.getStats().getCurrentHp());
+        assertEquals(rattata.getStats().getMaxHp() - quarter, rattata.getStats().getCurrentHp());
+        assertTrue(script.isFinished());
+    }
+
+    @Test
+    void noPpLosesTheTurn() {
+        Pokemon rattata = rattata(50, tackle());
+        Move tackle = rattata.getMoves().get(0);
+        tackle.setPP(0);
+        BattleState state = BattleState.trainer(List.of(rattata), List.of(snorlax(50, splash())));
+
+        List<BattleEvent> events = engine(new Script()).resolveTurn(state,
+                BattleAction.fight(tackle), BattleAction.fight(state.getActive(Side.OPPONENT).getMoves().get(0)));
+        assertEquals(List.of(Type.NO_PP), playerTypes(events));
+    }
+
+    @Test
+    void faintedPokemonDoesNotMove() {
+        Pokemon snorlax = snorlax(50, tackle());
+        Pokemon rattata = rattata(50, tackle());
+        Pokemon reserve = rattata(50, tackle());
+        rattata.getStats().setCurrentHp(1);
+        BattleState state = BattleState.trainer(List.of(snorlax), List.of(rattata, reserve));
+
+        List<BattleEvent> events = engine(new Script(0)).resolveTurn(state,
+                BattleAction.fight(snorlax.getMoves().get(0)), BattleAction.fight(rattata.getMoves().get(0)));
+
+        assertEquals(1, ofType(events, Type.MOVE_USED).size());
+        assertEquals(Side.PLAYER, ofType(events, Type.MOVE_USED).get(0).getSide());
+        assertSame(rattata, ofType(events, Type.FAINTED).get(0).getPokemon());
+        // The opponent sends out its next Pokémon at the end of the turn
+        BattleEvent sentOut = ofType(events, Type.SENT_OUT).get(0);
+        assertEquals(Side.OPPONENT, sentOut.getSide());
+        assertSame(reserve, sentOut.getPokemon());
+        assertSame(reserve, state.getActive(Side.OPPONENT));
+        assertFalse(state.isOver());
+    }
+
+    @Test
+    void playerChoosesAReplacement() {
+        Pokemon rattata = rattata(50, tackle());
+        Pokemon reserve = rattata(50, tackle());
+        Pokemon snorlax = snorlax(50, tackle());
+        rattata.getStats().setCurrentHp(1);
+        BattleState state = BattleState.trainer(List.of(rattata, reserve), List.of(snorlax));
+        BattleEngine engine = engine(new SplittableRandom(4));
+
+        assertThrows(IllegalStateException.class, () -> engine.replaceFainted(state, 1));
+        List<BattleEvent> events = engine.resolveTurn(state,
+                BattleAction.fight(rattata.getMoves().get(0)), BattleAction.fight(snorlax.getMoves().get(0)));
+
+        assertEquals(Side.PLAYER, ofType(events, Type.FAINTED).get(0).getSide());
+        assertTrue(ofType(events, Type.SENT_OUT).isEmpty());
+        assertTrue(state.isPlayerSwitchRequired());
+        assertThrows(IllegalStateException.class, () -> engine.resolveTurn(state,
+                BattleAction.fight(reserve.getMoves().get(0)), BattleAction.fight(snorlax.getMoves().get(0))));
+        assertThrows(IllegalArgumentException.class, () -> engine.replaceFainted(state, 0));
+
+        events = engine.replaceFainted(state, 1);
+        assertEquals(1, events.size());
+        assertEquals(Type.SENT_OUT, events.get(0).getType());
+        assertSame(reserve, state.getActive(Side.PLAYER));
+        assertFalse(state.isPlayerSwitchRequired());
+        // Only a new turn moves the turn count on
+        assertEquals(1, state.getTurn());
+    }
+
+    @Test
+    void lastPokemonFaintingEndsTheBattle() {
+        Pokemon rattata = rattata(50, tackle());
+        rattata.getStats().setCurrentHp(1);
+        Pokemon snorlax = snorlax(50, tackle());
+        BattleState state = BattleState.trainer(List.of(rattata), List.of(snorlax));
+        BattleEngine engine = engine(new SplittableRandom(5));
+
+        List<BattleEvent> events = engine.resolveTurn(state,
+                BattleAction.fight(rattata.getMoves().get(0)), BattleAction.fight(snorlax.getMoves().get(0)));
+
+        assertEquals(Outcome.OPPONENT_WON, state.getOutcome());
+        BattleEvent last = events.get(events.size() - 1);
+        assertEquals(Type.BATTLE_OVER, last.getType());
+        assertEquals("OPPONENT_WON", last.getDetail());
+        assertThrows(IllegalStateException.class, () -> engine.resolveTurn(state,
+                BattleAction.fight(null), BattleAction.fight(null)));
+    }
+
+    @Test
+    void experienceAndLevelUp() {
+        Pokemon charmander = pokemon(4, "Charmander", 6, tackle());
+        LevelManager levels = charmander.getLevelManager();
+        levels.addExperience(levels.calculateTotalExpForLevel(7) - levels.getCurrentExp() - 1);
+        Pokemon rattata = pokemon(19, "Rattata", 5, splash());
+        rattata.getStats().setCurrentHp(1);
+        BattleState state = BattleState.wild(List.of(charmander), rattata);
+
+        List<BattleEvent> events = engine(new SplittableRandom(6)).resolveTurn(state,
+                BattleAction.fight(charmander.getMoves().get(0)), BattleAction.fight(rattata.getMoves().get(0)));
+
+        assertEquals(LevelManager.calculateExpGain(rattata, 1, true), ofType(events, Type.EXP_GAINED).get(0).getAmount());
+        assertEquals(7, ofType(events, Type.LEVEL_UP).get(0).getAmount());
+        assertEquals(7, charmander.getLevel());
+        // Charmander learns Ember at 7, into its empty second slot
+        assertEquals("Ember", ofType(events, Type.MOVE_LEARNED).get(0).getDetail());
+        assertTrue(ofType(events, Type.MOVE_FORGOTTEN).isEmpty());
+        assertEquals(Outcome.PLAYER_WON, state.getOutcome());
+
+        List<Type> order = types(events);
+        assertTrue(order.indexOf(Type.FAINTED) < order.indexOf(Type.EXP_GAINED));
+        assertTrue(order.indexOf(Type.LEVEL_UP) < order.indexOf(Type.MOVE_LEARNED));
+        assertTrue(order.indexOf(Type.MOVE_LEARNED) < order.indexOf(Type.BATTLE_OVER));
+    }
+
+    @Test
+    void burnAndPoisonAtTheEndOfTheTurn() {
+        Pokemon rattata = rattata(50, splash());
+        Pokemon snorlax = snorlax(50, splash());
+        rattata.applyStatus(StatusEffect.BURN);
+        snorlax.applyStatus(StatusEffect.POISON);
+        BattleState state = BattleState.trainer(List.of(rattata), List.of(snorlax));
+
+        Script script = new Script();
+        List<BattleEvent> events = engine(script).resolveTurn(state,
+                BattleAction.fight(rattata.getMoves().get(0)), BattleAction.fight(snorlax.getMoves().get(0)));
+
+        List<BattleEvent> damage = ofType(events, Type.STATUS_DAMAGE);
+        assertEquals(2, damage.size());
+        assertEquals(Side.PLAYER, damage.get(0).getSide());
+        assertEquals("BURN", damage.get(0).getDetail());
+        assertEquals(rattata.getStats().getMaxHp() / 16, damage.get(0).getAmount());
+        assertEquals(Side.OPPONENT, damage.get(1).getSide());
+        assertEquals("POISON", damage.get(1).getDetail());
+        assertEquals(snorlax.getStats().getMaxHp() / 8, damage.get(1).getAmount());
+        // After both moves
+        assertEquals(Type.STATUS_DAMAGE, events.get(events.size() - 1).getType());
+        assertTrue(script.isFinished());
+    }
+
+    @Test
+    void poisonCanFaint() {
+        Pokemon rattata = rattata(50, splash());
+        Pokemon snorlax = snorlax(50, splash());
+        snorlax.applyStatus(StatusEffect.POISON);
+        snorlax.getStats().setCurrentHp(1);
+        BattleState state = BattleState.wild(List.of(rattata), snorlax);
+
+        List<BattleEvent> events = engine(new Script()).resolveTurn(state,
+                BattleAction.fight(rattata.getMoves().get(0)), BattleAction.fight(snorlax.getMoves().get(0)));
+        assertSame(snorlax, ofType(events, Type.FAINTED).get(0).getPokemon());
+        assertEquals(Outcome.PLAYER_WON, state.getOutcome());
+    }
+
+    @Test
+    void runningOnlyFromWildBattles() {
+        Pokemon rattata = rattata(50, tackle());
+        Pokemon snorlax = snorlax(50, tackle());
+        BattleState wild = BattleState.wild(List.of(rattata), snorlax);
+
+        List<BattleEvent> events = engine(new Script()).resolveTurn(wild,
+                BattleAction.run(), BattleAction.fight(snorlax.getMoves().get(0)));
+        assertEquals(List.of(Type.FLED, Type.BATTLE_OVER), types(events));
+        assertEquals(Outcome.FLED, wild.getOutcome());
+        assertEquals(snorlax.getStats().getMaxHp(), snorlax.getStats().getCurrentHp());
+
+        BattleState trainer = BattleState.trainer(List.of(rattata(50, tackle())), List.of(snorlax(50, tackle())));
+        assertThrows(IllegalStateException.class, () -> engine(new Script()).resolveTurn(trainer,
+                BattleAction.run(), BattleAction.fight(null)));
+    }
+
+    @Test
+    void ballShakesOncePerCheck() {
+        Pokemon rattata = rattata(50, tackle());
+        Pokemon snorlax = snorlax(50, splash());
+        // At full HP a 0.1 ball comes to 0.13, so each of the four checks passes about 60% of the time
+        Pokeball ball = new Pokeball(Pokeball.PokeBallType.POKE_BALL) {
+            @Override
+            public double getCatchRate() {
+                return 0.1;
+            }
+        };
+        ball.setQuantity(3);
+
+        // Two checks pass and the third fails; Snorlax then gets its turn
+        BattleState state = BattleState.wild(List.of(rattata), snorlax);
+        List<BattleEvent> events = engine(new Script(0.0, 0.0, 0.9)).resolveTurn(state,
+                BattleAction.useItem(ball), BattleAction.fight(snorlax.getMoves().get(0)));
+        assertEquals(List.of(Type.BALL_THROWN, Type.BALL_SHAKE, Type.BALL_SHAKE, Type.BROKE_FREE, Type.MOVE_USED),
+                types(events).subList(0, 5));
+        assertEquals(2, ball.getQuantity());
+        assertFalse(state.isOver());
+
+        // All four pass: three shakes and caught, before Snorlax can move
+        events = engine(new Script(0.0, 0.0, 0.0, 0.0)).resolveTurn(state,
+                BattleAction.useItem(ball), BattleAction.fight(snorlax.getMoves().get(0)));
+        assertEquals(List.of(Type.BALL_THROWN, Type.BALL_SHAKE, Type.BALL_SHAKE, Type.BALL_SHAKE, Type.CAUGHT,
+                Type.BATTLE_OVER), types(events));
+        assertEquals(Outcome.CAUGHT, state.getOutcome());
+        assertEquals(1, ball.getQuantity());
+    }
+
+    @Test
+    void pokeBallAlwaysCatches() {
+        // A rate of 1 is already capped at full HP, so no check can fail
+        Pokemon snorlax = snorlax(50, splash());
+        BattleState state = BattleState.wild(List.of(rattata(50, tackle())), snorlax);
+        List<BattleEvent> events = engine(new Script(0.999, 0.999, 0.999, 0.999)).resolveTurn(state,
+                BattleAction.useItem(new Pokeball(Pokeball.PokeBallType.POKE_BALL)),
+                BattleAction.fight(snorlax.getMoves().get(0)));
+        assertEquals(Type.CAUGHT, events.get(events.size() - 2).getType());
+
+        BattleState trainer = BattleState.trainer(List.of(rattata(50, tackle())), List.of(snorlax(50, tackle())));
+        assertThrows(IllegalStateException.class, () -> engine(new Script()).resolveTurn(trainer,
+                BattleAction.useItem(new Pokeball(Pokeball.PokeBallType.POKE_BALL)), BattleAction.fight(null)));
+    }
+
+    @Test
+    void sameSeedSameBattle() {
+        List<String> first = playOut(7);
+        List<String> second = playOut(7);
+        assertEquals(first, second);
+        assertTrue(first.size() > 4);
+    }
+
+    // A whole trainer battle as text, with both sides always using their first move
+    private static List<String> playOut(long seed) {
+        BattleState state = BattleState.trainer(List.of(rattata(30, tackle()), snorlax(30, tackle())),
+                List.of(snorlax(30, tackle()), rattata(30, tackle())));
+        BattleEngine engine = engine(new SplittableRandom(seed));
+        List<String> log = new ArrayList<>();
+        while (!state.isOver()) {
+            if (state.isPlayerSwitchRequired()) {
+                engine.replaceFainted(state, state.nextUsableIndex(Side.PLAYER)).forEach(e -> log.add(e.toString()));
+                continue;
+            }
+            Move player = state.getActive(Side.PLAYER).getMoves().get(0);
+            Move opponent = state.getActive(Side.OPPONENT).getMoves().get(0);
+            engine.resolveTurn(state, BattleAction.fight(player), BattleAction.fight(opponent))
+                    .forEach(e -> log.add(e.toString()));
+        }
+        return log;
+    }
+
+    // One turn of a Rattata with the status using Tackle against a Snorlax that Splashes first
+    private static List<BattleEvent> statusTurn(StatusEffect status, double... rolls) {
+        Pokemon rattata = rattata(50, tackle());
+        Pokemon snorlax = snorlax(50, splash());
+        assertTrue(rattata.applyStatus(status));
+        BattleState state = BattleState.trainer(List.of(rattata), List.of(snorlax));
+        Script script = new Script(rolls);
+        List<BattleEvent> events = engine(script).resolveTurn(state,
+                BattleAction.fight(rattata.getMoves().get(0)), BattleAction.fight(snorlax.getMoves().get(0)));
+        assertTrue(script.isFinished(), "rolls left over");
+        return events;
+    }
+
+    private static BattleEngine engine(RandomGenerator random) {
+        return new BattleEngine(random);
+    }
+
+    private static Pokemon rattata(int level, Move... moves) {
+        return pokemon(19, "Rattata", level, moves);
+    }
+
+    private static Pokemon snorlax(int level, Move... moves) {
+        return pokemon(143, "Snorlax", level, moves);
+    }
+
+    // Same IVs every run
+    private static Pokemon pokemon(int dex, String name, int level, Move... moves) {
+        Pokemon pokemon = GameRandom.withSeed(dex * 1000L + level, () -> PokemonFactory.createPokemon(dex, level, name));
+        pokemon.getMoves().clear();
+        for (Move move : moves) {
+            pokemon.addMove(move);
+        }
+        return pokemon;
+    }
+
+    // Never misses, so the only draw is the damage roll
+    private static Move tackle() {
+        return new Move("Tackle", PokemonType.NORMAL, 40, 0, 35, MoveCategory.PHYSICAL);
+    }
+
+    // Does nothing and draws nothing
+    private static Move splash() {
+        return new Move("Splash", PokemonType.NORMAL, 0, 40, new Move.StatModifier[0]);
+    }
+
+    private static List<BattleEvent> ofType(List<BattleEvent> events, Type type) {
+        List<BattleEvent> matching = new ArrayList<>();
+        for (BattleEvent event : events) {
+            if (event.getType() == type) {
+                matching.add(event);
+            }
+        }
+        return matching;
+    }
+
+    private static List<Type> types(List<BattleEvent> events) {
+        List<Type> types = new ArrayList<>();
+        for (BattleEvent event : events) {
+            types.add(event.getType());
+        }
+        return types;
+    }
+
+    // What happened to or was done by the player's Pokémon, without the opponent's Splash
+    private static List<Type> playerTypes(List<BattleEvent> events) {
+        List<Type> types = new ArrayList<>();
+        for (BattleEvent event : events) {
+            if (event.getSide() == Side.PLAYER && event.getType() != Type.NO_EFFECT
+                    || event.getType() == Type.DAMAGE && event.getSide() == Side.OPPONENT) {
+                types.add(event.getType());
+            }
+        }
+        return types;
+    }
+
+    /**
+     * Hands out the given numbers in order, as nextInt results or as
+     * nextDouble results, so each chance check can be forced. Any other
+     * draw fails the test.
+     */
+    private static final class Script implements RandomGenerator {
+        private final Deque<Double> rolls = new ArrayDeque<>();
+
+        Script(double... rolls) {
+            for (double roll : rolls) {
+                this.rolls.add(roll);
+            }
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            int roll = (int) next();
+            assertTrue(roll >= 0 && roll < bound, "roll " + roll + " out of " + bound);
+            return roll;
+        }
+
+        @Override
+        public double nextDouble() {
+            return next();
+        }
+
+        @Override
+        public long nextLong() {
+            throw new AssertionError("unscripted draw");
+        }
+
+        boolean isFinished() {
+            return rolls.isEmpty();
+        }
+
+        private double next() {
+            if (rolls.isEmpty()) {
+                throw new AssertionError("ran out of rolls");
+            }
+            return rolls.remove();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package battle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import model.GameRandom;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+import pokes.Pokemon;
+import pokes.PokemonFactory;
+import pokes.PokemonStatsLoader;
+
+public class BattleSimulatorTest {
+
+    @BeforeAll
+    static void loadData() {
+        PokemonStatsLoader.getInstance().loadFromCSV("/resources/pokemon_information.csv");
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+    }
+
+    // More battles than one task plays, so the work really is split
+    @Test
+    void sameSeedSameResultOnAnyPoolSize() {
+        CompactTeam player = CompactTeam.of(List.of(pokemon(4, "Charmander", 20), pokemon(19, "Rattata", 22)));
+        CompactTeam opponent = CompactTeam.of(List.of(pokemon(143, "Snorlax", 18), pokemon(101, "Electrode", 19)));
+
+        SimulationResult single = simulate(new ForkJoinPool(1), player, opponent);
+        SimulationResult parallel = simulate(new ForkJoinPool(4), player, opponent);
+
+        assertEquals(single.getBattles(), parallel.getBattles());
+        assertEquals(single.getWins(), parallel.getWins());
+        assertEquals(single.getDraws(), parallel.getDraws());
+        assertEquals(single.getMeanTurns(), parallel.getMeanTurns());
+        assertEquals(single.getTurnsMargin(), parallel.getTurnsMargin());
+        assertEquals(single.getMeanHpLeft(), parallel.getMeanHpLeft());
+        assertEquals(single.getHpLeftMargin(), parallel.getHpLeftMargin());
+    }
+
+    private static SimulationResult simulate(ForkJoinPool pool, CompactTeam player, CompactTeam opponent) {
+        try {
+            return new BattleSimulator(pool, StandardPolicy.HIGHEST_POWER, StandardPolicy.RANDOM)
+                    .simulate(player, opponent, 5000, 42);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Same IVs every run
+    private static Pokemon pokemon(int dex, String name, int level) {
+        return GameRandom.withSeed(dex * 1000L + level, () -> PokemonFactory.createPokemon(dex, level, name));
+    }
+}
@@ -0,0 +1,152 @@
+package battle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import battle.BattleState.Side;
+import model.GameRandom;
+import model.Move;
+import model.Move.MoveCategory;
+import model.Move.StatModifier;
+import model.Move.StatusEffect;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+import pokes.Pokemon;
+import pokes.Pokemon.PokemonType;
+import pokes.PokemonFactory;
+import pokes.PokemonStatsLoader;
+
+// Everyone is level 100 so the engine's EXP can't level anybody up mid-battle
+public class CompactBattleTest {
+    private static final int LEVEL = 100;
+
+    @BeforeAll
+    static void loadData() {
+        PokemonStatsLoader.getInstance().loadFromCSV("/resources/pokemon_information.csv");
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+    }
+
+    @Test
+    void playsTheSameTurnsAsTheEngine() {
+        for (long seed = 1; seed <= 200; seed++) {
+            playSideBySide(seed);
+        }
+    }
+
+    @Test
+    void snapshotMatchesTheBattleItWasTakenFrom() {
+        BattleState state = BattleState.trainer(playerTeam(), opponentTeam());
+        state.getActive(Side.PLAYER).getStats().takeDamage(30);
+        state.getActive(Side.OPPONENT).applyStatus(StatusEffect.BURN);
+
+        assertSameState(state, CompactBattle.of(state), "snapshot");
+    }
+
+    // Random move choices, including Struggle and moves that are out of PP
+    private static void playSideBySide(long seed) {
+        BattleState state = BattleState.trainer(playerTeam(), opponentTeam());
+        CompactBattle compact = CompactBattle.of(state);
+        BattleEngine engine = new BattleEngine(new SplittableRandom(seed));
+        SplittableRandom compactRandom = new SplittableRandom(seed);
+        SplittableRandom choices = new SplittableRandom(~seed);
+
+        while (!state.isOver()) {
+            int playerMove = choices.nextInt(CompactBattle.STRUGGLE, compact.getMoveCount(Side.PLAYER));
+            int opponentMove = choices.nextInt(CompactBattle.STRUGGLE, compact.getMoveCount(Side.OPPONENT));
+            engine.resolveTurn(state,
+                    BattleAction.fightSlot(state.getActive(Side.PLAYER), playerMove),
+                    BattleAction.fightSlot(state.getActive(Side.OPPONENT), opponentMove));
+            compact.playTurn(playerMove, opponentMove, compactRandom);
+            // CompactBattle sends out the next Pokémon itself
+            if (state.isPlayerSwitchRequired()) {
+                engine.replaceFainted(state, state.nextUsableIndex(Side.PLAYER));
+            }
+            assertSameState(state, compact, "seed " + seed + ", turn " + state.getTurn());
+        }
+        assertTrue(compact.isOver());
+    }
+
+    private static void assertSameState(BattleState state, CompactBattle compact, String where) {
+        assertEquals(state.getOutcome(), compact.getOutcome(), where);
+        assertEquals(state.getTurn(), compact.getTurn(), where);
+        for (Side side : Side.values()) {
+            List<Pokemon> team = state.getTeam(side);
+            for (int slot = 0; slot < team.size(); slot++) {
+                Pokemon pokemon = team.get(slot);
+                String which = where + ", " + side + " " + pokemon.getName();
+                assertEquals(Math.max(0, pokemon.getStats().getCurrentHp()), compact.getHp(side, slot), which + " HP");
+                assertEquals(pokemon.getStatus(), compact.getStatus(side, slot), which + " status");
+            }
+            if (state.isOver()) {
+                continue;
+            }
+            assertEquals(state.getActiveIndex(side), compact.getActive(side), where + ", " + side + " active");
+            List<Move> moves = state.getActive(side).getMoves();
+            for (int move = 0; move < moves.size(); move++) {
+                assertEquals(moves.get(move).getCurrentPP(), compact.getPp(side, move),
+                        where + ", " + side + " " + moves.get(move).getName() + " PP");
+            }
+        }
+    }
+
+    // Every status condition and stat stage the compact battle tracks turns up somewhere
+    private static List<Pokemon> playerTeam() {
+        return List.of(
+                pokemon(143, "Snorlax", physical("Tackle", PokemonType.NORMAL, 40, 95, 8),
+                        status("Thunder Wave", PokemonType.ELECTRIC, 90, StatusEffect.PARALYSIS),
+                        stat("Swords Dance", "attack", 2, true),
+                        status("Hypnosis", PokemonType.PSYCHIC, 60, StatusEffect.SLEEP)),
+                pokemon(4, "Charmander", special("Ember", PokemonType.FIRE, 40, 100, 6),
+                        status("Will-O-Wisp", PokemonType.FIRE, 75, StatusEffect.BURN),
+                        stat("Growl", "attack", -1, false),
+                        stat("Screech", "defense", -2, false)));
+    }
+
+    private static List<Pokemon> opponentTeam() {
+        return List.of(
+                pokemon(19, "Rattata", physical("Bite", PokemonType.DARK, 60, 100, 6),
+                        status("Toxic", PokemonType.POISON, 90, StatusEffect.POISON),
+                        stat("Agility", "speed", 2, true),
+                        status("Confuse Ray", PokemonType.GHOST, 100, StatusEffect.CONFUSION)),
+                pokemon(101, "Electrode", special("Shock", PokemonType.ELECTRIC, 50, 100, 6),
+                        status("Freeze Ray", PokemonType.ICE, 80, StatusEffect.FREEZE),
+                        stat("Tail Whip", "defense", -1, false),
+                        physical("Rollout", PokemonType.ROCK, 30, 90, 5)));
+    }
+
+    // Same IVs every run
+    private static Pokemon pokemon(int dex, String name, Move... moves) {
+        Pokemon pokemon = GameRandom.withSeed(dex * 1000L + LEVEL, () -> PokemonFactory.createPokemon(dex, LEVEL, name));
+        pokemon.getMoves().clear();
+        for (Move move : moves) {
+            pokemon.addMove(move);
+        }
+        return pokemon;
+    }
+
+    private static Move physical(String name, PokemonType type, int power, int accuracy, int pp) {
+        return new Move(name, type, power, accuracy, pp, MoveCategory.PHYSICAL);
+    }
+
+    private static Move special(String name, PokemonType type, int power, int accuracy, int pp) {
+        return new Move(name, type, power, accuracy, pp, MoveCategory.SPECIAL);
+    }
+
+    private static Move status(String name, PokemonType type, int accuracy, StatusEffect effect) {
+        return new Move(name, type, accuracy, 3, effect, 100);
+    }
+
+    // StatModifier is an inner class, so it needs some Move to hang off
+    private static Move stat(String name, String stat, int stages, boolean affectsUser) {
+        Move owner = new Move(name, PokemonType.NORMAL, 0, 0, 0, MoveCategory.STATUS);
+        StatModifier modifier = owner.new StatModifier(stat, stages, affectsUser);
+        return new Move(name, PokemonType.NORMAL, 0, 3, new StatModifier[] {modifier});
+    }
+}
@@ -0,0 +1,90 @@
+package battle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+// Worked by hand for a level 50 attacker: 80 power, 120 attack into 100 defense, base damage 44
+public class DamageCalculatorTest {
+    private static final int[] NEUTRAL = {37, 37, 38, 38, 39, 39, 40, 40, 40, 41, 41, 42, 42, 43, 43, 44};
+    private static final int[] STAB = {55, 55, 57, 57, 58, 58, 60, 60, 60, 61, 61, 63, 63, 64, 64, 66};
+    private static final int[] STAB_SUPER_EFFECTIVE =
+            {110, 110, 114, 114, 116, 116, 120, 120, 120, 122, 122, 126, 126, 128, 128, 132};
+    private static final int[] NOT_VERY_EFFECTIVE = {18, 18, 19, 19, 19, 19, 20, 20, 20, 20, 20, 21, 21, 21, 21, 22};
+
+    @Test
+    void baseDamage() {
+        // (2 * 50 / 5 + 2) * 80 * 120 / 100 / 50 + 2 = 22 * 80 * 120 / 100 / 50 + 2
+        assertEquals(44, DamageCalculator.baseDamage(50, 80, 120, 100));
+        // (2 * 5 / 5 + 2) * 40 * 11 / 10 / 50 + 2
+        assertEquals(5, DamageCalculator.baseDamage(5, 40, 11, 10));
+        // Zero defense is treated as one
+        assertEquals(DamageCalculator.baseDamage(10, 40, 20, 1), DamageCalculator.baseDamage(10, 40, 20, 0));
+    }
+
+    @Test
+    void sixteenRolls() {
+        assertArrayEquals(NEUTRAL, distribution(false, 1.0));
+        assertEquals(37, DamageCalculator.minDamage(50, 80, 120, 100, false, 1.0));
+        assertEquals(44, DamageCalculator.maxDamage(50, 80, 120, 100, false, 1.0));
+    }
+
+    @Test
+    void stabTruncatesAfterTheRoll() {
+        assertArrayEquals(STAB, distribution(true, 1.0));
+    }
+
+    @Test
+    void effectivenessAfterStab() {
+        assertArrayEquals(STAB_SUPER_EFFECTIVE, distribution(true, 2.0));
+        assertArrayEquals(NOT_VERY_EFFECTIVE, distribution(false, 0.5));
+    }
+
+    @Test
+    void atLeastOneUnlessNothing() {
+        // Base damage 2, rolled down to 1, then quartered to 0
+        assertEquals(2, DamageCalculator.baseDamage(1, 10, 5, 200));
+        assertEquals(1, DamageCalculator.damage(1, 10, 5, 200, false, 0.25, 0));
+        assertEquals(1, DamageCalculator.damage(1, 10, 5, 200, false, 1.0, 0));
+        // Immunity and powerless moves deal nothing at all
+        assertEquals(0, DamageCalculator.damage(50, 80, 120, 100, true, 0.0, 15));
+        assertEquals(0, DamageCalculator.damage(50, 0, 120, 100, true, 1.0, 15));
+    }
+
+    @Test
+    void rollsReachingAndExpectation() {
+        assertEquals(16, DamageCalculator.rollsReaching(50, 80, 120, 100, false, 1.0, 37));
+        assertEquals(5, DamageCalculator.rollsReaching(50, 80, 120, 100, false, 1.0, 42));
+        assertEquals(1, DamageCalculator.rollsReaching(50, 80, 120, 100, false, 1.0, 44));
+        assertEquals(0, DamageCalculator.rollsReaching(50, 80, 120, 100, false, 1.0, 45));
+        assertEquals(5 / 16.0, DamageCalculator.chanceToReach(50, 80, 120, 100, false, 1.0, 42), 1e-12);
+        // 644 over 16 rolls
+        assertEquals(40.25, DamageCalculator.expectedDamage(50, 80, 120, 100, false, 1.0), 1e-12);
+    }
+
+    @Test
+    void randomRollIsOneOfTheSixteen() {
+        SplittableRandom random = new SplittableRandom(3);
+        boolean[] seen = new boolean[STAB.length];
+        for (int i = 0; i < 1000; i++) {
+            int damage = DamageCalculator.roll(50, 80, 120, 100, true, 1.0, random);
+            assertTrue(damage >= STAB[0] && damage <= STAB[STAB.length - 1], "damage " + damage);
+            for (int roll = 0; roll < STAB.length; roll++) {
+                seen[roll] |= STAB[roll] == damage;
+            }
+        }
+        for (boolean value : seen) {
+            assertTrue(value);
+        }
+    }
+
+    private static int[] distribution(boolean stab, double effectiveness) {
+        int[] out = new int[DamageCalculator.ROLLS];
+        DamageCalculator.distribution(50, 80, 120, 100, stab, effectiveness, out);
+        return out;
+    }
+}
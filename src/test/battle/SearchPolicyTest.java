@@ -0,0 +1,94 @@
+package battle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import battle.BattleState.Side;
+import model.GameRandom;
+import model.Move;
+import model.Move.MoveCategory;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+import pokes.Pokemon;
+import pokes.Pokemon.PokemonType;
+import pokes.PokemonFactory;
+import pokes.PokemonStatsLoader;
+
+// EASY sometimes picks a random move on purpose, so these use the levels that never do
+public class SearchPolicyTest {
+    private static final int JAB = 0;
+    private static final int MEGA_PUNCH = 1;
+    private static final int WATERFALL = 1;
+
+    @BeforeAll
+    static void loadData() {
+        PokemonStatsLoader.getInstance().loadFromCSV("/resources/pokemon_information.csv");
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+    }
+
+    // Mega Punch does more on average, but only the Jab is sure to finish the Rattata
+    @Test
+    void takesTheGuaranteedKnockout() {
+        CompactBattle battle = knockoutBattle();
+        assertEquals(MEGA_PUNCH, StandardPolicy.GREEDY.chooseMove(battle, Side.PLAYER, new SplittableRandom(1)));
+
+        for (AiDifficulty difficulty : List.of(AiDifficulty.NORMAL, AiDifficulty.HARD, AiDifficulty.GYM_LEADER)) {
+            assertEquals(JAB, new SearchPolicy(difficulty).chooseMove(battle, Side.PLAYER, new SplittableRandom(1)),
+                    difficulty.name());
+        }
+    }
+
+    // Same power and category, no STAB either way
+    @Test
+    void prefersTheSuperEffectiveMove() {
+        Pokemon snorlax = pokemon(143, "Snorlax", 50,
+                new Move("Spark", PokemonType.ELECTRIC, 65, 100, 20, MoveCategory.PHYSICAL),
+                new Move("Waterfall", PokemonType.WATER, 65, 100, 15, MoveCategory.PHYSICAL));
+        Pokemon charmander = pokemon(4, "Charmander", 50,
+                new Move("Scratch", PokemonType.NORMAL, 40, 100, 35, MoveCategory.PHYSICAL));
+        CompactBattle battle = CompactBattle.of(BattleState.trainer(List.of(snorlax), List.of(charmander)));
+
+        assertEquals(WATERFALL, new SearchPolicy(AiDifficulty.HARD).chooseMove(battle, Side.PLAYER, new SplittableRandom(1)));
+    }
+
+    @Test
+    void sameSeedSameMoveOnAFreshSearch() {
+        CompactBattle battle = knockoutBattle();
+        long hash = battle.hash();
+        for (long seed = 1; seed <= 20; seed++) {
+            int first = new SearchPolicy(AiDifficulty.GYM_LEADER).chooseMove(battle, Side.PLAYER, new SplittableRandom(seed));
+            int second = new SearchPolicy(AiDifficulty.GYM_LEADER).chooseMove(battle, Side.PLAYER, new SplittableRandom(seed));
+            assertEquals(first, second, "seed " + seed);
+        }
+        // Searching works on scratch copies and leaves the battle alone
+        assertEquals(hash, battle.hash());
+        assertEquals(0, battle.getTurn());
+    }
+
+    // Snorlax against a Rattata with 5 HP left that can hit back hard
+    private static CompactBattle knockoutBattle() {
+        Pokemon snorlax = pokemon(143, "Snorlax", 50,
+                new Move("Jab", PokemonType.NORMAL, 40, 0, 35, MoveCategory.PHYSICAL),
+                new Move("Mega Punch", PokemonType.NORMAL, 150, 50, 5, MoveCategory.PHYSICAL));
+        Pokemon rattata = pokemon(19, "Rattata", 50,
+                new Move("Hyper Fang", PokemonType.NORMAL, 80, 100, 15, MoveCategory.PHYSICAL));
+        rattata.getStats().takeDamage(rattata.getStats().getMaxHp() - 5);
+        return CompactBattle.of(BattleState.trainer(List.of(snorlax), List.of(rattata)));
+    }
+
+    // Same IVs every run
+    private static Pokemon pokemon(int dex, String name, int level, Move... moves) {
+        Pokemon pokemon = GameRandom.withSeed(dex * 1000L + level, () -> PokemonFactory.createPokemon(dex, level, name));
+        pokemon.getMoves().clear();
+        for (Move move : moves) {
+            pokemon.addMove(move);
+        }
+        return pokemon;
+    }
+}
@@ -0,0 +1,124 @@
+package battle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import battle.BattleState.Outcome;
+import battle.BattleState.Side;
+import battle.Tournament.Format;
+import model.GameRandom;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+import pokes.Pokemon;
+import pokes.PokemonFactory;
+import pokes.PokemonStatsLoader;
+
+public class TournamentTest {
+    private static final List<String> NAMES = List.of("Fire", "Normal", "Electric", "Mixed", "Heavy");
+
+    private static List<CompactTeam> teams;
+
+    @BeforeAll
+    static void loadData() {
+        PokemonStatsLoader.getInstance().loadFromCSV("/resources/pokemon_information.csv");
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+        teams = List.of(
+                CompactTeam.of(List.of(pokemon(4, "Charmander", 20))),
+                CompactTeam.of(List.of(pokemon(19, "Rattata", 22))),
+                CompactTeam.of(List.of(pokemon(101, "Electrode", 18))),
+                CompactTeam.of(List.of(pokemon(19, "Rattata", 15), pokemon(4, "Charmander", 15))),
+                CompactTeam.of(List.of(pokemon(143, "Snorlax", 16))));
+    }
+
+    @Test
+    void replayPlaysTheSameBattleAgain() {
+        Tournament tournament = new Tournament(StandardPolicy.HIGHEST_POWER);
+        List<PairingResult> results = tournament.run(NAMES.subList(0, 3), teams.subList(0, 3),
+                Format.ROUND_ROBIN, 50, 7);
+
+        assertEquals(3, results.size());
+        for (PairingResult result : results) {
+            int a = NAMES.indexOf(result.getTeamA());
+            int b = NAMES.indexOf(result.getTeamB());
+            int winsA = 0;
+            int winsB = 0;
+            int draws = 0;
+            for (int battle = 0; battle < result.getBattles(); battle++) {
+                CompactBattle replayed = tournament.replay(teams.get(a), teams.get(b), a, b, battle, 7);
+                Side sideA = battle % 2 == 0 ? Side.PLAYER : Side.OPPONENT;
+                Outcome outcome = replayed.getOutcome();
+                if (outcome == Outcome.DRAW) {
+                    draws++;
+                } else if ((outcome == Outcome.PLAYER_WON) == (sideA == Side.PLAYER)) {
+                    winsA++;
+                } else {
+                    winsB++;
+                }
+            }
+            assertEquals(result.getWinsA(), winsA, result.toString());
+            assertEquals(result.getWinsB(), winsB, result.toString());
+            assertEquals(result.getResultForA().getDraws(), draws, result.toString());
+        }
+    }
+
+    // Enough battles per pairing that each one is split across tasks too
+    @Test
+    void sameResultsOnAnyPoolSize() {
+        List<PairingResult> single = run(new ForkJoinPool(1), Format.ROUND_ROBIN, 1500);
+        List<PairingResult> parallel = run(new ForkJoinPool(4), Format.ROUND_ROBIN, 1500);
+
+        assertEquals(10, single.size());
+        assertEquals(single.size(), parallel.size());
+        for (int i = 0; i < single.size(); i++) {
+            PairingResult one = single.get(i);
+            PairingResult other = parallel.get(i);
+            assertEquals(one.getTeamA(), other.getTeamA());
+            assertEquals(one.getTeamB(), other.getTeamB());
+            assertEquals(one.getWinsA(), other.getWinsA());
+            assertEquals(one.getWinsB(), other.getWinsB());
+            assertEquals(one.getResultForA().getDraws(), other.getResultForA().getDraws());
+            assertEquals(one.getResultForA().getMeanTurns(), other.getResultForA().getMeanTurns());
+            assertEquals(one.getResultForA().getMeanHpLeft(), other.getResultForA().getMeanHpLeft());
+            assertEquals(one.getMvpA(), other.getMvpA());
+            assertEquals(one.getMvpB(), other.getMvpB());
+        }
+    }
+
+    // Five teams: three rounds of two pairings, with one team sitting out each round
+    @Test
+    void oddTeamCountGivesOneByePerRound() {
+        List<PairingResult> results = run(new ForkJoinPool(1), Format.SWISS, 20);
+
+        assertEquals(6, results.size());
+        for (int round = 0; round < 3; round++) {
+            Set<String> playing = new HashSet<>();
+            for (PairingResult result : results.subList(round * 2, round * 2 + 2)) {
+                assertTrue(playing.add(result.getTeamA()), result.getTeamA() + " plays twice in round " + round);
+                assertTrue(playing.add(result.getTeamB()), result.getTeamB() + " plays twice in round " + round);
+            }
+            assertEquals(NAMES.size() - 1, playing.size(), "round " + round);
+        }
+    }
+
+    private static List<PairingResult> run(ForkJoinPool pool, Format format, int battles) {
+        try {
+            return new Tournament(pool, StandardPolicy.HIGHEST_POWER).run(NAMES, teams, format, battles, 11);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Same IVs every run
+    private static Pokemon pokemon(int dex, String name, int level) {
+        return GameRandom.withSeed(dex * 1000L + level, () -> PokemonFactory.createPokemon(dex, level, name));
+    }
+}
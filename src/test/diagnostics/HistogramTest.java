@@ -0,0 +1,122 @@
+package diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+    private Histogram histogram;
+
+    @BeforeEach
+    void runBefore() {
+        histogram = new Histogram();
+    }
+
+    @Test
+    void smallValuesHaveTheirOwnBuckets() {
+        for (int value = 0; value < 32; value++) {
+            assertEquals(value, Histogram.indexFor(value));
+            assertEquals(value, Histogram.highestValueFor(value));
+        }
+    }
+
+    @Test
+    void firstSplitBuckets() {
+        // From 32 each power of two is cut into 16 buckets: two values wide up to 63, four up to 127
+        assertEquals(32, Histogram.indexFor(32));
+        assertEquals(32, Histogram.indexFor(33));
+        assertEquals(33, Histogram.indexFor(34));
+        assertEquals(47, Histogram.indexFor(63));
+        assertEquals(48, Histogram.indexFor(64));
+        assertEquals(48, Histogram.indexFor(67));
+        assertEquals(49, Histogram.indexFor(68));
+        assertEquals(33, Histogram.highestValueFor(32));
+        assertEquals(63, Histogram.highestValueFor(47));
+        assertEquals(67, Histogram.highestValueFor(48));
+    }
+
+    @Test
+    void bucketsAreContiguous() {
+        int previous = -1;
+        for (long value = 0; value < 1 << 20; value++) {
+            int index = Histogram.indexFor(value);
+            assertTrue(index == previous || index == previous + 1, "value " + value);
+            if (index != previous) {
+                assertEquals(value - 1, previous < 0 ? -1 : Histogram.highestValueFor(previous), "value " + value);
+            }
+            assertTrue(Histogram.highestValueFor(index) >= value);
+            previous = index;
+        }
+    }
+
+    @Test
+    void powerOfTwoBoundariesUpToTheTop() {
+        for (int bits = 5; bits < 63; bits++) {
+            long power = 1L << bits;
+            int below = Histogram.indexFor(power - 1);
+            int at = Histogram.indexFor(power);
+            assertEquals(below + 1, at, "2^" + bits);
+            assertEquals(power - 1, Histogram.highestValueFor(below), "2^" + bits);
+        }
+        int top = Histogram.indexFor(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, Histogram.highestValueFor(top));
+    }
+
+    @Test
+    void withinASixteenthAboveThirtyTwo() {
+        for (long value = 32; value < 1L << 40; value = value * 3 / 2 + 1) {
+            long highest = Histogram.highestValueFor(Histogram.indexFor(value));
+            assertTrue(highest - value <= value / 16, "value " + value + " reported as " + highest);
+        }
+    }
+
+    @Test
+    void percentilesOfOneToAHundred() {
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+        // The highest value in the bucket holding the target, capped at the max
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(10, histogram.getValueAtPercentile(10));
+        assertEquals(51, histogram.get50thPercentile());
+        assertEquals(91, histogram.get90thPercentile());
+        assertEquals(99, histogram.get99thPercentile());
+        assertEquals(100, histogram.get999thPercentile());
+        assertEquals(100, histogram.getValueAtPercentile(100));
+        assertEquals(100, histogram.getCount());
+        assertEquals(1, histogram.getMin());
+        assertEquals(100, histogram.getMax());
+        assertEquals(50.5, histogram.getMean(), 1e-9);
+    }
+
+    @Test
+    void outlierOnlyShowsInTheTail() {
+        for (int i = 0; i < 999; i++) {
+            histogram.record(20);
+        }
+        histogram.record(1_000_000);
+        assertEquals(20, histogram.get50thPercentile());
+        assertEquals(20, histogram.get99thPercentile());
+        assertEquals(20, histogram.get999thPercentile());
+        assertEquals(1_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void emptyAndReset() {
+        assertEquals(0, histogram.get50thPercentile());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0.0, histogram.getMean());
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getMin());
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.get99thPercentile());
+    }
+}
@@ -0,0 +1,128 @@
+package logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogQueueTest {
+    private AsyncLogQueue queue;
+
+    @AfterEach
+    void runAfter() {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    @Test
+    void writesInOrderToTheRightStream() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        queue = new AsyncLogQueue(new PrintStream(out, true), new PrintStream(err, true));
+
+        assertTrue(queue.offer(Level.INFO, "model.Pokemon", "first", null));
+        assertTrue(queue.offer(Level.WARN, "model.Pokemon", "second", null));
+        assertTrue(queue.offer(Level.DEBUG, "battle.Battle", "third", null));
+        assertTrue(queue.offer(Level.ERROR, "battle.Battle", "fourth", null));
+        queue.flush(5000);
+
+        String[] outLines = lines(out);
+        String[] errLines = lines(err);
+        assertEquals(2, outLines.length);
+        assertEquals(2, errLines.length);
+        assertTrue(outLines[0].matches("\\d\\d:\\d\\d:\\d\\d\\.\\d{3} INFO \\[.+\\] model\\.Pokemon - first"),
+                outLines[0]);
+        assertTrue(outLines[1].endsWith(" DEBUG [" + Thread.currentThread().getName() + "] battle.Battle - third"));
+        assertTrue(errLines[0].endsWith("] model.Pokemon - second"));
+        assertTrue(errLines[1].endsWith("] battle.Battle - fourth"));
+        assertEquals(0, queue.getDroppedCount());
+    }
+
+    @Test
+    void dropsWhenTheWriterIsALapBehind() throws InterruptedException {
+        BlockingStream out = new BlockingStream();
+        queue = new AsyncLogQueue(new PrintStream(out, false), new PrintStream(out, false));
+
+        // Park the writer inside its first write so nothing else gets drained
+        assertTrue(queue.offer(Level.ERROR, "test", "0", null));
+        assertTrue(out.entered.await(5, TimeUnit.SECONDS));
+
+        // The slot being written is still held, so the lap is one record short
+        for (int i = 1; i < AsyncLogQueue.CAPACITY; i++) {
+            assertTrue(queue.offer(Level.INFO, "test", Integer.toString(i), null), "record " + i);
+        }
+        int rejected = 0;
+        for (int i = 0; i < 100; i++) {
+            if (!queue.offer(Level.INFO, "test", "late", null)) {
+                rejected++;
+            }
+        }
+        assertEquals(100, rejected);
+        assertEquals(100, queue.getDroppedCount());
+
+        out.release.countDown();
+        queue.flush(10_000);
+        String[] lines = lines(out.written);
+        assertEquals(AsyncLogQueue.CAPACITY, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            assertTrue(lines[i].endsWith("] test - " + i), lines[i]);
+        }
+
+        // Once drained there is room again
+        assertTrue(queue.offer(Level.INFO, "test", "again", null));
+        assertEquals(100, queue.getDroppedCount());
+    }
+
+    @Test
+    void printsTheStackTrace() {
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        queue = new AsyncLogQueue(new PrintStream(new ByteArrayOutputStream()), new PrintStream(err, true));
+
+        queue.offer(Level.ERROR, "test", "failed", new IllegalStateException("boom"));
+        queue.flush(5000);
+
+        String[] lines = lines(err);
+        assertTrue(lines[0].endsWith("] test - failed"));
+        assertEquals("java.lang.IllegalStateException: boom", lines[1]);
+        assertTrue(lines.length > 2, "no stack frames");
+    }
+
+    private static String[] lines(ByteArrayOutputStream stream) {
+        String text = stream.toString(StandardCharsets.UTF_8);
+        return text.isEmpty() ? new String[0] : text.split(System.lineSeparator());
+    }
+
+    // Holds up the first write until released, keeping everything it is given
+    private static final class BlockingStream extends OutputStream {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        @Override
+        public void write(int b) {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (written) {
+                written.write(b, off, len);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package logging;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+// Log's thresholds are global, so each test works under its own made-up package
+public class LogTest {
+
+    @Test
+    void longestPrefixWins() {
+        Log.setLevel("logtest.a", Level.WARN);
+        Log.setLevel("logtest.a.inner", Level.DEBUG);
+        Log.setLevel("logtest.a.inner.Quiet", Level.ERROR);
+
+        Logger outer = Log.getLogger("logtest.a.Outer");
+        assertTrue(outer.isEnabled(Level.WARN));
+        assertFalse(outer.isEnabled(Level.INFO));
+
+        Logger inner = Log.getLogger("logtest.a.inner.Loud");
+        assertTrue(inner.isDebugEnabled());
+        assertFalse(inner.isEnabled(Level.TRACE));
+
+        Logger quiet = Log.getLogger("logtest.a.inner.Quiet");
+        assertTrue(quiet.isEnabled(Level.ERROR));
+        assertFalse(quiet.isEnabled(Level.WARN));
+    }
+
+    @Test
+    void prefixMatchesWholeSegments() {
+        Log.setLevel("logtest.b", Level.TRACE);
+
+        assertTrue(Log.getLogger("logtest.b.Thing").isEnabled(Level.TRACE));
+        // Falls through to the root level, which is never TRACE in tests
+        assertFalse(Log.getLogger("logtest.bb.Thing").isEnabled(Level.TRACE));
+        assertFalse(Log.getLogger("logtest.Other").isEnabled(Level.TRACE));
+    }
+
+    @Test
+    void existingLoggersFollowChanges() {
+        Logger logger = Log.getLogger("logtest.c.Thing");
+        Log.setLevel("logtest.c", Level.OFF);
+        assertFalse(logger.isEnabled(Level.ERROR));
+
+        Log.setLevel("logtest.c.Thing", Level.DEBUG);
+        assertTrue(logger.isDebugEnabled());
+        assertSame(logger, Log.getLogger("logtest.c.Thing"));
+    }
+}
@@ -0,0 +1,105 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+public class AliasTableTest {
+    private static final int DRAWS = 1_000_000;
+
+    @Test
+    void skewedWeightsBuildExactly() {
+        double[] weights = {1, 2, 7, 90};
+        AliasTable table = new AliasTable(weights);
+        assertEquals(4, table.size());
+        assertExact(table, weights);
+    }
+
+    @Test
+    void skewedWeightsSampleInProportion() {
+        double[] weights = {1, 2, 7, 90};
+        assertSampled(new AliasTable(weights), weights);
+    }
+
+    @Test
+    void zeroWeightIsNeverDrawn() {
+        double[] weights = {3, 0, 1, 0};
+        AliasTable table = new AliasTable(weights);
+        assertExact(table, weights);
+        long[] counts = sample(table);
+        assertEquals(0, counts[1]);
+        assertEquals(0, counts[3]);
+        assertSampled(table, weights);
+    }
+
+    @Test
+    void singleWeightAlwaysDrawn() {
+        AliasTable table = new AliasTable(new double[] {0.25});
+        assertEquals(1.0, table.probabilityOf(0), 1e-12);
+        assertEquals(DRAWS, sample(table)[0]);
+    }
+
+    @Test
+    void equalWeightsBuildExactly() {
+        assertExact(new AliasTable(new double[] {5, 5, 5}), new double[] {5, 5, 5});
+    }
+
+    @Test
+    void rejectsEmptyWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[0]));
+    }
+
+    @Test
+    void rejectsNaNWeight() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1, Double.NaN}));
+    }
+
+    @Test
+    void rejectsNegativeWeight() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {1, -0.5, 2}));
+    }
+
+    @Test
+    void rejectsInfiniteWeight() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AliasTable(new double[] {1, Double.POSITIVE_INFINITY}));
+    }
+
+    @Test
+    void rejectsAllZeroWeights() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable(new double[] {0, 0}));
+    }
+
+    private static void assertExact(AliasTable table, double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / total, table.probabilityOf(i), 1e-12, "index " + i);
+        }
+    }
+
+    private static void assertSampled(AliasTable table, double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        long[] counts = sample(table);
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / total, counts[i] / (double) DRAWS, 0.002, "index " + i);
+        }
+    }
+
+    private static long[] sample(AliasTable table) {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] counts = new long[table.size()];
+        for (int i = 0; i < DRAWS; i++) {
+            counts[table.sample(random)]++;
+        }
+        return counts;
+    }
+}
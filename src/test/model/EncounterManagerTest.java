@@ -0,0 +1,106 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class EncounterManagerTest {
+    private static final int ENCOUNTERS = 20_000;
+
+    @Test
+    void meanStepsMatchTheRate() {
+        for (int rate : new int[] {5, 30, 70}) {
+            EncounterManager manager = manager(rate);
+            EncounterArea area = new EncounterArea("test");
+            long steps = new GameRandom.Context(rate).call(() -> {
+                long total = 0;
+                for (int i = 0; i < ENCOUNTERS; i++) {
+                    total += stepsToEncounter(manager, area);
+                }
+                return total;
+            });
+            double expected = 100.0 / rate;
+            // Within five standard errors of the geometric mean
+            double tolerance = 5 * Math.sqrt(1 - rate / 100.0) * expected / Math.sqrt(ENCOUNTERS);
+            assertEquals(expected, (double) steps / ENCOUNTERS, tolerance, "rate " + rate);
+        }
+    }
+
+    @Test
+    void fullRateTriggersOnEveryStep() {
+        EncounterManager manager = manager(100);
+        EncounterArea area = new EncounterArea("test");
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(manager.takeStep(area));
+        }
+    }
+
+    @Test
+    void zeroRateNeverTriggers() {
+        EncounterManager manager = manager(0);
+        EncounterArea area = new EncounterArea("test");
+        for (int i = 0; i < 100_000; i++) {
+            assertFalse(manager.takeStep(area));
+        }
+    }
+
+    @Test
+    void stepsOffTheAreaNeverTrigger() {
+        EncounterManager manager = manager(100);
+        assertFalse(manager.takeStep(null));
+    }
+
+    @Test
+    void areaRateOverridesTheDefault() {
+        EncounterManager manager = manager(0);
+        EncounterArea area = new EncounterArea("test");
+        area.setEncounterRate(100);
+        assertTrue(manager.takeStep(area));
+    }
+
+    // Coming back to the area draws a new countdown instead of finishing the old one
+    @Test
+    void leavingTheAreaResetsTheCountdown() {
+        EncounterArea area = new EncounterArea("test");
+        // Without leaving, the first two encounters take these many steps
+        int[] draws = new GameRandom.Context(17).call(() -> {
+            EncounterManager manager = manager(10);
+            return new int[] {stepsToEncounter(manager, area), stepsToEncounter(manager, area)};
+        });
+        assertTrue(draws[0] > 2, "the seed should give a long first countdown");
+
+        int steps = new GameRandom.Context(17).call(() -> {
+            EncounterManager manager = manager(10);
+            assertFalse(manager.takeStep(area));
+            assertFalse(manager.takeStep(area));
+            assertFalse(manager.takeStep(null));
+            return stepsToEncounter(manager, area);
+        });
+        assertEquals(draws[1], steps);
+
+        // Stepping straight into another area resets it too
+        EncounterArea other = new EncounterArea("other");
+        steps = new GameRandom.Context(17).call(() -> {
+            EncounterManager manager = manager(10);
+            assertFalse(manager.takeStep(area));
+            return stepsToEncounter(manager, other);
+        });
+        assertEquals(draws[1], steps);
+    }
+
+    private static EncounterManager manager(int rate) {
+        EncounterManager manager = new EncounterManager("test");
+        manager.setEncounterRate(rate);
+        return manager;
+    }
+
+    private static int stepsToEncounter(EncounterManager manager, EncounterArea area) {
+        int steps = 1;
+        while (!manager.takeStep(area)) {
+            steps++;
+        }
+        return steps;
+    }
+}
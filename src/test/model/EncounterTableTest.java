@@ -0,0 +1,138 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.EncounterTable.CompiledTable;
+import model.EncounterTable.EncounterEntry;
+
+public class EncounterTableTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void compiledTableLaysOutEveryLevel() {
+        EncounterEntry pidgey = new EncounterEntry(16, 2, 4, 60);
+        EncounterEntry rattata = new EncounterEntry(19, 3, 3, 40);
+        CompiledTable table = new CompiledTable(List.of(pidgey, rattata));
+
+        assertEquals(4, table.outcomeCount());
+        int[] levels = {2, 3, 4, 3};
+        EncounterEntry[] entries = {pidgey, pidgey, pidgey, rattata};
+        for (int outcome = 0; outcome < 4; outcome++) {
+            assertSame(entries[outcome], table.entryOf(outcome));
+            assertEquals(levels[outcome], table.levelOf(outcome));
+        }
+    }
+
+    @Test
+    void compiledTableSplitsWeightAcrossLevels() {
+        CompiledTable table = new CompiledTable(List.of(new EncounterEntry(16, 2, 4, 60),
+                new EncounterEntry(19, 3, 3, 40), new EncounterEntry(10, 5, 6, 0)));
+        SplittableRandom random = new SplittableRandom(7);
+        int draws = 1_000_000;
+        long[] counts = new long[table.outcomeCount()];
+        for (int i = 0; i < draws; i++) {
+            counts[table.draw(random)]++;
+        }
+        double[] expected = {0.2, 0.2, 0.2, 0.4, 0, 0};
+        for (int outcome = 0; outcome < expected.length; outcome++) {
+            assertEquals(expected[outcome], counts[outcome] / (double) draws, 0.002, "outcome " + outcome);
+        }
+    }
+
+    @Test
+    void compiledTableWithOneEntryAndLevel() {
+        CompiledTable table = new CompiledTable(List.of(new EncounterEntry(25, 5, 5, 1)));
+        assertEquals(1, table.outcomeCount());
+        assertEquals(0, table.draw(new SplittableRandom(1)));
+        assertEquals(5, table.levelOf(0));
+    }
+
+    @Test
+    void compiledTableRejectsBadTables() {
+        assertThrows(IllegalArgumentException.class, () -> new CompiledTable(List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CompiledTable(List.of(new EncounterEntry(16, 5, 2, 10))));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CompiledTable(List.of(new EncounterEntry(16, 2, 2, -1))));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CompiledTable(List.of(new EncounterEntry(16, 2, 2, Double.NaN))));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CompiledTable(List.of(new EncounterEntry(16, 2, 2, 0))));
+    }
+
+    @Test
+    void readTableRoundTrip() throws IOException {
+        Path file = directory.resolve("route9.csv");
+        Files.writeString(file, "dex,min_level,max_level,weight,form\n"
+                + "16,2,4,45.5,\n"
+                + "\n"
+                + " 19 , 3 , 5 , 30 ,\n"
+                + "26,20,22,0.5,Raichu (Alolan)\n"
+                + "52,1,1\n");
+        List<EncounterEntry> entries = EncounterTable.readTable(file);
+
+        assertEquals(3, entries.size());
+        assertEntry(entries.get(0), 16, 2, 4, 45.5, null);
+        assertEntry(entries.get(1), 19, 3, 5, 30, null);
+        assertEntry(entries.get(2), 26, 20, 22, 0.5, "Raichu (Alolan)");
+
+        CompiledTable table = new CompiledTable(entries);
+        assertEquals(9, table.outcomeCount());
+    }
+
+    @Test
+    void readTableRejectsBadNumbers() throws IOException {
+        Path file = directory.resolve("broken.csv");
+        Files.writeString(file, "dex,min_level,max_level,weight\n16,two,4,10\n");
+        assertThrows(NumberFormatException.class, () -> EncounterTable.readTable(file));
+    }
+
+    @Test
+    void readRatesRoundTrip() throws IOException {
+        Path file = directory.resolve("rates.txt");
+        Files.writeString(file, "# chance in 100 per step\n"
+                + "route1 10\n"
+                + "\n"
+                + "  Cave   25  \n"
+                + "water 150\n"
+                + "forest -3\n"
+                + "city\n"
+                + "mountain lots\n");
+        Map<String, Integer> rates = EncounterTable.readRates(file);
+
+        assertEquals(Map.of("route1", 10, "cave", 25, "water", 100, "forest", 0), rates);
+    }
+
+    @Test
+    void readRatesWithoutAFile() {
+        assertTrue(EncounterTable.readRates(directory.resolve("missing.txt")).isEmpty());
+    }
+
+    private static void assertEntry(EncounterEntry entry, int dex, int minLevel, int maxLevel, double weight,
+            String form) {
+        assertEquals(dex, entry.getDexNumber());
+        assertEquals(minLevel, entry.getMinLevel());
+        assertEquals(maxLevel, entry.getMaxLevel());
+        assertEquals(weight, entry.getWeight(), 1e-12);
+        if (form == null) {
+            assertNull(entry.getSpecificForm());
+        } else {
+            assertEquals(form, entry.getSpecificForm());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class GameRandomTest {
+    private long seedBefore;
+
+    @BeforeEach
+    void runBefore() {
+        seedBefore = GameRandom.getSeed();
+    }
+
+    @AfterEach
+    void runAfter() {
+        GameRandom.setSeed(seedBefore);
+    }
+
+    @Test
+    void sameSeedSameStream() {
+        GameRandom.setSeed(42);
+        List<Long> first = draw(GameRandom.BATTLE, 10);
+        GameRandom.setSeed(42);
+        assertEquals(first, draw(GameRandom.BATTLE, 10));
+
+        // Streams don't share draws, and another seed gives another stream
+        GameRandom.setSeed(42);
+        assertNotEquals(first, draw(GameRandom.ENCOUNTERS, 10));
+        GameRandom.setSeed(43);
+        assertNotEquals(first, draw(GameRandom.BATTLE, 10));
+    }
+
+    @Test
+    void setSeedReseedsThreadsThatAlreadyDrew() throws Exception {
+        ExecutorService worker = Executors.newSingleThreadExecutor(task -> new Thread(task, "random-worker"));
+        try {
+            GameRandom.setSeed(7);
+            List<Long> first = worker.submit(() -> draw(GameRandom.POKEMON, 5)).get();
+            List<Long> carriedOn = worker.submit(() -> draw(GameRandom.POKEMON, 5)).get();
+            assertNotEquals(first, carriedOn);
+
+            GameRandom.setSeed(7);
+            assertEquals(first, worker.submit(() -> draw(GameRandom.POKEMON, 5)).get());
+        } finally {
+            worker.shutdownNow();
+        }
+    }
+
+    @Test
+    void withSeedPutsTheThreadsStreamsBack() {
+        GameRandom.setSeed(5);
+        List<Long> expected = draw(GameRandom.MOVES, 6);
+
+        GameRandom.setSeed(5);
+        List<Long> before = draw(GameRandom.MOVES, 3);
+        List<Long> inside = GameRandom.withSeed(99, () -> draw(GameRandom.MOVES, 3));
+        List<Long> after = draw(GameRandom.MOVES, 3);
+
+        assertEquals(expected.subList(0, 3), before);
+        assertEquals(expected.subList(3, 6), after);
+        // Whatever ran before, the same seed gives the same draws
+        assertEquals(inside, GameRandom.withSeed(99, () -> draw(GameRandom.MOVES, 3)));
+    }
+
+    @Test
+    void contextPutsTheThreadsStreamsBack() {
+        GameRandom.setSeed(5);
+        List<Long> expected = draw(GameRandom.WORLD, 4);
+
+        GameRandom.setSeed(5);
+        GameRandom.Context context = new GameRandom.Context(11);
+        List<Long> drawn = new ArrayList<>(draw(GameRandom.WORLD, 2));
+        context.run(() -> draw(GameRandom.WORLD, 3));
+        drawn.addAll(draw(GameRandom.WORLD, 2));
+
+        assertEquals(expected, drawn);
+    }
+
+    // Batches picked up by different threads draw one sequence between them
+    @Test
+    void contextCarriesOnAcrossThreads() throws Exception {
+        List<Long> expected = new GameRandom.Context(3).call(() -> draw(GameRandom.ENCOUNTERS, 9));
+
+        GameRandom.Context context = new GameRandom.Context(3);
+        List<Long> drawn = new ArrayList<>();
+        for (int batch = 0; batch < 3; batch++) {
+            String name = "batch-worker-" + batch;
+            ExecutorService worker = Executors.newSingleThreadExecutor(task -> new Thread(task, name));
+            try {
+                // setSeed doesn't touch a context's streams
+                GameRandom.setSeed(batch);
+                drawn.addAll(worker.submit(() -> context.call(() -> draw(GameRandom.ENCOUNTERS, 3))).get());
+            } finally {
+                worker.shutdownNow();
+            }
+        }
+
+        assertEquals(expected, drawn);
+    }
+
+    private static List<Long> draw(GameRandom stream, int count) {
+        return LongStream.range(0, count).map(i -> stream.get().nextLong()).boxed().toList();
+    }
+}
@@ -0,0 +1,92 @@
+package moves;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LearnsetTest {
+    private static MoveLoader moveLoader;
+    private Learnset learnset;
+
+    @BeforeAll
+    static void loadMoves() {
+        moveLoader = MoveLoader.getInstance();
+        moveLoader.loadFromCSV("src/main/resources/pokemon_moves.csv");
+    }
+
+    @BeforeEach
+    void runBefore() {
+        // Levels 3, 7, 7, 12, plus one the move list doesn't know
+        learnset = Learnset.of(Map.of("Tackle", 3, "growl", 7, "ember", 7, "Leer", 12, "notamove", 5),
+                null, moveLoader);
+    }
+
+    @Test
+    void unknownMovesAreLeftOut() {
+        assertEquals(4, learnset.size());
+        assertEquals(moveLoader.getMoveId("tackle"), learnset.getMoveId(0));
+        assertEquals(moveLoader.getMoveId("leer"), learnset.getMoveId(3));
+    }
+
+    @Test
+    void sortedByLevelThenId() {
+        assertEquals(3, learnset.getLevel(0));
+        assertEquals(7, learnset.getLevel(1));
+        assertEquals(7, learnset.getLevel(2));
+        assertEquals(12, learnset.getLevel(3));
+        assertEquals(Math.min(moveLoader.getMoveId("growl"), moveLoader.getMoveId("ember")), learnset.getMoveId(1));
+    }
+
+    @Test
+    void belowFirstEntry() {
+        assertEquals(0, learnset.startOfLevel(1));
+        assertEquals(0, learnset.endOfLevel(1));
+        assertEquals(0, learnset.startOfLevel(Integer.MIN_VALUE));
+        assertEquals(0, learnset.endOfLevel(2));
+    }
+
+    @Test
+    void aboveLastEntry() {
+        assertEquals(4, learnset.startOfLevel(13));
+        assertEquals(4, learnset.endOfLevel(13));
+        assertEquals(4, learnset.endOfLevel(100));
+        assertEquals(4, learnset.startOfLevel(Integer.MAX_VALUE));
+        assertEquals(4, learnset.endOfLevel(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void onFirstAndLastEntry() {
+        assertEquals(0, learnset.startOfLevel(3));
+        assertEquals(1, learnset.endOfLevel(3));
+        assertEquals(3, learnset.startOfLevel(12));
+        assertEquals(4, learnset.endOfLevel(12));
+    }
+
+    @Test
+    void duplicateLevels() {
+        assertEquals(1, learnset.startOfLevel(7));
+        assertEquals(3, learnset.endOfLevel(7));
+        // Ranges that start or end on the shared level take both moves
+        assertEquals(1, learnset.startOfLevel(4));
+        assertEquals(3, learnset.endOfLevel(11));
+    }
+
+    @Test
+    void betweenEntries() {
+        assertEquals(1, learnset.startOfLevel(5));
+        assertEquals(1, learnset.endOfLevel(5));
+        assertEquals(3, learnset.startOfLevel(8));
+        assertEquals(3, learnset.endOfLevel(8));
+    }
+
+    @Test
+    void emptyLearnset() {
+        assertEquals(0, Learnset.EMPTY.size());
+        assertEquals(0, Learnset.EMPTY.startOfLevel(1));
+        assertEquals(0, Learnset.EMPTY.endOfLevel(Integer.MAX_VALUE));
+    }
+}
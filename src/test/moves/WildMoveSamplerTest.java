@@ -0,0 +1,151 @@
+package moves;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class WildMoveSamplerTest {
+    // Enough picks that 0.35% is over four standard errors for the commonest moves
+    private static final int PICKS = 800_000;
+    private static final double TOLERANCE = 0.0035;
+
+    @BeforeAll
+    static void loadData() {
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+    }
+
+    @Test
+    void matchesTheOldAlgorithm() {
+        for (String species : List.of("pikachu", "mew", "geodude")) {
+            Learnset learnset = LearnsetLoader.getInstance().getLearnset(species);
+            Map<Integer, Double> sampled = frequencies(learnset, 40, new SplittableRandom(11), false);
+            Map<Integer, Double> reference = frequencies(learnset, 40, new SplittableRandom(12), true);
+            Set<Integer> ids = new HashSet<>(sampled.keySet());
+            ids.addAll(reference.keySet());
+            for (int id : ids) {
+                assertEquals(reference.getOrDefault(id, 0.0), sampled.getOrDefault(id, 0.0), TOLERANCE,
+                        species + " move " + MoveLoader.getInstance().getMove(id).getName());
+            }
+        }
+    }
+
+    @Test
+    void emptyLearnsetPicksNothing() {
+        int[] out = new int[WildMoveSampler.MAX_MOVES];
+        assertEquals(0, WildMoveSampler.pick(Learnset.EMPTY, 50, new SplittableRandom(1), out));
+    }
+
+    @Test
+    void fewerThanFourCandidatesAreAllKept() {
+        MoveLoader moveLoader = MoveLoader.getInstance();
+        Learnset learnset = Learnset.of(Map.of("tackle", 1, "growl", 4, "ember", 9), null, moveLoader);
+        int[] out = new int[WildMoveSampler.MAX_MOVES];
+        SplittableRandom random = new SplittableRandom(2);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(2, WildMoveSampler.pick(learnset, 5, random, out));
+            assertEquals(Set.of(moveLoader.getMoveId("tackle"), moveLoader.getMoveId("growl")),
+                    Set.of(out[0], out[1]));
+        }
+    }
+
+    @Test
+    void skipNeverLandsWithChanceZero() {
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.MAX_VALUE, WildMoveSampler.skip(0, random));
+            assertEquals(Integer.MAX_VALUE, WildMoveSampler.skip(-0.5, random));
+        }
+    }
+
+    @Test
+    void skipAlwaysLandsWithChanceOne() {
+        SplittableRandom random = new SplittableRandom(4);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(0, WildMoveSampler.skip(1, random));
+            assertEquals(0, WildMoveSampler.skip(1.5, random));
+        }
+    }
+
+    @Test
+    void skipIsGeometric() {
+        SplittableRandom random = new SplittableRandom(5);
+        double chance = 0.1;
+        long total = 0;
+        long zeros = 0;
+        int draws = 200_000;
+        for (int i = 0; i < draws; i++) {
+            long skip = WildMoveSampler.skip(chance, random);
+            assertTrue(skip >= 0);
+            total += skip;
+            zeros += skip == 0 ? 1 : 0;
+        }
+        // Mean (1 - p) / p = 9 failures, and the first try succeeds with chance p
+        assertEquals(9.0, total / (double) draws, 0.1);
+        assertEquals(chance, zeros / (double) draws, 0.003);
+    }
+
+    // Share of picks each move id turns up in
+    private static Map<Integer, Double> frequencies(Learnset learnset, int level, RandomGenerator random,
+            boolean reference) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        int[] out = new int[WildMoveSampler.MAX_MOVES];
+        for (int i = 0; i < PICKS; i++) {
+            int count = reference ? referencePick(learnset, level, random, out)
+                    : WildMoveSampler.pick(learnset, level, random, out);
+            Set<Integer> picked = new HashSet<>();
+            for (int j = 0; j < count; j++) {
+                picked.add(out[j]);
+            }
+            for (int id : picked) {
+                counts.merge(id, 1, Integer::sum);
+            }
+        }
+        Map<Integer, Double> frequencies = new HashMap<>();
+        counts.forEach((id, count) -> frequencies.put(id, count / (double) PICKS));
+        return frequencies;
+    }
+
+    // What generateWildMoves did before: roll for every extra move, shuffle the pool, keep the first four
+    private static int referencePick(Learnset learnset, int level, RandomGenerator random, int[] out) {
+        List<Integer> pool = new ArrayList<>();
+        for (int i = 0; i < learnset.endOfLevel(level); i++) {
+            pool.add(learnset.getMoveId(i));
+        }
+        double tmChance = Math.min(0.15, 0.05 + (level * 0.005));
+        double tutorChance = Math.min(0.10, 0.02 + (level * 0.003));
+        rollEach(learnset.tmMoveIds(), tmChance, random, pool);
+        rollEach(learnset.tutorMoveIds(), tutorChance, random, pool);
+        if (level >= 20) {
+            rollEach(learnset.eggMoveIds(), Math.min(0.01, (level - 20) * 0.0005), random, pool);
+        }
+        for (int i = pool.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            pool.set(i, pool.set(j, pool.get(i)));
+        }
+        int count = Math.min(WildMoveSampler.MAX_MOVES, pool.size());
+        for (int i = 0; i < count; i++) {
+            out[i] = pool.get(i);
+        }
+        return count;
+    }
+
+    private static void rollEach(int[] ids, double chance, RandomGenerator random, List<Integer> pool) {
+        for (int id : ids) {
+            if (random.nextDouble() < chance) {
+                pool.add(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package pokes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import model.Move;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+
+// Charmander learns Ember at 7, SmokeScreen at 10, Metal Claw at 13, Dragon Rage at 16 and Rage and Scary Face at 19
+public class LevelManagerTest {
+
+    @BeforeAll
+    static void loadData() {
+        PokemonStatsLoader.getInstance().loadFromCSV("/resources/pokemon_information.csv");
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+    }
+
+    @Test
+    void fillsAGapFirst() {
+        Pokemon charmander = charmander(5, "scratch", null, "growl");
+        assertTrue(levelTo(charmander, 8));
+
+        assertEquals(List.of("Scratch", "Ember", "Growl"), names(charmander.getMoves()));
+        List<LevelManager.LearnedMove> learned = charmander.getLevelManager().getMovesLearned();
+        assertEquals(1, learned.size());
+        assertEquals("Ember", learned.get(0).getLearned().getName());
+        assertNull(learned.get(0).getForgotten());
+    }
+
+    @Test
+    void appendsEveryLevelPassed() {
+        Pokemon charmander = charmander(6, "scratch", "growl");
+        assertTrue(levelTo(charmander, 11));
+
+        assertEquals(List.of("Scratch", "Growl", "Ember", "SmokeScreen"), names(charmander.getMoves()));
+        List<LevelManager.LearnedMove> learned = charmander.getLevelManager().getMovesLearned();
+        assertEquals(2, learned.size());
+        assertNull(learned.get(0).getForgotten());
+        assertNull(learned.get(1).getForgotten());
+    }
+
+    @Test
+    void forgetsTheOldestMove() {
+        Pokemon charmander = charmander(12, "scratch", "growl", "ember", "smokescreen");
+        assertTrue(levelTo(charmander, 17));
+
+        assertEquals(List.of("Ember", "SmokeScreen", "Metal Claw", "Dragon Rage"), names(charmander.getMoves()));
+        List<LevelManager.LearnedMove> learned = charmander.getLevelManager().getMovesLearned();
+        assertEquals(2, learned.size());
+        assertEquals("Scratch", learned.get(0).getForgotten().getName());
+        assertEquals("Growl", learned.get(1).getForgotten().getName());
+    }
+
+    @Test
+    void learnsBothMovesOfASharedLevel() {
+        Pokemon charmander = charmander(18, "ember", "smokescreen");
+        assertTrue(levelTo(charmander, 19));
+
+        assertEquals(4, charmander.getMoves().size());
+        assertTrue(names(charmander.getMoves()).containsAll(List.of("Rage", "Scary Face")));
+    }
+
+    @Test
+    void skipsMovesAlreadyKnown() {
+        Pokemon charmander = charmander(6, "scratch", "growl", "ember");
+        assertTrue(levelTo(charmander, 8));
+
+        assertEquals(List.of("Scratch", "Growl", "Ember"), names(charmander.getMoves()));
+        assertTrue(charmander.getLevelManager().getMovesLearned().isEmpty());
+    }
+
+    @Test
+    void noLevelUpLearnsNothing() {
+        Pokemon charmander = charmander(6, "scratch");
+        LevelManager levels = charmander.getLevelManager();
+        assertFalse(levels.addExperience(1));
+        assertEquals(List.of("Scratch"), names(charmander.getMoves()));
+        assertTrue(levels.getMovesLearned().isEmpty());
+    }
+
+    @Test
+    void learnedMovesHaveTheirOwnPP() {
+        Pokemon first = charmander(6, "scratch");
+        Pokemon second = charmander(6, "scratch");
+        levelTo(first, 7);
+        levelTo(second, 7);
+
+        Move ember = first.getMoves().get(1);
+        assertNotSame(MoveLoader.getInstance().getMove("ember"), ember);
+        ember.decreasePP();
+        assertEquals(ember.getMaxPP(), second.getMoves().get(1).getCurrentPP());
+    }
+
+    // A null move name leaves a gap in the move list
+    private static Pokemon charmander(int level, String... moveNames) {
+        Pokemon pokemon = PokemonFactory.createPokemon(4, level, "Charmander");
+        List<Move> moves = pokemon.getMoves();
+        moves.clear();
+        for (String name : moveNames) {
+            moves.add(name == null ? null : MoveLoader.getInstance().getMove(name).copy());
+        }
+        return pokemon;
+    }
+
+    // All the experience in one go, so every level in between is passed at once
+    private static boolean levelTo(Pokemon pokemon, int level) {
+        LevelManager levels = pokemon.getLevelManager();
+        boolean leveledUp = levels.addExperience(levels.calculateTotalExpForLevel(level) - levels.getCurrentExp());
+        assertEquals(level, levels.getLevel());
+        return leveledUp;
+    }
+
+    private static List<String> names(List<Move> moves) {
+        List<String> names = new ArrayList<>();
+        for (Move move : moves) {
+            names.add(move.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,166 @@
+package sim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import model.EncounterTable;
+import model.Player;
+import moves.LearnsetLoader;
+import moves.MoveLoader;
+import pokes.PokemonStatsLoader;
+import ui.ImageLoader;
+import ui.InputRecording;
+
+public class ReplayRunnerTest {
+    private static int spriteWidth;
+    private static int spriteHeight;
+
+    @TempDir
+    Path directory;
+
+    @BeforeAll
+    static void loadData() throws IOException {
+        PokemonStatsLoader.getInstance().loadFromCSV("/resources/pokemon_information.csv");
+        MoveLoader.getInstance().loadFromCSV("src/main/resources/pokemon_moves.csv");
+        LearnsetLoader.getInstance().loadFromTypeScriptFile("/resources/learnsets.ts");
+        EncounterTable.initializeEncounterTables();
+        BufferedImage sprite = ImageLoader.readResource("/resources/player_sprites/s_facing_front.png");
+        spriteWidth = sprite.getWidth();
+        spriteHeight = sprite.getHeight();
+    }
+
+    @Test
+    void keysMoveThePlayerOnTheirTicks() throws IOException {
+        // Right for 8 ticks, then nothing for 4
+        ReplayRunner runner = replay(record(1, "outside", 12,
+                0, InputRecording.PRESS, KeyEvent.VK_RIGHT,
+                8, InputRecording.RELEASE, KeyEvent.VK_RIGHT));
+        Player player = runner.getSimulation().getWorld().getPlayer();
+        int startX = player.getWorldX();
+        int startY = player.getWorldY();
+
+        runner.run();
+
+        assertEquals(startX + 8 * 4, player.getWorldX());
+        assertEquals(startY, player.getWorldY());
+        assertEquals(Player.Direction.RIGHT, player.getDirection());
+        assertEquals(12, runner.getSimulation().getTicks());
+    }
+
+    @Test
+    void sameRecordingSameHash() throws IOException {
+        Path file = record(7, "outside", 3000, pacingInGrass(3000));
+        ReplayRunner first = replay(file);
+        ReplayRunner second = replay(file);
+
+        assertEquals(first.run(), second.run());
+        // The hash covers battles too, not just walking
+        assertTrue(first.getSimulation().getEncounters() > 0);
+        assertEquals(first.getSimulation().getEncounters(), second.getSimulation().getEncounters());
+        // Every tick was timed
+        assertEquals(3000, first.getTickMicros().getCount());
+        assertEquals(3000, second.getTickMicros().getCount());
+    }
+
+    // Same walk, other encounters and battles
+    @Test
+    void differentSeedDifferentHash() throws IOException {
+        long seven = replay(record(7, "outside", 3000, pacingInGrass(3000))).run();
+        long eight = replay(record(8, "outside", 3000, pacingInGrass(3000))).run();
+        assertNotEquals(seven, eight);
+    }
+
+    @Test
+    void differentInputDifferentHash() throws IOException {
+        long still = replay(record(1, "outside", 20)).run();
+        long walked = replay(record(1, "outside", 20, 0, InputRecording.PRESS, KeyEvent.VK_LEFT)).run();
+        assertNotEquals(still, walked);
+    }
+
+    @Test
+    void startsInTheRecordedWorld() throws IOException {
+        ReplayRunner runner = replay(record(1, "house_interior", 10));
+        runner.run();
+        assertEquals("house_interior", runner.getSimulation().getWorld().getName());
+
+        assertThrows(IllegalArgumentException.class, () -> replay(record(1, "nowhere", 10)));
+    }
+
+    @Test
+    void zoomAndAutoBattleEntriesChangeNothing() throws IOException {
+        long plain = replay(record(3, "outside", 50, 0, InputRecording.PRESS, KeyEvent.VK_UP)).run();
+        long extras = replay(record(3, "outside", 50,
+                0, InputRecording.PRESS, KeyEvent.VK_UP,
+                10, InputRecording.ZOOM, 1,
+                20, InputRecording.AUTO_BATTLE, 0)).run();
+        assertEquals(plain, extras);
+    }
+
+    // Down onto the grass row below the start, then right and left along it
+    private static int[] pacingInGrass(int totalTicks) {
+        List<Integer> entries = new ArrayList<>(List.of(0, (int) InputRecording.PRESS, KeyEvent.VK_DOWN,
+                8, (int) InputRecording.RELEASE, KeyEvent.VK_DOWN));
+        boolean right = true;
+        for (int tick = 8; tick < totalTicks; tick += 24) {
+            int key = right ? KeyEvent.VK_RIGHT : KeyEvent.VK_LEFT;
+            entries.addAll(List.of(tick, (int) InputRecording.PRESS, key,
+                    Math.min(tick + 24, totalTicks), (int) InputRecording.RELEASE, key));
+            right = !right;
+        }
+        return entries.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private ReplayRunner replay(Path file) throws IOException {
+        return new ReplayRunner(InputRecording.read(file), spriteWidth, spriteHeight);
+    }
+
+    // Entries are tick, kind, value triples in tick order
+    private Path record(long seed, String world, int totalTicks, int... entries) throws IOException {
+        Path file = Files.createTempFile(directory, "replay", ".pkir");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(0x504B4952);
+            out.writeShort(1);
+            out.writeLong(seed);
+            out.writeBoolean(true);
+            out.writeByte(2);
+            out.writeUTF(world);
+            int tick = 0;
+            for (int i = 0; i < entries.length; i += 3) {
+                writeVarInt(out, entries[i] - tick);
+                out.writeByte(entries[i + 1]);
+                if (entries[i + 1] != InputRecording.AUTO_BATTLE) {
+                    writeVarInt(out, entries[i + 2]);
+                }
+                tick = entries[i];
+            }
+            writeVarInt(out, totalTicks - tick);
+            out.writeByte(InputRecording.END);
+        }
+        return file;
+    }
+
+    // Zigzag varint, as InputRecorder writes them
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        int v = (value << 1) ^ (value >> 31);
+        while ((v & ~0x7F) != 0) {
+            out.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+}
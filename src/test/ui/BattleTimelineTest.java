@@ -0,0 +1,142 @@
+package ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+// The timeline is only ever used on the event dispatch thread, so the tests drive it from there too
+public class BattleTimelineTest {
+    private BattleTimeline.Speed speedBefore;
+    private final List<String> ran = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void runBefore() {
+        speedBefore = BattleTimeline.getSpeed();
+    }
+
+    @AfterEach
+    void runAfter() {
+        BattleTimeline.setSpeed(speedBefore);
+    }
+
+    @Test
+    void stepsRunInBattleTimeOrder() throws Exception {
+        BattleTimeline.setSpeed(BattleTimeline.Speed.FASTER);
+        CountDownLatch done = new CountDownLatch(1);
+        onEdt(() -> {
+            BattleTimeline timeline = new BattleTimeline();
+            // Added from inside a step so they are all timed from the same moment
+            timeline.after(0, () -> {
+                timeline.after(200, () -> {
+                    ran.add("last");
+                    done.countDown();
+                });
+                timeline.after(50, () -> {
+                    ran.add("first");
+                    // Timed from when this step was due, so it still beats the text pause
+                    timeline.after(10, () -> ran.add("added by first"));
+                });
+                timeline.after(50, () -> ran.add("same time, added later"));
+                timeline.afterText(100, () -> ran.add("text"));
+            });
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "same time, added later", "added by first", "text", "last"), ran);
+    }
+
+    @Test
+    void instantSpeedRunsEverythingAtOnce() throws Exception {
+        BattleTimeline.setSpeed(BattleTimeline.Speed.INSTANT);
+        CountDownLatch done = new CountDownLatch(1);
+        BattleTimeline[] timeline = new BattleTimeline[1];
+        long start = System.nanoTime();
+        onEdt(() -> {
+            timeline[0] = new BattleTimeline();
+            timeline[0].after(60_000, () -> ran.add("minute"));
+            timeline[0].afterText(30_000, () -> ran.add("text"));
+            int[] frames = {0};
+            timeline[0].every(1_000, () -> {
+                ran.add("frame " + frames[0]);
+                return ++frames[0] < 3;
+            });
+            timeline[0].after(120_000, done::countDown);
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        assertEquals(List.of("frame 0", "frame 1", "frame 2", "text", "minute"), ran);
+        onEdt(() -> assertTrue(timeline[0].isIdle()));
+    }
+
+    @Test
+    void skipOnlyBringsTextForward() throws Exception {
+        BattleTimeline.setSpeed(BattleTimeline.Speed.NORMAL);
+        CountDownLatch done = new CountDownLatch(2);
+        BattleTimeline[] timeline = new BattleTimeline[1];
+        onEdt(() -> {
+            timeline[0] = new BattleTimeline();
+            timeline[0].after(60_000, () -> ran.add("animation"));
+            timeline[0].afterText(60_000, () -> {
+                ran.add("first text");
+                done.countDown();
+            });
+            timeline[0].afterText(120_000, () -> {
+                ran.add("second text");
+                done.countDown();
+            });
+            timeline[0].skip();
+            timeline[0].skip();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first text", "second text"), ran);
+        onEdt(() -> {
+            assertFalse(timeline[0].isIdle(), "the animation step is still waiting");
+            // Nothing left to skip
+            timeline[0].skip();
+            timeline[0].cancel();
+        });
+        assertEquals(List.of("first text", "second text"), ran);
+    }
+
+    @Test
+    void cancelStopsTheClock() throws Exception {
+        BattleTimeline.setSpeed(BattleTimeline.Speed.NORMAL);
+        int[] running = new int[2];
+        onEdt(() -> {
+            int before = SwingTimers.running();
+            BattleTimeline timeline = new BattleTimeline();
+            timeline.after(50, () -> ran.add("after cancel"));
+            timeline.afterText(100, () -> ran.add("text after cancel"));
+            running[0] = SwingTimers.running() - before;
+            timeline.cancel();
+            timeline.after(10, () -> ran.add("added after cancel"));
+            running[1] = SwingTimers.running() - before;
+            assertTrue(timeline.isIdle());
+        });
+
+        assertEquals(1, running[0]);
+        assertEquals(0, running[1]);
+        Thread.sleep(300);
+        onEdt(() -> { });
+        assertEquals(List.of(), ran);
+    }
+
+    private static void onEdt(Runnable action) throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(action);
+    }
+}
@@ -0,0 +1,151 @@
+package ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.event.KeyEvent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class InputRecordingTest {
+    @TempDir
+    Path directory;
+    private Path file;
+
+    @BeforeEach
+    void runBefore() {
+        file = directory.resolve("session.pkir");
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        InputRecorder.start(file, -8_675_309L, true, 2, "house_interior");
+        InputRecorder recorder = InputRecorder.current();
+        recorder.key(true, KeyEvent.VK_UP);
+        ticks(recorder, 3);
+        recorder.key(false, KeyEvent.VK_UP);
+        recorder.zoom(-1);
+        ticks(recorder, 1);
+        recorder.zoom(-3);
+        recorder.toggleAutoBattle();
+        // A gap long enough to take a three-byte varint
+        ticks(recorder, 300_000);
+        recorder.zoom(1);
+        ticks(recorder, 5);
+        recorder.close();
+
+        InputRecording recording = InputRecording.read(file);
+        assertEquals(-8_675_309L, recording.getSeed());
+        assertTrue(recording.isAutoBattle());
+        assertEquals(2, recording.getZoom());
+        assertEquals("house_interior", recording.getWorld());
+        assertEquals(300_009, recording.getTotalTicks());
+
+        assertEquals(6, recording.size());
+        assertEntry(recording, 0, 0, InputRecording.PRESS, KeyEvent.VK_UP);
+        assertEntry(recording, 1, 3, InputRecording.RELEASE, KeyEvent.VK_UP);
+        assertEntry(recording, 2, 3, InputRecording.ZOOM, -1);
+        assertEntry(recording, 3, 4, InputRecording.ZOOM, -3);
+        assertEntry(recording, 4, 4, InputRecording.AUTO_BATTLE, 0);
+        assertEntry(recording, 5, 300_004, InputRecording.ZOOM, 1);
+    }
+
+    @Test
+    void emptyRecording() throws IOException {
+        InputRecorder.start(file, 1, false, 0, "outside");
+        InputRecorder recorder = InputRecorder.current();
+        ticks(recorder, 10);
+        recorder.close();
+
+        InputRecording recording = InputRecording.read(file);
+        assertFalse(recording.isAutoBattle());
+        assertEquals(0, recording.size());
+        assertEquals(10, recording.getTotalTicks());
+    }
+
+    @Test
+    void truncatedFileKeepsWholeEntries() throws IOException {
+        InputRecorder.start(file, 5, false, 1, "outside");
+        InputRecorder recorder = InputRecorder.current();
+        recorder.key(true, KeyEvent.VK_LEFT);
+        ticks(recorder, 2);
+        recorder.zoom(-1);
+        ticks(recorder, 200);
+        // Two-byte key code, so the file can be cut inside the value
+        recorder.key(true, 300);
+        recorder.close();
+        byte[] whole = Files.readAllBytes(file);
+
+        // Without its two-byte END entry every input is still whole
+        Files.write(file, Arrays.copyOf(whole, whole.length - 2));
+        InputRecording recording = InputRecording.read(file);
+        assertEquals(3, recording.size());
+        assertEntry(recording, 2, 202, InputRecording.PRESS, 300);
+        assertEquals(202, recording.getTotalTicks());
+
+        // Then cut into the last input's value, kind and tick count in turn
+        for (int cut = 3; cut <= 7; cut++) {
+            Files.write(file, Arrays.copyOf(whole, whole.length - cut));
+            recording = InputRecording.read(file);
+            assertEquals(2, recording.size(), "cut " + cut);
+            assertEntry(recording, 1, 2, InputRecording.ZOOM, -1);
+            assertEquals(2, recording.getTotalTicks(), "cut " + cut);
+        }
+    }
+
+    @Test
+    void truncatedHeaderIsAnError() throws IOException {
+        InputRecorder.start(file, 5, false, 1, "outside");
+        InputRecorder.current().close();
+        byte[] whole = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(whole, 10));
+        assertThrows(IOException.class, () -> InputRecording.read(file));
+    }
+
+    @Test
+    void rejectsOtherFiles() throws IOException {
+        Files.writeString(file, "not a recording at all");
+        assertThrows(IOException.class, () -> InputRecording.read(file));
+    }
+
+    @Test
+    void varIntRoundTrip() throws IOException {
+        int[] values = {0, 1, -1, 63, -64, 64, 300, -300, 1 << 20, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (int value : values) {
+            InputRecording.writeVarInt(out, value);
+        }
+        out.flush();
+        // Zigzag keeps small negatives to one byte
+        assertEquals(1 + 1 + 1 + 1 + 1 + 2 + 2 + 2 + 4 + 5 + 5, bytes.size());
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        for (int value : values) {
+            assertEquals(value, InputRecording.readVarInt(in));
+        }
+    }
+
+    private static void ticks(InputRecorder recorder, int count) {
+        for (int i = 0; i < count; i++) {
+            recorder.tick();
+        }
+    }
+
+    private static void assertEntry(InputRecording recording, int index, int tick, byte kind, int value) {
+        assertEquals(tick, recording.getTick(index), "tick of " + index);
+        assertEquals(kind, recording.getKind(index), "kind of " + index);
+        assertEquals(value, recording.getValue(index), "value of " + index);
+    }
+}
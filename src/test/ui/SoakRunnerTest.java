@@ -0,0 +1,76 @@
+package ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+// Columns: heap_kb, window_listeners, components, timers_running, timers_live, windows
+public class SoakRunnerTest {
+    private static final long SLACK_KB = 16 * 1024;
+
+    @Test
+    void steadyRunPasses() {
+        List<long[]> samples = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            // Heap saws up and down as caches churn; everything else holds still
+            samples.add(new long[] {80_000 + (i % 3) * 4_000, 4, 212, 1, 3, 1});
+        }
+        assertTrue(SoakRunner.growing(samples, 3, SLACK_KB).isEmpty());
+    }
+
+    @Test
+    void listenerLeakFails() {
+        // A key listener left behind on every world switch
+        List<long[]> samples = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            samples.add(new long[] {80_000, 4 + i, 212, 1, 3, 1});
+        }
+        assertEquals(List.of("window_listeners"), SoakRunner.growing(samples, 3, SLACK_KB));
+    }
+
+    @Test
+    void timerLeakFails() {
+        // A board clock that keeps running after its world is left
+        List<long[]> samples = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            samples.add(new long[] {80_000, 4, 212, 1 + i, 3 + i, 1});
+        }
+        assertEquals(List.of("timers_running", "timers_live"), SoakRunner.growing(samples, 3, SLACK_KB));
+    }
+
+    @Test
+    void heapGetsItsSlack() {
+        List<long[]> within = new ArrayList<>();
+        List<long[]> beyond = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            within.add(new long[] {80_000 + i * 1_000, 4, 212, 1, 3, 1});
+            beyond.add(new long[] {80_000 + i * 20_000, 4, 212, 1, 3, 1});
+        }
+        assertTrue(SoakRunner.growing(within, 0, SLACK_KB).isEmpty());
+        assertEquals(List.of("heap_kb"), SoakRunner.growing(beyond, 0, SLACK_KB));
+    }
+
+    @Test
+    void warmUpIsIgnored() {
+        List<long[]> samples = new ArrayList<>();
+        samples.add(new long[] {20_000, 2, 100, 0, 0, 1});
+        samples.add(new long[] {60_000, 3, 180, 1, 2, 1});
+        for (int i = 0; i < 8; i++) {
+            samples.add(new long[] {80_000, 4, 212, 1, 3, 1});
+        }
+        assertTrue(SoakRunner.growing(samples, 2, 0).isEmpty());
+    }
+
+    @Test
+    void tooFewSamplesPass() {
+        List<long[]> samples = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            samples.add(new long[] {80_000, 4 + i, 212, 1, 3, 1});
+        }
+        assertTrue(SoakRunner.growing(samples, 3, SLACK_KB).isEmpty());
+    }
+}
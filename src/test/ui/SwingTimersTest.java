@@ -0,0 +1,28 @@
+package ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.swing.Timer;
+
+import org.junit.jupiter.api.Test;
+
+public class SwingTimersTest {
+
+    @Test
+    void countsRunningTimers() {
+        int runningBefore = SwingTimers.running();
+        Timer first = SwingTimers.create(60_000, e -> { });
+        Timer second = SwingTimers.create(60_000, e -> { });
+        assertTrue(SwingTimers.live() >= 2);
+        assertEquals(runningBefore, SwingTimers.running());
+
+        first.start();
+        second.start();
+        assertEquals(runningBefore + 2, SwingTimers.running());
+
+        first.stop();
+        second.stop();
+        assertEquals(runningBefore, SwingTimers.running());
+    }
+}